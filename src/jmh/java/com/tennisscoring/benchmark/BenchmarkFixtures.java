@@ -0,0 +1,95 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.event.BaseEventPublisher;
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchId;
+import com.tennisscoring.domain.model.Player;
+import com.tennisscoring.domain.model.PlayerId;
+
+/**
+ * Shared fixtures for the benchmark suite.
+ * 基準測試共用的測試資料
+ */
+public final class BenchmarkFixtures {
+
+    public static final MatchId MATCH_ID = MatchId.of("00000000-0000-4000-8000-000000000001");
+    public static final PlayerId PLAYER1_ID = PlayerId.of("00000000-0000-4000-8000-000000000002");
+    public static final PlayerId PLAYER2_ID = PlayerId.of("00000000-0000-4000-8000-000000000003");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Create a fresh match with fixed identifiers, so match creation does
+     * not pay for UUID generation.
+     * @return a new match
+     */
+    public static Match newMatch() {
+        return Match.create(
+                MATCH_ID,
+                Player.create(PLAYER1_ID, "Rafael Nadal"),
+                Player.create(PLAYER2_ID, "Roger Federer"));
+    }
+
+    /**
+     * Create a match and play the given points on it.
+     * @param points the point sequence
+     * @return the match after all points have been played
+     */
+    public static Match playedMatch(boolean[] points) {
+        Match match = newMatch();
+        for (boolean player1 : points) {
+            match.scorePoint(player1 ? PLAYER1_ID : PLAYER2_ID);
+        }
+        return match;
+    }
+
+    /**
+     * Event publisher that drops every event, so end-to-end benchmarks
+     * measure the domain path rather than log output.
+     */
+    public static final class DiscardingEventPublisher extends BaseEventPublisher {
+
+        @Override
+        protected void doPublishMatchCreated(MatchCreatedEvent event) {
+        }
+
+        @Override
+        protected void doPublishPointScored(PointScoredEvent event) {
+        }
+
+        @Override
+        protected void doPublishMatchCompleted(MatchCompletedEvent event) {
+        }
+
+        @Override
+        protected void doPublishMatchDeleted(String matchId, String deletedBy) {
+        }
+
+        @Override
+        protected void doPublishGameCompleted(String matchId, int gameNumber, String winnerId) {
+        }
+
+        @Override
+        protected void doPublishSetCompleted(String matchId, int setNumber, String winnerId) {
+        }
+
+        @Override
+        protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored,
+                                                String currentScore) {
+        }
+
+        @Override
+        public String getPublisherType() {
+            return "DISCARDING";
+        }
+
+        @Override
+        public boolean isAsynchronous() {
+            return false;
+        }
+    }
+}
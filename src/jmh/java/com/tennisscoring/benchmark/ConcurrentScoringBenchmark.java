@@ -0,0 +1,110 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of concurrent scoring through {@link MatchDomainService}.
+ * 透過比賽領域服務並行計分的吞吐量基準測試
+ *
+ * Every benchmark thread scores its own match, parked at deuce so it never
+ * finishes. With {@code stripes=1} all matches share one lock, the old
+ * single global lock; with more stripes independent matches do not contend.
+ * The gap only shows on a machine with several cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentScoringBenchmark {
+
+    private static final int MATCHES = 64;
+
+    @Param({"1", "64"})
+    public int stripes;
+
+    private MatchDomainService matchService;
+    private List<Match> matches;
+    private final AtomicInteger nextMatch = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        ValidationService validationService = new ValidationService();
+        BenchmarkFixtures.DiscardingEventPublisher publisher = new BenchmarkFixtures.DiscardingEventPublisher();
+        matchService = new MatchDomainService(
+                new InMemoryMatchRepository(),
+                new ScoringDomainService(validationService),
+                new MatchEventService(publisher, publisher),
+                new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+                validationService,
+                new StripedMatchLocks(stripes));
+
+        matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            Match match = matchService.createMatch("Player A" + i, "Player B" + i);
+            for (int point = 0; point < 6; point++) {
+                matchService.scorePoint(match.getMatchId(), playerId(match, point % 2 == 0));
+            }
+            matches.add(match);
+        }
+    }
+
+    /**
+     * The match scored by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadMatch {
+
+        private String matchId;
+        private String player1Id;
+        private String player2Id;
+        private boolean player1Next;
+
+        @Setup
+        public void setUp(ConcurrentScoringBenchmark benchmark) {
+            Match match = benchmark.matches.get(benchmark.nextMatch.getAndIncrement() % MATCHES);
+            matchId = match.getMatchId();
+            player1Id = playerId(match, true);
+            player2Id = playerId(match, false);
+        }
+    }
+
+    @Benchmark
+    public Match scorePoint(ThreadMatch thread) {
+        // Alternating points cycle between advantage and deuce
+        Match match = matchService.scorePoint(thread.matchId, thread.player1Next ? thread.player1Id : thread.player2Id);
+        thread.player1Next = !thread.player1Next;
+        return match;
+    }
+
+    private static String playerId(Match match, boolean player1) {
+        return (player1 ? match.getPlayer1() : match.getPlayer2()).getPlayerId().getValue();
+    }
+}
@@ -0,0 +1,153 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.event.AsyncBatchingEventPublisher;
+import com.tennisscoring.adapters.secondary.event.BackpressurePolicy;
+import com.tennisscoring.adapters.secondary.event.BaseEventPublisher;
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring latency as seen by the request thread with a slow event consumer.
+ * 事件消費者緩慢時，請求執行緒所見的計分延遲
+ *
+ * The downstream publisher burns a fixed amount of CPU per event, standing
+ * in for log formatting and I/O. {@code SYNC} publishes on the scoring
+ * thread; {@code ASYNC} hands events to {@link AsyncBatchingEventPublisher}
+ * with the DROP policy. The match is parked at deuce, so each point
+ * publishes exactly one event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPublisherBenchmark {
+
+    private static final long CONSUMER_TOKENS = 2_000;
+
+    @Param({"SYNC", "ASYNC"})
+    public String publisher;
+
+    private BaseEventPublisher eventPublisher;
+    private MatchDomainService matchService;
+    private String matchId;
+    private String player1Id;
+    private String player2Id;
+    private boolean player1Next;
+
+    @Setup
+    public void setUp() {
+        BaseEventPublisher downstream = new SlowPublisher();
+        eventPublisher = publisher.equals("ASYNC")
+                ? new AsyncBatchingEventPublisher(downstream, 8192, 256, BackpressurePolicy.DROP, 10)
+                : downstream;
+
+        ValidationService validationService = new ValidationService();
+        matchService = new MatchDomainService(
+                new InMemoryMatchRepository(),
+                new ScoringDomainService(validationService),
+                new MatchEventService(eventPublisher, eventPublisher),
+                new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+                validationService);
+
+        Match match = matchService.createMatch("Rafael Nadal", "Roger Federer");
+        matchId = match.getMatchId();
+        player1Id = match.getPlayer1().getPlayerId().getValue();
+        player2Id = match.getPlayer2().getPlayerId().getValue();
+        for (int point = 0; point < 6; point++) {
+            matchService.scorePoint(matchId, point % 2 == 0 ? player1Id : player2Id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (eventPublisher instanceof AsyncBatchingEventPublisher async) {
+            async.close();
+        }
+    }
+
+    @Benchmark
+    public Match scorePoint() {
+        Match match = matchService.scorePoint(matchId, player1Next ? player1Id : player2Id);
+        player1Next = !player1Next;
+        return match;
+    }
+
+    /**
+     * Publisher that spends a fixed amount of CPU on every event.
+     */
+    static final class SlowPublisher extends BaseEventPublisher {
+
+        @Override
+        protected void doPublishMatchCreated(MatchCreatedEvent event) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishPointScored(PointScoredEvent event) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishMatchCompleted(MatchCompletedEvent event) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishMatchDeleted(String matchId, String deletedBy) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishGameCompleted(String matchId, int gameNumber, String winnerId) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishSetCompleted(String matchId, int setNumber, String winnerId) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored,
+                                                String currentScore) {
+            Blackhole.consumeCPU(CONSUMER_TOKENS);
+        }
+
+        @Override
+        public String getPublisherType() {
+            return "SLOW";
+        }
+
+        @Override
+        public boolean isAsynchronous() {
+            return false;
+        }
+    }
+}
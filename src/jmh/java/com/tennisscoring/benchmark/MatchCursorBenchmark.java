@@ -0,0 +1,83 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.domain.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Per-point cost at different depths of a match.
+ * 比賽不同進度下每一分的成本
+ *
+ * The match is parked at deuce, so {@link #scorePointAtDeuce} can keep
+ * scoring advantage / back-to-deuce pairs forever without the position
+ * changing. With constant-time current set and game lookups the cost
+ * should be the same early in the first set and late in the third.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchCursorBenchmark {
+
+    /** Where the match is parked at deuce. */
+    public enum Position {
+        SET1_GAME1,
+        SET1_GAME12,
+        SET3_GAME12
+    }
+
+    @Param({"SET1_GAME1", "SET1_GAME12", "SET3_GAME12"})
+    public Position position;
+
+    private Match match;
+
+    @Setup
+    public void setUp() {
+        PointSequences.Builder builder = new PointSequences.Builder();
+        if (position == Position.SET3_GAME12) {
+            builder.set(6, 4);
+            builder.set(4, 6);
+        }
+        if (position != Position.SET1_GAME1) {
+            // Alternate games up to 6-5 so the set is still open
+            for (int game = 0; game < 11; game++) {
+                builder.game(game % 2 == 0, 1);
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            builder.point(true).point(false);
+        }
+        match = BenchmarkFixtures.playedMatch(builder.build());
+    }
+
+    @Benchmark
+    public boolean scorePointAtDeuce() {
+        match.scorePoint(PLAYER1_ID);
+        return match.scorePoint(PLAYER2_ID);
+    }
+
+    @Benchmark
+    public void currentLookups(Blackhole blackhole) {
+        blackhole.consume(match.getCurrentSetNumber());
+        blackhole.consume(match.getCurrentGameNumber());
+        blackhole.consume(match.isCurrentGameTiebreak());
+        blackhole.consume(match.getCurrentGame());
+    }
+}
@@ -0,0 +1,79 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping completed matches of growing length to their responses.
+ * 將長度遞增的已完成比賽轉換為回應的基準測試
+ *
+ * The domain plays best of three, so the longest match it allows
+ * (7-6 6-7 7-6, 39 games and three tiebreaks) stands in for a long
+ * five-set match. Games per match are printed at setup: time and
+ * allocation per game should stay flat across the shapes. Run with
+ * {@code -prof gc} for the allocation per response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchMapperBenchmark {
+
+    /**
+     * Match shapes, from the shortest to the longest best-of-three.
+     */
+    public enum Shape {
+        /** 6-0 6-0: twelve games. */
+        STRAIGHT_SETS,
+        /** 6-4 4-6 6-3: twenty-nine games. */
+        THREE_SETS,
+        /** 7-6 6-7 7-6: thirty-nine games, every set decided by a tiebreak. */
+        THREE_TIEBREAKS
+    }
+
+    @Param({"STRAIGHT_SETS", "THREE_SETS", "THREE_TIEBREAKS"})
+    public Shape shape;
+
+    private MatchMapper mapper;
+    private Match match;
+
+    @Setup
+    public void setUp() {
+        PointSequences.Builder builder = new PointSequences.Builder();
+        switch (shape) {
+            case STRAIGHT_SETS -> builder.set(6, 0).set(6, 0);
+            case THREE_SETS -> builder.set(6, 4).set(4, 6).set(6, 3);
+            case THREE_TIEBREAKS -> builder.tiebreakSet(true, 5).tiebreakSet(false, 6).tiebreakSet(true, 8);
+        }
+        match = BenchmarkFixtures.playedMatch(builder.build());
+        mapper = new MatchMapper();
+        int games = 0;
+        for (Set set : match.getSets()) {
+            games += set.getTotalGamesPlayed();
+        }
+        System.out.println();
+        System.out.println("Games per match: " + games);
+    }
+
+    @Benchmark
+    public MatchResponse toResponse() {
+        return mapper.toResponse(match);
+    }
+}
@@ -0,0 +1,71 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.domain.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Benchmarks for the read side that runs after every point:
+ * score formatting and response mapping.
+ * 每次得分後執行的讀取路徑基準測試：比分格式化與回應轉換
+ *
+ * {@link #scoreThenReadThreeTimes} mirrors one scoring request, which reads
+ * the score for the response, the point event and the completion check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchReadBenchmark {
+
+    private Match lateMatch;
+    private Match deuceMatch;
+    private MatchMapper mapper;
+    private boolean player1Next;
+
+    @Setup
+    public void setUp() {
+        lateMatch = BenchmarkFixtures.playedMatch(PointSequences.lateThirdSet());
+        // Parked at 40-40: alternating points keep cycling advantage and deuce
+        deuceMatch = BenchmarkFixtures.playedMatch(
+                new boolean[] {true, false, true, false, true, false});
+        mapper = new MatchMapper();
+    }
+
+    @Benchmark
+    public String matchGetCurrentScore() {
+        return lateMatch.getCurrentScore();
+    }
+
+    @Benchmark
+    public void scoreThenReadThreeTimes(Blackhole blackhole) {
+        deuceMatch.scorePoint(player1Next ? PLAYER1_ID : PLAYER2_ID);
+        player1Next = !player1Next;
+        blackhole.consume(deuceMatch.getCurrentScore());
+        blackhole.consume(deuceMatch.getCurrentScore());
+        blackhole.consume(deuceMatch.getCurrentScore());
+    }
+
+    @Benchmark
+    public MatchResponse mapperToResponse() {
+        return mapper.toResponse(lateMatch);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.PlayerId;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Rebuilding a match from its point events.
+ * 從得分事件重建比賽的基準測試
+ *
+ * {@link #replayEvents} folds the events through
+ * {@link ScoringDomainService#rebuildMatch}; {@link #rescoreAndPublish}
+ * scores the same points the way live scoring does, validating each one
+ * and publishing its event with the formatted score. One operation
+ * rebuilds a whole scenario, so points per second are the score times
+ * the number of points printed at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchReplayBenchmark {
+
+    @Param({"DEUCE_HEAVY_SET", "BEST_OF_THREE"})
+    public PointSequences.Scenario scenario;
+
+    private ScoringDomainService scoringService;
+    private MatchEventService eventService;
+    private MatchCreatedEvent created;
+    private List<PointScoredEvent> events;
+
+    @Setup
+    public void setUp() {
+        ValidationService validationService = new ValidationService();
+        BenchmarkFixtures.DiscardingEventPublisher publisher = new BenchmarkFixtures.DiscardingEventPublisher();
+        scoringService = new ScoringDomainService(validationService);
+        eventService = new MatchEventService(publisher, publisher);
+
+        Match match = BenchmarkFixtures.newMatch();
+        created = new MatchCreatedEvent(match.getMatchId(),
+                PLAYER1_ID.getValue(), match.getPlayer1().getName(),
+                PLAYER2_ID.getValue(), match.getPlayer2().getName());
+        events = new ArrayList<>();
+        for (boolean player1 : scenario.points()) {
+            PlayerId playerId = player1 ? PLAYER1_ID : PLAYER2_ID;
+            match.scorePoint(playerId);
+            events.add(new PointScoredEvent(match.getMatchId(), playerId.getValue(), match.getCurrentScore(),
+                    match.getCurrentSetNumber(), match.getCurrentGameNumber()));
+        }
+        System.out.println();
+        System.out.println("Points per operation: " + events.size());
+    }
+
+    @Benchmark
+    public Match replayEvents() {
+        return scoringService.rebuildMatch(created, events);
+    }
+
+    @Benchmark
+    public Match rescoreAndPublish() {
+        Match match = BenchmarkFixtures.newMatch();
+        for (PointScoredEvent event : events) {
+            scoringService.scorePoint(match, PlayerId.of(event.getPlayerId()));
+            eventService.publishPointScored(match, event.getPlayerId());
+        }
+        return match;
+    }
+}
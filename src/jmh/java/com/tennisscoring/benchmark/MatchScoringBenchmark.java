@@ -0,0 +1,54 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.domain.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Benchmarks for the aggregate-level scoring path.
+ * 比賽聚合層級計分路徑的基準測試
+ *
+ * One operation of {@link #matchScorePoint} plays a complete scenario on a
+ * fresh {@link Match}; divide by the scenario length for per-point cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchScoringBenchmark {
+
+    @Param({"DEUCE_HEAVY_SET", "TIEBREAK_SET", "BEST_OF_THREE"})
+    public PointSequences.Scenario scenario;
+
+    private boolean[] points;
+
+    @Setup
+    public void setUp() {
+        points = scenario.points();
+    }
+
+    @Benchmark
+    public Match matchScorePoint() {
+        Match match = BenchmarkFixtures.newMatch();
+        for (boolean player1 : points) {
+            match.scorePoint(player1 ? PLAYER1_ID : PLAYER2_ID);
+        }
+        return match;
+    }
+}
@@ -0,0 +1,107 @@
+package com.tennisscoring.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.SetResponse;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.domain.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing the response of a five-set match in each wire format.
+ * 以各種傳輸格式序列化五盤比賽回應的基準測試
+ *
+ * The domain plays best of three, so the five sets (6-4 4-6 7-5 4-6 6-3)
+ * are mapped from two played matches and renumbered; only the shape of
+ * the response matters here. The mappers are configured like the
+ * application's. Bytes per response are printed at setup; run with
+ * {@code -prof gc} for the allocation per response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchSerializationBenchmark {
+
+    /**
+     * The encodings a client can negotiate.
+     */
+    public enum Format {
+        /** JSON as the dev profile used to write it. */
+        JSON_INDENTED,
+        /** JSON without indentation, as the match endpoints write it. */
+        JSON,
+        /** CBOR, for clients that accept application/cbor. */
+        CBOR
+    }
+
+    @Param({"JSON_INDENTED", "JSON", "CBOR"})
+    public Format format;
+
+    private ObjectWriter writer;
+    private MatchResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        response = fiveSetResponse();
+        writer = switch (format) {
+            case JSON_INDENTED -> configure(new ObjectMapper()).writer().with(SerializationFeature.INDENT_OUTPUT);
+            case JSON -> configure(new ObjectMapper()).writer();
+            case CBOR -> configure(new ObjectMapper(new CBORFactory())).writer();
+        };
+        System.out.println();
+        System.out.println("Bytes per response: " + writer.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper.findAndRegisterModules()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static MatchResponse fiveSetResponse() {
+        MatchMapper mapper = new MatchMapper();
+        PointSequences.Builder firstSets = new PointSequences.Builder();
+        firstSets.set(6, 4).set(4, 6).set(7, 5);
+        PointSequences.Builder lastSets = new PointSequences.Builder();
+        lastSets.set(4, 6).set(6, 3);
+        Match first = BenchmarkFixtures.playedMatch(firstSets.build());
+        Match last = BenchmarkFixtures.playedMatch(lastSets.build());
+
+        MatchResponse response = mapper.toResponse(first);
+        List<SetResponse> sets = new ArrayList<>(response.getSets());
+        List<SetResponse> lastResponses = mapper.toResponse(last).getSets();
+        for (int i = 0; i < 2; i++) {
+            SetResponse set = lastResponses.get(i);
+            set.setSetNumber(sets.size() + 1);
+            sets.add(set);
+        }
+        response.setSets(sets);
+        return response;
+    }
+}
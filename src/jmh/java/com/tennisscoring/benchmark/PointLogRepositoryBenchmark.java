@@ -0,0 +1,141 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.repository.BaseMatchRepository;
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.adapters.secondary.repository.PointLogMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of durable scoring with the point log repository.
+ * 使用得分日誌儲存庫進行持久化計分的吞吐量基準測試
+ *
+ * Four threads score their own matches through {@link MatchDomainService};
+ * with {@code POINT_LOG} every point is on disk before the call returns.
+ * Concurrent saves share a sync, and the log metrics printed at the end of
+ * each trial show how many points each sync covered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PointLogRepositoryBenchmark {
+
+    private static final int MATCHES = 64;
+
+    @Param({"IN_MEMORY", "POINT_LOG"})
+    public String repository;
+
+    private Path directory;
+    private BaseMatchRepository matchRepository;
+    private MatchDomainService matchService;
+    private List<Match> matches;
+    private final AtomicInteger nextMatch = new AtomicInteger();
+
+    @Setup
+    public void setUp() throws IOException {
+        if (repository.equals("POINT_LOG")) {
+            directory = Files.createTempDirectory("point-log-benchmark");
+            matchRepository = new PointLogMatchRepository(directory, 64 * 1024 * 1024);
+        } else {
+            matchRepository = new InMemoryMatchRepository();
+        }
+
+        ValidationService validationService = new ValidationService();
+        BenchmarkFixtures.DiscardingEventPublisher publisher = new BenchmarkFixtures.DiscardingEventPublisher();
+        matchService = new MatchDomainService(
+                matchRepository,
+                new ScoringDomainService(validationService),
+                new MatchEventService(publisher, publisher),
+                new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+                validationService,
+                new StripedMatchLocks(MATCHES));
+
+        matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            Match match = matchService.createMatch("Player A" + i, "Player B" + i);
+            for (int point = 0; point < 6; point++) {
+                matchService.scorePoint(match.getMatchId(), playerId(match, point % 2 == 0));
+            }
+            matches.add(match);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (matchRepository instanceof PointLogMatchRepository pointLog) {
+            System.out.println();
+            System.out.println("Point log: " + pointLog.getMetrics());
+            pointLog.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * The match scored by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadMatch {
+
+        private String matchId;
+        private String player1Id;
+        private String player2Id;
+        private boolean player1Next;
+
+        @Setup
+        public void setUp(PointLogRepositoryBenchmark benchmark) {
+            Match match = benchmark.matches.get(benchmark.nextMatch.getAndIncrement() % MATCHES);
+            matchId = match.getMatchId();
+            player1Id = playerId(match, true);
+            player2Id = playerId(match, false);
+        }
+    }
+
+    @Benchmark
+    public Match scorePoint(ThreadMatch thread) {
+        // Alternating points cycle between advantage and deuce
+        Match match = matchService.scorePoint(thread.matchId, thread.player1Next ? thread.player1Id : thread.player2Id);
+        thread.player1Next = !thread.player1Next;
+        return match;
+    }
+
+    private static String playerId(Match match, boolean player1) {
+        return (player1 ? match.getPlayer1() : match.getPlayer2()).getPlayerId().getValue();
+    }
+}
@@ -0,0 +1,175 @@
+package com.tennisscoring.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Deterministic point sequences used by the scoring benchmarks.
+ * 效能基準測試使用的固定得分序列
+ *
+ * Each sequence is encoded as a boolean array where {@code true} means
+ * player 1 won the point and {@code false} means player 2 won it.
+ */
+public final class PointSequences {
+
+    /**
+     * Benchmark scenarios covering the main shapes of a tennis match.
+     * 涵蓋比賽主要型態的基準測試情境
+     */
+    public enum Scenario {
+        /** One 6-4 set where every game goes through five deuces. */
+        DEUCE_HEAVY_SET,
+        /** One 7-6 set decided by an extended 10-8 tiebreak. */
+        TIEBREAK_SET,
+        /** A full best-of-3 match: 7-6, 4-6, 6-3 with mixed game lengths. */
+        BEST_OF_THREE;
+
+        /**
+         * Build the point sequence for this scenario.
+         * @return a fresh point sequence
+         */
+        public boolean[] points() {
+            return switch (this) {
+                case DEUCE_HEAVY_SET -> deuceHeavySet();
+                case TIEBREAK_SET -> tiebreakSet();
+                case BEST_OF_THREE -> bestOfThree();
+            };
+        }
+    }
+
+    private PointSequences() {
+    }
+
+    /**
+     * A match paused in the middle of the third set without any tiebreak:
+     * 6-4, 4-6, 3-2 (30-15).
+     * @return the point sequence
+     */
+    public static boolean[] lateThirdSet() {
+        Builder builder = new Builder();
+        builder.set(6, 4);
+        builder.set(4, 6);
+        builder.game(true, 1).game(false, 2).game(true, 0).game(false, 1).game(true, 2);
+        builder.point(true).point(false).point(true);
+        return builder.build();
+    }
+
+    private static boolean[] deuceHeavySet() {
+        Builder builder = new Builder();
+        for (int i = 0; i < 10; i++) {
+            // 6-4 for player 1: alternate until 4-4, then player 1 takes two
+            boolean player1Wins = i >= 8 || i % 2 == 0;
+            builder.deuceGame(player1Wins, 5);
+        }
+        return builder.build();
+    }
+
+    private static boolean[] tiebreakSet() {
+        Builder builder = new Builder();
+        builder.tiebreakSet(true, 8);
+        return builder.build();
+    }
+
+    private static boolean[] bestOfThree() {
+        Builder builder = new Builder();
+        builder.tiebreakSet(true, 5);
+        builder.set(4, 6);
+        builder.set(6, 3);
+        return builder.build();
+    }
+
+    /**
+     * Small helper for composing point sequences game by game.
+     */
+    static final class Builder {
+
+        private boolean[] points = new boolean[256];
+        private int size;
+        private int gameCounter;
+
+        Builder point(boolean player1) {
+            if (size == points.length) {
+                points = Arrays.copyOf(points, size * 2);
+            }
+            points[size++] = player1;
+            return this;
+        }
+
+        /**
+         * A regular game won 4-x by the winner, x = loserPoints (0..2).
+         */
+        Builder game(boolean player1Wins, int loserPoints) {
+            for (int i = 0; i < loserPoints; i++) {
+                point(player1Wins).point(!player1Wins);
+            }
+            for (int i = loserPoints; i < 4; i++) {
+                point(player1Wins);
+            }
+            gameCounter++;
+            return this;
+        }
+
+        /**
+         * A regular game that passes through deuce the given number of times.
+         */
+        Builder deuceGame(boolean player1Wins, int deuces) {
+            for (int i = 0; i < 3; i++) {
+                point(player1Wins).point(!player1Wins);
+            }
+            for (int i = 1; i < deuces; i++) {
+                point(!player1Wins).point(player1Wins);
+            }
+            point(player1Wins).point(player1Wins);
+            gameCounter++;
+            return this;
+        }
+
+        /**
+         * A set with the given game score; games alternate so that the set
+         * is only decided by its final game.
+         */
+        Builder set(int player1Games, int player2Games) {
+            int p1 = 0;
+            int p2 = 0;
+            while (p1 < player1Games || p2 < player2Games) {
+                boolean player1Next = p2 >= player2Games || (p1 <= p2 && p1 < player1Games);
+                game(player1Next, gameCounter % 3);
+                if (player1Next) {
+                    p1++;
+                } else {
+                    p2++;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * A 7-6 set; the tiebreak winner concedes loserPoints tiebreak points.
+         */
+        Builder tiebreakSet(boolean player1Wins, int loserPoints) {
+            for (int i = 0; i < 6; i++) {
+                game(true, gameCounter % 3);
+                game(false, gameCounter % 3);
+            }
+            int winner = 0;
+            int loser = 0;
+            while (loser < loserPoints) {
+                point(!player1Wins);
+                loser++;
+                if (winner < loser || loser >= 6) {
+                    point(player1Wins);
+                    winner++;
+                }
+            }
+            while (winner < 7 || winner - loser < 2) {
+                point(player1Wins);
+                winner++;
+            }
+            gameCounter++;
+            return this;
+        }
+
+        boolean[] build() {
+            return Arrays.copyOf(points, size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchStatus;
+import com.tennisscoring.domain.service.MatchStatisticsService;
+import com.tennisscoring.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for status queries over a repository of retained matches.
+ * 針對大量保留比賽的狀態查詢基準測試
+ *
+ * One match in a hundred is cancelled and the rest are in progress, so
+ * {@link #findCancelled} returns a small slice of a large repository.
+ * {@link #pageFromMiddle} reads a listing page of 50 against the full
+ * {@link #findAll} copy that the unpaged listing starts from.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    @Param({"10000"})
+    public int matches;
+
+    private InMemoryMatchRepository repository;
+    private MatchStatisticsService statisticsService;
+    private String middleCursor;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryMatchRepository();
+        for (int i = 0; i < matches; i++) {
+            Match match = Match.create("Player A" + i, "Player B" + i);
+            if (i % 100 == 0) {
+                match.cancel();
+            }
+            repository.save(match);
+        }
+        middleCursor = repository.findPage(null, null, matches / 2).get(matches / 2 - 1).getMatchId();
+        ValidationService validationService = new ValidationService();
+        statisticsService = new MatchStatisticsService(repository, validationService);
+    }
+
+    @Benchmark
+    public MatchStatisticsService.SystemStatistics systemStatistics() {
+        return statisticsService.getSystemStatistics();
+    }
+
+    @Benchmark
+    public long countInProgress() {
+        return repository.countByStatus(MatchStatus.IN_PROGRESS);
+    }
+
+    @Benchmark
+    public List<Match> findCancelled() {
+        return repository.findByStatus(MatchStatus.CANCELLED);
+    }
+
+    @Benchmark
+    public List<Match> pageFromMiddle() {
+        return repository.findPage(null, middleCursor, 50);
+    }
+
+    @Benchmark
+    public List<Match> findAll() {
+        return repository.findAll();
+    }
+}
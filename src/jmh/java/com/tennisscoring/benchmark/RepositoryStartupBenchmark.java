@@ -0,0 +1,93 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.repository.PointLogMatchRepository;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.PlayerId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup time of the point log repository, replaying the log or loading a snapshot.
+ * 得分日誌儲存庫的啟動時間：重播日誌或載入快照
+ *
+ * Each trial stores a number of matches, most of them in progress after
+ * 54 points and every fifth one completed. {@code LOG_REPLAY} rebuilds them by replaying every
+ * record; {@code SNAPSHOT} writes a snapshot first, so startup reads one
+ * snapshot entry per match and an empty log.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class RepositoryStartupBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int POINTS_PER_MATCH = 54;
+
+    @Param({"10000", "100000"})
+    public int matches;
+
+    @Param({"LOG_REPLAY", "SNAPSHOT"})
+    public String startup;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("repository-startup-benchmark");
+        try (PointLogMatchRepository repository = new PointLogMatchRepository(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < matches; i++) {
+                Match match = Match.create("Player A" + i, "Player B" + i);
+                PlayerId player1 = match.getPlayer1().getPlayerId();
+                PlayerId player2 = match.getPlayer2().getPlayerId();
+                // Every fifth match is won straight; the others win two sets to love and go to deuce
+                boolean finish = i % 5 == 0;
+                for (int point = 0; match.isInProgress() && (finish || point < POINTS_PER_MATCH); point++) {
+                    match.scorePoint(finish || point < 48 || point % 2 == 0 ? player1 : player2);
+                }
+                // One save per match appends all its records with a single sync
+                repository.save(match);
+            }
+            if (startup.equals("SNAPSHOT")) {
+                repository.snapshot();
+            }
+            System.out.println();
+            System.out.println("Point log: " + repository.getMetrics());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long open() {
+        try (PointLogMatchRepository repository = new PointLogMatchRepository(directory, SEGMENT_SIZE)) {
+            return repository.count();
+        }
+    }
+}
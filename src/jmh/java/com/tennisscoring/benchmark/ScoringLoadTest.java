@@ -0,0 +1,265 @@
+package com.tennisscoring.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.TennisScoringSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of the scoring endpoint with Tomcat on platform or virtual threads.
+ * 以平台執行緒或虛擬執行緒執行 Tomcat 時的計分端點負載測試
+ *
+ * Unlike the JMH benchmarks this drives the whole HTTP stack. For each
+ * thread mode and client count it starts the application on a random port,
+ * gives every client its own match and has all clients score points in a
+ * closed loop: each client sends its next point as soon as the previous
+ * response arrives. Points alternate between the players, so the matches
+ * stay at deuce and never finish. After a warmup the harness reports the
+ * throughput and the latency percentiles of the measured window.
+ *
+ * The clients share the JVM with the server and use the JDK's asynchronous
+ * HTTP client, so a few thousand of them need only a handful of threads but
+ * one socket each on both sides; raise {@code ulimit -n} accordingly.
+ * Virtual threads need a Java 21 runtime and build ({@code -Pjava21}); on
+ * older runtimes that mode is skipped.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.tennisscoring.benchmark.ScoringLoadTest \
+ *     -Dbenchmark.args="--clients 2000,5000 --warmup 10 --duration 30 --modes platform,virtual"
+ * </pre>
+ */
+public final class ScoringLoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int SETUP_CONCURRENCY = 256;
+
+    private final HttpClient http;
+    private final ExecutorService callbacks;
+
+    private ScoringLoadTest() {
+        callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callbacks)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] clientCounts = {2000, 5000};
+        int warmupSeconds = 10;
+        int durationSeconds = 30;
+        List<String> modes = List.of("platform", "virtual");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--clients" -> clientCounts = Arrays.stream(args[i + 1].split(","))
+                        .mapToInt(count -> Integer.parseInt(count.trim())).toArray();
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[i + 1]);
+                case "--duration" -> durationSeconds = Integer.parseInt(args[i + 1]);
+                case "--modes" -> modes = List.of(args[i + 1].toLowerCase(Locale.ROOT).split(","));
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        ScoringLoadTest loadTest = new ScoringLoadTest();
+        List<String> results = new ArrayList<>();
+        try {
+            for (String mode : modes) {
+                boolean virtual = mode.trim().equals("virtual");
+                if (virtual && Runtime.version().feature() < 21) {
+                    results.add(String.format("%-9s skipped: virtual threads need Java 21, running %s",
+                            "virtual", Runtime.version()));
+                    continue;
+                }
+                for (int clients : clientCounts) {
+                    results.add(loadTest.run(virtual, clients, warmupSeconds, durationSeconds));
+                }
+            }
+        } finally {
+            loadTest.callbacks.shutdownNow();
+        }
+
+        System.out.println();
+        System.out.printf("%-9s %8s %12s %9s %9s %9s %9s %8s%n",
+                "threads", "clients", "points/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        results.forEach(System.out::println);
+    }
+
+    private String run(boolean virtual, int clients, int warmupSeconds, int durationSeconds) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        System.out.printf("%nStarting %s threads with %d clients%n", mode, clients);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TennisScoringSystemApplication.class)
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--server.tomcat.max-connections=" + (clients + 1000),
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--logging.level.com.tennisscoring=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.file.name=",
+                        "--tennis-scoring.events.publisher=ASYNC")) {
+            String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/matches";
+            List<Client> scoringClients = createClients(baseUri, clients);
+            Load load = new Load(clients);
+
+            long started = System.nanoTime();
+            scoringClients.forEach(client -> client.send(load));
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            load.recording = true;
+            long measureStart = System.nanoTime();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            load.recording = false;
+            long measured = System.nanoTime() - measureStart;
+            load.running = false;
+            if (!load.stopped.await(30, TimeUnit.SECONDS)) {
+                System.out.println("Some clients were still waiting for a response after 30 seconds");
+            }
+            System.out.printf("Ran %.1f s%n", (System.nanoTime() - started) / 1e9);
+
+            long[] latencies = merge(scoringClients);
+            Arrays.sort(latencies);
+            double throughput = latencies.length / (measured / 1e9);
+            return String.format("%-9s %8d %12.0f %9.2f %9.2f %9.2f %9.2f %8d",
+                    mode, clients, throughput,
+                    millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                    millis(percentile(latencies, 0.999)),
+                    millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]),
+                    load.errors.sum());
+        }
+    }
+
+    /**
+     * Create one match per client, a bounded number of requests at a time.
+     */
+    private List<Client> createClients(String baseUri, int clients) throws Exception {
+        Semaphore permits = new Semaphore(SETUP_CONCURRENCY);
+        List<CompletableFuture<Client>> created = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            String body = "{\"player1Name\":\"Player A" + i + "\",\"player2Name\":\"Player B" + i + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            permits.acquire();
+            created.add(http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> permits.release())
+                    .thenApply(response -> {
+                        try {
+                            JsonNode match = JSON.readTree(response.body());
+                            return new Client(URI.create(baseUri + "/" + match.get("matchId").asText() + "/score"),
+                                    match.get("player1").get("playerId").asText(),
+                                    match.get("player2").get("playerId").asText());
+                        } catch (Exception e) {
+                            throw new IllegalStateException("Cannot create match: " + response.body(), e);
+                        }
+                    }));
+        }
+        List<Client> result = new ArrayList<>(clients);
+        for (CompletableFuture<Client> client : created) {
+            result.add(client.join());
+        }
+        return result;
+    }
+
+    private static long[] merge(List<Client> clients) {
+        int total = clients.stream().mapToInt(client -> client.count).sum();
+        long[] merged = new long[total];
+        int offset = 0;
+        for (Client client : clients) {
+            System.arraycopy(client.latencies, 0, merged, offset, client.count);
+            offset += client.count;
+        }
+        return merged;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * State shared by the clients of one run.
+     */
+    private static final class Load {
+
+        private final CountDownLatch stopped;
+        private final LongAdder errors = new LongAdder();
+        private volatile boolean running = true;
+        private volatile boolean recording;
+
+        private Load(int clients) {
+            this.stopped = new CountDownLatch(clients);
+        }
+    }
+
+    /**
+     * One scoring client with its own match. Its responses arrive one at a
+     * time, so its latencies need no synchronization.
+     */
+    private final class Client {
+
+        private final URI scoreUri;
+        private final String[] bodies;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int points;
+
+        private Client(URI scoreUri, String player1Id, String player2Id) {
+            this.scoreUri = scoreUri;
+            this.bodies = new String[] {
+                "{\"playerId\":\"" + player1Id + "\"}",
+                "{\"playerId\":\"" + player2Id + "\"}"
+            };
+        }
+
+        private void send(Load load) {
+            HttpRequest request = HttpRequest.newBuilder(scoreUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(bodies[points++ & 1]))
+                    .build();
+            long start = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - start;
+                if (error != null || response.statusCode() != 200) {
+                    load.errors.increment();
+                } else if (load.recording) {
+                    record(latency);
+                }
+                if (load.running) {
+                    send(load);
+                } else {
+                    load.stopped.countDown();
+                }
+            });
+        }
+
+        private void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import com.tennisscoring.domain.strategy.ScoringStrategyRegistry;
+import com.tennisscoring.domain.strategy.StandardScoringStrategy;
+import com.tennisscoring.domain.strategy.TransitionTableScoringStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Benchmarks for the service-level scoring path.
+ * 服務層級計分路徑的基準測試
+ *
+ * {@link #scoringServiceScorePoint} drives {@link ScoringDomainService}
+ * directly; {@link #matchServiceScorePoint} goes end to end through
+ * {@link MatchDomainService}: validation, repository lookup, scoring, save
+ * and event publication. One operation plays a complete scenario with the
+ * given default scoring strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringServiceBenchmark {
+
+    @Param({"DEUCE_HEAVY_SET", "TIEBREAK_SET", "BEST_OF_THREE"})
+    public PointSequences.Scenario scenario;
+
+    @Param({"STANDARD", "TRANSITION_TABLE"})
+    public String strategy;
+
+    private boolean[] points;
+    private ScoringDomainService scoringService;
+    private MatchDomainService matchService;
+    private InMemoryMatchRepository repository;
+    private String player1Id;
+    private String player2Id;
+
+    @Setup
+    public void setUp() {
+        points = scenario.points();
+
+        ValidationService validationService = new ValidationService();
+        BenchmarkFixtures.DiscardingEventPublisher publisher = new BenchmarkFixtures.DiscardingEventPublisher();
+        repository = new InMemoryMatchRepository();
+        scoringService = new ScoringDomainService(
+                validationService,
+                new ScoringStrategyRegistry(List.of(new StandardScoringStrategy(), new TransitionTableScoringStrategy())),
+                strategy);
+        matchService = new MatchDomainService(
+                repository,
+                scoringService,
+                new MatchEventService(publisher, publisher),
+                new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+                validationService);
+
+        player1Id = PLAYER1_ID.getValue();
+        player2Id = PLAYER2_ID.getValue();
+    }
+
+    @Benchmark
+    public Match scoringServiceScorePoint() {
+        Match match = BenchmarkFixtures.newMatch();
+        for (boolean player1 : points) {
+            scoringService.scorePoint(match, player1 ? PLAYER1_ID : PLAYER2_ID);
+        }
+        return match;
+    }
+
+    @Benchmark
+    public Match matchServiceScorePoint() {
+        Match match = repository.save(BenchmarkFixtures.newMatch());
+        String matchId = match.getMatchId();
+        for (boolean player1 : points) {
+            match = matchService.scorePoint(matchId, player1 ? player1Id : player2Id);
+        }
+        repository.deleteById(matchId);
+        return match;
+    }
+}
@@ -0,0 +1,195 @@
+package com.tennisscoring.benchmark;
+
+import com.tennisscoring.domain.model.Game;
+import com.tennisscoring.domain.model.GameScore;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.PlayerId;
+import com.tennisscoring.domain.strategy.ScoringStrategy;
+import com.tennisscoring.domain.strategy.StandardScoringStrategy;
+import com.tennisscoring.domain.strategy.TransitionTableScoringStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER1_ID;
+import static com.tennisscoring.benchmark.BenchmarkFixtures.PLAYER2_ID;
+
+/**
+ * Compares game-level scoring strategies.
+ * 比較局層級計分策略的基準測試
+ *
+ * The {@code *Game} benchmarks isolate the per-point game transition on a
+ * long deuce game followed by a long tiebreak. {@link SwitchGame} keeps the
+ * original map-and-switch game logic as a reference point. The
+ * {@code *Match} benchmarks play a full best-of-three match so the strategy
+ * cost can be seen next to set and match bookkeeping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringStrategyBenchmark {
+
+    private static final int DEUCES = 20;
+
+    private ScoringStrategy standard;
+    private ScoringStrategy transitionTable;
+    private boolean[] matchPoints;
+
+    @Setup
+    public void setUp() {
+        standard = new StandardScoringStrategy();
+        transitionTable = new TransitionTableScoringStrategy();
+        matchPoints = PointSequences.Scenario.BEST_OF_THREE.points();
+    }
+
+    @Benchmark
+    public SwitchGame switchGame() {
+        SwitchGame regular = new SwitchGame(false);
+        for (int i = 0; i < 3 + DEUCES; i++) {
+            regular.scorePoint(PLAYER1_ID, PLAYER2_ID);
+            regular.scorePoint(PLAYER2_ID, PLAYER1_ID);
+        }
+        regular.scorePoint(PLAYER1_ID, PLAYER2_ID);
+        regular.scorePoint(PLAYER1_ID, PLAYER2_ID);
+
+        SwitchGame tiebreak = new SwitchGame(true);
+        for (int i = 0; i < 3 + DEUCES; i++) {
+            tiebreak.scorePoint(PLAYER1_ID, PLAYER2_ID);
+            tiebreak.scorePoint(PLAYER2_ID, PLAYER1_ID);
+        }
+        tiebreak.scorePoint(PLAYER1_ID, PLAYER2_ID);
+        tiebreak.scorePoint(PLAYER1_ID, PLAYER2_ID);
+        return regular;
+    }
+
+    @Benchmark
+    public Game standardGame() {
+        return playLongGames(standard);
+    }
+
+    @Benchmark
+    public Game transitionTableGame() {
+        return playLongGames(transitionTable);
+    }
+
+    @Benchmark
+    public Match standardMatch() {
+        return playMatch(standard);
+    }
+
+    @Benchmark
+    public Match transitionTableMatch() {
+        return playMatch(transitionTable);
+    }
+
+    private Game playLongGames(ScoringStrategy strategy) {
+        Game regular = playLongGame(strategy, new Game(1, false));
+        playLongGame(strategy, new Game(13, true));
+        return regular;
+    }
+
+    private Game playLongGame(ScoringStrategy strategy, Game game) {
+        game.initializeScores(PLAYER1_ID, PLAYER2_ID);
+        for (int i = 0; i < 3 + DEUCES; i++) {
+            strategy.scorePoint(game, PLAYER1_ID);
+            strategy.scorePoint(game, PLAYER2_ID);
+        }
+        strategy.scorePoint(game, PLAYER1_ID);
+        strategy.scorePoint(game, PLAYER1_ID);
+        return game;
+    }
+
+    private Match playMatch(ScoringStrategy strategy) {
+        Match match = BenchmarkFixtures.newMatch();
+        for (boolean player1 : matchPoints) {
+            match.scorePoint(player1 ? PLAYER1_ID : PLAYER2_ID, strategy);
+        }
+        return match;
+    }
+
+    /**
+     * The game logic as it was before the packed state: per-player score
+     * maps and a switch on the scorer's score for every point.
+     */
+    public static final class SwitchGame {
+
+        private final boolean tiebreak;
+        private final Map<PlayerId, GameScore> scores = new HashMap<>();
+        private final Map<PlayerId, Integer> tiebreakScores = new HashMap<>();
+        private boolean deuce;
+        private PlayerId winner;
+
+        SwitchGame(boolean tiebreak) {
+            this.tiebreak = tiebreak;
+            scores.put(PLAYER1_ID, GameScore.LOVE);
+            scores.put(PLAYER2_ID, GameScore.LOVE);
+            tiebreakScores.put(PLAYER1_ID, 0);
+            tiebreakScores.put(PLAYER2_ID, 0);
+        }
+
+        boolean scorePoint(PlayerId playerId, PlayerId opponentId) {
+            if (winner != null) {
+                throw new IllegalStateException("Cannot score on completed game");
+            }
+            return tiebreak ? scoreTiebreakPoint(playerId, opponentId) : scoreRegularPoint(playerId, opponentId);
+        }
+
+        private boolean scoreRegularPoint(PlayerId playerId, PlayerId opponentId) {
+            switch (scores.get(playerId)) {
+                case LOVE -> scores.put(playerId, GameScore.FIFTEEN);
+                case FIFTEEN -> scores.put(playerId, GameScore.THIRTY);
+                case THIRTY -> scores.put(playerId, GameScore.FORTY);
+                case FORTY -> {
+                    switch (scores.get(opponentId)) {
+                        case LOVE, FIFTEEN, THIRTY -> {
+                            winner = playerId;
+                            return true;
+                        }
+                        case FORTY -> {
+                            deuce = true;
+                            scores.put(playerId, GameScore.ADVANTAGE);
+                        }
+                        case ADVANTAGE -> {
+                            deuce = true;
+                            scores.put(opponentId, GameScore.FORTY);
+                            scores.put(playerId, GameScore.FORTY);
+                        }
+                    }
+                }
+                case ADVANTAGE -> {
+                    winner = playerId;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean scoreTiebreakPoint(PlayerId playerId, PlayerId opponentId) {
+            int currentPoints = tiebreakScores.get(playerId) + 1;
+            tiebreakScores.put(playerId, currentPoints);
+            if (currentPoints >= 7 && currentPoints - tiebreakScores.get(opponentId) >= 2) {
+                winner = playerId;
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isDeuce() {
+            return deuce;
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package com.tennisscoring.adapters.primary.controller;
 
+import com.tennisscoring.adapters.primary.dto.request.CorrectPointsRequest;
 import com.tennisscoring.adapters.primary.dto.request.CreateMatchRequest;
+import com.tennisscoring.adapters.primary.dto.request.FeedPointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScoreMatchesRequest;
 import com.tennisscoring.adapters.primary.dto.request.ScorePointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScorePointsRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.primary.dto.response.MatchPageResponse;
 import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchScoringResultResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreDeltaResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreMatchesResponse;
+import com.tennisscoring.adapters.primary.exception.GlobalExceptionHandler;
+import com.tennisscoring.adapters.primary.http.MatchResponseCache;
 import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
 import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchPage;
+import com.tennisscoring.domain.model.MatchScoringResult;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import com.tennisscoring.domain.model.MatchStatus;
 import com.tennisscoring.domain.service.MatchService;
 import com.tennisscoring.domain.service.StatisticsService;
 import com.tennisscoring.domain.service.MatchStatisticsService;
@@ -15,18 +31,55 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * REST API controller for tennis match management.
  * 網球比賽管理的 REST API 控制器
+ * 
+ * Single-match responses carry the match version as a strong ETag. Scoring
+ * requests may send it back in If-Match so a point based on a stale view is
+ * rejected with 409 instead of being applied to a newer state. The same
+ * applies to undoing or correcting the last points, and to batches of
+ * points buffered by courtside devices, which are applied in one pass and
+ * answered with the final state only. Scoring feeds covering many courts
+ * send one batch for all their matches and get one result per match, so a
+ * rejected match does not fail the rest of the batch. Scorers that accept
+ * the score delta media type get back only what a point changed, whose
+ * size does not grow with the match.
+ * 
+ * Large listings use the cursor-paged summary endpoint or the NDJSON export,
+ * which writes summaries page by page instead of building one list.
+ * Live scoreboards subscribe to a match's server-sent event stream instead
+ * of polling it; every subscriber is sent the same pre-serialized frames.
+ * 
+ * Reads of a single match are served from bytes serialized once per match
+ * version, and a client sending the current ETag in If-None-Match gets 304
+ * without a body. The endpoints changing a match drop its cached bytes.
+ * Reads use the snapshot published after a match's last change, so they
+ * never wait on, or see half of, a point being scored.
  */
 @RestController
 @RequestMapping("/api/matches")
@@ -36,14 +89,28 @@ public class MatchController {
     private final MatchService matchService;
     private final StatisticsService statisticsService;
     private final MatchMapper matchMapper;
+    private final ObjectMapper objectMapper;
+    private final MatchStreamPublisher matchStreamPublisher;
+    private final MatchResponseCache responseCache;
+    
+    /**
+     * Number of matches the NDJSON export reads per repository page.
+     */
+    private static final int EXPORT_PAGE_SIZE = 256;
     
     @Autowired
     public MatchController(MatchService matchService, 
                           StatisticsService statisticsService,
-                          MatchMapper matchMapper) {
+                          MatchMapper matchMapper,
+                          ObjectMapper objectMapper,
+                          MatchStreamPublisher matchStreamPublisher,
+                          MatchResponseCache responseCache) {
         this.matchService = matchService;
         this.statisticsService = statisticsService;
         this.matchMapper = matchMapper;
+        this.objectMapper = objectMapper;
+        this.matchStreamPublisher = matchStreamPublisher;
+        this.responseCache = responseCache;
     }
     
     @Operation(
@@ -75,7 +142,7 @@ public class MatchController {
         );
         
         MatchResponse response = matchMapper.toResponse(match);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(MatchETags.of(match)).body(response);
     }
     
     @Operation(
@@ -86,7 +153,16 @@ public class MatchController {
         @ApiResponse(
             responseCode = "200",
             description = "成功取得比賽資訊",
-            content = @Content(schema = @Schema(implementation = MatchResponse.class))
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = MatchResponse.class)),
+                @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                        schema = @Schema(implementation = MatchResponse.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "比賽自 If-None-Match 的版本後未變更"
         ),
         @ApiResponse(
             responseCode = "404",
@@ -94,13 +170,25 @@ public class MatchController {
         )
     })
     @GetMapping("/{matchId}")
-    public ResponseEntity<MatchResponse> getMatch(
+    public ResponseEntity<byte[]> getMatch(
             @Parameter(description = "比賽ID", required = true)
-            @PathVariable String matchId) {
+            @PathVariable String matchId,
+            @Parameter(description = "傳入 " + MediaType.APPLICATION_CBOR_VALUE + " 以取得 CBOR 編碼")
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
         
-        Match match = matchService.getMatch(matchId);
-        MatchResponse response = matchMapper.toResponse(match);
-        return ResponseEntity.ok(response);
+        MatchSnapshot match = matchService.getMatchSnapshot(matchId);
+        // Each encoding has its own strong ETag; Vary keeps caches from mixing them up
+        boolean cbor = MatchMediaTypes.accepts(accept, MediaType.APPLICATION_CBOR);
+        String eTag = cbor ? MatchETags.ofCbor(match) : MatchETags.of(match);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON)
+                .body(cbor ? responseCache.cbor(match) : responseCache.json(match));
     }
     
     @Operation(
@@ -116,22 +204,77 @@ public class MatchController {
     })
     @GetMapping
     public ResponseEntity<List<MatchResponse>> getAllMatches() {
-        List<Match> matches = matchService.getAllMatches();
+        List<MatchSnapshot> matches = matchService.getAllMatchSnapshots();
         List<MatchResponse> responses = matches.stream()
                 .map(matchMapper::toResponse)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
     
+    @Operation(
+        summary = "分頁取得比賽摘要",
+        description = "以游標分頁取得比賽摘要列表，可依狀態篩選；回應中的 nextCursor 作為下一頁的 after 參數"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功取得比賽摘要",
+            content = @Content(schema = @Schema(implementation = MatchPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "分頁參數無效"
+        )
+    })
+    @GetMapping("/page")
+    public ResponseEntity<MatchPageResponse> getMatchPage(
+            @Parameter(description = "比賽狀態篩選")
+            @RequestParam(required = false) MatchStatus status,
+            @Parameter(description = "上一頁回傳的游標")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "每頁筆數（1-500）")
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        MatchPage page = matchService.getMatchPage(status, after, limit);
+        return ResponseEntity.ok(matchMapper.toPageResponse(page));
+    }
+    
+    @Operation(
+        summary = "串流匯出比賽摘要",
+        description = "以 NDJSON 逐行輸出比賽摘要，可依狀態篩選，不會一次載入所有比賽"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功開始串流"
+        )
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @Parameter(description = "比賽狀態篩選")
+            @RequestParam(required = false) MatchStatus status) {
+        
+        StreamingResponseBody body = output -> writeSummaries(status, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
     @Operation(
         summary = "記錄得分",
-        description = "為指定球員記錄一分，系統會自動更新比賽狀態"
+        description = "為指定球員記錄一分，系統會自動更新比賽狀態；Accept 為 " + ScoreDeltaResponse.MEDIA_TYPE
+                + " 時只回傳這一分造成的變化"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "得分記錄成功",
-            content = @Content(schema = @Schema(implementation = MatchResponse.class))
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = MatchResponse.class)),
+                @Content(mediaType = ScoreDeltaResponse.MEDIA_TYPE,
+                        schema = @Schema(implementation = ScoreDeltaResponse.class))
+            }
         ),
         @ApiResponse(
             responseCode = "400",
@@ -143,19 +286,207 @@ public class MatchController {
         ),
         @ApiResponse(
             responseCode = "409",
-            description = "比賽已結束，無法繼續得分"
+            description = "比賽已結束，或比賽版本與 If-Match 不符，無法繼續得分"
         )
     })
     @PostMapping("/{matchId}/score")
-    public ResponseEntity<MatchResponse> scorePoint(
+    public ResponseEntity<?> scorePoint(
             @Parameter(description = "比賽ID", required = true)
             @PathVariable String matchId,
+            @Parameter(description = "上次取得的比賽版本 ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "傳入 " + ScoreDeltaResponse.MEDIA_TYPE + " 以取得精簡的比分差異")
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @Valid @RequestBody ScorePointRequest request) {
         
-        Match match = matchService.scorePoint(matchId, request.getPlayerId());
-        MatchResponse response = matchMapper.toResponse(match);
+        Long expectedVersion = MatchETags.parseIfMatch(ifMatch);
+        // The snapshot this point published, even if another point has followed it
+        MatchSnapshot snapshot = expectedVersion != null
+                ? matchService.scorePoint(matchId, request.getPlayerId(), expectedVersion)
+                : matchService.scorePoint(matchId, request.getPlayerId());
+        responseCache.invalidate(matchId);
+        
+        if (MatchMediaTypes.acceptsScoreDelta(accept)) {
+            // Relative to the version the point was scored against
+            long baseVersion = expectedVersion != null ? expectedVersion : snapshot.getVersion() - 1;
+            ScoreDeltaResponse delta = matchMapper.toScoreDelta(snapshot, baseVersion);
+            return ResponseEntity.ok()
+                    .eTag(MatchETags.of(snapshot))
+                    .contentType(MatchMediaTypes.SCORE_DELTA)
+                    .body(delta);
+        }
+        MatchResponse response = matchMapper.toResponse(snapshot);
+        
+        return ResponseEntity.ok().eTag(MatchETags.of(snapshot)).body(response);
+    }
+    
+    @Operation(
+        summary = "批次記錄得分",
+        description = "依序記錄多分並只回傳最終狀態，供離線緩衝的裝置一次送出；批次會完整套用或完全不套用"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "得分記錄成功",
+            content = @Content(schema = @Schema(implementation = MatchResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "請求參數無效"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "比賽或球員不存在"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "比賽已結束或在最後一分之前結束，或比賽版本與 If-Match 不符"
+        )
+    })
+    @PostMapping("/{matchId}/points:batch")
+    public ResponseEntity<MatchResponse> scorePoints(
+            @Parameter(description = "比賽ID", required = true)
+            @PathVariable String matchId,
+            @Parameter(description = "上次取得的比賽版本 ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ScorePointsRequest request) {
+        
+        Long expectedVersion = MatchETags.parseIfMatch(ifMatch);
+        MatchSnapshot snapshot = expectedVersion != null
+                ? matchService.scorePoints(matchId, request.getPlayerIds(), expectedVersion)
+                : matchService.scorePoints(matchId, request.getPlayerIds());
+        responseCache.invalidate(matchId);
+        MatchResponse response = matchMapper.toResponse(snapshot);
+        
+        return ResponseEntity.ok().eTag(MatchETags.of(snapshot)).body(response);
+    }
+    
+    @Operation(
+        summary = "批次記錄多場比賽得分",
+        description = "供計分資料源一次送出多場比賽的得分；各比賽的得分依序套用並平行處理，單場失敗不影響其他比賽"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "已處理批次，每場比賽各有其結果或錯誤",
+            content = @Content(schema = @Schema(implementation = ScoreMatchesResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "請求參數無效或批次過大"
+        )
+    })
+    @PostMapping("/points:batch")
+    public ResponseEntity<ScoreMatchesResponse> scoreMatches(
+            @Valid @RequestBody ScoreMatchesRequest request,
+            HttpServletRequest httpRequest) {
+        
+        // Group the feed by match, keeping the order of each match's points
+        Map<String, List<String>> pointsByMatch = new LinkedHashMap<>();
+        for (FeedPointRequest point : request.getPoints()) {
+            pointsByMatch.computeIfAbsent(point.getMatchId(), matchId -> new ArrayList<>()).add(point.getPlayerId());
+        }
         
-        return ResponseEntity.ok(response);
+        List<MatchScoringResult> results = matchService.scoreMatches(pointsByMatch);
+        List<MatchScoringResultResponse> responses = new ArrayList<>(results.size());
+        int scored = 0;
+        for (MatchScoringResult result : results) {
+            if (result.isScored()) {
+                scored++;
+                responseCache.invalidate(result.getMatchId());
+                responses.add(new MatchScoringResultResponse(result.getMatchId(),
+                        matchMapper.toResponse(result.getMatch()), null));
+            } else {
+                responses.add(new MatchScoringResultResponse(result.getMatchId(), null,
+                        GlobalExceptionHandler.toErrorResponse(result.getError(), httpRequest.getRequestURI())));
+            }
+        }
+        
+        return ResponseEntity.ok(new ScoreMatchesResponse(scored, results.size() - scored, responses));
+    }
+    
+    @Operation(
+        summary = "撤銷得分",
+        description = "撤銷最後記錄的一分或數分，已結束的比賽會恢復為進行中"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "撤銷成功",
+            content = @Content(schema = @Schema(implementation = MatchResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "撤銷的分數無效"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "比賽不存在"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "比賽已取消，或比賽版本與 If-Match 不符"
+        )
+    })
+    @PostMapping("/{matchId}/undo")
+    public ResponseEntity<MatchResponse> undoPoints(
+            @Parameter(description = "比賽ID", required = true)
+            @PathVariable String matchId,
+            @Parameter(description = "要撤銷的分數")
+            @RequestParam(defaultValue = "1") int points,
+            @Parameter(description = "上次取得的比賽版本 ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        Long expectedVersion = MatchETags.parseIfMatch(ifMatch);
+        MatchSnapshot snapshot = expectedVersion != null
+                ? matchService.undoLastPoints(matchId, points, expectedVersion)
+                : matchService.undoLastPoints(matchId, points);
+        responseCache.invalidate(matchId);
+        MatchResponse response = matchMapper.toResponse(snapshot);
+        
+        return ResponseEntity.ok().eTag(MatchETags.of(snapshot)).body(response);
+    }
+    
+    @Operation(
+        summary = "更正得分",
+        description = "以實際得分球員取代最後記錄的數分，更正會完整套用或完全不套用"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "更正成功",
+            content = @Content(schema = @Schema(implementation = MatchResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "請求參數無效"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "比賽或球員不存在"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "比賽已取消、在更正完成前結束，或比賽版本與 If-Match 不符"
+        )
+    })
+    @PostMapping("/{matchId}/correct")
+    public ResponseEntity<MatchResponse> correctPoints(
+            @Parameter(description = "比賽ID", required = true)
+            @PathVariable String matchId,
+            @Parameter(description = "上次取得的比賽版本 ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CorrectPointsRequest request) {
+        
+        Long expectedVersion = MatchETags.parseIfMatch(ifMatch);
+        MatchSnapshot snapshot = expectedVersion != null
+                ? matchService.correctLastPoints(matchId, request.getReplaceLast(), request.getPlayerIds(),
+                        expectedVersion)
+                : matchService.correctLastPoints(matchId, request.getReplaceLast(), request.getPlayerIds());
+        responseCache.invalidate(matchId);
+        MatchResponse response = matchMapper.toResponse(snapshot);
+        
+        return ResponseEntity.ok().eTag(MatchETags.of(snapshot)).body(response);
     }
     
     @Operation(
@@ -182,10 +513,11 @@ public class MatchController {
             @Parameter(description = "比賽ID", required = true)
             @PathVariable String matchId) {
         
-        Match match = matchService.cancelMatch(matchId);
+        MatchSnapshot snapshot = matchService.cancelMatch(matchId);
+        responseCache.invalidate(matchId);
         
-        MatchResponse response = matchMapper.toResponse(match);
-        return ResponseEntity.ok(response);
+        MatchResponse response = matchMapper.toResponse(snapshot);
+        return ResponseEntity.ok().eTag(MatchETags.of(snapshot)).body(response);
     }
     
     @Operation(
@@ -208,6 +540,7 @@ public class MatchController {
             @PathVariable String matchId) {
         
         matchService.deleteMatch(matchId);
+        responseCache.invalidate(matchId);
         return ResponseEntity.noContent().build();
     }
     
@@ -235,6 +568,75 @@ public class MatchController {
         return ResponseEntity.ok(statistics);
     }
     
+    @Operation(
+        summary = "訂閱即時比分",
+        description = "以 Server-Sent Events 先送出比賽目前狀態，之後每得一分送出一筆精簡更新；"
+                + "客戶端跟不上時會略過中間的比分，只收到最新狀態。比賽結束、取消或刪除時串流結束"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功開始串流"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "比賽不存在"
+        )
+    })
+    @GetMapping(value = "/{matchId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamMatch(
+            @Parameter(description = "比賽 ID", required = true)
+            @PathVariable String matchId) {
+        
+        // Fail with 404 before the response is committed to a stream
+        matchService.getMatch(matchId);
+        
+        // No timeout: the stream ends with the match or when the client goes away
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(0L);
+        Disposable subscription = matchStreamPublisher.stream(matchId, () -> matchService.getMatch(matchId))
+                // Servlet writes block, so they run off the publishing thread, one frame at a time
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .subscribe(frame -> sendFrame(emitter, frame.event()),
+                        emitter::completeWithError,
+                        emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                .body(emitter);
+    }
+    
+    /**
+     * Write a server-sent event frame shared with the other subscribers as is.
+     */
+    private static void sendFrame(ResponseBodyEmitter emitter, byte[] frame) {
+        try {
+            emitter.send(frame, MediaType.APPLICATION_OCTET_STREAM);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Write match summaries as NDJSON, one repository page at a time.
+     * 逐頁以 NDJSON 輸出比賽摘要
+     */
+    private void writeSummaries(MatchStatus status, OutputStream output) throws IOException {
+        String after = null;
+        do {
+            MatchPage page = matchService.getMatchPage(status, after, EXPORT_PAGE_SIZE);
+            for (Match match : page.getMatches()) {
+                output.write(objectMapper.writeValueAsBytes(matchMapper.toSummary(match)));
+                output.write('\n');
+            }
+            output.flush();
+            after = page.getNextCursor();
+        } while (after != null);
+    }
+    
     /**
      * Response model for match statistics.
      * 比賽統計資訊的回應模型
@@ -0,0 +1,84 @@
+package com.tennisscoring.adapters.primary.controller;
+
+import com.tennisscoring.domain.exception.ValidationException;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Entity tags carrying the match version, shared by the primary adapters.
+ * 攜帶比賽版本的實體標籤，供各主要轉接器共用
+ *
+ * A JSON representation is tagged with the bare version. Other encodings of
+ * the same version add their name after a dash, so each representation has
+ * its own strong tag and any of them can be sent back in If-Match.
+ */
+public final class MatchETags {
+
+    private static final String CBOR_SUFFIX = "-cbor";
+
+    private MatchETags() {
+    }
+
+    /**
+     * Build the entity tag for a match from its version.
+     * 以比賽版本建立實體標籤
+     *
+     * @param match the match
+     * @return the strong entity tag
+     */
+    public static String of(Match match) {
+        return "\"" + match.getVersion() + "\"";
+    }
+
+    /**
+     * Build the entity tag for a match snapshot from its version.
+     * 以比賽快照版本建立實體標籤
+     *
+     * @param match the match snapshot
+     * @return the strong entity tag
+     */
+    public static String of(MatchSnapshot match) {
+        return "\"" + match.getVersion() + "\"";
+    }
+
+    /**
+     * Build the entity tag for the CBOR representation of a match snapshot.
+     * 為比賽快照的 CBOR 表示建立實體標籤
+     *
+     * @param match the match snapshot
+     * @return the strong entity tag, distinct from the JSON one
+     */
+    public static String ofCbor(MatchSnapshot match) {
+        return "\"" + match.getVersion() + CBOR_SUFFIX + "\"";
+    }
+
+    /**
+     * Parse the expected match version from an If-Match header.
+     * 從 If-Match 標頭解析預期的比賽版本
+     *
+     * @param ifMatch the header value, or null
+     * @return the version, or null when the header is absent or "*"
+     * @throws ValidationException if the header is not a match version entity tag
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        if (tag.endsWith(CBOR_SUFFIX)) {
+            tag = tag.substring(0, tag.length() - CBOR_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new ValidationException(HttpHeaders.IF_MATCH, ifMatch, "Not a match version entity tag", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.tennisscoring.adapters.primary.controller;
+
+import com.tennisscoring.adapters.primary.dto.response.ScoreDeltaResponse;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Media types of the match API beyond plain JSON, shared by the primary adapters.
+ * 純 JSON 以外的比賽 API 媒體類型，供各主要轉接器共用
+ */
+public final class MatchMediaTypes {
+
+    /**
+     * The compact score delta returned for a scored point on request.
+     */
+    public static final MediaType SCORE_DELTA = MediaType.parseMediaType(ScoreDeltaResponse.MEDIA_TYPE);
+
+    private MatchMediaTypes() {
+    }
+
+    /**
+     * Check whether a client asked for the score delta instead of the full match.
+     * 檢查用戶端是否要求比分差異而非完整比賽
+     *
+     * Only an explicit mention counts; wildcards keep the full match, so
+     * existing clients are unaffected.
+     *
+     * @param accepted the media types of the Accept header
+     * @return true if the score delta is accepted
+     */
+    public static boolean acceptsScoreDelta(List<MediaType> accepted) {
+        return accepts(accepted, SCORE_DELTA);
+    }
+
+    /**
+     * Check an Accept header value for the score delta.
+     * @param accept the header value, or null
+     * @return true if the score delta is accepted
+     */
+    public static boolean acceptsScoreDelta(String accept) {
+        return accepts(accept, SCORE_DELTA);
+    }
+
+    /**
+     * Check whether a client explicitly asked for a media type.
+     * 檢查用戶端是否明確要求某媒體類型
+     *
+     * Wildcards do not count, so clients that do not name the type keep
+     * getting the default representation.
+     *
+     * @param accepted the media types of the Accept header
+     * @param mediaType the media type to look for
+     * @return true if the media type is named with a non-zero quality
+     */
+    public static boolean accepts(List<MediaType> accepted, MediaType mediaType) {
+        for (MediaType type : accepted) {
+            if (mediaType.equalsTypeAndSubtype(type) && type.getQualityValue() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check an Accept header value for a media type.
+     * @param accept the header value, or null
+     * @param mediaType the media type to look for
+     * @return true if the media type is named with a non-zero quality
+     */
+    public static boolean accepts(String accept, MediaType mediaType) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return accepts(MediaType.parseMediaTypes(accept), mediaType);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
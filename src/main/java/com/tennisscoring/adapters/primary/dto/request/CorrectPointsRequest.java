@@ -0,0 +1,61 @@
+package com.tennisscoring.adapters.primary.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request model for replacing the last points recorded in a tennis match.
+ * 更正網球比賽最後記錄分數的請求模型
+ */
+public class CorrectPointsRequest {
+    
+    @Min(value = 1, message = "更正的分數至少為1")
+    private int replaceLast;
+    
+    @NotEmpty(message = "更正後的得分球員不能為空")
+    private List<@NotBlank(message = "球員ID不能為空") String> playerIds;
+    
+    /**
+     * Default constructor for JSON deserialization.
+     */
+    public CorrectPointsRequest() {
+    }
+    
+    /**
+     * Constructor with the points to replace and their replacements.
+     * 
+     * @param replaceLast the number of recorded points to replace
+     * @param playerIds the ID of the player who won each replacement point, in order
+     */
+    public CorrectPointsRequest(int replaceLast, List<String> playerIds) {
+        this.replaceLast = replaceLast;
+        this.playerIds = playerIds;
+    }
+    
+    public int getReplaceLast() {
+        return replaceLast;
+    }
+    
+    public void setReplaceLast(int replaceLast) {
+        this.replaceLast = replaceLast;
+    }
+    
+    public List<String> getPlayerIds() {
+        return playerIds;
+    }
+    
+    public void setPlayerIds(List<String> playerIds) {
+        this.playerIds = playerIds;
+    }
+    
+    @Override
+    public String toString() {
+        return "CorrectPointsRequest{" +
+                "replaceLast=" + replaceLast +
+                ", playerIds=" + playerIds +
+                '}';
+    }
+}
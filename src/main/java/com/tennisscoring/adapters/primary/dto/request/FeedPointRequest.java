@@ -0,0 +1,57 @@
+package com.tennisscoring.adapters.primary.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request model for one point of a multi-match scoring feed.
+ * 多場比賽計分資料源中單一得分的請求模型
+ */
+public class FeedPointRequest {
+    
+    @NotBlank(message = "比賽ID不能為空")
+    private String matchId;
+    
+    @NotBlank(message = "球員ID不能為空")
+    private String playerId;
+    
+    /**
+     * Default constructor for JSON deserialization.
+     */
+    public FeedPointRequest() {
+    }
+    
+    /**
+     * Constructor with the match and the player who scored.
+     * 
+     * @param matchId the ID of the match
+     * @param playerId the ID of the player who scored
+     */
+    public FeedPointRequest(String matchId, String playerId) {
+        this.matchId = matchId;
+        this.playerId = playerId;
+    }
+    
+    public String getMatchId() {
+        return matchId;
+    }
+    
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+    
+    public String getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+    
+    @Override
+    public String toString() {
+        return "FeedPointRequest{" +
+                "matchId='" + matchId + '\'' +
+                ", playerId='" + playerId + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.tennisscoring.adapters.primary.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request model for scoring the points of many matches at once.
+ * 一次為多場比賽記錄得分的請求模型
+ * 
+ * Points of different matches may be interleaved; the points of each match
+ * are scored in the order they appear.
+ */
+public class ScoreMatchesRequest {
+    
+    @NotEmpty(message = "得分不能為空")
+    @Size(max = 10000, message = "每批最多10000分")
+    private List<@Valid @NotNull(message = "得分不能為空") FeedPointRequest> points;
+    
+    /**
+     * Default constructor for JSON deserialization.
+     */
+    public ScoreMatchesRequest() {
+    }
+    
+    /**
+     * Constructor with the points to score.
+     * 
+     * @param points the points of the feed, in order
+     */
+    public ScoreMatchesRequest(List<FeedPointRequest> points) {
+        this.points = points;
+    }
+    
+    public List<FeedPointRequest> getPoints() {
+        return points;
+    }
+    
+    public void setPoints(List<FeedPointRequest> points) {
+        this.points = points;
+    }
+    
+    @Override
+    public String toString() {
+        return "ScoreMatchesRequest{" +
+                "points=" + points +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.tennisscoring.adapters.primary.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request model for scoring a batch of points in a tennis match.
+ * 網球比賽批次得分的請求模型
+ */
+public class ScorePointsRequest {
+    
+    @NotEmpty(message = "得分球員不能為空")
+    @Size(max = 1000, message = "每批最多1000分")
+    private List<@NotBlank(message = "球員ID不能為空") String> playerIds;
+    
+    /**
+     * Default constructor for JSON deserialization.
+     */
+    public ScorePointsRequest() {
+    }
+    
+    /**
+     * Constructor with the points to score.
+     * 
+     * @param playerIds the ID of the player who won each point, in order
+     */
+    public ScorePointsRequest(List<String> playerIds) {
+        this.playerIds = playerIds;
+    }
+    
+    public List<String> getPlayerIds() {
+        return playerIds;
+    }
+    
+    public void setPlayerIds(List<String> playerIds) {
+        this.playerIds = playerIds;
+    }
+    
+    @Override
+    public String toString() {
+        return "ScorePointsRequest{" +
+                "playerIds=" + playerIds +
+                '}';
+    }
+}
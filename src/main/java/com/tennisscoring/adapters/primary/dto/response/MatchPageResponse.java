@@ -0,0 +1,46 @@
+package com.tennisscoring.adapters.primary.dto.response;
+
+import java.util.List;
+
+/**
+ * Response model for one page of a match listing.
+ * 比賽列表單頁的回應模型
+ */
+public class MatchPageResponse {
+
+    private List<MatchSummaryResponse> items;
+    private String nextCursor;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public MatchPageResponse() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param items the matches on this page
+     * @param nextCursor the cursor for the next page, or null on the last page
+     */
+    public MatchPageResponse(List<MatchSummaryResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<MatchSummaryResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<MatchSummaryResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
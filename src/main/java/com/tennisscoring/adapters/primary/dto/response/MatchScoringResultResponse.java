@@ -0,0 +1,58 @@
+package com.tennisscoring.adapters.primary.dto.response;
+
+/**
+ * Response model for the outcome of one match in a multi-match batch.
+ * 多場比賽批次中單一比賽結果的回應模型
+ * 
+ * Holds the match after its points when they were scored, or the error
+ * that rejected them otherwise.
+ */
+public class MatchScoringResultResponse {
+
+    private String matchId;
+    private MatchResponse match;
+    private ErrorResponse error;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public MatchScoringResultResponse() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param matchId the match ID from the batch
+     * @param match the match after its points, or null if they were rejected
+     * @param error why the points were rejected, or null if they were scored
+     */
+    public MatchScoringResultResponse(String matchId, MatchResponse match, ErrorResponse error) {
+        this.matchId = matchId;
+        this.match = match;
+        this.error = error;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public MatchResponse getMatch() {
+        return match;
+    }
+
+    public void setMatch(MatchResponse match) {
+        this.match = match;
+    }
+
+    public ErrorResponse getError() {
+        return error;
+    }
+
+    public void setError(ErrorResponse error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tennisscoring.adapters.primary.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight response model for match listings, without sets and games.
+ * 比賽列表使用的精簡回應模型，不含盤與局的明細
+ */
+public class MatchSummaryResponse {
+
+    private String matchId;
+    private String player1Name;
+    private String player2Name;
+    private String status;
+    private String currentScore;
+    private String winnerId;
+    private long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public MatchSummaryResponse() {
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public void setPlayer1Name(String player1Name) {
+        this.player1Name = player1Name;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public void setPlayer2Name(String player2Name) {
+        this.player2Name = player2Name;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCurrentScore() {
+        return currentScore;
+    }
+
+    public void setCurrentScore(String currentScore) {
+        this.currentScore = currentScore;
+    }
+
+    public String getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(String winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,193 @@
+package com.tennisscoring.adapters.primary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Compact response model for a scored point, holding only what a point can change.
+ * 得分後的精簡回應模型，只包含一分可能改變的內容
+ *
+ * Unlike {@link MatchResponse} it does not list the sets and games played,
+ * so its size does not grow with the match. It carries the score of the
+ * current game, set and match, plus the game, set and match the point
+ * completed, if any. The completions are relative to {@code baseVersion};
+ * a client whose last known version differs has missed points and should
+ * fetch the full match.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreDeltaResponse {
+
+    /**
+     * Media type a client accepts to receive this response instead of the full match.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.tennis.score-delta+json";
+
+    private String matchId;
+    private long version;
+    private long baseVersion;
+    private String status;
+    private int setNumber;
+    private int gameNumber;
+    private boolean tiebreak;
+    private String player1Points;
+    private String player2Points;
+    private int player1Games;
+    private int player2Games;
+    private int player1Sets;
+    private int player2Sets;
+    private CompletedGame completedGame;
+    private CompletedSet completedSet;
+    private String winnerId;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public ScoreDeltaResponse() {
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public void setBaseVersion(long baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getSetNumber() {
+        return setNumber;
+    }
+
+    public void setSetNumber(int setNumber) {
+        this.setNumber = setNumber;
+    }
+
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    public void setGameNumber(int gameNumber) {
+        this.gameNumber = gameNumber;
+    }
+
+    public boolean isTiebreak() {
+        return tiebreak;
+    }
+
+    public void setTiebreak(boolean tiebreak) {
+        this.tiebreak = tiebreak;
+    }
+
+    public String getPlayer1Points() {
+        return player1Points;
+    }
+
+    public void setPlayer1Points(String player1Points) {
+        this.player1Points = player1Points;
+    }
+
+    public String getPlayer2Points() {
+        return player2Points;
+    }
+
+    public void setPlayer2Points(String player2Points) {
+        this.player2Points = player2Points;
+    }
+
+    public int getPlayer1Games() {
+        return player1Games;
+    }
+
+    public void setPlayer1Games(int player1Games) {
+        this.player1Games = player1Games;
+    }
+
+    public int getPlayer2Games() {
+        return player2Games;
+    }
+
+    public void setPlayer2Games(int player2Games) {
+        this.player2Games = player2Games;
+    }
+
+    public int getPlayer1Sets() {
+        return player1Sets;
+    }
+
+    public void setPlayer1Sets(int player1Sets) {
+        this.player1Sets = player1Sets;
+    }
+
+    public int getPlayer2Sets() {
+        return player2Sets;
+    }
+
+    public void setPlayer2Sets(int player2Sets) {
+        this.player2Sets = player2Sets;
+    }
+
+    public CompletedGame getCompletedGame() {
+        return completedGame;
+    }
+
+    public void setCompletedGame(CompletedGame completedGame) {
+        this.completedGame = completedGame;
+    }
+
+    public CompletedSet getCompletedSet() {
+        return completedSet;
+    }
+
+    public void setCompletedSet(CompletedSet completedSet) {
+        this.completedSet = completedSet;
+    }
+
+    public String getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(String winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    /**
+     * A game completed by the point.
+     * @param setNumber the set the game belongs to
+     * @param gameNumber the game number within the set
+     * @param winnerId the ID of the player who won the game
+     */
+    public record CompletedGame(int setNumber, int gameNumber, String winnerId) {
+    }
+
+    /**
+     * A set completed by the point.
+     * @param setNumber the set number
+     * @param player1Games games won by player 1
+     * @param player2Games games won by player 2
+     * @param winnerId the ID of the player who won the set
+     */
+    public record CompletedSet(int setNumber, int player1Games, int player2Games, String winnerId) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.tennisscoring.adapters.primary.dto.response;
+
+import java.util.List;
+
+/**
+ * Response model for a multi-match batch, with one result per match.
+ * 多場比賽批次的回應模型，每場比賽一筆結果
+ */
+public class ScoreMatchesResponse {
+
+    private int scored;
+    private int failed;
+    private List<MatchScoringResultResponse> results;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public ScoreMatchesResponse() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param scored the number of matches whose points were scored
+     * @param failed the number of matches whose points were rejected
+     * @param results the result of each match, in the order of its first point
+     */
+    public ScoreMatchesResponse(int scored, int failed, List<MatchScoringResultResponse> results) {
+        this.scored = scored;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getScored() {
+        return scored;
+    }
+
+    public void setScored(int scored) {
+        this.scored = scored;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<MatchScoringResultResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<MatchScoringResultResponse> results) {
+        this.results = results;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -161,7 +162,10 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
         
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        // Set the type so clients of the event stream, which accept nothing else, still get the body
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
     }
     
     /**
@@ -244,6 +248,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    /**
+     * Handle version conflicts; the client should reload the match and retry.
+     * 處理版本衝突，客戶端應重新載入比賽後重試
+     */
+    @ExceptionHandler(MatchVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleMatchVersionConflictException(
+            MatchVersionConflictException ex, HttpServletRequest request) {
+        
+        logger.info("Match version conflict: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Version Conflict",
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     /**
      * Handle invalid match ID exceptions.
      * 處理無效比賽ID異常
@@ -383,4 +407,60 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Describe a domain error that is reported inside a response instead of failing it.
+     * 描述在回應內回報、而非使整個請求失敗的領域錯誤
+     * 
+     * Used for the per-match results of a multi-match batch and by the
+     * reactive adapter, which has no exception handlers of its own; the
+     * error type and status are the ones the handlers above give the same
+     * exception.
+     * 
+     * @param ex the exception that rejected one part of the request
+     * @param path the request path
+     * @return the error response
+     */
+    public static ErrorResponse toErrorResponse(RuntimeException ex, String path) {
+        String error;
+        HttpStatus status;
+        String message = ex.getMessage();
+        if (ex instanceof MatchNotFoundException) {
+            error = "Match Not Found";
+            status = HttpStatus.NOT_FOUND;
+        } else if (ex instanceof MatchVersionConflictException) {
+            error = "Version Conflict";
+            status = HttpStatus.CONFLICT;
+        } else if (ex instanceof MatchCompletedException) {
+            error = "Match Completed";
+            status = HttpStatus.CONFLICT;
+        } else if (ex instanceof InvalidMatchStateException) {
+            error = "Invalid Match State";
+            status = HttpStatus.CONFLICT;
+        } else if (ex instanceof PlayerNotFoundException) {
+            error = "Player Not Found";
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof InvalidMatchIdException) {
+            error = "Invalid Match ID";
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof InvalidPlayerException) {
+            error = "Invalid Player";
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof ValidationException) {
+            error = "Validation Error";
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof IllegalArgumentException) {
+            error = "Invalid Argument";
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof IllegalStateException) {
+            error = "Invalid State";
+            status = HttpStatus.CONFLICT;
+        } else {
+            logger.error("Unexpected error occurred", ex);
+            error = "Internal Server Error";
+            message = "系統發生未預期的錯誤，請稍後再試";
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        return new ErrorResponse(error, message, status.value(), path);
+    }
+}
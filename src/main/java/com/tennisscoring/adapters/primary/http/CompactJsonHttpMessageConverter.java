@@ -0,0 +1,51 @@
+package com.tennisscoring.adapters.primary.http;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * JSON message converter that never indents the responses of the hot endpoints.
+ * 熱門端點的回應永不縮排的 JSON 訊息轉換器
+ *
+ * The application mapper may indent its output for readability, which
+ * adds roughly a third to every match payload. Responses of the compact
+ * types, and lists of them, are written without indentation whatever the
+ * mapper configuration; everything else keeps the mapper's format.
+ */
+public class CompactJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Set<Class<?>> compactTypes;
+
+    /**
+     * Create the converter.
+     * @param objectMapper the application mapper
+     * @param compactTypes the response types always written without indentation
+     */
+    public CompactJsonHttpMessageConverter(ObjectMapper objectMapper, Collection<Class<?>> compactTypes) {
+        super(objectMapper);
+        this.compactTypes = Set.copyOf(Objects.requireNonNull(compactTypes, "Compact types cannot be null"));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType mediaType) {
+        return isCompact(javaType) ? writer.without(SerializationFeature.INDENT_OUTPUT) : writer;
+    }
+
+    private boolean isCompact(JavaType javaType) {
+        if (javaType == null) {
+            return false;
+        }
+        JavaType type = javaType.isContainerType() && javaType.getContentType() != null
+                ? javaType.getContentType()
+                : javaType;
+        return compactTypes.contains(type.getRawClass());
+    }
+}
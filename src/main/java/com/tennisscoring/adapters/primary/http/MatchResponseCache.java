@@ -0,0 +1,158 @@
+package com.tennisscoring.adapters.primary.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.domain.model.MatchSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the serialized match responses, keyed by match and version.
+ * 以比賽與版本為鍵的已序列化比賽回應快取
+ *
+ * Reads of a match mostly happen between points, when its version has not
+ * changed. The first read of a version maps and serializes the match's
+ * snapshot; the following reads get the same bytes without touching the
+ * mapper or Jackson. An entry is only served for the version it was built
+ * from, so a match scored through any adapter is never answered from a
+ * stale entry; writers still invalidate eagerly to free the old bytes.
+ *
+ * At most {@code maxEntries} matches are cached. Admitting a new match
+ * evicts the one read least recently, so completed matches nobody reads
+ * any more make room for live ones. The map is only locked to look up or
+ * store an entry; mapping and serialization run outside the lock.
+ */
+public class MatchResponseCache {
+
+    private final MatchMapper matchMapper;
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter cborWriter;
+    // Access-ordered for least recently read eviction, guarded by itself
+    private final Map<String, Entry> entries;
+
+    /**
+     * Create the cache.
+     * @param matchMapper the response mapper
+     * @param jsonMapper the mapper writing JSON, used without indentation
+     * @param cborMapper the mapper writing CBOR
+     * @param maxEntries the maximum number of cached matches
+     */
+    public MatchResponseCache(MatchMapper matchMapper, ObjectMapper jsonMapper, ObjectMapper cborMapper,
+                              int maxEntries) {
+        this.matchMapper = Objects.requireNonNull(matchMapper, "Match mapper cannot be null");
+        this.jsonWriter = Objects.requireNonNull(jsonMapper, "JSON mapper cannot be null")
+                .writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.cborWriter = Objects.requireNonNull(cborMapper, "CBOR mapper cannot be null").writer();
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Maximum entries cannot be negative");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the JSON response of a match snapshot.
+     * @param match the match snapshot
+     * @return the UTF-8 encoded JSON, not to be modified
+     */
+    public byte[] json(MatchSnapshot match) {
+        Entry entry = entry(match);
+        byte[] json = entry.json;
+        if (json == null) {
+            json = write(jsonWriter, entry.response);
+            entry.json = json;
+        }
+        return json;
+    }
+
+    /**
+     * Get the CBOR response of a match snapshot.
+     * @param match the match snapshot
+     * @return the CBOR document, not to be modified
+     */
+    public byte[] cbor(MatchSnapshot match) {
+        Entry entry = entry(match);
+        byte[] cbor = entry.cbor;
+        if (cbor == null) {
+            cbor = write(cborWriter, entry.response);
+            entry.cbor = cbor;
+        }
+        return cbor;
+    }
+
+    /**
+     * Drop the cached responses of a match after it changed or was deleted.
+     * @param matchId the match ID
+     */
+    public void invalidate(String matchId) {
+        synchronized (entries) {
+            entries.remove(matchId);
+        }
+    }
+
+    /**
+     * Get the number of cached matches.
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry entry(MatchSnapshot match) {
+        String matchId = match.getMatchId();
+        long version = match.getVersion();
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(matchId);
+        }
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        Entry built = new Entry(version, matchMapper.toResponse(match));
+        synchronized (entries) {
+            // A reader holding an older snapshot does not replace a newer entry
+            Entry current = entries.get(matchId);
+            if (current == null || current.version < version) {
+                entries.put(matchId, built);
+            }
+        }
+        return built;
+    }
+
+    private static byte[] write(ObjectWriter writer, MatchResponse response) {
+        try {
+            return writer.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize match " + response.getMatchId(), e);
+        }
+    }
+
+    /**
+     * The response of one match version, serialized on first use per encoding.
+     * Two readers racing on an encoding both serialize it; either result is kept.
+     */
+    private static final class Entry {
+
+        private final long version;
+        private final MatchResponse response;
+        private volatile byte[] json;
+        private volatile byte[] cbor;
+
+        private Entry(long version, MatchResponse response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+}
@@ -6,15 +6,32 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper for converting between domain objects and DTOs.
  * 領域物件與 DTO 之間的轉換器
+ *
+ * A match response is built in one walk over its sets and games, so
+ * mapping grows linearly with the number of games played. Responses,
+ * summaries and score deltas are built from the match's published
+ * {@link MatchSnapshot}, so they show one consistent state even while the
+ * match is scored.
  */
 @Component
 public class MatchMapper {
     
+    /**
+     * Display values of tiebreak points, so a game response does not
+     * format a new string for every tiebreak score.
+     */
+    private static final String[] TIEBREAK_POINTS = new String[32];
+    
+    static {
+        for (int i = 0; i < TIEBREAK_POINTS.length; i++) {
+            TIEBREAK_POINTS[i] = String.valueOf(i);
+        }
+    }
+    
     /**
      * Convert Match domain object to MatchResponse DTO.
      * 將 Match 領域物件轉換為 MatchResponse DTO
@@ -23,6 +40,17 @@ public class MatchMapper {
      * @return the match response DTO
      */
     public MatchResponse toResponse(Match match) {
+        return match != null ? toResponse(match.getSnapshot()) : null;
+    }
+    
+    /**
+     * Convert a match snapshot to MatchResponse DTO.
+     * 將比賽快照轉換為 MatchResponse DTO
+     * 
+     * @param match the match snapshot
+     * @return the match response DTO
+     */
+    public MatchResponse toResponse(MatchSnapshot match) {
         if (match == null) {
             return null;
         }
@@ -45,14 +73,148 @@ public class MatchMapper {
         }
         
         // Convert sets
-        List<SetResponse> setResponses = match.getSets().stream()
-                .map(this::toSetResponse)
-                .collect(Collectors.toList());
+        List<MatchSnapshot.SetSnapshot> sets = match.getSets();
+        List<SetResponse> setResponses = new ArrayList<>(sets.size());
+        for (int i = 0; i < sets.size(); i++) {
+            setResponses.add(toSetResponse(sets.get(i)));
+        }
         response.setSets(setResponses);
         
         return response;
     }
     
+    /**
+     * Convert Match domain object to the lightweight summary used by listings.
+     * 將 Match 領域物件轉換為列表使用的精簡摘要
+     * 
+     * @param match the domain match object
+     * @return the match summary DTO
+     */
+    public MatchSummaryResponse toSummary(Match match) {
+        return match != null ? toSummary(match.getSnapshot()) : null;
+    }
+    
+    /**
+     * Convert a match snapshot to the lightweight summary used by listings.
+     * 將比賽快照轉換為列表使用的精簡摘要
+     * 
+     * @param match the match snapshot
+     * @return the match summary DTO
+     */
+    public MatchSummaryResponse toSummary(MatchSnapshot match) {
+        if (match == null) {
+            return null;
+        }
+        
+        MatchSummaryResponse summary = new MatchSummaryResponse();
+        summary.setMatchId(match.getMatchId());
+        summary.setPlayer1Name(match.getPlayer1().name());
+        summary.setPlayer2Name(match.getPlayer2().name());
+        summary.setStatus(match.getStatus().name());
+        summary.setCurrentScore(match.getCurrentScore());
+        summary.setVersion(match.getVersion());
+        summary.setCreatedAt(match.getCreatedAt());
+        summary.setCompletedAt(match.getCompletedAt());
+        if (match.getWinner() != null) {
+            summary.setWinnerId(match.getWinner().getValue());
+        }
+        return summary;
+    }
+    
+    /**
+     * Convert a page of matches to a page of summaries.
+     * 將一頁比賽轉換為一頁摘要
+     * 
+     * @param page the domain match page
+     * @return the page response DTO
+     */
+    public MatchPageResponse toPageResponse(MatchPage page) {
+        List<MatchSummaryResponse> items = new ArrayList<>(page.getMatches().size());
+        for (Match match : page.getMatches()) {
+            items.add(toSummary(match));
+        }
+        return new MatchPageResponse(items, page.getNextCursor());
+    }
+
+    /**
+     * Convert a match snapshot after a point to the compact score delta.
+     * 將得分後的比賽快照轉換為精簡的比分差異
+     *
+     * Only the last set and its last two games are read, so the work does
+     * not grow with the match. A game that has just started means the point
+     * completed the game before it, and the set before it if the game is
+     * the first of its set.
+     *
+     * @param match the immutable match snapshot, after the point
+     * @param baseVersion the match version before the point
+     * @return the score delta DTO
+     */
+    public ScoreDeltaResponse toScoreDelta(MatchSnapshot match, long baseVersion) {
+        if (match == null) {
+            return null;
+        }
+
+        ScoreDeltaResponse delta = new ScoreDeltaResponse();
+        delta.setMatchId(match.getMatchId());
+        delta.setVersion(match.getVersion());
+        delta.setBaseVersion(baseVersion);
+        delta.setStatus(match.getStatus().name());
+        delta.setPlayer1Sets(match.getPlayer1().setsWon());
+        delta.setPlayer2Sets(match.getPlayer2().setsWon());
+
+        List<MatchSnapshot.SetSnapshot> sets = match.getSets();
+        MatchSnapshot.SetSnapshot set = sets.get(sets.size() - 1);
+        List<MatchSnapshot.GameSnapshot> games = set.games();
+        MatchSnapshot.GameSnapshot game = games.get(games.size() - 1);
+        delta.setSetNumber(set.setNumber());
+        delta.setGameNumber(game.gameNumber());
+        delta.setPlayer1Games(set.player1Games());
+        delta.setPlayer2Games(set.player2Games());
+
+        if (game.isCompleted()) {
+            // Only the match-winning point leaves the last game completed
+            delta.setCompletedGame(toCompletedGame(set, game));
+            if (set.isCompleted()) {
+                delta.setCompletedSet(toCompletedSet(set));
+            }
+        } else {
+            delta.setTiebreak(game.tiebreak());
+            if (game.tiebreak()) {
+                delta.setPlayer1Points(String.valueOf(game.points(GameState.PLAYER1)));
+                delta.setPlayer2Points(String.valueOf(game.points(GameState.PLAYER2)));
+            } else {
+                delta.setPlayer1Points(game.score(GameState.PLAYER1).getDisplayValue());
+                delta.setPlayer2Points(game.score(GameState.PLAYER2).getDisplayValue());
+            }
+            if (game.state() == GameState.INITIAL && match.getPointCount() > 0) {
+                if (games.size() > 1) {
+                    delta.setCompletedGame(toCompletedGame(set, games.get(games.size() - 2)));
+                } else if (sets.size() > 1) {
+                    MatchSnapshot.SetSnapshot previousSet = sets.get(sets.size() - 2);
+                    List<MatchSnapshot.GameSnapshot> previousGames = previousSet.games();
+                    delta.setCompletedGame(toCompletedGame(previousSet, previousGames.get(previousGames.size() - 1)));
+                    delta.setCompletedSet(toCompletedSet(previousSet));
+                }
+            }
+        }
+
+        if (match.getWinner() != null) {
+            delta.setWinnerId(match.getWinner().getValue());
+        }
+        return delta;
+    }
+
+    private static ScoreDeltaResponse.CompletedGame toCompletedGame(MatchSnapshot.SetSnapshot set,
+                                                                    MatchSnapshot.GameSnapshot game) {
+        return new ScoreDeltaResponse.CompletedGame(set.setNumber(), game.gameNumber(),
+                game.winner() != null ? game.winner().getValue() : null);
+    }
+
+    private static ScoreDeltaResponse.CompletedSet toCompletedSet(MatchSnapshot.SetSnapshot set) {
+        return new ScoreDeltaResponse.CompletedSet(set.setNumber(), set.player1Games(),
+                set.player2Games(), set.winner() != null ? set.winner().getValue() : null);
+    }
+
     /**
      * Convert Player domain object to PlayerResponse DTO.
      * 將 Player 領域物件轉換為 PlayerResponse DTO
@@ -75,111 +237,108 @@ public class MatchMapper {
     }
     
     /**
-     * Convert Set domain object to SetResponse DTO.
-     * 將 Set 領域物件轉換為 SetResponse DTO
+     * Convert a player of a match snapshot to PlayerResponse DTO.
+     * 將比賽快照中的球員轉換為 PlayerResponse DTO
+     * 
+     * @param player the player snapshot
+     * @return the player response DTO
+     */
+    public PlayerResponse toPlayerResponse(MatchSnapshot.PlayerSnapshot player) {
+        if (player == null) {
+            return null;
+        }
+        
+        return new PlayerResponse(
+                player.playerId().getValue(),
+                player.name(),
+                player.setsWon(),
+                player.gamesWon(),
+                player.pointsWon()
+        );
+    }
+    
+    /**
+     * Convert a set of a match snapshot to SetResponse DTO.
+     * 將比賽快照中的一盤轉換為 SetResponse DTO
      * 
-     * @param set the domain set object
+     * Games won come from the set's own counters, and the games are walked
+     * once to build their responses and find the tiebreak, so the cost is
+     * linear in the games of the set.
+     * 
+     * @param set the set snapshot
      * @return the set response DTO
      */
-    public SetResponse toSetResponse(Set set) {
+    public SetResponse toSetResponse(MatchSnapshot.SetSnapshot set) {
         if (set == null) {
             return null;
         }
         
         SetResponse response = new SetResponse();
-        response.setSetNumber(set.getSetNumber());
+        response.setSetNumber(set.setNumber());
         response.setCompleted(set.isCompleted());
-        
-        // Get game counts for each player
-        // This is a simplified approach - in a real implementation,
-        // we'd need to track games won by each player in the set
-        List<Game> games = set.getGames();
-        int player1Games = 0;
-        int player2Games = 0;
-        
-        // Count completed games won by each player
-        for (Game game : games) {
-            if (game.isCompleted() && game.getWinner() != null) {
-                // This is simplified - we'd need proper player ID comparison
-                // For now, we'll use a basic counting approach
-                if (games.indexOf(game) % 2 == 0) {
-                    player1Games++;
-                } else {
-                    player2Games++;
-                }
-            }
-        }
-        
-        response.setPlayer1Games(player1Games);
-        response.setPlayer2Games(player2Games);
+        response.setPlayer1Games(set.player1Games());
+        response.setPlayer2Games(set.player2Games());
         
         // Set winner if set is completed
-        if (set.isCompleted() && set.getWinner() != null) {
-            response.setWinnerId(set.getWinner().getValue());
+        if (set.isCompleted() && set.winner() != null) {
+            response.setWinnerId(set.winner().getValue());
         }
         
-        // Check for tiebreak
-        boolean hasTiebreak = games.stream().anyMatch(Game::isTiebreak);
-        response.setHasTiebreak(hasTiebreak);
-        
-        // Convert games
-        List<GameResponse> gameResponses = games.stream()
-                .map(this::toGameResponse)
-                .collect(Collectors.toList());
-        response.setGames(gameResponses);
-        
-        // Convert tiebreak if exists
-        if (hasTiebreak) {
-            Game tiebreakGame = games.stream()
-                    .filter(Game::isTiebreak)
-                    .findFirst()
-                    .orElse(null);
-            
-            if (tiebreakGame != null) {
-                response.setTiebreak(toTiebreakResponse(tiebreakGame));
+        List<MatchSnapshot.GameSnapshot> games = set.games();
+        List<GameResponse> gameResponses = new ArrayList<>(games.size());
+        MatchSnapshot.GameSnapshot tiebreakGame = null;
+        for (int i = 0; i < games.size(); i++) {
+            MatchSnapshot.GameSnapshot game = games.get(i);
+            gameResponses.add(toGameResponse(game));
+            if (tiebreakGame == null && game.tiebreak()) {
+                tiebreakGame = game;
             }
         }
+        response.setGames(gameResponses);
+        response.setHasTiebreak(tiebreakGame != null);
+        if (tiebreakGame != null) {
+            response.setTiebreak(toTiebreakResponse(tiebreakGame));
+        }
         
         return response;
     }
     
     /**
-     * Convert Game domain object to GameResponse DTO.
-     * 將 Game 領域物件轉換為 GameResponse DTO
+     * Convert a game of a match snapshot to GameResponse DTO.
+     * 將比賽快照中的一局轉換為 GameResponse DTO
      * 
-     * @param game the domain game object
+     * Tiebreak games report their point counts as scores.
+     * 
+     * @param game the game snapshot
      * @return the game response DTO
      */
-    public GameResponse toGameResponse(Game game) {
+    public GameResponse toGameResponse(MatchSnapshot.GameSnapshot game) {
         if (game == null) {
             return null;
         }
         
         GameResponse response = new GameResponse();
-        response.setGameNumber(game.getGameNumber());
+        response.setGameNumber(game.gameNumber());
         response.setCompleted(game.isCompleted());
-        response.setTiebreak(game.isTiebreak());
+        response.setTiebreak(game.tiebreak());
         
-        // Get player scores - this is simplified
-        // In a real implementation, we'd need proper player ID mapping
-        List<PlayerId> playerIds = new ArrayList<>(game.getPlayerScores().keySet());
-        if (playerIds.size() >= 2) {
-            GameScore player1Score = game.getPlayerScore(playerIds.get(0));
-            GameScore player2Score = game.getPlayerScore(playerIds.get(1));
-            
-            response.setPlayer1Score(player1Score.getDisplayValue());
-            response.setPlayer2Score(player2Score.getDisplayValue());
+        if (game.tiebreak()) {
+            response.setPlayer1Score(tiebreakPoints(game.points(GameState.PLAYER1)));
+            response.setPlayer2Score(tiebreakPoints(game.points(GameState.PLAYER2)));
+        } else {
+            response.setPlayer1Score(game.score(GameState.PLAYER1).getDisplayValue());
+            response.setPlayer2Score(game.score(GameState.PLAYER2).getDisplayValue());
         }
         
         // Set winner if game is completed
-        if (game.isCompleted() && game.getWinner() != null) {
-            response.setWinnerId(game.getWinner().getValue());
+        if (game.isCompleted() && game.winner() != null) {
+            response.setWinnerId(game.winner().getValue());
         }
         
         // Set game status
         if (game.isCompleted()) {
             response.setStatus("已完成");
-        } else if (game.isTiebreak()) {
+        } else if (game.tiebreak()) {
             response.setStatus("搶七局進行中");
         } else {
             response.setStatus("進行中");
@@ -189,45 +348,34 @@ public class MatchMapper {
     }
     
     /**
-     * Convert tiebreak game to TiebreakResponse DTO.
-     * 將搶七局轉換為 TiebreakResponse DTO
+     * Convert a tiebreak game of a match snapshot to TiebreakResponse DTO.
+     * 將比賽快照中的搶七局轉換為 TiebreakResponse DTO
      * 
-     * @param tiebreakGame the tiebreak game object
+     * @param tiebreakGame the tiebreak game snapshot
      * @return the tiebreak response DTO
      */
-    public TiebreakResponse toTiebreakResponse(Game tiebreakGame) {
-        if (tiebreakGame == null || !tiebreakGame.isTiebreak()) {
+    public TiebreakResponse toTiebreakResponse(MatchSnapshot.GameSnapshot tiebreakGame) {
+        if (tiebreakGame == null || !tiebreakGame.tiebreak()) {
             return null;
         }
         
         TiebreakResponse response = new TiebreakResponse();
         response.setCompleted(tiebreakGame.isCompleted());
-        
-        // Get tiebreak scores - this is simplified
-        List<PlayerId> playerIds = new ArrayList<>(tiebreakGame.getPlayerScores().keySet());
-        if (playerIds.size() >= 2) {
-            GameScore player1Score = tiebreakGame.getPlayerScore(playerIds.get(0));
-            GameScore player2Score = tiebreakGame.getPlayerScore(playerIds.get(1));
-            
-            // For tiebreak, we need to parse the numeric values
-            try {
-                response.setPlayer1Points(Integer.parseInt(player1Score.getDisplayValue()));
-                response.setPlayer2Points(Integer.parseInt(player2Score.getDisplayValue()));
-            } catch (NumberFormatException e) {
-                // Fallback to 0 if parsing fails
-                response.setPlayer1Points(0);
-                response.setPlayer2Points(0);
-            }
-        }
+        response.setPlayer1Points(tiebreakGame.points(GameState.PLAYER1));
+        response.setPlayer2Points(tiebreakGame.points(GameState.PLAYER2));
         
         // Set winner if tiebreak is completed
-        if (tiebreakGame.isCompleted() && tiebreakGame.getWinner() != null) {
-            response.setWinnerId(tiebreakGame.getWinner().getValue());
+        if (tiebreakGame.isCompleted() && tiebreakGame.winner() != null) {
+            response.setWinnerId(tiebreakGame.winner().getValue());
         }
         
         return response;
     }
     
+    private static String tiebreakPoints(int points) {
+        return points < TIEBREAK_POINTS.length ? TIEBREAK_POINTS[points] : String.valueOf(points);
+    }
+    
     /**
      * Convert list of matches to list of match responses.
      * 將比賽列表轉換為比賽回應列表
@@ -240,8 +388,10 @@ public class MatchMapper {
             return new ArrayList<>();
         }
         
-        return matches.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        List<MatchResponse> responses = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            responses.add(toResponse(match));
+        }
+        return responses;
     }
 }
\ No newline at end of file
@@ -0,0 +1,393 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import com.tennisscoring.adapters.primary.controller.MatchController.MatchStatisticsResponse;
+import com.tennisscoring.adapters.primary.controller.MatchETags;
+import com.tennisscoring.adapters.primary.controller.MatchMediaTypes;
+import com.tennisscoring.adapters.primary.dto.request.CorrectPointsRequest;
+import com.tennisscoring.adapters.primary.dto.request.CreateMatchRequest;
+import com.tennisscoring.adapters.primary.dto.request.FeedPointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScoreMatchesRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScorePointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScorePointsRequest;
+import com.tennisscoring.adapters.primary.dto.response.ErrorResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchScoringResultResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchSummaryResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreMatchesResponse;
+import com.tennisscoring.adapters.primary.exception.GlobalExceptionHandler;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
+import com.tennisscoring.domain.model.MatchPage;
+import com.tennisscoring.domain.model.MatchScoringResult;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import com.tennisscoring.domain.model.MatchStatus;
+import com.tennisscoring.domain.service.MatchService;
+import com.tennisscoring.domain.service.MatchStatisticsService;
+import com.tennisscoring.domain.service.StatisticsService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Handler functions exposing the match operations to the reactive router.
+ * 向反應式路由公開比賽操作的處理函式
+ *
+ * Each function mirrors an endpoint of the servlet {@code MatchController}
+ * with the same request and response models, entity tags and error bodies.
+ * The domain services block on match locks and, with the point log, on
+ * disk syncs, so no service call runs on an event loop thread: work on one
+ * match runs on that match's lane from {@link MatchSchedulers}, and
+ * listings, statistics and multi-match batches run on the bounded elastic
+ * scheduler. The event loops only parse requests and write responses, so
+ * idle connections cost no thread.
+ */
+public class MatchHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchHandler.class);
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final MatchService matchService;
+    private final StatisticsService statisticsService;
+    private final MatchMapper matchMapper;
+    private final Validator validator;
+    private final MatchSchedulers matchSchedulers;
+    private final MatchStreamPublisher matchStreamPublisher;
+
+    public MatchHandler(MatchService matchService,
+                        StatisticsService statisticsService,
+                        MatchMapper matchMapper,
+                        Validator validator,
+                        MatchSchedulers matchSchedulers,
+                        MatchStreamPublisher matchStreamPublisher) {
+        this.matchService = Objects.requireNonNull(matchService, "Match service cannot be null");
+        this.statisticsService = Objects.requireNonNull(statisticsService, "Statistics service cannot be null");
+        this.matchMapper = Objects.requireNonNull(matchMapper, "Match mapper cannot be null");
+        this.validator = Objects.requireNonNull(validator, "Validator cannot be null");
+        this.matchSchedulers = Objects.requireNonNull(matchSchedulers, "Match schedulers cannot be null");
+        this.matchStreamPublisher = Objects.requireNonNull(matchStreamPublisher, "Match stream publisher cannot be null");
+    }
+
+    public Mono<ServerResponse> createMatch(ServerRequest request) {
+        return body(request, CreateMatchRequest.class)
+                .flatMap(body -> respondWithMatch(HttpStatus.CREATED, Schedulers.boundedElastic(),
+                        () -> matchService.createMatch(body.getPlayer1Name(), body.getPlayer2Name()).getSnapshot()))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> getMatch(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        // Snapshots are read without the match's lock, so reads do not queue behind its points
+        return onElastic(() -> {
+                    MatchSnapshot match = matchService.getMatchSnapshot(matchId);
+                    return new MatchView(MatchETags.of(match), MediaType.APPLICATION_JSON,
+                            matchMapper.toResponse(match));
+                })
+                .flatMap(view -> ServerResponse.ok()
+                        .eTag(view.eTag())
+                        .contentType(view.contentType())
+                        .bodyValue(view.response()))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> getAllMatches(ServerRequest request) {
+        return onElastic(() -> {
+                    List<MatchResponse> responses = new ArrayList<>();
+                    for (MatchSnapshot match : matchService.getAllMatchSnapshots()) {
+                        responses.add(matchMapper.toResponse(match));
+                    }
+                    return responses;
+                })
+                .flatMap(responses -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(responses))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> getMatchPage(ServerRequest request) {
+        return onElastic(() -> {
+                    MatchStatus status = request.queryParam("status").map(MatchStatus::valueOf).orElse(null);
+                    String after = request.queryParam("after").orElse(null);
+                    int limit = request.queryParam("limit").map(Integer::parseInt).orElse(50);
+                    return matchMapper.toPageResponse(matchService.getMatchPage(status, after, limit));
+                })
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    /**
+     * Stream match summaries as NDJSON, reading the next repository page only when the client keeps up.
+     */
+    public Mono<ServerResponse> exportMatches(ServerRequest request) {
+        MatchStatus status;
+        try {
+            status = request.queryParam("status").map(MatchStatus::valueOf).orElse(null);
+        } catch (RuntimeException e) {
+            return errorResponse(request, e);
+        }
+        Flux<MatchSummaryResponse> summaries = onElastic(() -> matchService.getMatchPage(status, null, EXPORT_PAGE_SIZE))
+                .expand(page -> page.hasNext()
+                        ? onElastic(() -> matchService.getMatchPage(status, page.getNextCursor(), EXPORT_PAGE_SIZE))
+                        : Mono.empty())
+                .concatMapIterable(MatchPage::getMatches)
+                .map(matchMapper::toSummary);
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(summaries, MatchSummaryResponse.class);
+    }
+
+    public Mono<ServerResponse> scorePoint(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        boolean delta = MatchMediaTypes.acceptsScoreDelta(request.headers().accept());
+        return body(request, ScorePointRequest.class)
+                .flatMap(body -> {
+                    Long expectedVersion = MatchETags.parseIfMatch(ifMatch(request));
+                    return respondWithMatch(HttpStatus.OK, matchSchedulers.forMatch(matchId), () -> expectedVersion != null
+                            ? matchService.scorePoint(matchId, body.getPlayerId(), expectedVersion)
+                            : matchService.scorePoint(matchId, body.getPlayerId()), delta, expectedVersion);
+                })
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> scorePoints(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        return body(request, ScorePointsRequest.class)
+                .flatMap(body -> respondWithMatch(HttpStatus.OK, matchSchedulers.forMatch(matchId), () -> {
+                    Long expectedVersion = MatchETags.parseIfMatch(ifMatch(request));
+                    return expectedVersion != null
+                            ? matchService.scorePoints(matchId, body.getPlayerIds(), expectedVersion)
+                            : matchService.scorePoints(matchId, body.getPlayerIds());
+                }))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    /**
+     * Score a multi-match batch. The service fans the matches out on its own
+     * executor, so the batch as a whole only needs a thread that may block.
+     */
+    public Mono<ServerResponse> scoreMatches(ServerRequest request) {
+        String path = request.path();
+        return body(request, ScoreMatchesRequest.class)
+                .flatMap(body -> onElastic(() -> {
+                    Map<String, List<String>> pointsByMatch = new LinkedHashMap<>();
+                    for (FeedPointRequest point : body.getPoints()) {
+                        pointsByMatch.computeIfAbsent(point.getMatchId(), matchId -> new ArrayList<>())
+                                .add(point.getPlayerId());
+                    }
+                    List<MatchScoringResult> results = matchService.scoreMatches(pointsByMatch);
+                    List<MatchScoringResultResponse> responses = new ArrayList<>(results.size());
+                    int scored = 0;
+                    for (MatchScoringResult result : results) {
+                        if (result.isScored()) {
+                            scored++;
+                            responses.add(new MatchScoringResultResponse(result.getMatchId(),
+                                    matchMapper.toResponse(result.getMatch()), null));
+                        } else {
+                            responses.add(new MatchScoringResultResponse(result.getMatchId(), null,
+                                    GlobalExceptionHandler.toErrorResponse(result.getError(), path)));
+                        }
+                    }
+                    return new ScoreMatchesResponse(scored, results.size() - scored, responses);
+                }))
+                .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(response))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> undoPoints(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        return respondWithMatch(HttpStatus.OK, matchSchedulers.forMatch(matchId), () -> {
+                    int points = request.queryParam("points").map(Integer::parseInt).orElse(1);
+                    Long expectedVersion = MatchETags.parseIfMatch(ifMatch(request));
+                    return expectedVersion != null
+                            ? matchService.undoLastPoints(matchId, points, expectedVersion)
+                            : matchService.undoLastPoints(matchId, points);
+                })
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> correctPoints(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        return body(request, CorrectPointsRequest.class)
+                .flatMap(body -> respondWithMatch(HttpStatus.OK, matchSchedulers.forMatch(matchId), () -> {
+                    Long expectedVersion = MatchETags.parseIfMatch(ifMatch(request));
+                    return expectedVersion != null
+                            ? matchService.correctLastPoints(matchId, body.getReplaceLast(), body.getPlayerIds(),
+                                    expectedVersion)
+                            : matchService.correctLastPoints(matchId, body.getReplaceLast(), body.getPlayerIds());
+                }))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> cancelMatch(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        return respondWithMatch(HttpStatus.OK, matchSchedulers.forMatch(matchId), () -> matchService.cancelMatch(matchId))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> deleteMatch(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        return Mono.fromRunnable(() -> matchService.deleteMatch(matchId))
+                .subscribeOn(matchSchedulers.forMatch(matchId))
+                .then(ServerResponse.noContent().build())
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    /**
+     * Stream live score updates as server-sent events.
+     *
+     * The frames are written as the shared bytes the stream publisher
+     * serialized once for all subscribers. Netty asks for the next frame
+     * only when the connection can take it, and meanwhile the subscriber
+     * keeps just the latest one.
+     */
+    public Mono<ServerResponse> streamMatch(ServerRequest request) {
+        String matchId = request.pathVariable("matchId");
+        Scheduler lane = matchSchedulers.forMatch(matchId);
+        return Mono.fromCallable(() -> matchService.getMatch(matchId))
+                .subscribeOn(lane)
+                .flatMap(match -> {
+                    Flux<DataBuffer> frames = matchStreamPublisher
+                            .stream(matchId, () -> matchService.getMatch(matchId))
+                            .subscribeOn(lane)
+                            .map(frame -> DefaultDataBufferFactory.sharedInstance.wrap(frame.event()));
+                    return ServerResponse.ok()
+                            .contentType(MediaType.TEXT_EVENT_STREAM)
+                            .cacheControl(CacheControl.noCache())
+                            .body(BodyInserters.fromDataBuffers(frames));
+                })
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    public Mono<ServerResponse> getMatchStatistics(ServerRequest request) {
+        return onElastic(() -> {
+                    MatchStatisticsService.SystemStatistics systemStats = statisticsService.getSystemStatistics();
+                    return new MatchStatisticsResponse(
+                            systemStats.getTotalMatches(),
+                            systemStats.getInProgressMatches(),
+                            systemStats.getCompletedMatches(),
+                            systemStats.getCancelledMatches());
+                })
+                .flatMap(statistics -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(statistics))
+                .onErrorResume(error -> errorResponse(request, error));
+    }
+
+    /**
+     * Run a match operation on a scheduler and answer with the match and its entity tag.
+     * 在排程器上執行比賽操作，並以比賽及其實體標籤回應
+     *
+     * The operation returns the snapshot its own change published, so the
+     * response shows the state right after the operation even if another
+     * point follows before it is mapped.
+     */
+    private Mono<ServerResponse> respondWithMatch(HttpStatus status, Scheduler scheduler,
+                                                  Supplier<MatchSnapshot> operation) {
+        return respondWithMatch(status, scheduler, operation, false, null);
+    }
+
+    /**
+     * Run a point on a scheduler and answer with the match or, if asked for, the
+     * score delta since the expected version, or since the version before the point.
+     */
+    private Mono<ServerResponse> respondWithMatch(HttpStatus status, Scheduler scheduler,
+                                                  Supplier<MatchSnapshot> operation, boolean delta,
+                                                  Long expectedVersion) {
+        return Mono.fromCallable(() -> {
+                    MatchSnapshot snapshot = operation.get();
+                    if (delta) {
+                        long baseVersion = expectedVersion != null ? expectedVersion : snapshot.getVersion() - 1;
+                        return new MatchView(MatchETags.of(snapshot), MatchMediaTypes.SCORE_DELTA,
+                                matchMapper.toScoreDelta(snapshot, baseVersion));
+                    }
+                    return new MatchView(MatchETags.of(snapshot), MediaType.APPLICATION_JSON,
+                            matchMapper.toResponse(snapshot));
+                })
+                .subscribeOn(scheduler)
+                .flatMap(view -> ServerResponse.status(status)
+                        .eTag(view.eTag())
+                        .contentType(view.contentType())
+                        .bodyValue(view.response()));
+    }
+
+    private static <T> Mono<T> onElastic(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Decode and validate a request body like {@code @Valid @RequestBody} does.
+     */
+    private <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Required request body is missing")))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<T>> violations = validator.validate(body);
+                    if (violations.isEmpty()) {
+                        return Mono.just(body);
+                    }
+                    List<String> details = new ArrayList<>();
+                    for (ConstraintViolation<T> violation : violations) {
+                        details.add(violation.getPropertyPath() + ": " + violation.getMessage());
+                    }
+                    return Mono.error(new InvalidRequestException(details));
+                });
+    }
+
+    private static String ifMatch(ServerRequest request) {
+        return request.headers().firstHeader(HttpHeaders.IF_MATCH);
+    }
+
+    /**
+     * Map a failure to the error body the servlet exception handler would send.
+     */
+    private Mono<ServerResponse> errorResponse(ServerRequest request, Throwable error) {
+        ErrorResponse body;
+        if (error instanceof InvalidRequestException invalid) {
+            body = new ErrorResponse("Validation Failed", "請求參數驗證失敗",
+                    HttpStatus.BAD_REQUEST.value(), request.path(), invalid.details);
+        } else if (error instanceof ServerWebInputException) {
+            logger.warn("Request body not readable: {}", error.getMessage());
+            body = new ErrorResponse("Bad Request", "請求格式錯誤或缺少請求體",
+                    HttpStatus.BAD_REQUEST.value(), request.path());
+        } else if (error instanceof RuntimeException runtime) {
+            body = GlobalExceptionHandler.toErrorResponse(runtime, request.path());
+        } else {
+            return Mono.error(error);
+        }
+        return ServerResponse.status(body.getStatus()).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    private record MatchView(String eTag, MediaType contentType, Object response) {
+    }
+
+    /**
+     * A request body that failed bean validation.
+     */
+    private static final class InvalidRequestException extends RuntimeException {
+
+        private final transient List<String> details;
+
+        private InvalidRequestException(List<String> details) {
+            super("Request validation failed: " + details);
+            this.details = details;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Functional routes of the reactive match API.
+ * 反應式比賽 API 的函式路由
+ *
+ * The paths, methods and status codes are those of the servlet
+ * {@code MatchController}, so a client can switch between the two ports
+ * without changes. Fixed paths are declared before {@code /{matchId}},
+ * since routes are matched in declaration order. The scoreboard
+ * WebSocket gateway, which has no servlet counterpart, is served at
+ * {@code /api/scoreboard}.
+ */
+public final class MatchRouter {
+
+    public static final String BASE_PATH = "/api/matches";
+    public static final String SCOREBOARD_PATH = "/api/scoreboard";
+
+    private MatchRouter() {
+    }
+
+    /**
+     * Build the routes to a handler.
+     * @param handler the match handler
+     * @param scoreboardHandler the scoreboard WebSocket gateway
+     * @return the router function
+     */
+    public static RouterFunction<ServerResponse> routes(MatchHandler handler,
+                                                        ScoreboardWebSocketHandler scoreboardHandler) {
+        // Tomcat is on the classpath too, so the upgrade strategy cannot be detected
+        HandshakeWebSocketService webSocketService =
+                new HandshakeWebSocketService(new ReactorNettyRequestUpgradeStrategy());
+        return route()
+                .GET(SCOREBOARD_PATH, request -> ServerResponse.ok().build((exchange, context) ->
+                        webSocketService.handleRequest(exchange, scoreboardHandler)))
+                .path(BASE_PATH, builder -> builder
+                        .POST("", handler::createMatch)
+                        .GET("", handler::getAllMatches)
+                        .GET("/page", handler::getMatchPage)
+                        .GET("/export", handler::exportMatches)
+                        .GET("/statistics", handler::getMatchStatistics)
+                        .POST("/points:batch", handler::scoreMatches)
+                        .GET("/{matchId}", handler::getMatch)
+                        .DELETE("/{matchId}", handler::deleteMatch)
+                        .GET("/{matchId}/stream", handler::streamMatch)
+                        .POST("/{matchId}/score", handler::scorePoint)
+                        .POST("/{matchId}/points:batch", handler::scorePoints)
+                        .POST("/{matchId}/undo", handler::undoPoints)
+                        .POST("/{matchId}/correct", handler::correctPoints)
+                        .PUT("/{matchId}/cancel", handler::cancelMatch))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+/**
+ * Single-threaded scheduling lanes that keep blocking match work off the event loop.
+ * 讓阻塞的比賽操作離開事件迴圈的單執行緒排程通道
+ *
+ * Every match ID maps to the same lane, the way it maps to the same lock
+ * stripe, so the operations on one match run one after another in arrival
+ * order and never wait on each other's lock, while other matches proceed
+ * on the other lanes. The lane count is fixed and independent of the
+ * number of matches or connections.
+ */
+public final class MatchSchedulers implements Disposable {
+
+    private static final int LANES_PER_PROCESSOR = 4;
+
+    private final Scheduler[] lanes;
+    private final int mask;
+
+    /**
+     * Create lanes with a count derived from the available processors.
+     */
+    public MatchSchedulers() {
+        this(Runtime.getRuntime().availableProcessors() * LANES_PER_PROCESSOR);
+    }
+
+    /**
+     * Create at least the given number of lanes.
+     * 建立至少指定數量的排程通道
+     *
+     * @param minimumLanes the minimum lane count, rounded up to a power of two
+     */
+    public MatchSchedulers(int minimumLanes) {
+        if (minimumLanes < 1) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        int size = Integer.highestOneBit(minimumLanes);
+        if (size < minimumLanes) {
+            size <<= 1;
+        }
+        this.lanes = new Scheduler[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = Schedulers.newSingle("match-lane-" + i, true);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the lane that runs the work of a match.
+     * 取得執行比賽操作的排程通道
+     *
+     * @param matchId the match ID
+     * @return the match's lane
+     */
+    public Scheduler forMatch(String matchId) {
+        Objects.requireNonNull(matchId, "Match ID cannot be null");
+        int hash = matchId.hashCode();
+        // Spread the high bits down so similar IDs do not share a lane
+        hash ^= (hash >>> 16);
+        return lanes[hash & mask];
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    @Override
+    public void dispose() {
+        for (Scheduler lane : lanes) {
+            lane.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return lanes[0].isDisposed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Objects;
+
+/**
+ * Reactor Netty server serving the reactive routes next to the servlet container.
+ * 與 Servlet 容器並行、提供反應式路由的 Reactor Netty 伺服器
+ *
+ * The application stays a servlet application; this server listens on a
+ * port of its own and shares the domain services, the repository and the
+ * JSON mapper with it. A few event loop threads serve every connection,
+ * which suits many mostly idle clients such as scoreboards.
+ */
+public class ReactiveMatchServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMatchServer.class);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    /**
+     * Create a server for the routes.
+     * @param router the routes to serve
+     * @param objectMapper the JSON mapper shared with the servlet adapter
+     * @param port the port to listen on, or 0 for a free port
+     */
+    public ReactiveMatchServer(RouterFunction<ServerResponse> router,
+                               ObjectMapper objectMapper,
+                               int port) {
+        Objects.requireNonNull(router, "Router cannot be null");
+        Objects.requireNonNull(objectMapper, "Object mapper cannot be null");
+        if (port < 0) {
+            throw new IllegalArgumentException("Port cannot be negative");
+        }
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        this.httpHandler = RouterFunctions.toHttpHandler(router, strategies);
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive match API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Get the port the server is bound to.
+     * @return the bound port, or -1 if the server is not running
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : -1;
+    }
+}
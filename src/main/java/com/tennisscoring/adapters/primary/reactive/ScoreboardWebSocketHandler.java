@@ -0,0 +1,247 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennisscoring.adapters.primary.dto.response.ErrorResponse;
+import com.tennisscoring.adapters.primary.exception.GlobalExceptionHandler;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
+import com.tennisscoring.domain.service.MatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket gateway that multiplexes the live scores of many matches over one connection.
+ * 在單一連線上多工傳送多場比賽即時比分的 WebSocket 閘道
+ *
+ * A scoreboard sends text commands to subscribe to or unsubscribe from
+ * matches:
+ * <pre>
+ * {"action":"subscribe","matchIds":["...","..."]}
+ * {"action":"unsubscribe","matchIds":["..."]}
+ * </pre>
+ * and receives, once per flush interval and only if something changed, one
+ * text message holding a JSON array of the {@code MatchStreamPublisher}
+ * updates of its matches. Each update names its match; the first one of a
+ * match is its current state. Rejected subscriptions and commands are
+ * reported in the same array as updates of type {@code error}.
+ *
+ * Between flushes a connection keeps only the latest update of each
+ * match, so a busy match costs a scoreboard at most one update per flush
+ * and a connection that cannot keep up skips intermediate scores instead
+ * of queueing them. The update JSON is the same byte array for every
+ * connection; only the array around it is built per connection.
+ */
+public class ScoreboardWebSocketHandler implements WebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreboardWebSocketHandler.class);
+
+    private final MatchService matchService;
+    private final MatchStreamPublisher matchStreamPublisher;
+    private final MatchSchedulers matchSchedulers;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Duration flushInterval;
+    private final int maxSubscriptions;
+
+    /**
+     * Create the gateway.
+     * @param matchService reads the current state of subscribed matches
+     * @param matchStreamPublisher the source of the score updates
+     * @param matchSchedulers the lanes the current states are read on
+     * @param objectMapper parses commands and writes errors
+     * @param flushInterval the time between messages to a connection
+     * @param maxSubscriptions the maximum number of matches one connection can watch
+     */
+    public ScoreboardWebSocketHandler(MatchService matchService,
+                                      MatchStreamPublisher matchStreamPublisher,
+                                      MatchSchedulers matchSchedulers,
+                                      ObjectMapper objectMapper,
+                                      Duration flushInterval,
+                                      int maxSubscriptions) {
+        this.matchService = Objects.requireNonNull(matchService, "Match service cannot be null");
+        this.matchStreamPublisher = Objects.requireNonNull(matchStreamPublisher, "Match stream publisher cannot be null");
+        this.matchSchedulers = Objects.requireNonNull(matchSchedulers, "Match schedulers cannot be null");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "Object mapper cannot be null");
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.flushInterval = Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (maxSubscriptions < 1) {
+            throw new IllegalArgumentException("Subscription limit must be positive");
+        }
+        this.maxSubscriptions = maxSubscriptions;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        Connection connection = new Connection(session.getHandshakeInfo().getUri().getPath());
+
+        Mono<Void> commands = session.receive()
+                .filter(message -> message.getType() == WebSocketMessage.Type.TEXT)
+                .doOnNext(message -> connection.onCommand(message.getPayloadAsText()))
+                .then()
+                .cache();
+
+        // Ticks the socket cannot take yet are dropped; the updates wait in the connection meanwhile
+        Flux<WebSocketMessage> batches = Flux.interval(flushInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.justOrEmpty(connection.drain()), 1)
+                .map(batch -> new WebSocketMessage(WebSocketMessage.Type.TEXT, session.bufferFactory().wrap(batch)))
+                .takeUntilOther(commands);
+
+        return Mono.when(commands, session.send(batches))
+                .doFinally(signal -> connection.close());
+    }
+
+    /**
+     * The subscriptions and unsent updates of one connection.
+     */
+    private final class Connection {
+
+        private final String path;
+        private final Map<String, Disposable> subscriptions = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> errors = new ConcurrentHashMap<>();
+
+        private Connection(String path) {
+            this.path = path;
+        }
+
+        private void onCommand(String text) {
+            ScoreboardCommand command;
+            try {
+                command = objectMapper.readValue(text, ScoreboardCommand.class);
+            } catch (JsonProcessingException e) {
+                reject(null, new IllegalArgumentException("Command is not valid JSON"));
+                return;
+            }
+            if (command.matchIds() == null) {
+                reject(null, new IllegalArgumentException("Command has no matchIds"));
+                return;
+            }
+            switch (String.valueOf(command.action())) {
+                case "subscribe" -> command.matchIds().forEach(this::subscribe);
+                case "unsubscribe" -> command.matchIds().forEach(this::unsubscribe);
+                default -> reject(null, new IllegalArgumentException("Unknown action " + command.action()));
+            }
+        }
+
+        private void subscribe(String matchId) {
+            if (matchId == null || subscriptions.containsKey(matchId)) {
+                return;
+            }
+            if (subscriptions.size() >= maxSubscriptions) {
+                reject(matchId, new IllegalStateException(
+                        "A connection can watch at most " + maxSubscriptions + " matches"));
+                return;
+            }
+            // Claim the slot before subscribing, so an update arriving at once finds it
+            Disposable.Swap subscription = Disposables.swap();
+            subscriptions.put(matchId, subscription);
+            subscription.update(matchStreamPublisher.stream(matchId, () -> matchService.getMatch(matchId))
+                    .subscribeOn(matchSchedulers.forMatch(matchId))
+                    .subscribe(frame -> pending.put(matchId, frame.data()),
+                            error -> {
+                                subscriptions.remove(matchId, subscription);
+                                reject(matchId, error);
+                            },
+                            () -> subscriptions.remove(matchId, subscription)));
+        }
+
+        private void unsubscribe(String matchId) {
+            Disposable subscription = matchId != null ? subscriptions.remove(matchId) : null;
+            if (subscription != null) {
+                subscription.dispose();
+                pending.remove(matchId);
+            }
+        }
+
+        private void reject(String matchId, Throwable error) {
+            ErrorResponse response = error instanceof RuntimeException runtime
+                    ? GlobalExceptionHandler.toErrorResponse(runtime, path)
+                    : GlobalExceptionHandler.toErrorResponse(new IllegalStateException(error), path);
+            try {
+                byte[] update = writer.writeValueAsBytes(new ScoreboardError("error", matchId,
+                        response.getError(), response.getMessage()));
+                errors.put(matchId != null ? matchId : "", update);
+            } catch (JsonProcessingException e) {
+                logger.warn("Cannot report scoreboard error {}", response, e);
+            }
+        }
+
+        /**
+         * Take the unsent updates as one JSON array.
+         * @return the message, or null if nothing changed since the last one
+         */
+        private byte[] drain() {
+            if (pending.isEmpty() && errors.isEmpty()) {
+                return null;
+            }
+            ByteArrayOutputStream batch = new ByteArrayOutputStream(256);
+            batch.write('[');
+            boolean first = drainInto(errors, batch, true);
+            drainInto(pending, batch, first);
+            batch.write(']');
+            return batch.size() > 2 ? batch.toByteArray() : null;
+        }
+
+        private boolean drainInto(Map<String, byte[]> updates, ByteArrayOutputStream batch, boolean first) {
+            for (String matchId : updates.keySet()) {
+                // Removing one key at a time keeps an update put meanwhile for the next flush
+                byte[] update = updates.remove(matchId);
+                if (update != null) {
+                    if (!first) {
+                        batch.write(',');
+                    }
+                    batch.writeBytes(update);
+                    first = false;
+                }
+            }
+            return first;
+        }
+
+        private void close() {
+            subscriptions.values().forEach(Disposable::dispose);
+            subscriptions.clear();
+            pending.clear();
+            errors.clear();
+        }
+    }
+
+    /**
+     * A command sent by a scoreboard.
+     * @param action subscribe or unsubscribe
+     * @param matchIds the matches the command applies to
+     */
+    private record ScoreboardCommand(String action, List<String> matchIds) {
+    }
+
+    /**
+     * A rejected subscription or command, sent among the updates.
+     * @param type always error
+     * @param matchId the match, or null for a rejected command
+     * @param error the error type
+     * @param message the error message
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record ScoreboardError(String type, String matchId, String error, String message) {
+    }
+}
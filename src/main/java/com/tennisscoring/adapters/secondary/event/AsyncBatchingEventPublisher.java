@@ -0,0 +1,368 @@
+package com.tennisscoring.adapters.secondary.event;
+
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Event publisher that queues events and hands them to a delegate on a background thread.
+ * 將事件放入佇列並在背景執行緒交給委派發布器的事件發布器
+ *
+ * Events are validated on the calling thread, then offered to a bounded
+ * lock-free {@link EventRingBuffer}. A dedicated consumer thread drains the
+ * buffer in batches and publishes each event through the delegate, so the
+ * scoring request never waits for logging or downstream consumers. When the
+ * buffer fills up, the {@link BackpressurePolicy} decides whether the caller
+ * waits, or point events are dropped or sampled. Match, game, set and
+ * correction events always wait for room: live streams close on them, so
+ * losing one would leave subscribers open.
+ *
+ * Queue depth, throughput, drops and the time events spend in the queue are
+ * available from {@link #getMetrics()}. Events published after
+ * {@link #close()} are delivered synchronously, and an event queued while
+ * the consumer stops is delivered by whichever thread last sees the queue.
+ */
+public class AsyncBatchingEventPublisher extends BaseEventPublisher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncBatchingEventPublisher.class);
+
+    // Producers unpark an idle consumer; the timeout is only a safety net
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final BaseEventPublisher delegate;
+    private final EventRingBuffer<QueuedEvent> buffer;
+    private final int batchSize;
+    private final BackpressurePolicy backpressure;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final Thread consumer;
+
+    private volatile boolean running = true;
+    private volatile boolean consumerIdle;
+    private final Object exitLock = new Object();
+    private boolean consumerExited;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    // Written by the consumer thread, or under exitLock once it has stopped
+    private volatile long delivered;
+    private volatile long batches;
+    private volatile long totalLagNanos;
+    private volatile long maxLagNanos;
+
+    /**
+     * Create the publisher and start its consumer thread.
+     * 建立發布器並啟動消費者執行緒
+     *
+     * @param delegate the publisher that receives the events on the consumer thread
+     * @param capacity the minimum queue capacity, rounded up to a power of two
+     * @param batchSize the maximum number of events delivered per batch
+     * @param backpressure what to do with point events when the queue is full
+     * @param sampleRate with {@link BackpressurePolicy#SAMPLE}, keep one point event in this many
+     */
+    public AsyncBatchingEventPublisher(BaseEventPublisher delegate, int capacity, int batchSize,
+                                       BackpressurePolicy backpressure, int sampleRate) {
+        this(delegate, capacity, batchSize, backpressure, sampleRate, task -> {
+            Thread thread = new Thread(task, "event-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create the publisher and start its consumer on a thread from the given factory.
+     * 建立發布器並以指定的執行緒工廠啟動消費者
+     *
+     * The consumer never blocks a carrier thread while it waits for events,
+     * so the factory may create virtual threads.
+     *
+     * @param delegate the publisher that receives the events on the consumer thread
+     * @param capacity the minimum queue capacity, rounded up to a power of two
+     * @param batchSize the maximum number of events delivered per batch
+     * @param backpressure what to do with point events when the queue is full
+     * @param sampleRate with {@link BackpressurePolicy#SAMPLE}, keep one point event in this many
+     * @param threadFactory creates the consumer thread, which must not keep the JVM alive
+     */
+    public AsyncBatchingEventPublisher(BaseEventPublisher delegate, int capacity, int batchSize,
+                                       BackpressurePolicy backpressure, int sampleRate,
+                                       ThreadFactory threadFactory) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate publisher cannot be null");
+        this.backpressure = Objects.requireNonNull(backpressure, "Backpressure policy cannot be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.buffer = new EventRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.sampleRate = sampleRate;
+        this.sampleThreshold = buffer.capacity() / 2;
+
+        this.consumer = threadFactory.newThread(this::consume);
+        consumer.start();
+    }
+
+    @Override
+    protected void doPublishMatchCreated(MatchCreatedEvent event) {
+        enqueue(target -> target.publishMatchCreated(event), false);
+    }
+
+    @Override
+    protected void doPublishPointScored(PointScoredEvent event) {
+        enqueue(target -> target.publishPointScored(event), true);
+    }
+
+    @Override
+    protected void doPublishPointsScored(List<PointScoredEvent> events) {
+        // One queue slot for the whole batch
+        enqueue(target -> target.publishPointsScored(events), true);
+    }
+
+    @Override
+    protected void doPublishMatchCompleted(MatchCompletedEvent event) {
+        enqueue(target -> target.publishMatchCompleted(event), false);
+    }
+
+    @Override
+    protected void doPublishMatchDeleted(String matchId, String deletedBy) {
+        enqueue(target -> target.publishMatchDeleted(matchId, deletedBy), false);
+    }
+
+    @Override
+    protected void doPublishGameCompleted(String matchId, int gameNumber, String winnerId) {
+        enqueue(target -> target.publishGameCompleted(matchId, gameNumber, winnerId), false);
+    }
+
+    @Override
+    protected void doPublishSetCompleted(String matchId, int setNumber, String winnerId) {
+        enqueue(target -> target.publishSetCompleted(matchId, setNumber, winnerId), false);
+    }
+
+    @Override
+    protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored, String currentScore) {
+        enqueue(target -> target.publishPointsCorrected(matchId, pointsUndone, pointsScored, currentScore), false);
+    }
+
+    /**
+     * Queue an event according to the backpressure policy.
+     */
+    private void enqueue(Consumer<BaseEventPublisher> delivery, boolean pointEvent) {
+        if (!running) {
+            delivery.accept(delegate);
+            return;
+        }
+
+        QueuedEvent event = new QueuedEvent(delivery, System.nanoTime());
+        switch (pointEvent ? backpressure : BackpressurePolicy.BLOCK) {
+            case BLOCK -> {
+                while (!buffer.offer(event)) {
+                    if (!running) {
+                        delivery.accept(delegate);
+                        return;
+                    }
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+                }
+            }
+            case DROP -> {
+                if (!buffer.offer(event)) {
+                    dropped.increment();
+                    return;
+                }
+            }
+            case SAMPLE -> {
+                if (pointEvent && buffer.size() >= sampleThreshold
+                        && sampleCounter.getAndIncrement() % sampleRate != 0) {
+                    sampledOut.increment();
+                    return;
+                }
+                if (!buffer.offer(event)) {
+                    dropped.increment();
+                    return;
+                }
+            }
+        }
+
+        published.increment();
+        if (consumerIdle) {
+            LockSupport.unpark(consumer);
+        }
+        if (!running) {
+            // Closed after the check above: the consumer may be gone already
+            drainAfterExit();
+        }
+    }
+
+    /**
+     * Consumer loop: drain batches until closed and the queue is empty.
+     */
+    private void consume() {
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            QueuedEvent event;
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                batch.add(event);
+            }
+
+            if (batch.isEmpty()) {
+                consumerIdle = true;
+                if (running && buffer.size() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                consumerIdle = false;
+                continue;
+            }
+
+            deliver(batch);
+            batch.clear();
+        }
+        synchronized (exitLock) {
+            consumerExited = true;
+            drainAfterExit();
+        }
+    }
+
+    /**
+     * Deliver what is left in the queue once the consumer has stopped.
+     * The lock keeps the queue single-consumer between the threads that may call this.
+     */
+    private void drainAfterExit() {
+        synchronized (exitLock) {
+            if (!consumerExited) {
+                return;
+            }
+            List<QueuedEvent> rest = new ArrayList<>();
+            QueuedEvent event;
+            while ((event = buffer.poll()) != null) {
+                rest.add(event);
+            }
+            if (!rest.isEmpty()) {
+                deliver(rest);
+            }
+        }
+    }
+
+    private void deliver(List<QueuedEvent> batch) {
+        long now = System.nanoTime();
+        long lagSum = 0;
+        long lagMax = maxLagNanos;
+        for (QueuedEvent event : batch) {
+            long lag = now - event.enqueuedAtNanos();
+            lagSum += lag;
+            if (lag > lagMax) {
+                lagMax = lag;
+            }
+            try {
+                event.delivery().accept(delegate);
+            } catch (RuntimeException e) {
+                logger.warn("Event delivery failed on {} publisher", delegate.getPublisherType(), e);
+            }
+        }
+        totalLagNanos += lagSum;
+        maxLagNanos = lagMax;
+        delivered += batch.size();
+        batches++;
+    }
+
+    /**
+     * Stop the consumer after it has delivered everything already queued.
+     * 停止消費者執行緒，並先送出佇列中的事件
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (consumer.isAlive()) {
+            logger.warn("Event publisher did not drain {} queued events within {} ms",
+                    buffer.size(), CLOSE_TIMEOUT_MILLIS);
+        } else {
+            // Events offered by producers that passed the running check before it changed
+            drainAfterExit();
+        }
+    }
+
+    /**
+     * Get a snapshot of the publisher's metrics.
+     * 取得發布器指標的快照
+     *
+     * @return the current metrics
+     */
+    public Metrics getMetrics() {
+        long deliveredCount = delivered;
+        long averageLag = deliveredCount > 0 ? totalLagNanos / deliveredCount : 0;
+        return new Metrics(
+                buffer.size(),
+                buffer.capacity(),
+                published.sum(),
+                deliveredCount,
+                dropped.sum(),
+                sampledOut.sum(),
+                batches,
+                TimeUnit.NANOSECONDS.toMicros(averageLag),
+                TimeUnit.NANOSECONDS.toMicros(maxLagNanos));
+    }
+
+    public BackpressurePolicy getBackpressure() {
+        return backpressure;
+    }
+
+    @Override
+    public String getPublisherType() {
+        return "ASYNC_BATCHING";
+    }
+
+    @Override
+    public boolean isAsynchronous() {
+        return true;
+    }
+
+    /**
+     * Publisher metrics at one point in time.
+     * 發布器在某一時間點的指標
+     *
+     * @param queueDepth events waiting in the queue
+     * @param capacity the queue capacity
+     * @param published events accepted into the queue
+     * @param delivered events handed to the delegate
+     * @param dropped events dropped because the queue was full
+     * @param sampledOut point events skipped by sampling
+     * @param batches batches delivered
+     * @param averageLagMicros average time between publishing and delivery
+     * @param maxLagMicros longest time between publishing and delivery
+     */
+    public record Metrics(int queueDepth, int capacity, long published, long delivered, long dropped,
+                          long sampledOut, long batches, long averageLagMicros, long maxLagMicros) {
+    }
+
+    /**
+     * A queued event: how to deliver it and when it was published.
+     */
+    private record QueuedEvent(Consumer<BaseEventPublisher> delivery, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.tennisscoring.adapters.secondary.event;
+
+/**
+ * What an asynchronous publisher does when its queue cannot keep up.
+ * 非同步發布器在佇列跟不上時的處理方式
+ *
+ * Only point events are ever dropped or sampled; match, game, set and
+ * correction events wait for room whatever the policy.
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Wait for room in the queue; no event is lost, but a slow consumer
+     * slows the publishing thread down.
+     * 等待佇列空間，不遺失事件
+     */
+    BLOCK,
+
+    /**
+     * Drop point events that find the queue full.
+     * 佇列已滿時丟棄得分事件
+     */
+    DROP,
+
+    /**
+     * Once the queue is half full, keep only one point event in N, and drop
+     * point events that find the queue full.
+     * 佇列過半時只保留部分得分事件
+     */
+    SAMPLE
+}
@@ -7,6 +7,7 @@ import com.tennisscoring.ports.secondary.EventPublisherPort;
 import com.tennisscoring.ports.secondary.MatchEventPublisherPort;
 import com.tennisscoring.ports.secondary.GameEventPublisherPort;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -47,6 +48,20 @@ public abstract class BaseEventPublisher implements EventPublisherPort, MatchEve
         doPublishPointScored(event);
     }
     
+    /**
+     * Template method for publishing a batch of point scored events with validation.
+     * 發布批次得分事件的模板方法，包含驗證
+     * 
+     * @param events the point scored events, in order
+     */
+    @Override
+    public final void publishPointsScored(List<PointScoredEvent> events) {
+        Objects.requireNonNull(events, "Point scored events cannot be null");
+        events.forEach(this::validatePointScoredEvent);
+        
+        doPublishPointsScored(events);
+    }
+    
     /**
      * Template method for publishing match completed events with validation.
      * 發布比賽完成事件的模板方法，包含驗證
@@ -108,6 +123,41 @@ public abstract class BaseEventPublisher implements EventPublisherPort, MatchEve
         doPublishSetCompleted(matchId, setNumber, winnerId);
     }
     
+    /**
+     * Template method for publishing points corrected events with validation.
+     * 發布分數更正事件的模板方法，包含驗證
+     * 
+     * @param matchId the match ID
+     * @param pointsUndone the number of points taken back
+     * @param pointsScored the number of points scored in their place
+     * @param currentScore the score after the correction
+     */
+    @Override
+    public final void publishPointsCorrected(String matchId, int pointsUndone, int pointsScored, String currentScore) {
+        validateMatchId(matchId);
+        if (pointsUndone < 1 || pointsScored < 0) {
+            throw new IllegalArgumentException("Invalid correction of " + pointsUndone + " points by " + pointsScored);
+        }
+        Objects.requireNonNull(currentScore, "Current score cannot be null");
+        
+        doPublishPointsCorrected(matchId, pointsUndone, pointsScored, currentScore);
+    }
+    
+    /**
+     * Perform the actual publishing of a batch of point scored events.
+     * 執行實際的批次得分事件發布
+     * 
+     * Publishers that can hand the batch on as a whole override this; by
+     * default each event is published on its own.
+     * 
+     * @param events the point scored events, in order
+     */
+    protected void doPublishPointsScored(List<PointScoredEvent> events) {
+        for (PointScoredEvent event : events) {
+            doPublishPointScored(event);
+        }
+    }
+    
     // Abstract methods that subclasses must implement
     
     /**
@@ -163,6 +213,18 @@ public abstract class BaseEventPublisher implements EventPublisherPort, MatchEve
      */
     protected abstract void doPublishSetCompleted(String matchId, int setNumber, String winnerId);
     
+    /**
+     * Perform the actual points corrected event publishing.
+     * 執行實際的分數更正事件發布
+     * 
+     * @param matchId the match ID
+     * @param pointsUndone the number of points taken back
+     * @param pointsScored the number of points scored in their place
+     * @param currentScore the score after the correction
+     */
+    protected abstract void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored,
+                                                     String currentScore);
+    
     // Common validation methods
     
     /**
@@ -0,0 +1,238 @@
+package com.tennisscoring.adapters.secondary.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import com.tennisscoring.domain.model.Match;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Event publisher that streams score updates to the live subscribers of each match.
+ * 將比分更新串流給各場比賽即時訂閱者的事件發布器
+ *
+ * Every event is passed on to a delegate. Point, correction, completion
+ * and deletion events of a match with subscribers are also turned into a
+ * {@link MatchStreamUpdate}, serialized once as JSON and as a complete
+ * server-sent event, and the same frame is handed to every subscriber of
+ * the match. Matches nobody watches cost a map lookup per event.
+ *
+ * Handing out a frame never waits for a subscriber: each subscriber keeps
+ * only the latest frame it has not yet written, so a slow client skips
+ * intermediate scores and catches up with the newest one. Because every
+ * update carries the full score, nothing is lost but the skipped states.
+ * Placed behind the {@link AsyncBatchingEventPublisher}, the fan-out runs
+ * on its consumer thread rather than under the match lock.
+ */
+public class MatchStreamPublisher extends BaseEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchStreamPublisher.class);
+
+    private final BaseEventPublisher delegate;
+    private final ObjectWriter writer;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Create the publisher.
+     * @param delegate the publisher that receives every event as well
+     * @param objectMapper the mapper serializing the updates, written without indentation
+     */
+    public MatchStreamPublisher(BaseEventPublisher delegate, ObjectMapper objectMapper) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate publisher cannot be null");
+        this.writer = Objects.requireNonNull(objectMapper, "Object mapper cannot be null")
+                .writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Stream a match: its current state first, then each update.
+     * 串流一場比賽：先送出目前狀態，再送出每一筆更新
+     *
+     * The stream subscribes to the updates before it reads the state, so no
+     * update falls in between; updates the state already shows are skipped.
+     * It completes once the match is completed, cancelled or deleted. Each
+     * subscriber holds at most one unwritten update and drops older ones.
+     *
+     * @param matchId the match ID
+     * @param currentState reads the match, called once per subscription
+     * @return the frames to write to the client
+     */
+    public Flux<MatchStreamFrame> stream(String matchId, Callable<Match> currentState) {
+        Objects.requireNonNull(matchId, "Match ID cannot be null");
+        Objects.requireNonNull(currentState, "Current state cannot be null");
+        return updates(matchId)
+                .publish(updates -> Mono.fromCallable(() -> snapshotFrame(currentState.call()))
+                        .flatMapMany(snapshot -> snapshot.last()
+                                ? Flux.just(snapshot)
+                                : Flux.just(snapshot).concatWith(updates.filter(frame ->
+                                        frame.version() == PointScoredEvent.UNKNOWN_VERSION
+                                                || frame.version() > snapshot.version()))))
+                .onBackpressureLatest();
+    }
+
+    /**
+     * Get the number of matches that currently have subscribers.
+     * @return the number of watched matches
+     */
+    public int getWatchedMatchCount() {
+        return channels.size();
+    }
+
+    private Flux<MatchStreamFrame> updates(String matchId) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(matchId, (id, existing) -> {
+                Channel joined = existing != null ? existing : new Channel();
+                joined.subscribers++;
+                return joined;
+            });
+            return channel.sink.asFlux().doFinally(signal -> channels.computeIfPresent(matchId,
+                    (id, current) -> current == channel && --current.subscribers == 0 ? null : current));
+        });
+    }
+
+    private MatchStreamFrame snapshotFrame(Match match) {
+        boolean over = !match.isInProgress();
+        MatchStreamUpdate update = new MatchStreamUpdate("snapshot", match.getMatchId(), match.getVersion(), null,
+                match.getCurrentScore(), match.getCurrentSetNumber(), match.getCurrentGameNumber(),
+                match.getStatus().name(), match.getWinner() != null ? match.getWinner().getValue() : null);
+        return frame(match.getVersion(), update, over);
+    }
+
+    private MatchStreamFrame frame(long version, MatchStreamUpdate update, boolean last) {
+        String data;
+        try {
+            data = writer.writeValueAsString(update);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize stream update " + update, e);
+        }
+        StringBuilder event = new StringBuilder(data.length() + 48);
+        if (version != PointScoredEvent.UNKNOWN_VERSION) {
+            event.append("id:").append(version).append('\n');
+        }
+        event.append("event:").append(update.type()).append('\n');
+        event.append("data:").append(data).append("\n\n");
+        return new MatchStreamFrame(version, data.getBytes(StandardCharsets.UTF_8),
+                event.toString().getBytes(StandardCharsets.UTF_8), last);
+    }
+
+    /**
+     * Hand a frame to the subscribers of a match, building it only if there are any.
+     */
+    private void emit(String matchId, long version, Supplier<MatchStreamUpdate> update, boolean last) {
+        Channel channel = channels.get(matchId);
+        if (channel == null) {
+            return;
+        }
+        try {
+            MatchStreamFrame frame = frame(version, update.get(), last);
+            synchronized (channel) {
+                channel.sink.tryEmitNext(frame);
+                if (last) {
+                    channel.sink.tryEmitComplete();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cannot stream update of match {}", matchId, e);
+        }
+    }
+
+    @Override
+    protected void doPublishMatchCreated(MatchCreatedEvent event) {
+        delegate.publishMatchCreated(event);
+    }
+
+    @Override
+    protected void doPublishPointScored(PointScoredEvent event) {
+        delegate.publishPointScored(event);
+        emitPoint(event);
+    }
+
+    @Override
+    protected void doPublishPointsScored(List<PointScoredEvent> events) {
+        delegate.publishPointsScored(events);
+        events.forEach(this::emitPoint);
+    }
+
+    private void emitPoint(PointScoredEvent event) {
+        long version = event.getMatchVersion();
+        emit(event.getMatchId(), version, () -> new MatchStreamUpdate("point", event.getMatchId(),
+                version != PointScoredEvent.UNKNOWN_VERSION ? version : null, event.getPlayerId(),
+                event.getCurrentScore(), event.getCurrentSet(), event.getCurrentGame(), null, null), false);
+    }
+
+    @Override
+    protected void doPublishMatchCompleted(MatchCompletedEvent event) {
+        delegate.publishMatchCompleted(event);
+        emit(event.getMatchId(), PointScoredEvent.UNKNOWN_VERSION, () -> new MatchStreamUpdate("completed", event.getMatchId(),
+                null, null, event.getFinalScore(), null, null, null, event.getWinnerId()), true);
+    }
+
+    @Override
+    protected void doPublishMatchDeleted(String matchId, String deletedBy) {
+        delegate.publishMatchDeleted(matchId, deletedBy);
+        // A cancelled match is reported as deleted by its canceller
+        String type = "cancelled".equals(deletedBy) ? "cancelled" : "deleted";
+        emit(matchId, PointScoredEvent.UNKNOWN_VERSION, () -> new MatchStreamUpdate(type, matchId,
+                null, null, null, null, null, null, null), true);
+    }
+
+    @Override
+    protected void doPublishGameCompleted(String matchId, int gameNumber, String winnerId) {
+        delegate.publishGameCompleted(matchId, gameNumber, winnerId);
+    }
+
+    @Override
+    protected void doPublishSetCompleted(String matchId, int setNumber, String winnerId) {
+        delegate.publishSetCompleted(matchId, setNumber, winnerId);
+    }
+
+    @Override
+    protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored, String currentScore) {
+        delegate.publishPointsCorrected(matchId, pointsUndone, pointsScored, currentScore);
+        emit(matchId, PointScoredEvent.UNKNOWN_VERSION, () -> new MatchStreamUpdate("correction", matchId,
+                null, null, currentScore, null, null, null, null), false);
+    }
+
+    @Override
+    public String getPublisherType() {
+        return "MatchStream(" + delegate.getPublisherType() + ")";
+    }
+
+    @Override
+    public boolean isAsynchronous() {
+        return delegate.isAsynchronous();
+    }
+
+    /**
+     * The subscribers of one match. The subscriber count is only changed inside the channel map's compute calls.
+     */
+    private static final class Channel {
+
+        private final Sinks.Many<MatchStreamFrame> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+
+    /**
+     * A serialized update shared by all subscribers of a match.
+     * @param version the match version the frame shows, or {@link PointScoredEvent#UNKNOWN_VERSION}
+     * @param data the UTF-8 encoded JSON of the update
+     * @param event the UTF-8 encoded server-sent event carrying the update, including the blank line ending it
+     * @param last true if the stream ends after this frame
+     */
+    public record MatchStreamFrame(long version, byte[] data, byte[] event, boolean last) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.tennisscoring.adapters.secondary.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One update of a live match stream, serialized as the data of a server-sent event.
+ * 比賽即時串流中的一筆更新，序列化為伺服器推送事件的資料
+ *
+ * Every update carries the whole current score rather than a change to
+ * the previous one, so a client that misses updates is still up to date
+ * with the next one it receives. Fields that do not apply are omitted.
+ *
+ * @param type snapshot, point, correction, completed, cancelled or deleted
+ * @param matchId the match ID, so updates of many matches can share a connection
+ * @param version the match version after the change, when known
+ * @param scorer the player who won the point
+ * @param score the current score
+ * @param set the current set number
+ * @param game the current game number
+ * @param status the match status, sent with snapshots
+ * @param winner the match winner
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MatchStreamUpdate(
+        String type,
+        String matchId,
+        Long version,
+        String scorer,
+        String score,
+        Integer set,
+        Integer game,
+        String status,
+        String winner) {
+}
@@ -78,6 +78,15 @@ public class NoOpEventPublisher extends BaseEventPublisher {
                 winnerId);
     }
     
+    @Override
+    protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored, String currentScore) {
+        logger.info("Points corrected event: matchId={}, pointsUndone={}, pointsScored={}, score={}", 
+                matchId, 
+                pointsUndone, 
+                pointsScored, 
+                currentScore);
+    }
+    
     @Override
     public String getPublisherType() {
         return "NO_OP";
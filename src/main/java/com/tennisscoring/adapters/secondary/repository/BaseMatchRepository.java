@@ -36,7 +36,25 @@ public abstract class BaseMatchRepository implements MatchRepositoryPort {
         
         return doSave(match);
     }
-    
+
+    /**
+     * Template method for a compare-and-set save with validation.
+     * 比較並交換儲存的模板方法，包含驗證
+     *
+     * @param match the match to save
+     * @param expectedVersion the version the update was based on
+     * @return true if the match was saved
+     */
+    @Override
+    public final boolean saveIfVersion(Match match, long expectedVersion) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        validateMatch(match);
+
+        return doSaveIfVersion(match, expectedVersion);
+    }
+
     /**
      * Template method for finding a match by ID with validation.
      * 根據ID查找比賽的模板方法，包含驗證
@@ -94,6 +112,24 @@ public abstract class BaseMatchRepository implements MatchRepositoryPort {
         return doFindByStatus(status);
     }
     
+    /**
+     * Template method for finding a page of matches with validation.
+     * 查找一頁比賽的模板方法，包含驗證
+     * 
+     * @param status the match status, or null for all matches
+     * @param afterMatchId the cursor, or null for the first page
+     * @param limit the maximum number of matches
+     * @return the page of matches
+     */
+    @Override
+    public final List<Match> findPage(MatchStatus status, String afterMatchId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        
+        return doFindPage(status, afterMatchId, limit);
+    }
+    
     // Abstract methods that subclasses must implement
     
     /**
@@ -104,7 +140,17 @@ public abstract class BaseMatchRepository implements MatchRepositoryPort {
      * @return the saved match
      */
     protected abstract Match doSave(Match match);
-    
+
+    /**
+     * Perform the actual compare-and-set save operation.
+     * 執行實際的比較並交換儲存操作
+     *
+     * @param match the match to save
+     * @param expectedVersion the version the update was based on
+     * @return true if the match was saved
+     */
+    protected abstract boolean doSaveIfVersion(Match match, long expectedVersion);
+
     /**
      * Perform the actual find by ID operation.
      * 執行實際的根據ID查找操作
@@ -140,6 +186,17 @@ public abstract class BaseMatchRepository implements MatchRepositoryPort {
      */
     protected abstract List<Match> doFindByStatus(MatchStatus status);
     
+    /**
+     * Perform the actual find page operation.
+     * 執行實際的分頁查找操作
+     * 
+     * @param status the match status, or null for all matches
+     * @param afterMatchId the cursor, or null for the first page
+     * @param limit the maximum number of matches
+     * @return the page of matches
+     */
+    protected abstract List<Match> doFindPage(MatchStatus status, String afterMatchId, int limit);
+    
     // Common validation methods
     
     /**
@@ -5,10 +5,14 @@ import com.tennisscoring.domain.model.MatchStatus;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * In-memory implementation of MatchRepositoryPort using ConcurrentHashMap for thread safety.
@@ -18,32 +22,75 @@ import java.util.stream.Collectors;
  * BaseMatchRepository and can be substituted with any other repository implementation
  * without breaking functionality.
  * 
+ * Each entry keeps the version the match had when it was last saved, so
+ * {@link #saveIfVersion} can compare and swap atomically inside
+ * {@link ConcurrentHashMap#compute}.
+ * 
+ * Secondary indexes keep the sorted IDs and a counter per {@link MatchStatus},
+ * and a sorted set of all IDs that backs keyset pagination. Each entry
+ * records the status it was indexed under, and every save or delete moves
+ * the ID inside the same per-key compute, so the indexes reflect each
+ * match's status as of its last save. Status queries cost O(result), pages
+ * O(log n + page size) and status counts O(1).
+ * 
  * Requirements: 1.3, 9.4
  */
 @Repository
 public class InMemoryMatchRepository extends BaseMatchRepository {
     
-    private final ConcurrentHashMap<String, Match> matches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StoredMatch> matches = new ConcurrentHashMap<>();
+    private final NavigableSet<String> orderedIds = new ConcurrentSkipListSet<>();
+    private final Map<MatchStatus, NavigableSet<String>> idsByStatus = new EnumMap<>(MatchStatus.class);
+    private final Map<MatchStatus, LongAdder> countsByStatus = new EnumMap<>(MatchStatus.class);
+    
+    public InMemoryMatchRepository() {
+        for (MatchStatus status : MatchStatus.values()) {
+            idsByStatus.put(status, new ConcurrentSkipListSet<>());
+            countsByStatus.put(status, new LongAdder());
+        }
+    }
     
     @Override
     protected Match doSave(Match match) {
-        matches.put(match.getMatchId(), match);
+        matches.compute(match.getMatchId(), (matchId, stored) -> store(matchId, stored, match));
         return match;
     }
     
+    @Override
+    protected boolean doSaveIfVersion(Match match, long expectedVersion) {
+        boolean[] saved = new boolean[1];
+        matches.compute(match.getMatchId(), (matchId, stored) -> {
+            if (stored == null || stored.version() != expectedVersion) {
+                return stored;
+            }
+            saved[0] = true;
+            return store(matchId, stored, match);
+        });
+        return saved[0];
+    }
+    
     @Override
     protected Optional<Match> doFindById(String matchId) {
-        return Optional.ofNullable(matches.get(matchId));
+        StoredMatch stored = matches.get(matchId);
+        return stored != null ? Optional.of(stored.match()) : Optional.empty();
     }
     
     @Override
     public List<Match> findAll() {
-        return new ArrayList<>(matches.values());
+        List<Match> result = new ArrayList<>(matches.size());
+        for (StoredMatch stored : matches.values()) {
+            result.add(stored.match());
+        }
+        return result;
     }
     
     @Override
     protected void doDeleteById(String matchId) {
-        matches.remove(matchId);
+        matches.computeIfPresent(matchId, (id, stored) -> {
+            unindex(id, stored.status());
+            orderedIds.remove(id);
+            return null;
+        });
     }
     
     @Override
@@ -53,9 +100,34 @@ public class InMemoryMatchRepository extends BaseMatchRepository {
     
     @Override
     protected List<Match> doFindByStatus(MatchStatus status) {
-        return matches.values().stream()
-                .filter(match -> status.equals(match.getStatus()))
-                .collect(Collectors.toList());
+        NavigableSet<String> ids = idsByStatus.get(status);
+        List<Match> result = new ArrayList<>();
+        for (String matchId : ids) {
+            StoredMatch stored = matches.get(matchId);
+            if (stored != null && stored.status() == status) {
+                result.add(stored.match());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    protected List<Match> doFindPage(MatchStatus status, String afterMatchId, int limit) {
+        NavigableSet<String> ids = status != null ? idsByStatus.get(status) : orderedIds;
+        if (afterMatchId != null) {
+            ids = ids.tailSet(afterMatchId, false);
+        }
+        List<Match> page = new ArrayList<>(Math.min(limit, 64));
+        for (String matchId : ids) {
+            StoredMatch stored = matches.get(matchId);
+            if (stored != null && (status == null || stored.status() == status)) {
+                page.add(stored.match());
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
     }
     
     /**
@@ -75,9 +147,7 @@ public class InMemoryMatchRepository extends BaseMatchRepository {
             return 0;
         }
         
-        return matches.values().stream()
-                .filter(match -> status.equals(match.getStatus()))
-                .count();
+        return countsByStatus.get(status).sum();
     }
     
     /**
@@ -86,7 +156,9 @@ public class InMemoryMatchRepository extends BaseMatchRepository {
      * 清除所有比賽記錄，主要用於測試
      */
     public void clear() {
-        matches.clear();
+        for (String matchId : matches.keySet()) {
+            doDeleteById(matchId);
+        }
     }
     
     /**
@@ -118,4 +190,36 @@ public class InMemoryMatchRepository extends BaseMatchRepository {
     public boolean isThreadSafe() {
         return true;
     }
+    
+    /**
+     * Build the entry for a save and move the match between status indexes.
+     * Runs inside the map's compute for the match ID.
+     */
+    private StoredMatch store(String matchId, StoredMatch previous, Match match) {
+        MatchStatus status = match.getStatus();
+        if (previous == null) {
+            orderedIds.add(matchId);
+            index(matchId, status);
+        } else if (previous.status() != status) {
+            unindex(matchId, previous.status());
+            index(matchId, status);
+        }
+        return new StoredMatch(match, match.getVersion(), status);
+    }
+    
+    private void index(String matchId, MatchStatus status) {
+        idsByStatus.get(status).add(matchId);
+        countsByStatus.get(status).increment();
+    }
+    
+    private void unindex(String matchId, MatchStatus status) {
+        idsByStatus.get(status).remove(matchId);
+        countsByStatus.get(status).decrement();
+    }
+    
+    /**
+     * A stored match together with its version and status at the time it was saved.
+     */
+    private record StoredMatch(Match match, long version, MatchStatus status) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.tennisscoring.adapters.secondary.repository;
+
+import com.tennisscoring.domain.model.Game;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchId;
+import com.tennisscoring.domain.model.MatchStatus;
+import com.tennisscoring.domain.model.Player;
+import com.tennisscoring.domain.model.PlayerId;
+import com.tennisscoring.domain.model.PointHistory;
+import com.tennisscoring.domain.model.Set;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary encoding of a whole match aggregate for snapshots.
+ * 快照用的完整比賽聚合二進位編碼
+ *
+ * The encoding holds the state itself rather than the points that led to
+ * it: the players' counters, every set with the packed state of each of its
+ * games, the status and the point history with its game checkpoints.
+ * Restoring a match therefore costs one object per set and game, however
+ * long the games were.
+ */
+final class MatchSnapshotCodec {
+
+    private static final int NO_PLAYER = 0;
+    private static final int PLAYER1 = 1;
+    private static final int PLAYER2 = 2;
+
+    private MatchSnapshotCodec() {
+    }
+
+    /**
+     * Write a match with the version it has in the log.
+     * @param out the output
+     * @param match the match to write
+     * @param version the version to store, which differs from the match's own for a rebuilt match
+     * @throws IOException if the output fails
+     */
+    static void write(DataOutput out, Match match, long version) throws IOException {
+        writeId(out, match.getMatchId());
+        writeTime(out, match.getCreatedAt());
+        out.writeUTF(match.getScoringStrategyType() != null ? match.getScoringStrategyType() : "");
+        out.writeUTF(match.getStatus().name());
+        out.writeByte(playerIndex(match, match.getWinner()));
+        out.writeBoolean(match.getCompletedAt() != null);
+        if (match.getCompletedAt() != null) {
+            writeTime(out, match.getCompletedAt());
+        }
+        out.writeLong(version);
+        writePlayer(out, match.getPlayer1());
+        writePlayer(out, match.getPlayer2());
+
+        PointHistory history = match.copyPointHistory();
+        out.writeInt(history.size());
+        for (long word : history.toWords()) {
+            out.writeLong(word);
+        }
+        int[] gameStarts = history.toGameStarts();
+        out.writeInt(gameStarts.length);
+        for (int gameStart : gameStarts) {
+            out.writeInt(gameStart);
+        }
+
+        List<Set> sets = match.getSets();
+        out.writeShort(sets.size());
+        for (Set set : sets) {
+            out.writeByte(playerIndex(match, set.getWinner()));
+            List<Game> games = set.getGames();
+            out.writeShort(games.size());
+            for (Game game : games) {
+                out.writeBoolean(game.isTiebreak());
+                out.writeInt(game.getState());
+            }
+        }
+    }
+
+    /**
+     * Read a match written by {@link #write}.
+     * @param in the input
+     * @return the restored match
+     * @throws IOException if the input fails
+     */
+    static Match read(DataInput in) throws IOException {
+        MatchId matchId = MatchId.of(readId(in));
+        LocalDateTime createdAt = readTime(in);
+        String strategy = in.readUTF();
+        MatchStatus status = MatchStatus.valueOf(in.readUTF());
+        int winner = in.readByte();
+        LocalDateTime completedAt = in.readBoolean() ? readTime(in) : null;
+        long version = in.readLong();
+        Player player1 = readPlayer(in);
+        Player player2 = readPlayer(in);
+        PlayerId player1Id = player1.getPlayerId();
+        PlayerId player2Id = player2.getPlayerId();
+
+        int points = in.readInt();
+        long[] words = new long[(points + 63) >>> 6];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        int[] gameStarts = new int[in.readInt()];
+        for (int i = 0; i < gameStarts.length; i++) {
+            gameStarts[i] = in.readInt();
+        }
+
+        int setCount = in.readShort();
+        List<Set> sets = new ArrayList<>(setCount);
+        for (int setNumber = 1; setNumber <= setCount; setNumber++) {
+            PlayerId setWinner = playerId(in.readByte(), player1Id, player2Id);
+            int gameCount = in.readShort();
+            List<Game> games = new ArrayList<>(gameCount);
+            for (int gameNumber = 1; gameNumber <= gameCount; gameNumber++) {
+                boolean tiebreak = in.readBoolean();
+                games.add(Game.restore(gameNumber, tiebreak, player1Id, player2Id, in.readInt()));
+            }
+            sets.add(Set.restore(setNumber, player1Id, player2Id, games, setWinner));
+        }
+
+        Match match = Match.restore(matchId, player1, player2, createdAt);
+        if (!strategy.isEmpty()) {
+            match.selectScoringStrategy(strategy);
+        }
+        match.restoreState(sets, status, playerId(winner, player1Id, player2Id), completedAt,
+                version, PointHistory.of(words, points, gameStarts));
+        return match;
+    }
+
+    private static void writePlayer(DataOutput out, Player player) throws IOException {
+        writeId(out, player.getPlayerId().getValue());
+        out.writeUTF(player.getName());
+        out.writeInt(player.getSetsWon());
+        out.writeInt(player.getGamesWon());
+        out.writeInt(player.getPointsWon());
+    }
+
+    private static Player readPlayer(DataInput in) throws IOException {
+        PlayerId playerId = PlayerId.of(readId(in));
+        String name = in.readUTF();
+        return Player.restore(playerId, name, in.readInt(), in.readInt(), in.readInt());
+    }
+
+    private static int playerIndex(Match match, PlayerId playerId) {
+        if (playerId == null) {
+            return NO_PLAYER;
+        }
+        return playerId.equals(match.getPlayer1().getPlayerId()) ? PLAYER1 : PLAYER2;
+    }
+
+    private static PlayerId playerId(int index, PlayerId player1Id, PlayerId player2Id) {
+        return switch (index) {
+            case NO_PLAYER -> null;
+            case PLAYER1 -> player1Id;
+            case PLAYER2 -> player2Id;
+            default -> throw new IllegalStateException("Invalid player index in snapshot: " + index);
+        };
+    }
+
+    private static void writeId(DataOutput out, String id) throws IOException {
+        UUID uuid = UUID.fromString(id);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static String readId(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong()).toString();
+    }
+
+    private static void writeTime(DataOutput out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInput in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
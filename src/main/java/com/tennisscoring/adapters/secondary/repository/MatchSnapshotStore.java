@@ -0,0 +1,204 @@
+package com.tennisscoring.adapters.secondary.repository;
+
+import com.tennisscoring.domain.model.Match;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot files holding every stored match at a point log position.
+ * 保存某一得分日誌位置時所有比賽的快照檔案
+ *
+ * A snapshot starts with the log position from which records still have to
+ * be replayed, followed by each match in the {@link MatchSnapshotCodec}
+ * encoding and a CRC32 of the whole file. It is written to a temporary
+ * file, forced to disk and renamed into place, so a crash leaves either
+ * the previous snapshot or the new one. Older snapshots and temporary
+ * files left by an interrupted write are deleted by the next write.
+ */
+final class MatchSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchSnapshotStore.class);
+
+    private static final int MAGIC = 0x54534E50;
+    private static final int FORMAT = 2;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+
+    MatchSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Load the latest snapshot, if there is one.
+     * 載入最新的快照（如果存在）
+     *
+     * @return the snapshot, or empty if none has been written
+     * @throws IllegalStateException if the snapshot is corrupt
+     */
+    Optional<Snapshot> loadLatest() {
+        try {
+            List<Path> snapshots = listSnapshots();
+            if (snapshots.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(read(snapshots.get(snapshots.size() - 1)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot in " + directory, e);
+        }
+    }
+
+    private Snapshot read(Path path) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE), checksum))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                throw new IllegalStateException("Unsupported snapshot file " + path);
+            }
+            long logPosition = in.readLong();
+            List<Match> matches = new ArrayList<>();
+            while (in.readBoolean()) {
+                matches.add(MatchSnapshotCodec.read(in));
+            }
+            int expected = (int) checksum.getValue();
+            if (in.readInt() != expected) {
+                throw new IllegalStateException("Snapshot file " + path + " is corrupt");
+            }
+            return new Snapshot(logPosition, matches);
+        }
+    }
+
+    /**
+     * Write a snapshot and delete the older ones.
+     * 寫入快照並刪除較舊的快照
+     *
+     * @param logPosition the log position from which records must be replayed on top of the snapshot
+     * @param matchIds the IDs of the matches to include
+     * @param encoder encodes one match, called once per ID in order
+     * @return the number of matches written
+     */
+    int write(long logPosition, Collection<String> matchIds, MatchEncoder encoder) {
+        Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, logPosition, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + TEMPORARY_SUFFIX);
+        int written = 0;
+        try {
+            deleteTemporaryFiles();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), new CRC32());
+                DataOutputStream out = new DataOutputStream(checked);
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeLong(logPosition);
+                for (String matchId : matchIds) {
+                    byte[] match = encoder.encode(matchId);
+                    if (match != null) {
+                        out.writeBoolean(true);
+                        out.write(match);
+                        written++;
+                    }
+                }
+                out.writeBoolean(false);
+                out.writeInt((int) checked.getChecksum().getValue());
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+
+            for (Path snapshot : listSnapshots()) {
+                if (!snapshot.equals(target)) {
+                    Files.delete(snapshot);
+                }
+            }
+            return written;
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("Cannot write snapshot in " + directory, e);
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = new ArrayList<>();
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+            }).forEach(paths::add);
+            paths.sort(Comparator.comparing(path -> path.getFileName().toString()));
+            return paths;
+        }
+    }
+
+    private void deleteTemporaryFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(path -> path.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Make the rename durable. Not every platform can open a directory, which only costs durability of the rename.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.debug("Cannot sync snapshot directory {}", directory, e);
+        }
+    }
+
+    /**
+     * Produces the snapshot encoding of one match.
+     */
+    @FunctionalInterface
+    interface MatchEncoder {
+
+        /**
+         * Encode a match with {@link MatchSnapshotCodec}.
+         * @param matchId the match ID
+         * @return the encoded match, or null if it no longer exists
+         * @throws IOException if the encoding fails
+         */
+        byte[] encode(String matchId) throws IOException;
+    }
+
+    /**
+     * The contents of a snapshot.
+     * @param logPosition the position from which log records must be replayed
+     * @param matches the stored matches
+     */
+    record Snapshot(long logPosition, List<Match> matches) {
+    }
+}
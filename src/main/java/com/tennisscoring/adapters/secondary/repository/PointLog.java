@@ -0,0 +1,500 @@
+package com.tennisscoring.adapters.secondary.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of binary records stored in memory-mapped segment files.
+ * 儲存在記憶體映射區段檔案中的僅附加二進位紀錄日誌
+ *
+ * Each record is framed as {@code [int length][int crc32][payload]} and
+ * written straight into the mapped segment, so an append is a memory copy.
+ * Segments are pre-sized files named by sequence number; when the active
+ * segment cannot hold the next record it is forced to disk and a new one
+ * is mapped. Unwritten space reads as zero, which marks the end of a segment.
+ *
+ * Durability is group-committed: a writer that needs its record on disk
+ * calls {@link #awaitDurable(long)}. The first waiter forces everything
+ * appended so far with one sync, and writers that queued up behind it find
+ * their records already covered, so one sync serves every concurrent writer.
+ *
+ * A log position packs the segment sequence number into the high 32 bits
+ * and the offset within the segment into the low 32 bits, so positions keep
+ * increasing across segments and stay valid when older segments are deleted.
+ *
+ * On open, every record from a start position onwards is handed to a replay
+ * callback in order; segments before it are no longer needed and are
+ * deleted. A torn or corrupt record at the end of the last segment, left by
+ * a crash in the middle of a write, is discarded and overwritten by the
+ * next append.
+ */
+final class PointLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointLog.class);
+
+    static final int MINIMUM_SEGMENT_SIZE = 4096;
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_PREFIX = "points-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = "point-log.lock";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel lockChannel;
+    private final FileLock directoryLock;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final CRC32 checksum = new CRC32();
+
+    // Guarded by appendLock
+    private Segment active;
+    private final NavigableMap<Long, Integer> sealedSegments = new TreeMap<>();
+    private long records;
+    private boolean closed;
+
+    private volatile long durablePosition;
+    private volatile long syncs;
+
+    private PointLog(Path directory, int segmentSize, FileChannel lockChannel, FileLock directoryLock) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.lockChannel = lockChannel;
+        this.directoryLock = directoryLock;
+    }
+
+    /**
+     * Open the log in a directory, replaying the records from a position onwards.
+     * 開啟目錄中的日誌並重播指定位置之後的紀錄
+     *
+     * @param directory the directory holding the segment files, created if missing
+     * @param segmentSize the size of new segment files in bytes
+     * @param fromPosition the position of the first record to replay, or 0 for all records
+     * @param replay receives the payload of each record, in append order
+     * @return the opened log, positioned after the last valid record
+     * @throws UncheckedIOException if the segments cannot be read or created
+     * @throws IllegalStateException if a segment other than the last is corrupt
+     */
+    static PointLog open(Path directory, int segmentSize, long fromPosition, Consumer<ByteBuffer> replay) {
+        if (segmentSize < MINIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + MINIMUM_SEGMENT_SIZE + " bytes");
+        }
+        try {
+            Files.createDirectories(directory);
+            FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock directoryLock;
+            try {
+                directoryLock = lockChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                directoryLock = null;
+            }
+            if (directoryLock == null) {
+                lockChannel.close();
+                throw new IllegalStateException("Point log directory is already in use: " + directory);
+            }
+
+            PointLog log = new PointLog(directory, segmentSize, lockChannel, directoryLock);
+            try {
+                log.recover(fromPosition, replay);
+            } catch (IOException | RuntimeException e) {
+                lockChannel.close();
+                throw e;
+            }
+            return log;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open point log in " + directory, e);
+        }
+    }
+
+    /**
+     * Replay the existing segments and position the log for appending.
+     */
+    private void recover(long fromPosition, Consumer<ByteBuffer> replay) throws IOException {
+        long fromSegment = segmentOf(fromPosition);
+        List<Path> paths = new ArrayList<>();
+        for (Path path : listSegments()) {
+            if (sequenceOf(path) < fromSegment) {
+                // Left behind by a compaction that did not finish
+                Files.delete(path);
+            } else {
+                paths.add(path);
+            }
+        }
+
+        Segment last = null;
+        for (int i = 0; i < paths.size(); i++) {
+            Path path = paths.get(i);
+            long sequence = sequenceOf(path);
+            Segment segment = mapSegment(path, sequence);
+            int end = replaySegment(segment, sequence == fromSegment ? offsetOf(fromPosition) : 0, replay);
+            boolean lastSegment = i == paths.size() - 1;
+            if (end < 0) {
+                int corruptAt = -end - 1;
+                if (!lastSegment) {
+                    throw new IllegalStateException(
+                            "Point log segment " + path + " is corrupt at offset " + corruptAt);
+                }
+                logger.warn("Discarding torn record at offset {} of point log segment {}", corruptAt, path);
+                zeroFrom(segment.buffer, corruptAt);
+                segment.buffer.force();
+                end = corruptAt;
+            }
+            segment.position = end;
+            segment.forcedPosition = end;
+            if (last != null) {
+                sealedSegments.put(last.sequence, last.position);
+            }
+            last = segment;
+        }
+
+        long firstSequence = Math.max(fromSegment, 1);
+        active = last != null ? last : mapSegment(segmentPath(firstSequence), firstSequence);
+        durablePosition = position(active.sequence, active.position);
+        logger.info("Opened point log in {}: {} segments, {} records replayed",
+                directory, sealedSegments.size() + 1, records);
+    }
+
+    /**
+     * Hand each valid record of a segment, from an offset onwards, to the replay callback.
+     * @return the offset after the last record, or {@code -(offset + 1)} of a corrupt record
+     */
+    private int replaySegment(Segment segment, int fromOffset, Consumer<ByteBuffer> replay) {
+        ByteBuffer buffer = segment.buffer;
+        int capacity = buffer.capacity();
+        int offset = 0;
+        while (offset + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > capacity - offset - HEADER_SIZE) {
+                return -(offset + 1);
+            }
+            ByteBuffer payload = buffer.slice(offset + HEADER_SIZE, length);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != buffer.getInt(offset + 4)) {
+                return -(offset + 1);
+            }
+            if (offset >= fromOffset) {
+                replay.accept(payload.asReadOnlyBuffer());
+                records++;
+            }
+            offset += HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    /**
+     * Append a record. Safe to call from any thread.
+     * 附加一筆紀錄，可由任何執行緒呼叫
+     *
+     * The record is visible to the operating system on return but not
+     * necessarily on disk; pass the returned position to
+     * {@link #awaitDurable(long)} for that.
+     *
+     * @param payload the record payload
+     * @return the log position just after the record
+     */
+    long append(byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (payload.length == 0 || recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit a segment");
+        }
+
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Point log is closed");
+            }
+            if (active.buffer.capacity() - active.position < recordSize) {
+                roll();
+            }
+
+            MappedByteBuffer buffer = active.buffer;
+            int offset = active.position;
+            checksum.reset();
+            checksum.update(payload);
+            buffer.put(offset + HEADER_SIZE, payload);
+            buffer.putInt(offset + 4, (int) checksum.getValue());
+            // The length goes last, so a record cut off before it reads as the end of the log
+            buffer.putInt(offset, payload.length);
+
+            active.position = offset + recordSize;
+            records++;
+            return position(active.sequence, active.position);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Seal the active segment and start the next one. Called with the append lock held.
+     */
+    private void roll() {
+        active.buffer.force();
+        long sequence = active.sequence + 1;
+        Segment next;
+        try {
+            next = mapSegment(segmentPath(sequence), sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create point log segment " + sequence, e);
+        }
+        sealedSegments.put(active.sequence, active.position);
+        active = next;
+    }
+
+    /**
+     * Get the position after the last appended record.
+     * 取得最後一筆已附加紀錄之後的位置
+     *
+     * @return the current end of the log
+     */
+    long position() {
+        appendLock.lock();
+        try {
+            return position(active.sequence, active.position);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Delete the sealed segments that hold only records before a position.
+     * 刪除只包含指定位置之前紀錄的已封存區段
+     *
+     * @param position a position whose earlier records are no longer needed
+     * @return the number of segments deleted
+     */
+    int deleteSegmentsBefore(long position) {
+        List<Long> obsolete;
+        appendLock.lock();
+        try {
+            NavigableMap<Long, Integer> before = sealedSegments.headMap(segmentOf(position), false);
+            obsolete = new ArrayList<>(before.keySet());
+            before.clear();
+        } finally {
+            appendLock.unlock();
+        }
+
+        for (Long sequence : obsolete) {
+            try {
+                Files.deleteIfExists(segmentPath(sequence));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete point log segment " + sequence, e);
+            }
+        }
+        return obsolete.size();
+    }
+
+    /**
+     * Wait until everything up to a log position is on disk.
+     * 等待日誌位置之前的所有紀錄寫入磁碟
+     *
+     * Concurrent callers share a single sync: whoever gets the sync lock
+     * forces everything appended so far, and the others return as soon as
+     * they see their position covered.
+     *
+     * @param position a position returned by {@link #append(byte[])}
+     */
+    void awaitDurable(long position) {
+        if (durablePosition >= position) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (durablePosition >= position) {
+                return;
+            }
+
+            Segment segment;
+            int end;
+            long target;
+            appendLock.lock();
+            try {
+                segment = active;
+                end = segment.position;
+                target = position(segment.sequence, end);
+            } finally {
+                appendLock.unlock();
+            }
+
+            // Earlier segments were forced when they were sealed
+            int start = segment.forcedPosition;
+            if (end > start) {
+                segment.buffer.force(start, end - start);
+                segment.forcedPosition = end;
+            }
+            syncs++;
+            durablePosition = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Force the active segment and release the directory.
+     * 將使用中的區段寫入磁碟並釋放目錄
+     */
+    @Override
+    public void close() {
+        syncLock.lock();
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.buffer.force();
+            durablePosition = position(active.sequence, active.position);
+            directoryLock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close point log in " + directory, e);
+        } finally {
+            appendLock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of records appended or replayed since the log was opened.
+     * @return the record count
+     */
+    long getRecordCount() {
+        appendLock.lock();
+        try {
+            return records;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of group-commit syncs performed.
+     * @return the sync count
+     */
+    long getSyncCount() {
+        return syncs;
+    }
+
+    /**
+     * Get the number of segment files.
+     * @return the segment count
+     */
+    int getSegmentCount() {
+        appendLock.lock();
+        try {
+            return sealedSegments.size() + 1;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Get the total number of bytes in the log.
+     * @return the log size in bytes
+     */
+    long getSize() {
+        appendLock.lock();
+        try {
+            long size = active.position;
+            for (int sealed : sealedSegments.values()) {
+                size += sealed;
+            }
+            return size;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = new ArrayList<>();
+            files.filter(PointLog::isSegment).forEach(paths::add);
+            paths.sort(Comparator.comparingLong(PointLog::sequenceOf));
+            return paths;
+        }
+    }
+
+    private Segment mapSegment(Path path, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            long size = existing >= HEADER_SIZE ? existing : segmentSize;
+            return new Segment(sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long position(long sequence, int offset) {
+        return (sequence << 32) | offset;
+    }
+
+    private static long segmentOf(long position) {
+        return position >>> 32;
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    private static void zeroFrom(MappedByteBuffer buffer, int offset) {
+        for (int i = offset; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * A mapped segment file with its write and sync positions.
+     */
+    private static final class Segment {
+
+        private final long sequence;
+        private final MappedByteBuffer buffer;
+        // Guarded by appendLock
+        private int position;
+        // Guarded by syncLock
+        private int forcedPosition;
+
+        private Segment(long sequence, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.buffer = buffer;
+        }
+    }
+}
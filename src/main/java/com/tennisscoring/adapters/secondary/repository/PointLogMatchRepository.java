@@ -0,0 +1,605 @@
+package com.tennisscoring.adapters.secondary.repository;
+
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchId;
+import com.tennisscoring.domain.model.MatchStatus;
+import com.tennisscoring.domain.model.Player;
+import com.tennisscoring.domain.model.PlayerId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable implementation of MatchRepositoryPort backed by an append-only point log.
+ * 以僅附加得分日誌為後盾的持久化比賽儲存庫實作
+ *
+ * Every save appends what changed since the match was last saved as compact
+ * binary records in a memory-mapped {@link PointLog}: one record when the
+ * match is created, one 26-byte record per point, and one when it is
+ * completed, cancelled or deleted. Undone points are logged as one record
+ * holding the number of points kept, followed by the points that replace
+ * them. The save returns once the records are
+ * on disk; concurrent saves share one sync through group commit, so
+ * throughput is bounded by the disk's sync rate rather than by one sync
+ * per point.
+ *
+ * Reads are served by an {@link InMemoryMatchRepository} that holds the
+ * live matches and their indexes. On startup every match that was not
+ * deleted is rebuilt with the same scores, versions and timestamps it had
+ * before the restart.
+ *
+ * A {@link #snapshot()} writes the state of every match to a snapshot
+ * file and deletes the log segments it covers, so matches that have
+ * finished no longer cost anything on startup and restart time is bounded
+ * by the number of stored matches rather than by the points ever scored.
+ * The snapshot is taken while scoring goes on: each match is copied under
+ * its scoring lock, and records appended after the snapshot started are
+ * replayed on top of it. Point, undo and cancel records carry the match
+ * version, so a record the snapshot already covers is skipped.
+ *
+ * Saves and deletes of one match take the match's lock from
+ * {@link StripedMatchLocks}, the one its scoring already holds, so the
+ * version check for {@link #saveIfVersion} and the appends, which may map
+ * a new segment file, never run inside a map compute that would block
+ * other matches. A saved match is visible to readers shortly before its
+ * records are durable.
+ *
+ * Requirements: 1.3, 9.4
+ */
+public class PointLogMatchRepository extends BaseMatchRepository implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointLogMatchRepository.class);
+
+    private static final byte MATCH_CREATED = 1;
+    private static final byte POINT_SCORED = 2;
+    private static final byte MATCH_COMPLETED = 3;
+    private static final byte MATCH_CANCELLED = 4;
+    private static final byte MATCH_DELETED = 5;
+    private static final byte POINTS_UNDONE = 6;
+
+    private static final int ID_SIZE = 16;
+    private static final int TIME_SIZE = 12;
+
+    private final InMemoryMatchRepository matches = new InMemoryMatchRepository();
+    private final ConcurrentHashMap<String, LoggedMatch> logged = new ConcurrentHashMap<>();
+    private final PointLog log;
+    private final MatchSnapshotStore snapshots;
+    private final StripedMatchLocks matchLocks;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    // Guarded by this
+    private long snapshotPosition;
+
+    private volatile long snapshotCount;
+    private volatile int snapshotMatches;
+
+    /**
+     * Open the repository without periodic snapshots.
+     * 開啟儲存庫（不定期建立快照）
+     *
+     * @param directory the directory holding the log segments
+     * @param segmentSize the size of each segment file in bytes
+     */
+    public PointLogMatchRepository(Path directory, int segmentSize) {
+        this(directory, segmentSize, new StripedMatchLocks(), Duration.ZERO);
+    }
+
+    /**
+     * Open the repository, rebuilding every match from the latest snapshot and the log.
+     * 開啟儲存庫，從最新快照與日誌重建所有比賽
+     *
+     * @param directory the directory holding the log segments and snapshots
+     * @param segmentSize the size of each segment file in bytes
+     * @param matchLocks the locks held while matches are scored, so each match is copied between points
+     * @param snapshotInterval the time between snapshots, or zero to snapshot only on demand
+     */
+    public PointLogMatchRepository(Path directory, int segmentSize, StripedMatchLocks matchLocks,
+                                   Duration snapshotInterval) {
+        if (snapshotInterval.isNegative()) {
+            throw new IllegalArgumentException("Snapshot interval must not be negative");
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create point log directory " + directory, e);
+        }
+        this.matchLocks = matchLocks;
+        this.snapshots = new MatchSnapshotStore(directory);
+
+        Map<String, Match> restored = new LinkedHashMap<>();
+        Optional<MatchSnapshotStore.Snapshot> snapshot = snapshots.loadLatest();
+        long fromPosition = 0;
+        if (snapshot.isPresent()) {
+            fromPosition = snapshot.get().logPosition();
+            for (Match match : snapshot.get().matches()) {
+                restored.put(match.getMatchId(), match);
+            }
+        }
+        boolean fromSnapshot = snapshot.isPresent();
+        this.log = PointLog.open(directory, segmentSize, fromPosition, record -> replay(record, restored, fromSnapshot));
+        this.snapshotPosition = fromPosition;
+
+        for (Match match : restored.values()) {
+            matches.save(match);
+            logged.put(match.getMatchId(), LoggedMatch.of(match));
+        }
+        logger.info("Restored {} matches from point log ({} from snapshot)",
+                restored.size(), snapshot.map(loaded -> loaded.matches().size()).orElse(0));
+
+        if (snapshotInterval.isZero()) {
+            this.snapshotScheduler = null;
+        } else {
+            this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "point-log-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = snapshotInterval.toMillis();
+            snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Match doSave(Match match) {
+        String matchId = match.getMatchId();
+        long position = matchLocks.withLock(matchId, () -> {
+            long appended = append(match, logged.get(matchId));
+            matches.save(match);
+            logged.put(matchId, LoggedMatch.of(match));
+            return appended;
+        });
+        log.awaitDurable(position);
+        return match;
+    }
+
+    @Override
+    protected boolean doSaveIfVersion(Match match, long expectedVersion) {
+        String matchId = match.getMatchId();
+        long position = matchLocks.withLock(matchId, () -> {
+            LoggedMatch previous = logged.get(matchId);
+            if (previous == null || previous.version() != expectedVersion) {
+                return -1L;
+            }
+            long appended = append(match, previous);
+            matches.save(match);
+            logged.put(matchId, LoggedMatch.of(match));
+            return appended;
+        });
+        if (position < 0) {
+            return false;
+        }
+        log.awaitDurable(position);
+        return true;
+    }
+
+    @Override
+    protected Optional<Match> doFindById(String matchId) {
+        return matches.findById(matchId);
+    }
+
+    @Override
+    public List<Match> findAll() {
+        return matches.findAll();
+    }
+
+    @Override
+    protected void doDeleteById(String matchId) {
+        long position = matchLocks.withLock(matchId, () -> {
+            if (!logged.containsKey(matchId)) {
+                return 0L;
+            }
+            long appended = log.append(encode(MATCH_DELETED, matchId, 0).array());
+            matches.deleteById(matchId);
+            logged.remove(matchId);
+            return appended;
+        });
+        log.awaitDurable(position);
+    }
+
+    @Override
+    protected boolean doExistsById(String matchId) {
+        return matches.existsById(matchId);
+    }
+
+    @Override
+    protected List<Match> doFindByStatus(MatchStatus status) {
+        return matches.findByStatus(status);
+    }
+
+    @Override
+    protected List<Match> doFindPage(MatchStatus status, String afterMatchId, int limit) {
+        return matches.findPage(status, afterMatchId, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count() {
+        return matches.count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countByStatus(MatchStatus status) {
+        return matches.countByStatus(status);
+    }
+
+    /**
+     * Get a snapshot of the log's metrics.
+     * 取得日誌指標的快照
+     *
+     * @return the current metrics
+     */
+    public Metrics getMetrics() {
+        return new Metrics(log.getRecordCount(), log.getSyncCount(), log.getSegmentCount(), log.getSize(),
+                snapshotCount, snapshotMatches);
+    }
+
+    /**
+     * Write a snapshot of every stored match and delete the log segments it covers.
+     * 為所有已儲存比賽寫入快照並刪除其涵蓋的日誌區段
+     *
+     * Scoring and saves go on while the snapshot is written. Nothing is
+     * written if the log has not grown since the last snapshot.
+     *
+     * @return true if a snapshot was written
+     * @throws UncheckedIOException if the snapshot cannot be written
+     */
+    public synchronized boolean snapshot() {
+        long position = log.position();
+        if (position == snapshotPosition) {
+            return false;
+        }
+
+        List<String> matchIds = new ArrayList<>(logged.keySet());
+        int written = snapshots.write(position, matchIds, this::encodeSnapshot);
+        int deleted = log.deleteSegmentsBefore(position);
+
+        snapshotPosition = position;
+        snapshotCount++;
+        snapshotMatches = written;
+        logger.debug("Wrote snapshot of {} matches, deleted {} log segments", written, deleted);
+        return true;
+    }
+
+    /**
+     * Snapshot if needed, then flush the log and release its directory.
+     * 視需要建立快照，然後將日誌寫入磁碟並釋放目錄
+     */
+    @Override
+    public void close() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+            try {
+                if (!snapshotScheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                    logger.warn("Point log snapshot still running at shutdown");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            snapshot();
+        }
+        log.close();
+    }
+
+    @Override
+    public String getRepositoryType() {
+        return "POINT_LOG";
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            logger.error("Point log snapshot failed", e);
+        }
+    }
+
+    /**
+     * Encode one match as the log holds it, under the lock its scoring takes.
+     * @return the encoded match, or null if it was deleted
+     */
+    private byte[] encodeSnapshot(String matchId) {
+        return matchLocks.withLock(matchId, () -> {
+            LoggedMatch state = logged.get(matchId);
+            if (state == null) {
+                return null;
+            }
+            Match match = matches.findById(matchId).orElseThrow();
+            long version = state.version();
+            if (match.getVersion() != version) {
+                // Changed in place by a save that has not happened, or did not succeed
+                if (match.getUnchangedPointCount(state.version()) >= state.points()) {
+                    match = rebuild(match, state);
+                } else {
+                    logger.warn("Match {} has unsaved undone points, snapshotting its current state", matchId);
+                    version = match.getVersion();
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            try {
+                MatchSnapshotCodec.write(new DataOutputStream(bytes), match, version);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        });
+    }
+
+    /**
+     * Rebuild a match as it was when last saved, from the start of its point history.
+     * Its version is the number of points scored and has to be taken from the log state.
+     */
+    private static Match rebuild(Match match, LoggedMatch state) {
+        Match saved = Match.restore(MatchId.of(match.getMatchId()),
+                Player.create(match.getPlayer1().getPlayerId(), match.getPlayer1().getName()),
+                Player.create(match.getPlayer2().getPlayerId(), match.getPlayer2().getName()),
+                match.getCreatedAt());
+        if (match.getScoringStrategyType() != null) {
+            saved.selectScoringStrategy(match.getScoringStrategyType());
+        }
+        for (int point = 0; point < state.points(); point++) {
+            saved.scorePoint(match.getPointWinner(point));
+        }
+        if (state.status() == MatchStatus.CANCELLED) {
+            saved.cancel();
+        }
+        if (!saved.isInProgress() && match.getCompletedAt() != null) {
+            saved.restoreCompletedAt(match.getCompletedAt());
+        }
+        return saved;
+    }
+
+    /**
+     * Append the records for everything that changed since the last save.
+     * Runs under the lock for the match ID.
+     * @return the log position after the last record, or 0 if nothing changed
+     * @throws IllegalStateException if the changes do not account for the match's new version
+     */
+    private long append(Match match, LoggedMatch previous) {
+        String matchId = match.getMatchId();
+        long position = 0;
+        long version = 0;
+        int loggedPoints = 0;
+        MatchStatus loggedStatus = MatchStatus.IN_PROGRESS;
+        if (previous == null) {
+            position = log.append(encodeCreated(match));
+        } else {
+            version = previous.version();
+            loggedPoints = previous.points();
+            loggedStatus = previous.status();
+        }
+
+        // Each point and the cancellation take one version; anything before them went to undos
+        int kept = Math.min(loggedPoints, match.getUnchangedPointCount(version));
+        boolean cancelled = match.isCancelled() && loggedStatus != MatchStatus.CANCELLED;
+        int points = match.getPointCount();
+        long undoneVersion = match.getVersion() - (points - kept) - (cancelled ? 1 : 0);
+        boolean undone = undoneVersion > version;
+        if (undoneVersion < version || (kept < loggedPoints && !undone)) {
+            throw new IllegalStateException("Changes to match " + matchId + " from version " + version
+                    + " to " + match.getVersion() + " cannot be logged");
+        }
+        if (undone) {
+            // Undos of points never saved leave the kept points as logged but still take versions
+            ByteBuffer record = encode(POINTS_UNDONE, matchId, 12);
+            record.putInt(kept);
+            record.putLong(undoneVersion);
+            version = undoneVersion;
+            position = log.append(record.array());
+        }
+        for (int point = kept; point < points; point++) {
+            ByteBuffer record = encode(POINT_SCORED, matchId, 9);
+            record.putLong(++version);
+            record.put(match.getPointWinner(point).equals(match.getPlayer1().getPlayerId()) ? (byte) 0 : (byte) 1);
+            position = log.append(record.array());
+        }
+
+        if (!match.isInProgress() && (match.getStatus() != loggedStatus || undone)) {
+            ByteBuffer record;
+            if (match.isCompleted()) {
+                record = encode(MATCH_COMPLETED, matchId, TIME_SIZE);
+            } else {
+                record = encode(MATCH_CANCELLED, matchId, 8 + TIME_SIZE);
+                record.putLong(match.getVersion());
+            }
+            putTime(record, match.getCompletedAt());
+            position = log.append(record.array());
+        }
+        return position;
+    }
+
+    private static byte[] encodeCreated(Match match) {
+        byte[] player1Name = utf8(match.getPlayer1().getName());
+        byte[] player2Name = utf8(match.getPlayer2().getName());
+        byte[] strategy = utf8(match.getScoringStrategyType());
+        ByteBuffer record = encode(MATCH_CREATED, match.getMatchId(),
+                TIME_SIZE + 2 * ID_SIZE + 6 + player1Name.length + player2Name.length + strategy.length);
+        putTime(record, match.getCreatedAt());
+        putId(record, match.getPlayer1().getPlayerId().getValue());
+        putId(record, match.getPlayer2().getPlayerId().getValue());
+        putString(record, player1Name);
+        putString(record, player2Name);
+        putString(record, strategy);
+        return record.array();
+    }
+
+    /**
+     * Allocate a record and write its type and match ID.
+     */
+    private static ByteBuffer encode(byte type, String matchId, int bodySize) {
+        ByteBuffer record = ByteBuffer.allocate(1 + ID_SIZE + bodySize);
+        record.put(type);
+        putId(record, matchId);
+        return record;
+    }
+
+    /**
+     * Apply one replayed record to the matches being restored.
+     * After a snapshot, the records of matches it already covers are skipped,
+     * and so are those of matches deleted before they could be copied.
+     */
+    private static void replay(ByteBuffer record, Map<String, Match> restored, boolean fromSnapshot) {
+        byte type = record.get();
+        String matchId = getId(record);
+        if (type == MATCH_CREATED) {
+            if (fromSnapshot && restored.containsKey(matchId)) {
+                return;
+            }
+            LocalDateTime createdAt = getTime(record);
+            PlayerId player1Id = PlayerId.of(getId(record));
+            PlayerId player2Id = PlayerId.of(getId(record));
+            Player player1 = Player.create(player1Id, getString(record));
+            Player player2 = Player.create(player2Id, getString(record));
+            Match match = Match.restore(MatchId.of(matchId), player1, player2, createdAt);
+            String strategy = getString(record);
+            if (!strategy.isEmpty()) {
+                match.selectScoringStrategy(strategy);
+            }
+            restored.put(matchId, match);
+            return;
+        }
+
+        Match match = restored.get(matchId);
+        if (match == null) {
+            if (fromSnapshot) {
+                return;
+            }
+            throw new IllegalStateException("Point log record " + type + " refers to unknown match " + matchId);
+        }
+        switch (type) {
+            case POINT_SCORED -> {
+                long version = record.getLong();
+                if (version <= match.getVersion()) {
+                    return;
+                }
+                if (version != match.getVersion() + 1) {
+                    throw new IllegalStateException("Point log is missing points of match " + matchId
+                            + " between versions " + match.getVersion() + " and " + version);
+                }
+                match.scorePoint(record.get() == 0
+                        ? match.getPlayer1().getPlayerId()
+                        : match.getPlayer2().getPlayerId());
+            }
+            case MATCH_COMPLETED -> {
+                // A snapshot may hold the match after a later undo reopened it
+                if (match.isCompleted()) {
+                    match.restoreCompletedAt(getTime(record));
+                }
+            }
+            case POINTS_UNDONE -> {
+                int kept = record.getInt();
+                long version = record.getLong();
+                if (version <= match.getVersion()) {
+                    return;
+                }
+                if (kept > match.getPointCount()) {
+                    throw new IllegalStateException("Point log is missing points of match " + matchId
+                            + " before version " + version);
+                }
+                if (kept < match.getPointCount()) {
+                    match.undoLastPoints(match.getPointCount() - kept, null);
+                }
+                match.restoreVersion(version);
+            }
+            case MATCH_CANCELLED -> {
+                if (record.getLong() <= match.getVersion()) {
+                    return;
+                }
+                match.cancel();
+                match.restoreCompletedAt(getTime(record));
+            }
+            case MATCH_DELETED -> restored.remove(matchId);
+            default -> throw new IllegalStateException("Unknown point log record type " + type);
+        }
+    }
+
+    private static void putId(ByteBuffer record, String id) {
+        UUID uuid = UUID.fromString(id);
+        record.putLong(uuid.getMostSignificantBits());
+        record.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static String getId(ByteBuffer record) {
+        return new UUID(record.getLong(), record.getLong()).toString();
+    }
+
+    private static void putTime(ByteBuffer record, LocalDateTime time) {
+        record.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        record.putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer record) {
+        return LocalDateTime.ofEpochSecond(record.getLong(), record.getInt(), ZoneOffset.UTC);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static void putString(ByteBuffer record, byte[] value) {
+        record.putShort((short) value.length);
+        record.put(value);
+    }
+
+    private static String getString(ByteBuffer record) {
+        byte[] value = new byte[record.getShort() & 0xFFFF];
+        record.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Point log metrics at one point in time.
+     * 得分日誌在某一時間點的指標
+     *
+     * @param records records in the log
+     * @param syncs group-commit syncs since startup
+     * @param segments segment files
+     * @param bytes bytes written to the log
+     * @param snapshots snapshots written since startup
+     * @param snapshotMatches matches in the last snapshot written since startup
+     */
+    public record Metrics(long records, long syncs, int segments, long bytes, long snapshots, int snapshotMatches) {
+    }
+
+    /**
+     * What the log holds for a match: its version, points and status at the last save.
+     */
+    private record LoggedMatch(long version, int points, MatchStatus status) {
+
+        static LoggedMatch of(Match match) {
+            return new LoggedMatch(match.getVersion(), match.getPointCount(), match.getStatus());
+        }
+    }
+}
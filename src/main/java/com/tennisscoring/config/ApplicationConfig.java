@@ -1,11 +1,26 @@
 package com.tennisscoring.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.secondary.event.AsyncBatchingEventPublisher;
+import com.tennisscoring.adapters.secondary.event.BackpressurePolicy;
+import com.tennisscoring.adapters.secondary.event.BaseEventPublisher;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
 import com.tennisscoring.adapters.secondary.event.NoOpEventPublisher;
 import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
-import com.tennisscoring.ports.secondary.EventPublisherPort;
+import com.tennisscoring.adapters.secondary.repository.PointLogMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
 import com.tennisscoring.ports.secondary.MatchRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
 
 /**
  * Application configuration for dependency injection.
@@ -18,21 +33,101 @@ public class ApplicationConfig {
      * Configure the match repository implementation.
      * 配置比賽資料庫實作
      * 
+     * IN_MEMORY keeps matches in memory only. POINT_LOG also appends every
+     * point to a memory-mapped log, snapshots all matches periodically and
+     * rebuilds the matches on startup.
+     * 
+     * @param repositoryType the repository type (IN_MEMORY or POINT_LOG)
+     * @param directory the point log directory
+     * @param segmentSizeMb the point log segment size in megabytes
+     * @param snapshotIntervalSeconds the time between point log snapshots, or 0 to disable them
+     * @param matchLocks the locks taken while scoring
      * @return the match repository implementation
      */
     @Bean
-    public MatchRepositoryPort matchRepository() {
-        return new InMemoryMatchRepository();
+    public MatchRepositoryPort matchRepository(
+            @Value("${tennis-scoring.persistence.repository:IN_MEMORY}") String repositoryType,
+            @Value("${tennis-scoring.persistence.point-log.directory:data/point-log}") String directory,
+            @Value("${tennis-scoring.persistence.point-log.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${tennis-scoring.persistence.point-log.snapshot-interval-seconds:300}") long snapshotIntervalSeconds,
+            StripedMatchLocks matchLocks) {
+        
+        return switch (repositoryType.toUpperCase(Locale.ROOT)) {
+            case "IN_MEMORY" -> new InMemoryMatchRepository();
+            case "POINT_LOG" -> new PointLogMatchRepository(Path.of(directory), toSegmentSize(segmentSizeMb),
+                    matchLocks, Duration.ofSeconds(snapshotIntervalSeconds));
+            default -> throw new IllegalStateException("Unsupported match repository: " + repositoryType);
+        };
+    }
+    
+    /**
+     * Convert the configured segment size to bytes.
+     * 將設定的區段大小轉換為位元組
+     * 
+     * A segment is mapped as one buffer, so it has to stay below 2 GB.
+     * 
+     * @param segmentSizeMb the segment size in megabytes
+     * @return the segment size in bytes
+     * @throws IllegalStateException if the size does not fit in one mapped buffer
+     */
+    private static int toSegmentSize(int segmentSizeMb) {
+        long segmentSize = segmentSizeMb * 1024L * 1024L;
+        if (segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Point log segment size must be below 2048 MB: " + segmentSizeMb);
+        }
+        return (int) segmentSize;
+    }
+    
+    /**
+     * Configure the publisher that streams score updates to live subscribers.
+     * 配置將比分更新串流給即時訂閱者的發布器
+     * 
+     * @param objectMapper the mapper serializing the stream updates
+     * @return the match stream publisher, which logs every event as well
+     */
+    @Bean
+    public MatchStreamPublisher matchStreamPublisher(ObjectMapper objectMapper) {
+        return new MatchStreamPublisher(new NoOpEventPublisher(), objectMapper);
     }
     
     /**
      * Configure the event publisher implementation.
      * 配置事件發布器實作
      * 
+     * NO_OP logs each event on the request thread. ASYNC queues events and
+     * logs them in batches on a background thread, which is a virtual thread
+     * when {@code spring.threads.virtual.enabled} is set on Java 21 or later.
+     * Either way the events pass through the match stream publisher, so with
+     * ASYNC live score streams are fed from the background thread.
+     * 
+     * @param publisherType the publisher type (NO_OP or ASYNC)
+     * @param capacity the async queue capacity
+     * @param batchSize the async delivery batch size
+     * @param backpressure the async backpressure policy
+     * @param sampleRate the async point event sample rate
+     * @param environment the environment telling whether virtual threads are enabled
+     * @param matchStreamPublisher the publisher feeding the live score streams
      * @return the event publisher implementation
      */
     @Bean
-    public EventPublisherPort eventPublisher() {
-        return new NoOpEventPublisher();
+    @Primary
+    public BaseEventPublisher eventPublisher(
+            @Value("${tennis-scoring.events.publisher:NO_OP}") String publisherType,
+            @Value("${tennis-scoring.events.async.capacity:8192}") int capacity,
+            @Value("${tennis-scoring.events.async.batch-size:256}") int batchSize,
+            @Value("${tennis-scoring.events.async.backpressure:BLOCK}") BackpressurePolicy backpressure,
+            @Value("${tennis-scoring.events.async.sample-rate:10}") int sampleRate,
+            Environment environment,
+            MatchStreamPublisher matchStreamPublisher) {
+        
+        return switch (publisherType.toUpperCase(Locale.ROOT)) {
+            case "NO_OP" -> matchStreamPublisher;
+            case "ASYNC" -> Threading.VIRTUAL.isActive(environment)
+                    ? new AsyncBatchingEventPublisher(matchStreamPublisher, capacity, batchSize, backpressure,
+                            sampleRate, new VirtualThreadTaskExecutor("event-publisher-").getVirtualThreadFactory())
+                    : new AsyncBatchingEventPublisher(
+                            matchStreamPublisher, capacity, batchSize, backpressure, sampleRate);
+            default -> throw new IllegalStateException("Unsupported event publisher: " + publisherType);
+        };
     }
 }
\ No newline at end of file
@@ -1,14 +1,26 @@
 package com.tennisscoring.config;
 
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
 import com.tennisscoring.domain.service.*;
 import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.strategy.ScoringStrategyRegistry;
 
 import com.tennisscoring.ports.secondary.MatchRepositoryPort;
 import com.tennisscoring.ports.secondary.MatchEventPublisherPort;
 import com.tennisscoring.ports.secondary.GameEventPublisherPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Configuration class for domain service dependency injection.
@@ -31,6 +43,8 @@ public class DomainServiceConfiguration {
      * @param eventService the event service
      * @param matchFactory the match factory registry
      * @param validationService the validation service
+     * @param matchLocks the per-match locks
+     * @param matchBatchExecutor the executor scoring the matches of a feed batch
      * @return the match service implementation
      */
     @Bean
@@ -40,29 +54,92 @@ public class DomainServiceConfiguration {
             ScoringDomainService scoringService,
             MatchEventService eventService,
             MatchFactoryRegistry matchFactory,
-            ValidationService validationService) {
+            ValidationService validationService,
+            StripedMatchLocks matchLocks,
+            Executor matchBatchExecutor) {
         
         return new MatchDomainService(
             matchRepository,
             scoringService,
             eventService,
             matchFactory,
-            validationService
+            validationService,
+            matchLocks,
+            matchBatchExecutor
         );
     }
     
+    /**
+     * Configure the executor that scores the matches of a feed batch in parallel.
+     * 配置平行為批次中各比賽計分的執行器
+     * 
+     * By default a bounded pool: once every thread is busy and the queue is
+     * full, the request thread scores the next match itself, which slows the
+     * feed down instead of rejecting its points. With
+     * {@code spring.threads.virtual.enabled} on Java 21 or later, every match
+     * gets its own virtual thread instead; the match locks are
+     * {@code ReentrantLock}s, so a match waiting for its lock does not pin a
+     * carrier thread.
+     * 
+     * @param threads the number of pool threads (0 or less for one per available processor)
+     * @param queueCapacity the number of matches that may wait for a pool thread
+     * @param environment the environment telling whether virtual threads are enabled
+     * @return the batch executor
+     */
+    @Bean
+    public Executor matchBatchExecutor(
+            @Value("${tennis-scoring.concurrency.batch-threads:0}") int threads,
+            @Value("${tennis-scoring.concurrency.batch-queue-capacity:1024}") int queueCapacity,
+            Environment environment) {
+        
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("match-batch-");
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "match-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    /**
+     * Configure the per-match locks that serialize concurrent mutations.
+     * 配置序列化同一比賽並行變更的比賽鎖
+     * 
+     * @param lockStripes the number of lock stripes (0 or less for automatic sizing)
+     * @return the match locks
+     */
+    @Bean
+    public StripedMatchLocks matchLocks(
+            @Value("${tennis-scoring.concurrency.lock-stripes:0}") int lockStripes) {
+        
+        return lockStripes > 0 ? new StripedMatchLocks(lockStripes) : new StripedMatchLocks();
+    }
+    
     /**
      * Configure the primary scoring service implementation.
      * 配置主要的計分服務實作
      * 
      * @param validationService the validation service
      * @param strategyRegistry the scoring strategy registry
+     * @param defaultStrategyType the strategy used by matches without a selection
      * @return the scoring service implementation
      */
     @Bean
     @Primary
-    public ScoringDomainService scoringService(ValidationService validationService) {
-        return new ScoringDomainService(validationService);
+    public ScoringDomainService scoringService(
+            ValidationService validationService,
+            ScoringStrategyRegistry strategyRegistry,
+            @Value("${tennis-scoring.scoring.strategy:#{null}}") String defaultStrategyType) {
+        
+        return new ScoringDomainService(validationService, strategyRegistry, defaultStrategyType);
     }
     
     /**
@@ -70,7 +147,6 @@ public class DomainServiceConfiguration {
      * 配置主要的統計服務實作
      * 
      * @param matchRepository the match repository
-     * @param scoringService the scoring service
      * @param validationService the validation service
      * @return the statistics service implementation
      */
@@ -78,12 +154,10 @@ public class DomainServiceConfiguration {
     @Primary
     public StatisticsService statisticsService(
             MatchRepositoryPort matchRepository,
-            ScoringDomainService scoringService,
             ValidationService validationService) {
         
         return new MatchStatisticsService(
             matchRepository,
-            scoringService,
             validationService
         );
     }
@@ -0,0 +1,122 @@
+package com.tennisscoring.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.adapters.primary.reactive.MatchHandler;
+import com.tennisscoring.adapters.primary.reactive.MatchRouter;
+import com.tennisscoring.adapters.primary.reactive.MatchSchedulers;
+import com.tennisscoring.adapters.primary.reactive.ReactiveMatchServer;
+import com.tennisscoring.adapters.primary.reactive.ScoreboardWebSocketHandler;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
+import com.tennisscoring.domain.service.MatchService;
+import com.tennisscoring.domain.service.StatisticsService;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the reactive match API.
+ * 反應式比賽 API 的配置
+ *
+ * Only active with {@code tennis-scoring.reactive.enabled}; the servlet
+ * API is served either way.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tennis-scoring.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfiguration {
+
+    /**
+     * Configure the lanes that run the blocking match work of the reactive API.
+     * 配置執行反應式 API 阻塞比賽操作的排程通道
+     *
+     * @param lanes the number of lanes, or 0 for 4 per available processor
+     * @return the match schedulers
+     */
+    @Bean(destroyMethod = "dispose")
+    public MatchSchedulers matchSchedulers(@Value("${tennis-scoring.reactive.lanes:0}") int lanes) {
+        return lanes > 0 ? new MatchSchedulers(lanes) : new MatchSchedulers();
+    }
+
+    /**
+     * Configure the reactive match handler.
+     * 配置反應式比賽處理器
+     *
+     * @param matchService the match service
+     * @param statisticsService the statistics service
+     * @param matchMapper the response mapper
+     * @param validator the bean validator
+     * @param matchSchedulers the match lanes
+     * @param matchStreamPublisher the publisher of the live score streams
+     * @return the match handler
+     */
+    @Bean
+    public MatchHandler matchHandler(MatchService matchService,
+                                     StatisticsService statisticsService,
+                                     MatchMapper matchMapper,
+                                     Validator validator,
+                                     MatchSchedulers matchSchedulers,
+                                     MatchStreamPublisher matchStreamPublisher) {
+        return new MatchHandler(matchService, statisticsService, matchMapper, validator, matchSchedulers,
+                matchStreamPublisher);
+    }
+
+    /**
+     * Configure the WebSocket gateway of the venue scoreboards.
+     * 配置場館計分板的 WebSocket 閘道
+     *
+     * @param matchService the match service
+     * @param matchStreamPublisher the publisher of the live score streams
+     * @param matchSchedulers the match lanes
+     * @param objectMapper the application's JSON mapper
+     * @param flushIntervalMs the milliseconds between the batched messages of a connection
+     * @param maxSubscriptions the maximum number of matches one connection can watch
+     * @return the scoreboard handler
+     */
+    @Bean
+    public ScoreboardWebSocketHandler scoreboardWebSocketHandler(
+            MatchService matchService,
+            MatchStreamPublisher matchStreamPublisher,
+            MatchSchedulers matchSchedulers,
+            ObjectMapper objectMapper,
+            @Value("${tennis-scoring.reactive.scoreboard.flush-interval-ms:100}") long flushIntervalMs,
+            @Value("${tennis-scoring.reactive.scoreboard.max-subscriptions:64}") int maxSubscriptions) {
+        return new ScoreboardWebSocketHandler(matchService, matchStreamPublisher, matchSchedulers, objectMapper,
+                Duration.ofMillis(flushIntervalMs), maxSubscriptions);
+    }
+
+    /**
+     * Configure the reactive routes.
+     * 配置反應式路由
+     *
+     * @param matchHandler the match handler
+     * @param scoreboardWebSocketHandler the scoreboard WebSocket gateway
+     * @return the router function
+     */
+    @Bean
+    public RouterFunction<ServerResponse> matchRoutes(MatchHandler matchHandler,
+                                                      ScoreboardWebSocketHandler scoreboardWebSocketHandler) {
+        return MatchRouter.routes(matchHandler, scoreboardWebSocketHandler);
+    }
+
+    /**
+     * Configure the Reactor Netty server for the reactive routes.
+     * 配置反應式路由的 Reactor Netty 伺服器
+     *
+     * @param matchRoutes the routes to serve
+     * @param objectMapper the application's JSON mapper
+     * @param port the port to listen on (0 = a free port)
+     * @return the server, started and stopped with the application context
+     */
+    @Bean
+    public ReactiveMatchServer reactiveMatchServer(RouterFunction<ServerResponse> matchRoutes,
+                                                   ObjectMapper objectMapper,
+                                                   @Value("${tennis-scoring.reactive.port:8081}") int port) {
+        return new ReactiveMatchServer(matchRoutes, objectMapper, port);
+    }
+}
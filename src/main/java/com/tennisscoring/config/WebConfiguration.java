@@ -0,0 +1,88 @@
+package com.tennisscoring.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tennisscoring.adapters.primary.dto.response.MatchPageResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchSummaryResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreDeltaResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreMatchesResponse;
+import com.tennisscoring.adapters.primary.http.CompactJsonHttpMessageConverter;
+import com.tennisscoring.adapters.primary.http.MatchResponseCache;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Configuration of the HTTP message encodings of the servlet API.
+ * Servlet API 的 HTTP 訊息編碼配置
+ *
+ * Match resources are written as JSON by default and as CBOR to clients
+ * that send {@code Accept: application/cbor}. Single-match reads are
+ * written from a cache of both encodings, kept per match version.
+ */
+@Configuration
+public class WebConfiguration {
+
+    /**
+     * Configure the JSON converter, which writes the match responses without indentation.
+     * 配置 JSON 轉換器，比賽回應一律不縮排
+     *
+     * @param objectMapper the application's JSON mapper
+     * @return the JSON converter, replacing the default one
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new CompactJsonHttpMessageConverter(objectMapper, List.of(
+                MatchResponse.class,
+                MatchSummaryResponse.class,
+                MatchPageResponse.class,
+                ScoreDeltaResponse.class,
+                ScoreMatchesResponse.class));
+    }
+
+    /**
+     * Configure the CBOR converter for clients that accept the binary encoding.
+     * 配置 CBOR 轉換器，供接受二進位編碼的用戶端使用
+     *
+     * The mapper is built with the application's Jackson settings, so the
+     * CBOR documents carry the same fields as the JSON ones.
+     *
+     * @param builder the application's mapper builder
+     * @return the CBOR converter, replacing the default one
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder.factory(new CBORFactory()).indentOutput(false).build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * Configure the cache of serialized match responses.
+     * 配置已序列化比賽回應的快取
+     *
+     * The cache writes with the mappers of the converters above, so cached
+     * and converted responses are byte for byte the same.
+     *
+     * @param matchMapper the response mapper
+     * @param jsonConverter the JSON converter
+     * @param cborConverter the CBOR converter
+     * @param maxEntries the maximum number of cached matches
+     * @return the response cache
+     */
+    @Bean
+    public MatchResponseCache matchResponseCache(
+            MatchMapper matchMapper,
+            MappingJackson2HttpMessageConverter jsonConverter,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            @Value("${tennis-scoring.http.response-cache.max-entries:10000}") int maxEntries) {
+        return new MatchResponseCache(matchMapper, jsonConverter.getObjectMapper(),
+                cborConverter.getObjectMapper(), maxEntries);
+    }
+}
@@ -0,0 +1,105 @@
+package com.tennisscoring.domain.concurrency;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks that serialize mutations of the same match.
+ * 以條紋鎖序列化同一場比賽的狀態變更
+ *
+ * A match ID always maps to the same lock, so two requests scoring the same
+ * match run one after the other, while different matches usually land on
+ * different stripes and proceed in parallel. The number of stripes is fixed,
+ * so memory does not grow with the number of matches and no lock ever has to
+ * be removed when a match is deleted.
+ *
+ * A stripe count of one degenerates into a single global lock.
+ */
+public class StripedMatchLocks {
+
+    private static final int STRIPES_PER_PROCESSOR = 8;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Create locks with a stripe count derived from the available processors.
+     */
+    public StripedMatchLocks() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR);
+    }
+
+    /**
+     * Create locks with at least the given number of stripes.
+     * 建立至少指定數量條紋的鎖
+     *
+     * @param minimumStripes the minimum stripe count, rounded up to a power of two
+     */
+    public StripedMatchLocks(int minimumStripes) {
+        if (minimumStripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int size = Integer.highestOneBit(minimumStripes);
+        if (size < minimumStripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Run an action while holding the lock for a match.
+     * 在持有比賽鎖的情況下執行動作
+     *
+     * @param matchId the match ID
+     * @param action the action to run
+     * @param <T> the result type
+     * @return the action's result
+     */
+    public <T> T withLock(String matchId, Supplier<T> action) {
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action while holding the lock for a match.
+     * 在持有比賽鎖的情況下執行動作
+     *
+     * @param matchId the match ID
+     * @param action the action to run
+     */
+    public void withLock(String matchId, Runnable action) {
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of stripes.
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    ReentrantLock lockFor(String matchId) {
+        Objects.requireNonNull(matchId, "Match ID cannot be null");
+        int hash = matchId.hashCode();
+        // Spread the high bits down so similar IDs do not share a stripe
+        hash ^= (hash >>> 16);
+        return stripes[hash & mask];
+    }
+}
@@ -2,17 +2,28 @@ package com.tennisscoring.domain.event;
 
 /**
  * Domain event fired when a new tennis match is created.
+ * Together with the match's point events it is enough to rebuild the match,
+ * as long as it carries the player IDs the point events refer to.
  */
 public class MatchCreatedEvent extends DomainEvent {
     
     private final String matchId;
+    private final String player1Id;
     private final String player1Name;
+    private final String player2Id;
     private final String player2Name;
     
     public MatchCreatedEvent(String matchId, String player1Name, String player2Name) {
+        this(matchId, null, player1Name, null, player2Name);
+    }
+    
+    public MatchCreatedEvent(String matchId, String player1Id, String player1Name,
+                             String player2Id, String player2Name) {
         super();
         this.matchId = matchId;
+        this.player1Id = player1Id;
         this.player1Name = player1Name;
+        this.player2Id = player2Id;
         this.player2Name = player2Name;
     }
     
@@ -20,10 +31,18 @@ public class MatchCreatedEvent extends DomainEvent {
         return matchId;
     }
     
+    public String getPlayer1Id() {
+        return player1Id;
+    }
+    
     public String getPlayer1Name() {
         return player1Name;
     }
     
+    public String getPlayer2Id() {
+        return player2Id;
+    }
+    
     public String getPlayer2Name() {
         return player2Name;
     }
@@ -32,7 +51,9 @@ public class MatchCreatedEvent extends DomainEvent {
     public String toString() {
         return "MatchCreatedEvent{" +
                 "matchId='" + matchId + '\'' +
+                ", player1Id='" + player1Id + '\'' +
                 ", player1Name='" + player1Name + '\'' +
+                ", player2Id='" + player2Id + '\'' +
                 ", player2Name='" + player2Name + '\'' +
                 ", eventId='" + getEventId() + '\'' +
                 ", occurredAt=" + getOccurredAt() +
@@ -5,19 +5,31 @@ package com.tennisscoring.domain.event;
  */
 public class PointScoredEvent extends DomainEvent {
     
+    /**
+     * Version of an event created without the match version.
+     */
+    public static final long UNKNOWN_VERSION = -1;
+    
     private final String matchId;
     private final String playerId;
     private final String currentScore;
     private final int currentSet;
     private final int currentGame;
+    private final long matchVersion;
     
     public PointScoredEvent(String matchId, String playerId, String currentScore, int currentSet, int currentGame) {
+        this(matchId, playerId, currentScore, currentSet, currentGame, UNKNOWN_VERSION);
+    }
+    
+    public PointScoredEvent(String matchId, String playerId, String currentScore, int currentSet, int currentGame,
+                            long matchVersion) {
         super();
         this.matchId = matchId;
         this.playerId = playerId;
         this.currentScore = currentScore;
         this.currentSet = currentSet;
         this.currentGame = currentGame;
+        this.matchVersion = matchVersion;
     }
     
     public String getMatchId() {
@@ -40,6 +52,14 @@ public class PointScoredEvent extends DomainEvent {
         return currentGame;
     }
     
+    /**
+     * Get the version of the match right after the point.
+     * @return the match version, or {@link #UNKNOWN_VERSION}
+     */
+    public long getMatchVersion() {
+        return matchVersion;
+    }
+    
     @Override
     public String toString() {
         return "PointScoredEvent{" +
@@ -48,6 +68,7 @@ public class PointScoredEvent extends DomainEvent {
                 ", currentScore='" + currentScore + '\'' +
                 ", currentSet=" + currentSet +
                 ", currentGame=" + currentGame +
+                ", matchVersion=" + matchVersion +
                 ", eventId='" + getEventId() + '\'' +
                 ", occurredAt=" + getOccurredAt() +
                 '}';
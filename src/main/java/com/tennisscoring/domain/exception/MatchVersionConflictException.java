@@ -0,0 +1,27 @@
+package com.tennisscoring.domain.exception;
+
+/**
+ * Exception thrown when a match has changed since the version a caller based its update on.
+ * 當比賽在呼叫者所依據的版本之後已被變更時拋出的異常
+ *
+ * The conflict is retryable: reload the match and submit the update again.
+ */
+public class MatchVersionConflictException extends RuntimeException {
+
+    private final String matchId;
+    private final long expectedVersion;
+
+    public MatchVersionConflictException(String matchId, long expectedVersion) {
+        super(String.format("Match %s has changed since version %d; reload and retry", matchId, expectedVersion));
+        this.matchId = matchId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
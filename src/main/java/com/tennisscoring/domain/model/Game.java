@@ -1,22 +1,26 @@
 package com.tennisscoring.domain.model;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntBinaryOperator;
 
 /**
  * Game entity representing a single game within a tennis set.
  * Handles both regular scoring (15-30-40) and tiebreak scoring (1-2-3...).
+ * 
+ * The whole game state (both players' points, deuce/advantage status and
+ * winner) is packed into a single {@code int} by {@link GameState}, so
+ * scoring a point performs no map lookups, boxing or allocation.
  */
 public class Game {
     
     private final int gameNumber;
-    private final Map<PlayerId, GameScore> scores;
-    private final Map<PlayerId, Integer> tiebreakScores;
     private final boolean isTiebreak;
-    private GameStatus status;
-    private PlayerId winner;
+    private PlayerId player1Id;
+    private PlayerId player2Id;
+    private int state;
     
     /**
      * Constructor for creating a new game.
@@ -26,10 +30,23 @@ public class Game {
     public Game(int gameNumber, boolean isTiebreak) {
         this.gameNumber = gameNumber;
         this.isTiebreak = isTiebreak;
-        this.scores = new HashMap<>();
-        this.tiebreakScores = new HashMap<>();
-        this.status = GameStatus.IN_PROGRESS;
-        this.winner = null;
+        this.state = GameState.INITIAL;
+    }
+    
+    /**
+     * Factory method to rebuild a stored game.
+     * @param gameNumber the sequential number of this game in the set
+     * @param isTiebreak whether this is a tiebreak game
+     * @param player1Id ID of player 1
+     * @param player2Id ID of player 2
+     * @param state the packed {@link GameState}
+     * @return new Game instance in the given state
+     */
+    public static Game restore(int gameNumber, boolean isTiebreak, PlayerId player1Id, PlayerId player2Id, int state) {
+        Game game = new Game(gameNumber, isTiebreak);
+        game.initializeScores(player1Id, player2Id);
+        game.state = state;
+        return game;
     }
     
     /**
@@ -38,13 +55,9 @@ public class Game {
      * @param player2Id ID of player 2
      */
     public void initializeScores(PlayerId player1Id, PlayerId player2Id) {
-        if (isTiebreak) {
-            tiebreakScores.put(player1Id, 0);
-            tiebreakScores.put(player2Id, 0);
-        } else {
-            scores.put(player1Id, GameScore.LOVE);
-            scores.put(player2Id, GameScore.LOVE);
-        }
+        this.player1Id = player1Id;
+        this.player2Id = player2Id;
+        this.state = GameState.INITIAL;
     }
     
     /**
@@ -54,89 +67,51 @@ public class Game {
      * @return true if the game is completed after this point
      */
     public boolean scorePoint(PlayerId playerId, PlayerId opponentId) {
-        if (isCompleted()) {
-            throw new IllegalStateException("Cannot score on completed game");
-        }
-        
-        if (isTiebreak) {
-            return scoreTiebreakPoint(playerId, opponentId);
-        } else {
-            return scoreRegularPoint(playerId, opponentId);
-        }
+        return applyPoint(playerId, isTiebreak ? GameState::nextTiebreak : GameState::nextRegular);
     }
     
     /**
-     * Handle scoring for regular games (15-30-40).
+     * Record a point using an externally supplied transition function.
+     * 使用外部提供的狀態轉移函式記錄得分
+     * 
+     * This is the hook used by scoring strategies: the transition receives
+     * the packed {@link GameState} and the scorer ({@link GameState#PLAYER1}
+     * or {@link GameState#PLAYER2}) and returns the next packed state.
+     * 
+     * @param playerId the ID of the player who scored
+     * @param transition the state transition to apply
+     * @return true if the game is completed after this point
      */
-    private boolean scoreRegularPoint(PlayerId playerId, PlayerId opponentId) {
-        GameScore currentScore = scores.get(playerId);
-        GameScore opponentScore = scores.get(opponentId);
+    public boolean applyPoint(PlayerId playerId, IntBinaryOperator transition) {
+        if (isCompleted()) {
+            throw new IllegalStateException("Cannot score on completed game");
+        }
         
-        switch (currentScore) {
-            case LOVE -> scores.put(playerId, GameScore.FIFTEEN);
-            case FIFTEEN -> scores.put(playerId, GameScore.THIRTY);
-            case THIRTY -> scores.put(playerId, GameScore.FORTY);
-            case FORTY -> {
-                return handleFortyScoring(playerId, opponentId, opponentScore);
-            }
-            case ADVANTAGE -> {
-                return winGame(playerId);
-            }
+        int scorer = playerIndex(playerId);
+        if (scorer == GameState.NO_WINNER) {
+            throw new IllegalArgumentException("Player not found in this game: " + playerId);
         }
         
-        return false;
+        state = transition.applyAsInt(state, scorer);
+        return GameState.isCompleted(state);
     }
     
     /**
-     * Handle scoring when player has 40 points.
+     * Map a player ID to its slot in the packed state.
+     * @return {@link GameState#PLAYER1}, {@link GameState#PLAYER2}, or
+     *         {@link GameState#NO_WINNER} if the player is not in this game
      */
-    private boolean handleFortyScoring(PlayerId playerId, PlayerId opponentId, GameScore opponentScore) {
-        switch (opponentScore) {
-            case LOVE, FIFTEEN, THIRTY -> {
-                return winGame(playerId);
-            }
-            case FORTY -> {
-                // Enter deuce/advantage state
-                status = GameStatus.DEUCE;
-                scores.put(playerId, GameScore.ADVANTAGE);
-                return false;
-            }
-            case ADVANTAGE -> {
-                // Back to deuce
-                status = GameStatus.DEUCE;
-                scores.put(opponentId, GameScore.FORTY);
-                scores.put(playerId, GameScore.FORTY);
-                return false;
-            }
+    private int playerIndex(PlayerId playerId) {
+        if (playerId == null) {
+            return GameState.NO_WINNER;
         }
-        return false;
-    }
-    
-    /**
-     * Handle scoring for tiebreak games.
-     */
-    private boolean scoreTiebreakPoint(PlayerId playerId, PlayerId opponentId) {
-        int currentPoints = tiebreakScores.get(playerId);
-        int opponentPoints = tiebreakScores.get(opponentId);
-        
-        currentPoints++;
-        tiebreakScores.put(playerId, currentPoints);
-        
-        // Win condition: reach 7 points with at least 2-point lead
-        if (currentPoints >= 7 && currentPoints - opponentPoints >= 2) {
-            return winGame(playerId);
+        if (playerId.equals(player1Id)) {
+            return GameState.PLAYER1;
         }
-        
-        return false;
-    }
-    
-    /**
-     * Mark the game as won by the specified player.
-     */
-    private boolean winGame(PlayerId playerId) {
-        this.status = GameStatus.COMPLETED;
-        this.winner = playerId;
-        return true;
+        if (playerId.equals(player2Id)) {
+            return GameState.PLAYER2;
+        }
+        return GameState.NO_WINNER;
     }
     
     /**
@@ -148,17 +123,23 @@ public class Game {
         if (isTiebreak) {
             throw new IllegalStateException("Use getTiebreakScore for tiebreak games");
         }
-        return scores.get(playerId);
+        int player = playerIndex(playerId);
+        return player == GameState.NO_WINNER ? null : GameState.score(state, player);
     }
     
     /**
      * Get all player scores (for mapper compatibility).
-     * @return map of player IDs to scores
+     * @return map of player IDs to scores, player 1 first
      */
     public Map<PlayerId, GameScore> getPlayerScores() {
         if (isTiebreak) {
             throw new IllegalStateException("Use getTiebreakScores for tiebreak games");
         }
+        Map<PlayerId, GameScore> scores = new LinkedHashMap<>();
+        if (player1Id != null && player2Id != null) {
+            scores.put(player1Id, GameState.score(state, GameState.PLAYER1));
+            scores.put(player2Id, GameState.score(state, GameState.PLAYER2));
+        }
         return Collections.unmodifiableMap(scores);
     }
     
@@ -180,7 +161,16 @@ public class Game {
         if (!isTiebreak) {
             throw new IllegalStateException("Use getScore for regular games");
         }
-        return tiebreakScores.getOrDefault(playerId, 0);
+        int player = playerIndex(playerId);
+        return player == GameState.NO_WINNER ? 0 : GameState.points(state, player);
+    }
+    
+    /**
+     * Get a formatted score string for display, player 1 first.
+     * @return formatted score string
+     */
+    public String getFormattedScore() {
+        return getFormattedScore(player1Id, player2Id);
     }
     
     /**
@@ -198,7 +188,7 @@ public class Game {
             
             // Handle deuce and advantage display
             if (p1Score == GameScore.FORTY && p2Score == GameScore.FORTY) {
-                if (status == GameStatus.DEUCE) {
+                if (getStatus() == GameStatus.DEUCE) {
                     return "平分";
                 } else {
                     return "40-40";
@@ -218,8 +208,10 @@ public class Game {
      * @return true if both players have 40 and no advantage
      */
     public boolean isDeuce() {
-        return status == GameStatus.DEUCE && 
-               scores.values().stream().allMatch(score -> score == GameScore.FORTY);
+        return !isTiebreak
+                && GameState.status(state) == GameStatus.DEUCE
+                && GameState.player1Points(state) == GameScore.FORTY.ordinal()
+                && GameState.player2Points(state) == GameScore.FORTY.ordinal();
     }
     
     /**
@@ -228,7 +220,10 @@ public class Game {
      * @return true if the player has advantage
      */
     public boolean hasAdvantage(PlayerId playerId) {
-        return scores.get(playerId) == GameScore.ADVANTAGE;
+        int player = playerIndex(playerId);
+        return !isTiebreak
+                && player != GameState.NO_WINNER
+                && GameState.score(state, player) == GameScore.ADVANTAGE;
     }
     
     // Getters
@@ -240,16 +235,28 @@ public class Game {
         return isTiebreak;
     }
     
+    /**
+     * Get the packed game state (see {@link GameState}).
+     * @return the packed state
+     */
+    public int getState() {
+        return state;
+    }
+    
     public GameStatus getStatus() {
-        return status;
+        return GameState.status(state);
     }
     
     public boolean isCompleted() {
-        return status == GameStatus.COMPLETED;
+        return GameState.isCompleted(state);
     }
     
     public PlayerId getWinner() {
-        return winner;
+        return switch (GameState.winner(state)) {
+            case GameState.PLAYER1 -> player1Id;
+            case GameState.PLAYER2 -> player2Id;
+            default -> null;
+        };
     }
     
     @Override
@@ -270,8 +277,8 @@ public class Game {
         return "Game{" +
                 "gameNumber=" + gameNumber +
                 ", isTiebreak=" + isTiebreak +
-                ", status=" + status +
-                ", winner=" + winner +
+                ", status=" + getStatus() +
+                ", winner=" + getWinner() +
                 '}';
     }
 }
\ No newline at end of file
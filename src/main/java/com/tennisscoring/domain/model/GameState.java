@@ -0,0 +1,191 @@
+package com.tennisscoring.domain.model;
+
+/**
+ * Compact encoding of a game's complete state in a single {@code int}.
+ * 將一局的完整狀態壓縮編碼在單一 int 中
+ *
+ * Layout (least significant bit first):
+ * <pre>
+ *  bits  0-11  player 1 points (GameScore ordinal, or tiebreak points)
+ *  bits 12-23  player 2 points (GameScore ordinal, or tiebreak points)
+ *  bits 24-26  GameStatus ordinal
+ *  bits 27-28  winner: 0 = none, 1 = player 1, 2 = player 2
+ * </pre>
+ *
+ * Regular games advance through a precomputed transition table indexed by
+ * both scores, the deuce flag and the scorer, so a point costs one array
+ * read. Tiebreaks use the same layout with plain point counters.
+ *
+ * The encoding is public so that a {@code ScoringStrategy} can drive a
+ * {@link Game} through {@link Game#applyPoint} with its own transitions.
+ */
+public final class GameState {
+
+    /** State of a game before any point is played. */
+    public static final int INITIAL = 0;
+
+    /** Winner slot values; also used to identify the scorer. */
+    public static final int NO_WINNER = 0;
+    public static final int PLAYER1 = 1;
+    public static final int PLAYER2 = 2;
+
+    /** Largest point count a player slot can hold. */
+    public static final int MAX_POINTS = 0xFFF;
+
+    private static final int POINTS_BITS = 12;
+    private static final int PLAYER2_SHIFT = POINTS_BITS;
+    private static final int STATUS_SHIFT = 24;
+    private static final int WINNER_SHIFT = 27;
+    private static final int STATUS_MASK = 0x7;
+    private static final int WINNER_MASK = 0x3;
+    private static final int POINTS_MASK = (1 << STATUS_SHIFT) - 1;
+
+    private static final GameScore[] SCORES = GameScore.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    /**
+     * Next state for every regular game state, indexed by
+     * {@code (((p1 * 5 + p2) * 2 + deuce) * 2 + scorerIsPlayer2)}.
+     */
+    private static final int[] REGULAR_TRANSITIONS = buildRegularTransitions();
+
+    private GameState() {
+    }
+
+    public static int pack(int player1Points, int player2Points, GameStatus status, int winner) {
+        return packPoints(player1Points, player2Points)
+                | (status.ordinal() << STATUS_SHIFT)
+                | (winner << WINNER_SHIFT);
+    }
+
+    /**
+     * Pack only the point counters; status and winner bits are zero
+     * ({@link GameStatus#IN_PROGRESS}, no winner).
+     */
+    public static int packPoints(int player1Points, int player2Points) {
+        return player1Points | (player2Points << PLAYER2_SHIFT);
+    }
+
+    /**
+     * The status and winner bits of a state, with the point counters cleared.
+     */
+    public static int flagBits(int state) {
+        return state & ~POINTS_MASK;
+    }
+
+    /**
+     * The raw {@link GameStatus} ordinal of a state, without decoding the enum.
+     */
+    public static int statusOrdinal(int state) {
+        return (state >>> STATUS_SHIFT) & STATUS_MASK;
+    }
+
+    public static int player1Points(int state) {
+        return state & MAX_POINTS;
+    }
+
+    public static int player2Points(int state) {
+        return (state >>> PLAYER2_SHIFT) & MAX_POINTS;
+    }
+
+    public static int points(int state, int player) {
+        return player == PLAYER1 ? player1Points(state) : player2Points(state);
+    }
+
+    public static GameStatus status(int state) {
+        return STATUSES[statusOrdinal(state)];
+    }
+
+    public static int winner(int state) {
+        return (state >>> WINNER_SHIFT) & WINNER_MASK;
+    }
+
+    public static boolean isCompleted(int state) {
+        return winner(state) != NO_WINNER;
+    }
+
+    public static GameScore score(int state, int player) {
+        return SCORES[points(state, player)];
+    }
+
+    /**
+     * Apply a regular-game point.
+     * @param state the current state
+     * @param scorer {@link #PLAYER1} or {@link #PLAYER2}
+     * @return the next state
+     */
+    public static int nextRegular(int state, int scorer) {
+        int deuce = status(state) == GameStatus.DEUCE ? 1 : 0;
+        int index = ((player1Points(state) * 5 + player2Points(state)) * 2 + deuce) * 2 + (scorer - 1);
+        return REGULAR_TRANSITIONS[index];
+    }
+
+    /**
+     * Apply a tiebreak point: first to 7 with a 2-point lead wins.
+     * @param state the current state
+     * @param scorer {@link #PLAYER1} or {@link #PLAYER2}
+     * @return the next state
+     */
+    public static int nextTiebreak(int state, int scorer) {
+        int p1 = player1Points(state);
+        int p2 = player2Points(state);
+        if (scorer == PLAYER1) {
+            p1++;
+        } else {
+            p2++;
+        }
+        if (p1 > MAX_POINTS || p2 > MAX_POINTS) {
+            throw new IllegalStateException("Tiebreak point counter overflow");
+        }
+
+        int scorerPoints = scorer == PLAYER1 ? p1 : p2;
+        int opponentPoints = scorer == PLAYER1 ? p2 : p1;
+        if (scorerPoints >= 7 && scorerPoints - opponentPoints >= 2) {
+            return pack(p1, p2, GameStatus.COMPLETED, scorer);
+        }
+        return pack(p1, p2, status(state), NO_WINNER);
+    }
+
+    /**
+     * Precompute regular-game transitions from the 15-30-40 / deuce /
+     * advantage rules.
+     */
+    private static int[] buildRegularTransitions() {
+        int[] table = new int[5 * 5 * 2 * 2];
+        for (int p1 = 0; p1 < 5; p1++) {
+            for (int p2 = 0; p2 < 5; p2++) {
+                for (int deuce = 0; deuce < 2; deuce++) {
+                    GameStatus status = deuce == 1 ? GameStatus.DEUCE : GameStatus.IN_PROGRESS;
+                    int base = ((p1 * 5 + p2) * 2 + deuce) * 2;
+                    table[base] = regularTransition(p1, p2, status, PLAYER1);
+                    table[base + 1] = regularTransition(p1, p2, status, PLAYER2);
+                }
+            }
+        }
+        return table;
+    }
+
+    private static int regularTransition(int p1, int p2, GameStatus status, int scorer) {
+        GameScore scorerScore = SCORES[scorer == PLAYER1 ? p1 : p2];
+        GameScore opponentScore = SCORES[scorer == PLAYER1 ? p2 : p1];
+
+        return switch (scorerScore) {
+            case LOVE, FIFTEEN, THIRTY -> withScorer(p1, p2, scorer, scorerScore.next(), opponentScore, status);
+            case ADVANTAGE -> pack(p1, p2, GameStatus.COMPLETED, scorer);
+            case FORTY -> switch (opponentScore) {
+                case LOVE, FIFTEEN, THIRTY -> pack(p1, p2, GameStatus.COMPLETED, scorer);
+                // Enter deuce/advantage state
+                case FORTY -> withScorer(p1, p2, scorer, GameScore.ADVANTAGE, GameScore.FORTY, GameStatus.DEUCE);
+                // Back to deuce
+                case ADVANTAGE -> withScorer(p1, p2, scorer, GameScore.FORTY, GameScore.FORTY, GameStatus.DEUCE);
+            };
+        };
+    }
+
+    private static int withScorer(int p1, int p2, int scorer,
+                                  GameScore scorerScore, GameScore opponentScore, GameStatus status) {
+        int newP1 = scorer == PLAYER1 ? scorerScore.ordinal() : opponentScore.ordinal();
+        int newP2 = scorer == PLAYER1 ? opponentScore.ordinal() : scorerScore.ordinal();
+        return pack(newP1, newP2, status, NO_WINNER);
+    }
+}
@@ -1,14 +1,36 @@
 package com.tennisscoring.domain.model;
 
+import com.tennisscoring.domain.strategy.ScoringStrategy;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Match aggregate root representing a complete tennis match.
  * Manages sets, players, and overall match state.
+ * 
+ * The active set is tracked by a cursor that moves when a set is started,
+ * so current set and game lookups are constant time.
+ * 
+ * Every state change bumps a version number. The formatted score is cached
+ * against that version and only rebuilt on the first read after a change.
+ * 
+ * The winner of every point is kept in a {@link PointHistory}, so a match
+ * can be stored as its points and rebuilt by scoring them again.
+ * 
+ * The history checkpoints the first point of every game, so the last points
+ * can be undone by rewinding the sets to the start of the game they fall in
+ * and scoring again only the points of that game that are kept.
+ * 
+ * Every public change ends by publishing an immutable {@link MatchSnapshot}
+ * through a volatile field. Steps inside a change, such as the points of a
+ * batch or the replay of a rewind, are not published, so readers of
+ * {@link #getSnapshot()} only ever see the state between two changes.
  */
 public class Match {
     
@@ -16,10 +38,20 @@ public class Match {
     private final Player player1;
     private final Player player2;
     private final List<Set> sets;
+    private Set currentSet;
     private MatchStatus status;
     private final LocalDateTime createdAt;
     private LocalDateTime completedAt;
     private PlayerId winner;
+    private String scoringStrategyType;
+    private long version;
+    private PointHistory pointHistory = new PointHistory();
+    private volatile ScoreSnapshot scoreSnapshot;
+    private volatile MatchSnapshot snapshot;
+    private int unchangedSets;
+    private long[] undoVersions = new long[0];
+    private int[] undoKeptPoints = new int[0];
+    private int undoCount;
     
     /**
      * Private constructor to enforce factory method usage.
@@ -28,17 +60,29 @@ public class Match {
      * @param player2 second player
      */
     private Match(MatchId matchId, Player player1, Player player2) {
+        this(matchId, player1, player2, LocalDateTime.now());
+    }
+    
+    /**
+     * Private constructor with an explicit creation time.
+     * @param matchId unique identifier for the match
+     * @param player1 first player
+     * @param player2 second player
+     * @param createdAt when the match was created
+     */
+    private Match(MatchId matchId, Player player1, Player player2, LocalDateTime createdAt) {
         this.matchId = Objects.requireNonNull(matchId, "Match ID cannot be null");
         this.player1 = Objects.requireNonNull(player1, "Player 1 cannot be null");
         this.player2 = Objects.requireNonNull(player2, "Player 2 cannot be null");
         this.sets = new ArrayList<>();
         this.status = MatchStatus.IN_PROGRESS;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation time cannot be null");
         this.completedAt = null;
         this.winner = null;
         
         // Initialize the first set
         initializeFirstSet();
+        publishSnapshot();
     }
     
     /**
@@ -66,6 +110,18 @@ public class Match {
         return new Match(matchId, player1, player2);
     }
     
+    /**
+     * Factory method to rebuild a stored match before its points are replayed.
+     * @param matchId the match identifier
+     * @param player1 first player
+     * @param player2 second player
+     * @param createdAt when the match was originally created
+     * @return new Match instance with no points played
+     */
+    public static Match restore(MatchId matchId, Player player1, Player player2, LocalDateTime createdAt) {
+        return new Match(matchId, player1, player2, createdAt);
+    }
+    
     /**
      * Initialize the first set of the match.
      */
@@ -73,6 +129,8 @@ public class Match {
         Set firstSet = new Set(1);
         firstSet.initialize(player1.getPlayerId(), player2.getPlayerId());
         sets.add(firstSet);
+        currentSet = firstSet;
+        pointHistory.markGameStart();
     }
     
     /**
@@ -81,6 +139,30 @@ public class Match {
      * @return true if the match is completed after this point
      */
     public boolean scorePoint(PlayerId playerId) {
+        return scorePoint(playerId, null);
+    }
+    
+    /**
+     * Record a point scored by a player, applying the game rules of the
+     * given scoring strategy. Set and match progression is the same for
+     * every strategy.
+     * @param playerId the ID of the player who scored
+     * @param strategy the scoring strategy, or null for the game's built-in rules
+     * @return true if the match is completed after this point
+     */
+    public boolean scorePoint(PlayerId playerId, ScoringStrategy strategy) {
+        boolean matchCompleted = applyPoint(playerId, strategy);
+        publishSnapshot();
+        return matchCompleted;
+    }
+    
+    /**
+     * Score a point without publishing a snapshot.
+     * @param playerId the ID of the player who scored
+     * @param strategy the scoring strategy, or null for the game's built-in rules
+     * @return true if the match is completed after this point
+     */
+    private boolean applyPoint(PlayerId playerId, ScoringStrategy strategy) {
         if (isCompleted()) {
             throw new IllegalStateException("Cannot score on completed match");
         }
@@ -97,7 +179,11 @@ public class Match {
         
         // Score the point
         PlayerId opponentId = getOpponentId(playerId);
-        boolean gameCompleted = currentGame.scorePoint(playerId, opponentId);
+        boolean gameCompleted = strategy != null && strategy.appliesTo(currentGame)
+                ? strategy.scorePoint(currentGame, playerId)
+                : currentGame.scorePoint(playerId, opponentId);
+        pointHistory.record(player2.getPlayerId().equals(playerId));
+        markChanged();
         
         if (gameCompleted) {
             // Handle game completion
@@ -115,6 +201,7 @@ public class Match {
                     startNewSet();
                 }
             }
+            pointHistory.markGameStart();
         }
         
         // Update player statistics
@@ -123,6 +210,40 @@ public class Match {
         return false;
     }
     
+    /**
+     * Score a run of points as one change to the match.
+     * 
+     * The points are applied as a whole: if the match ends before the last
+     * of them, the match is rewound to where it was and no point is scored.
+     * @param winners the winner of each point, in order
+     * @param strategy the scoring strategy, or null for the game's built-in rules
+     * @param afterPoint called with the winner after each point, while the match shows the state after it
+     * @return true if the match is completed after the last point
+     * @throws IllegalStateException if the match is not in progress or ends before the last point
+     * @throws IllegalArgumentException if a winner is not in the match
+     */
+    public boolean scorePoints(List<PlayerId> winners, ScoringStrategy strategy, Consumer<PlayerId> afterPoint) {
+        if (!isInProgress()) {
+            throw new IllegalStateException("Cannot score on a match that is not in progress");
+        }
+        winners.forEach(this::validatePlayer);
+        
+        int kept = pointHistory.size();
+        long previousVersion = version;
+        for (int i = 0; i < winners.size(); i++) {
+            if (!isInProgress()) {
+                rewindTo(kept, strategy);
+                version = previousVersion;
+                scoreSnapshot = null;
+                throw new IllegalStateException("Match is over after " + i + " of " + winners.size() + " points");
+            }
+            applyPoint(winners.get(i), strategy);
+            afterPoint.accept(winners.get(i));
+        }
+        publishSnapshot();
+        return isCompleted();
+    }
+    
     /**
      * Start a new set.
      */
@@ -131,6 +252,7 @@ public class Match {
         Set newSet = new Set(nextSetNumber);
         newSet.initialize(player1.getPlayerId(), player2.getPlayerId());
         sets.add(newSet);
+        currentSet = newSet;
         
         // Reset game statistics for both players
         player1.resetGameStats();
@@ -166,6 +288,299 @@ public class Match {
         
         this.status = MatchStatus.CANCELLED;
         this.completedAt = LocalDateTime.now();
+        markChanged();
+        publishSnapshot();
+    }
+    
+    /**
+     * Undo the last points of the match.
+     * 
+     * The sets are rewound to the start of the game the first undone point
+     * falls in, and the points of that game before it are scored again, so
+     * the cost depends on the length of that game rather than of the match.
+     * A completed match goes back in progress. The version is bumped once.
+     * @param count the number of points to undo
+     * @param strategy the scoring strategy of the match, or null for the game's built-in rules
+     * @throws IllegalStateException if the match is cancelled
+     * @throws IllegalArgumentException if the count is not between 1 and the number of points played
+     */
+    public void undoLastPoints(int count, ScoringStrategy strategy) {
+        undo(count, strategy);
+        publishSnapshot();
+    }
+    
+    /**
+     * Undo the last points without publishing a snapshot.
+     * @param count the number of points to undo
+     * @param strategy the scoring strategy of the match, or null for the game's built-in rules
+     */
+    private void undo(int count, ScoringStrategy strategy) {
+        if (isCancelled()) {
+            throw new IllegalStateException("Cannot undo points of cancelled match");
+        }
+        int pointCount = pointHistory.size();
+        if (count < 1 || count > pointCount) {
+            throw new IllegalArgumentException("Cannot undo " + count + " of " + pointCount + " points");
+        }
+        long previousVersion = version;
+        rewindTo(pointCount - count, strategy);
+        version = previousVersion + 1;
+        recordUndo(version, pointCount - count);
+    }
+    
+    /**
+     * Replace the last points of the match with the points that were actually played.
+     * 
+     * The correction is applied as a whole: if the match ends before the
+     * last replacement point, the original points are restored and the
+     * correction is rejected.
+     * @param count the number of points to replace
+     * @param winners the winner of each replacement point, in order
+     * @param strategy the scoring strategy of the match, or null for the game's built-in rules
+     * @throws IllegalStateException if the match is cancelled or ends before the last replacement point
+     * @throws IllegalArgumentException if the count is out of range or a winner is not in the match
+     */
+    public void correctLastPoints(int count, List<PlayerId> winners, ScoringStrategy strategy) {
+        if (winners.isEmpty()) {
+            throw new IllegalArgumentException("A correction needs at least one point");
+        }
+        winners.forEach(this::validatePlayer);
+        int pointCount = pointHistory.size();
+        if (count < 1 || count > pointCount) {
+            throw new IllegalArgumentException("Cannot replace " + count + " of " + pointCount + " points");
+        }
+        
+        // Keep what is needed to put the replaced points back
+        int kept = pointCount - count;
+        boolean[] replaced = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            replaced[i] = pointHistory.wonByPlayer2(kept + i);
+        }
+        long previousVersion = version;
+        LocalDateTime previousCompletedAt = completedAt;
+        int previousUndoCount = undoCount;
+        
+        undo(count, strategy);
+        for (int i = 0; i < winners.size(); i++) {
+            if (!isInProgress()) {
+                rewindTo(kept, strategy);
+                for (boolean wonByPlayer2 : replaced) {
+                    applyPoint(wonByPlayer2 ? player2.getPlayerId() : player1.getPlayerId(), strategy);
+                }
+                version = previousVersion;
+                completedAt = previousCompletedAt;
+                undoCount = previousUndoCount;
+                scoreSnapshot = null;
+                throw new IllegalStateException("Match is over after " + i + " of "
+                        + winners.size() + " corrected points");
+            }
+            applyPoint(winners.get(i), strategy);
+        }
+        publishSnapshot();
+    }
+    
+    /**
+     * Rewind the match to a number of points played.
+     * Only the points of the game the target falls in are scored again.
+     * @param target the number of points to keep
+     * @param strategy the scoring strategy of the match, or null for the game's built-in rules
+     */
+    private void rewindTo(int target, ScoringStrategy strategy) {
+        int game = pointHistory.gameOf(target);
+        int gameStart = pointHistory.gameStart(game);
+        boolean[] replay = new boolean[target - gameStart];
+        for (int i = 0; i < replay.length; i++) {
+            replay[i] = pointHistory.wonByPlayer2(gameStart + i);
+        }
+        
+        // Find the set holding the game and drop everything after its start
+        int setIndex = 0;
+        int gameInSet = game;
+        while (gameInSet >= sets.get(setIndex).getTotalGamesPlayed()) {
+            gameInSet -= sets.get(setIndex).getTotalGamesPlayed();
+            setIndex++;
+        }
+        sets.subList(setIndex + 1, sets.size()).clear();
+        unchangedSets = Math.min(unchangedSets, setIndex);
+        currentSet = sets.get(setIndex);
+        currentSet.rewindTo(gameInSet);
+        pointHistory.truncate(gameStart);
+        
+        int player1Sets = 0;
+        for (int i = 0; i < setIndex; i++) {
+            if (player1.getPlayerId().equals(sets.get(i).getWinner())) {
+                player1Sets++;
+            }
+        }
+        int player2Points = pointHistory.countWonByPlayer2();
+        player1.rewindStats(player1Sets, gameStart - player2Points);
+        player2.rewindStats(setIndex - player1Sets, player2Points);
+        status = MatchStatus.IN_PROGRESS;
+        winner = null;
+        completedAt = null;
+        
+        for (boolean wonByPlayer2 : replay) {
+            applyPoint(wonByPlayer2 ? player2.getPlayerId() : player1.getPlayerId(), strategy);
+        }
+    }
+    
+    /**
+     * Mark the current state, so the changes made after it can be rolled back.
+     * Cheap enough to take before every change: it copies only the point bits.
+     * @return the checkpoint of the current state
+     */
+    public Checkpoint checkpoint() {
+        return new Checkpoint(pointHistory.toWords(), pointHistory.size(), version, completedAt, undoCount, snapshot);
+    }
+    
+    /**
+     * Roll the match back to a checkpoint taken on it, for a change that could not be saved.
+     * 
+     * The sets are rewound to the last point the current history shares
+     * with the checkpoint, and the checkpoint's later points are scored
+     * again. Version, completion time and the published snapshot are put
+     * back as they were, so the rollback is not a change of its own.
+     * @param checkpoint a checkpoint returned by {@link #checkpoint()} on this match
+     * @param strategy the scoring strategy of the match, or null for the game's built-in rules
+     */
+    public void rollBack(Checkpoint checkpoint, ScoringStrategy strategy) {
+        Objects.requireNonNull(checkpoint, "Checkpoint cannot be null");
+        int kept = Math.min(pointHistory.size(), checkpoint.pointCount);
+        for (int i = 0; i < kept; i++) {
+            if (pointHistory.wonByPlayer2(i) != checkpoint.wonByPlayer2(i)) {
+                kept = i;
+                break;
+            }
+        }
+        if (kept < pointHistory.size()) {
+            rewindTo(kept, strategy);
+        }
+        for (int i = kept; i < checkpoint.pointCount; i++) {
+            applyPoint(checkpoint.wonByPlayer2(i) ? player2.getPlayerId() : player1.getPlayerId(), strategy);
+        }
+        version = checkpoint.version;
+        completedAt = checkpoint.completedAt;
+        undoCount = checkpoint.undoCount;
+        scoreSnapshot = null;
+        // The sets were rewound since the restored snapshot, so the next one shares none of them
+        snapshot = checkpoint.snapshot;
+        unchangedSets = 0;
+    }
+    
+    /**
+     * Remember the number of points an undo kept, for {@link #getUnchangedPointCount}.
+     * @param undoVersion the version the undo produced
+     * @param keptPoints the number of points kept
+     */
+    private void recordUndo(long undoVersion, int keptPoints) {
+        if (undoCount == undoVersions.length) {
+            int capacity = Math.max(4, undoCount * 2);
+            undoVersions = Arrays.copyOf(undoVersions, capacity);
+            undoKeptPoints = Arrays.copyOf(undoKeptPoints, capacity);
+        }
+        undoVersions[undoCount] = undoVersion;
+        undoKeptPoints[undoCount] = keptPoints;
+        undoCount++;
+    }
+    
+    /**
+     * Get the number of leading points that no undo has changed since a version.
+     * Points beyond it may have been replaced since the version was read.
+     * @param sinceVersion a version of this match
+     * @return the number of points played at that version that are still in the history
+     */
+    public int getUnchangedPointCount(long sinceVersion) {
+        int unchanged = pointHistory.size();
+        for (int i = undoCount - 1; i >= 0 && undoVersions[i] > sinceVersion; i--) {
+            unchanged = Math.min(unchanged, undoKeptPoints[i]);
+        }
+        return unchanged;
+    }
+    
+    /**
+     * Restore the stored state of a match created by {@link #restore}.
+     * The players are expected to carry their restored statistics.
+     * @param sets the sets played so far, the last one being the current set
+     * @param status the match status
+     * @param winner the match winner, or null
+     * @param completedAt when the match was completed or cancelled, or null
+     * @param version the state version
+     * @param pointHistory the winner of every point
+     */
+    public void restoreState(List<Set> sets, MatchStatus status, PlayerId winner, LocalDateTime completedAt,
+                             long version, PointHistory pointHistory) {
+        if (this.version != 0 || getPointCount() != 0) {
+            throw new IllegalStateException("Cannot restore the state of a match in play");
+        }
+        if (sets.isEmpty()) {
+            throw new IllegalArgumentException("A match has at least one set");
+        }
+        int games = sets.stream().mapToInt(Set::getTotalGamesPlayed).sum();
+        if (pointHistory.gameCount() != games) {
+            throw new IllegalArgumentException("Point history has " + pointHistory.gameCount()
+                    + " games but the sets have " + games);
+        }
+        this.sets.clear();
+        this.sets.addAll(sets);
+        this.currentSet = sets.get(sets.size() - 1);
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.winner = winner;
+        this.completedAt = completedAt;
+        this.version = version;
+        this.pointHistory = Objects.requireNonNull(pointHistory, "Point history cannot be null");
+        this.unchangedSets = 0;
+        publishSnapshot();
+    }
+    
+    /**
+     * Restore the original completion time of a rebuilt match.
+     * Replaying the final point or the cancellation stamps the current time.
+     * @param completedAt when the match was originally completed or cancelled
+     */
+    public void restoreCompletedAt(LocalDateTime completedAt) {
+        if (isInProgress()) {
+            throw new IllegalStateException("Cannot set completion time of a match in progress");
+        }
+        this.completedAt = Objects.requireNonNull(completedAt, "Completion time cannot be null");
+        publishSnapshot();
+    }
+    
+    /**
+     * Restore the original version of a rebuilt match.
+     * Undoing points takes versions that replaying the points alone does not.
+     * @param version the version the match had, not lower than its current version
+     */
+    public void restoreVersion(long version) {
+        if (version < this.version) {
+            throw new IllegalArgumentException("Cannot restore version " + version + " below " + this.version);
+        }
+        this.version = version;
+        publishSnapshot();
+    }
+    
+    /**
+     * Record that the match state has changed, invalidating cached views.
+     */
+    private void markChanged() {
+        version++;
+    }
+    
+    /**
+     * Publish the snapshot of the current state to readers.
+     * Sets completed in the previous snapshot and not rewound since are shared with it.
+     */
+    private void publishSnapshot() {
+        snapshot = MatchSnapshot.of(this, snapshot, unchangedSets);
+        unchangedSets = sets.size();
+    }
+    
+    /**
+     * Get the snapshot published by the last change.
+     * Safe to call from any thread without holding the match's lock.
+     * @return the immutable state of the match after its last change
+     */
+    public MatchSnapshot getSnapshot() {
+        return snapshot;
     }
     
     /**
@@ -173,10 +588,10 @@ public class Match {
      * @return the current set
      */
     public Set getCurrentSet() {
-        return sets.stream()
-                .filter(set -> !set.isCompleted())
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No active set found"));
+        if (currentSet == null || currentSet.isCompleted()) {
+            throw new IllegalStateException("No active set found");
+        }
+        return currentSet;
     }
     
     /**
@@ -237,9 +652,24 @@ public class Match {
     
     /**
      * Get the current score summary.
+     * Repeated calls between state changes return the cached string.
      * @return formatted score string
      */
     public String getCurrentScore() {
+        ScoreSnapshot snapshot = scoreSnapshot;
+        long currentVersion = version;
+        if (snapshot == null || snapshot.version() != currentVersion) {
+            snapshot = new ScoreSnapshot(currentVersion, formatCurrentScore());
+            scoreSnapshot = snapshot;
+        }
+        return snapshot.score();
+    }
+    
+    /**
+     * Build the score summary from the sets.
+     * @return formatted score string
+     */
+    private String formatCurrentScore() {
         StringBuilder score = new StringBuilder();
         
         // Add set scores
@@ -260,6 +690,16 @@ public class Match {
         return score.toString().trim();
     }
     
+    /**
+     * Select the scoring strategy used for this match's games.
+     * All strategies share the same game state encoding, so the selection
+     * can be changed at any point in the match.
+     * @param strategyType the strategy type, or null for the default
+     */
+    public void selectScoringStrategy(String strategyType) {
+        this.scoringStrategyType = strategyType;
+    }
+    
     /**
      * Get the match winner.
      * @return the winning Player, or null if match not completed
@@ -308,6 +748,43 @@ public class Match {
         return winner;
     }
     
+    public String getScoringStrategyType() {
+        return scoringStrategyType;
+    }
+    
+    /**
+     * Get the state version, incremented on every point and status change.
+     * @return the current version
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Get the number of points played.
+     * @return the number of points scored in the match
+     */
+    public int getPointCount() {
+        return pointHistory.size();
+    }
+    
+    /**
+     * Copy the winner of every point.
+     * @return a copy of the point history
+     */
+    public PointHistory copyPointHistory() {
+        return PointHistory.of(pointHistory.toWords(), pointHistory.size(), pointHistory.toGameStarts());
+    }
+    
+    /**
+     * Get the winner of a point.
+     * @param index the zero-based point index
+     * @return the ID of the player who won the point
+     */
+    public PlayerId getPointWinner(int index) {
+        return pointHistory.wonByPlayer2(index) ? player2.getPlayerId() : player1.getPlayerId();
+    }
+    
     public boolean isCompleted() {
         return status == MatchStatus.COMPLETED;
     }
@@ -322,17 +799,23 @@ public class Match {
     
     /**
      * Get the current set number.
-     * @return the number of the current set
+     * @return the number of the current set, or of the last set once the match is completed
      */
     public int getCurrentSetNumber() {
+        if (isCompleted()) {
+            return currentSet.getSetNumber();
+        }
         return getCurrentSet().getSetNumber();
     }
     
     /**
      * Get the current game number within the current set.
-     * @return the number of the current game
+     * @return the number of the current game, or of the last game once the match is completed
      */
     public int getCurrentGameNumber() {
+        if (isCompleted()) {
+            return currentSet.getTotalGamesPlayed();
+        }
         Game currentGame = getCurrentGame();
         return currentGame != null ? currentGame.getGameNumber() : 0;
     }
@@ -342,6 +825,9 @@ public class Match {
      * @return true if current game is a tiebreak
      */
     public boolean isCurrentGameTiebreak() {
+        if (isCompleted()) {
+            return false;
+        }
         Game currentGame = getCurrentGame();
         return currentGame != null && currentGame.isTiebreak();
     }
@@ -370,4 +856,45 @@ public class Match {
                 ", createdAt=" + createdAt +
                 '}';
     }
-}
\ No newline at end of file
+    
+    /**
+     * A formatted score together with the version it was built for.
+     */
+    private record ScoreSnapshot(long version, String score) {
+    }
+    
+    /**
+     * The state of a match before a change, as taken by {@link #checkpoint()}.
+     */
+    public static final class Checkpoint {
+        
+        private final long[] words;
+        private final int pointCount;
+        private final long version;
+        private final LocalDateTime completedAt;
+        private final int undoCount;
+        private final MatchSnapshot snapshot;
+        
+        private Checkpoint(long[] words, int pointCount, long version, LocalDateTime completedAt,
+                           int undoCount, MatchSnapshot snapshot) {
+            this.words = words;
+            this.pointCount = pointCount;
+            this.version = version;
+            this.completedAt = completedAt;
+            this.undoCount = undoCount;
+            this.snapshot = snapshot;
+        }
+        
+        private boolean wonByPlayer2(int index) {
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+        
+        /**
+         * Get the version the match had at the checkpoint.
+         * @return the version
+         */
+        public long getVersion() {
+            return version;
+        }
+    }
+}
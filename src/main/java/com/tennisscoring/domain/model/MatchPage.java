@@ -0,0 +1,36 @@
+package com.tennisscoring.domain.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a match listing together with the cursor for the next page.
+ * 比賽列表的一頁，以及下一頁的游標
+ */
+public final class MatchPage {
+
+    private final List<Match> matches;
+    private final String nextCursor;
+
+    public MatchPage(List<Match> matches, String nextCursor) {
+        this.matches = Collections.unmodifiableList(Objects.requireNonNull(matches, "Matches cannot be null"));
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Get the cursor to pass for the next page.
+     * @return the last match ID of this page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
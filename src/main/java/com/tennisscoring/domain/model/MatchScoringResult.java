@@ -0,0 +1,68 @@
+package com.tennisscoring.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Outcome of scoring the points of one match within a multi-match batch.
+ * 多場比賽批次計分中單一比賽的結果
+ *
+ * Either the snapshot the match published once its points were scored, or
+ * the error that left it unchanged; one failing match does not affect the
+ * others in the batch.
+ */
+public final class MatchScoringResult {
+
+    private final String matchId;
+    private final MatchSnapshot match;
+    private final RuntimeException error;
+
+    private MatchScoringResult(String matchId, MatchSnapshot match, RuntimeException error) {
+        this.matchId = matchId;
+        this.match = match;
+        this.error = error;
+    }
+
+    /**
+     * Create the result of a match whose points were all scored.
+     * @param matchId the match ID from the batch
+     * @param match the snapshot the match published after its points
+     * @return the result
+     */
+    public static MatchScoringResult scored(String matchId, MatchSnapshot match) {
+        return new MatchScoringResult(matchId, Objects.requireNonNull(match, "Match cannot be null"), null);
+    }
+
+    /**
+     * Create the result of a match whose points were rejected.
+     * @param matchId the match ID from the batch
+     * @param error why none of its points were scored
+     * @return the result
+     */
+    public static MatchScoringResult failed(String matchId, RuntimeException error) {
+        return new MatchScoringResult(matchId, null, Objects.requireNonNull(error, "Error cannot be null"));
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    /**
+     * Get the scored match.
+     * @return the snapshot of the match after its points, or null if they were rejected
+     */
+    public MatchSnapshot getMatch() {
+        return match;
+    }
+
+    /**
+     * Get the reason the points were rejected.
+     * @return the error, or null if the points were scored
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    public boolean isScored() {
+        return error == null;
+    }
+}
@@ -0,0 +1,308 @@
+package com.tennisscoring.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable read model of a match at one version.
+ * 比賽在某一版本的不可變讀取模型
+ *
+ * A match publishes a new snapshot at the end of every change, once the
+ * change is complete, so a reader holding a snapshot sees one consistent
+ * state however the match is scored meanwhile, and never takes the
+ * match's lock. Games are kept as their packed {@link GameState}, and
+ * sets that were already completed are shared with the previous
+ * snapshot, so a point only copies the set in play.
+ */
+public final class MatchSnapshot {
+
+    private final String matchId;
+    private final long version;
+    private final MatchStatus status;
+    private final PlayerSnapshot player1;
+    private final PlayerSnapshot player2;
+    private final List<SetSnapshot> sets;
+    private final String currentScore;
+    private final int currentSetNumber;
+    private final int currentGameNumber;
+    private final PlayerId winner;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final int pointCount;
+
+    private MatchSnapshot(Match match, List<SetSnapshot> sets) {
+        this.matchId = match.getMatchId();
+        this.version = match.getVersion();
+        this.status = match.getStatus();
+        this.player1 = PlayerSnapshot.of(match.getPlayer1());
+        this.player2 = PlayerSnapshot.of(match.getPlayer2());
+        this.sets = sets;
+        this.currentScore = match.getCurrentScore();
+        this.currentSetNumber = match.getCurrentSetNumber();
+        this.currentGameNumber = match.getCurrentGameNumber();
+        this.winner = match.getWinner();
+        this.createdAt = match.getCreatedAt();
+        this.completedAt = match.getCompletedAt();
+        this.pointCount = match.getPointCount();
+    }
+
+    /**
+     * Take a snapshot of a match.
+     * Only the match's writer may call this, with the match not changing.
+     * @param match the match
+     * @param previous the match's previous snapshot, or null
+     * @param unchangedSets the number of leading sets not changed since the previous snapshot
+     * @return the snapshot of the match's current state
+     */
+    static MatchSnapshot of(Match match, MatchSnapshot previous, int unchangedSets) {
+        List<Set> matchSets = match.getSets();
+        List<SetSnapshot> sets = new ArrayList<>(matchSets.size());
+        for (int i = 0; i < matchSets.size(); i++) {
+            SetSnapshot shared = previous != null && i < unchangedSets && i < previous.sets.size()
+                    ? previous.sets.get(i) : null;
+            sets.add(shared != null && shared.isCompleted() ? shared : SetSnapshot.of(matchSets.get(i)));
+        }
+        return new MatchSnapshot(match, Collections.unmodifiableList(sets));
+    }
+
+    /**
+     * Get the current game.
+     * @return the game in play, or null if the match is not in progress
+     */
+    public GameSnapshot getCurrentGame() {
+        if (status != MatchStatus.IN_PROGRESS) {
+            return null;
+        }
+        List<GameSnapshot> games = sets.get(sets.size() - 1).games();
+        return games.get(games.size() - 1);
+    }
+
+    /**
+     * Check if the current game is a tiebreak.
+     * @return true if the match is in progress and its current game is a tiebreak
+     */
+    public boolean isCurrentGameTiebreak() {
+        GameSnapshot game = getCurrentGame();
+        return game != null && game.tiebreak();
+    }
+
+    /**
+     * Check if the current game is in deuce.
+     * @return true if the match is in progress and its current game is at deuce
+     */
+    public boolean isCurrentGameDeuce() {
+        GameSnapshot game = getCurrentGame();
+        return game != null && game.isDeuce();
+    }
+
+    /**
+     * Check if a player has advantage in the current game.
+     * @param playerId the player's ID
+     * @return true if the match is in progress and the player has advantage
+     */
+    public boolean hasAdvantage(PlayerId playerId) {
+        GameSnapshot game = getCurrentGame();
+        int slot = slotOf(playerId);
+        return game != null && slot != GameState.NO_WINNER && game.hasAdvantage(slot);
+    }
+
+    /**
+     * Get a player by ID.
+     * @param playerId the player's ID
+     * @return the player
+     * @throws IllegalArgumentException if the player is not in the match
+     */
+    public PlayerSnapshot getPlayer(PlayerId playerId) {
+        return switch (slotOf(playerId)) {
+            case GameState.PLAYER1 -> player1;
+            case GameState.PLAYER2 -> player2;
+            default -> throw new IllegalArgumentException("Player not found: " + playerId);
+        };
+    }
+
+    /**
+     * Get the winning player.
+     * @return the winner, or null if the match is not completed
+     */
+    public PlayerSnapshot getWinnerPlayer() {
+        return winner != null ? getPlayer(winner) : null;
+    }
+
+    private int slotOf(PlayerId playerId) {
+        if (player1.playerId().equals(playerId)) {
+            return GameState.PLAYER1;
+        }
+        if (player2.playerId().equals(playerId)) {
+            return GameState.PLAYER2;
+        }
+        return GameState.NO_WINNER;
+    }
+
+    // Getters
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    public PlayerSnapshot getPlayer1() {
+        return player1;
+    }
+
+    public PlayerSnapshot getPlayer2() {
+        return player2;
+    }
+
+    public List<SetSnapshot> getSets() {
+        return sets;
+    }
+
+    public String getCurrentScore() {
+        return currentScore;
+    }
+
+    public int getCurrentSetNumber() {
+        return currentSetNumber;
+    }
+
+    public int getCurrentGameNumber() {
+        return currentGameNumber;
+    }
+
+    public PlayerId getWinner() {
+        return winner;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public boolean isCompleted() {
+        return status == MatchStatus.COMPLETED;
+    }
+
+    public boolean isInProgress() {
+        return status == MatchStatus.IN_PROGRESS;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchSnapshot{" +
+                "matchId=" + matchId +
+                ", version=" + version +
+                ", status=" + status +
+                ", currentScore='" + currentScore + '\'' +
+                '}';
+    }
+
+    /**
+     * A player's name and statistics.
+     * @param playerId the player's ID
+     * @param name the player's name
+     * @param setsWon the sets won
+     * @param gamesWon the games won in the current set
+     * @param pointsWon the points won
+     */
+    public record PlayerSnapshot(PlayerId playerId, String name, int setsWon, int gamesWon, int pointsWon) {
+
+        static PlayerSnapshot of(Player player) {
+            return new PlayerSnapshot(player.getPlayerId(), player.getName(), player.getSetsWon(),
+                    player.getGamesWon(), player.getPointsWon());
+        }
+    }
+
+    /**
+     * A set with its games.
+     * @param setNumber the set number
+     * @param player1Games the games won by player 1
+     * @param player2Games the games won by player 2
+     * @param completed whether the set is completed
+     * @param winner the set winner, or null
+     * @param games the games played so far, the last one being the current game
+     */
+    public record SetSnapshot(int setNumber, int player1Games, int player2Games, boolean completed,
+                              PlayerId winner, List<GameSnapshot> games) {
+
+        static SetSnapshot of(Set set) {
+            List<Game> setGames = set.getGames();
+            List<GameSnapshot> games = new ArrayList<>(setGames.size());
+            for (int i = 0; i < setGames.size(); i++) {
+                games.add(GameSnapshot.of(setGames.get(i)));
+            }
+            return new SetSnapshot(set.getSetNumber(), set.getGamesWon(set.getPlayer1Id()),
+                    set.getGamesWon(set.getPlayer2Id()), set.isCompleted(), set.getWinner(),
+                    Collections.unmodifiableList(games));
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+    }
+
+    /**
+     * A game as its packed {@link GameState}.
+     * @param gameNumber the game number within its set
+     * @param tiebreak whether the game is a tiebreak
+     * @param state the packed game state
+     * @param winner the game winner, or null
+     */
+    public record GameSnapshot(int gameNumber, boolean tiebreak, int state, PlayerId winner) {
+
+        static GameSnapshot of(Game game) {
+            return new GameSnapshot(game.getGameNumber(), game.isTiebreak(), game.getState(), game.getWinner());
+        }
+
+        public boolean isCompleted() {
+            return GameState.isCompleted(state);
+        }
+
+        /**
+         * Get the points a player has won in this game.
+         * @param player {@link GameState#PLAYER1} or {@link GameState#PLAYER2}
+         * @return the raw point count
+         */
+        public int points(int player) {
+            return GameState.points(state, player);
+        }
+
+        /**
+         * Get a player's score in a regular game.
+         * @param player {@link GameState#PLAYER1} or {@link GameState#PLAYER2}
+         * @return the score
+         * @throws IllegalStateException if the game is a tiebreak
+         */
+        public GameScore score(int player) {
+            if (tiebreak) {
+                throw new IllegalStateException("Use points for tiebreak games");
+            }
+            return GameState.score(state, player);
+        }
+
+        public boolean isDeuce() {
+            return !tiebreak
+                    && GameState.status(state) == GameStatus.DEUCE
+                    && GameState.player1Points(state) == GameScore.FORTY.ordinal()
+                    && GameState.player2Points(state) == GameScore.FORTY.ordinal();
+        }
+
+        boolean hasAdvantage(int player) {
+            return !tiebreak && GameState.score(state, player) == GameScore.ADVANTAGE;
+        }
+    }
+}
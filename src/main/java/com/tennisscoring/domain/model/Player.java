@@ -37,6 +37,23 @@ public class Player {
         return new Player(playerId, PlayerName.of(name));
     }
     
+    /**
+     * Factory method to rebuild a stored Player with its statistics.
+     * @param playerId unique identifier for the player
+     * @param name the player's name as string
+     * @param setsWon sets won in the match
+     * @param gamesWon games won in the current set
+     * @param pointsWon points won in the match
+     * @return new Player instance
+     */
+    public static Player restore(PlayerId playerId, String name, int setsWon, int gamesWon, int pointsWon) {
+        Player player = create(playerId, name);
+        player.setsWon = setsWon;
+        player.gamesWon = gamesWon;
+        player.pointsWon = pointsWon;
+        return player;
+    }
+    
     /**
      * Factory method to create a Player with generated ID.
      * @param name the player's name as string
@@ -67,6 +84,16 @@ public class Player {
         this.pointsWon++;
     }
     
+    /**
+     * Set the sets and points won after points of the match were undone.
+     * @param setsWon the number of sets won
+     * @param pointsWon the number of points won
+     */
+    void rewindStats(int setsWon, int pointsWon) {
+        this.setsWon = setsWon;
+        this.pointsWon = pointsWon;
+    }
+    
     /**
      * Reset game statistics (used when starting a new set).
      */
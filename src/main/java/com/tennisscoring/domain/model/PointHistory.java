@@ -0,0 +1,174 @@
+package com.tennisscoring.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Record of who won each point of a match, one bit per point.
+ * 比賽中每一分得分者的紀錄，每分佔一個位元
+ *
+ * A clear bit means player 1 won the point, a set bit player 2. A full
+ * five-set match fits in a few dozen longs, so the history can be kept on
+ * every match and replayed to rebuild it.
+ *
+ * The history also checkpoints the index of the first point of every game,
+ * so the match can be rewound to the start of any game and only the points
+ * played since have to be scored again.
+ */
+public final class PointHistory {
+
+    private long[] words = new long[4];
+    private int size;
+    private int[] gameStarts = new int[16];
+    private int games;
+
+    /**
+     * Rebuild a stored history.
+     * @param words the words returned by {@link #toWords()}
+     * @param size the number of points
+     * @param gameStarts the checkpoints returned by {@link #toGameStarts()}
+     * @return the history
+     */
+    public static PointHistory of(long[] words, int size, int[] gameStarts) {
+        if (size < 0 || words.length < (size + 63) >>> 6) {
+            throw new IllegalArgumentException("History of " + size + " points needs more than " + words.length + " words");
+        }
+        for (int game = 0; game < gameStarts.length; game++) {
+            int start = gameStarts[game];
+            if (start > size || (game > 0 && start <= gameStarts[game - 1])) {
+                throw new IllegalArgumentException("Invalid start " + start + " of game " + game + " in " + size + " points");
+            }
+        }
+        PointHistory history = new PointHistory();
+        history.words = Arrays.copyOf(words, Math.max(4, words.length));
+        history.size = size;
+        history.gameStarts = Arrays.copyOf(gameStarts, Math.max(16, gameStarts.length));
+        history.games = gameStarts.length;
+        return history;
+    }
+
+    /**
+     * Append the winner of the next point.
+     * @param wonByPlayer2 true if player 2 won the point
+     */
+    public void record(boolean wonByPlayer2) {
+        int word = size >>> 6;
+        if (word == words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        if (wonByPlayer2) {
+            words[word] |= 1L << size;
+        }
+        size++;
+    }
+
+    /**
+     * Check who won a point.
+     * @param index the zero-based point index
+     * @return true if player 2 won the point
+     */
+    public boolean wonByPlayer2(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Point index " + index + " out of range for " + size + " points");
+        }
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checkpoint the start of a new game at the next point.
+     */
+    public void markGameStart() {
+        if (games == gameStarts.length) {
+            gameStarts = Arrays.copyOf(gameStarts, games * 2);
+        }
+        gameStarts[games++] = size;
+    }
+
+    /**
+     * Find the game a point belongs to.
+     * @param index the zero-based point index, or the number of points for the game about to be played
+     * @return the zero-based index of the last game that started at or before the point
+     */
+    public int gameOf(int index) {
+        if (index < 0 || index > size || games == 0) {
+            throw new IndexOutOfBoundsException("Point index " + index + " out of range for " + size + " points");
+        }
+        int game = Arrays.binarySearch(gameStarts, 0, games, index);
+        return game >= 0 ? game : -game - 2;
+    }
+
+    /**
+     * Get the index of the first point of a game.
+     * @param game the zero-based game index
+     * @return the index of the game's first point
+     */
+    public int gameStart(int game) {
+        if (game < 0 || game >= games) {
+            throw new IndexOutOfBoundsException("Game " + game + " out of range for " + games + " games");
+        }
+        return gameStarts[game];
+    }
+
+    /**
+     * Drop the points from an index onwards, keeping the games that start at or before it.
+     * @param newSize the number of points to keep
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Cannot truncate " + size + " points to " + newSize);
+        }
+        int word = newSize >>> 6;
+        if ((newSize & 63) != 0) {
+            words[word] &= (1L << newSize) - 1;
+            word++;
+        }
+        Arrays.fill(words, word, (size + 63) >>> 6, 0L);
+        size = newSize;
+        while (games > 0 && gameStarts[games - 1] > newSize) {
+            games--;
+        }
+    }
+
+    /**
+     * Count the recorded points won by player 2.
+     * @return the number of set bits
+     */
+    public int countWonByPlayer2() {
+        int count = 0;
+        for (int word = 0, end = (size + 63) >>> 6; word < end; word++) {
+            count += Long.bitCount(words[word]);
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of games checkpointed.
+     * @return the number of games started
+     */
+    public int gameCount() {
+        return games;
+    }
+
+    /**
+     * Copy the game start checkpoints.
+     * @return the index of the first point of every game, in order
+     */
+    public int[] toGameStarts() {
+        return Arrays.copyOf(gameStarts, games);
+    }
+
+    /**
+     * Copy the bits of the recorded points, 64 points per word.
+     * @return the words holding the history
+     */
+    public long[] toWords() {
+        return Arrays.copyOf(words, (size + 63) >>> 6);
+    }
+
+    /**
+     * Get the number of recorded points.
+     * @return the number of points
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -10,11 +10,15 @@ import java.util.Objects;
 /**
  * Set entity representing a tennis set within a match.
  * Manages games and determines set winners based on tennis rules.
+ * 
+ * The active game is tracked by a cursor that moves when a game is added,
+ * so looking it up does not depend on how many games have been played.
  */
 public class Set {
     
     private final int setNumber;
     private final List<Game> games;
+    private Game currentGame;
     private final Map<PlayerId, Integer> gamesWon;
     private boolean isCompleted;
     private PlayerId winner;
@@ -33,6 +37,43 @@ public class Set {
         this.winner = null;
     }
     
+    /**
+     * Factory method to rebuild a stored set from its games.
+     * Games won are counted from the winners of the completed games.
+     * @param setNumber the sequential number of this set in the match
+     * @param player1Id ID of player 1
+     * @param player2Id ID of player 2
+     * @param games the games played so far, the last one being the current game
+     * @param winner the set winner, or null if the set is in progress
+     * @return new Set instance in the given state
+     */
+    public static Set restore(int setNumber, PlayerId player1Id, PlayerId player2Id, List<Game> games, PlayerId winner) {
+        if (games.isEmpty()) {
+            throw new IllegalArgumentException("A set has at least one game");
+        }
+        Set set = new Set(setNumber);
+        set.player1Id = player1Id;
+        set.player2Id = player2Id;
+        int player1Games = 0;
+        int player2Games = 0;
+        for (Game game : games) {
+            if (game.isCompleted()) {
+                if (player1Id.equals(game.getWinner())) {
+                    player1Games++;
+                } else {
+                    player2Games++;
+                }
+            }
+        }
+        set.gamesWon.put(player1Id, player1Games);
+        set.gamesWon.put(player2Id, player2Games);
+        set.games.addAll(games);
+        set.currentGame = games.get(games.size() - 1);
+        set.isCompleted = winner != null;
+        set.winner = winner;
+        return set;
+    }
+    
     /**
      * Initialize the set with player IDs and create the first game.
      * @param player1Id ID of player 1
@@ -61,6 +102,31 @@ public class Set {
         Game newGame = new Game(gameNumber, isTiebreak);
         newGame.initializeScores(player1Id, player2Id);
         games.add(newGame);
+        currentGame = newGame;
+    }
+    
+    /**
+     * Drop a game and every game after it, and start that game again.
+     * Used when the last points of a match are undone.
+     * @param gameIndex the zero-based index of the game to restart
+     */
+    void rewindTo(int gameIndex) {
+        if (gameIndex < 0 || gameIndex >= games.size()) {
+            throw new IndexOutOfBoundsException("Game " + gameIndex + " out of range for " + games.size() + " games");
+        }
+        boolean tiebreak = games.get(gameIndex).isTiebreak();
+        games.subList(gameIndex, games.size()).clear();
+        int player1Games = 0;
+        for (Game game : games) {
+            if (player1Id.equals(game.getWinner())) {
+                player1Games++;
+            }
+        }
+        gamesWon.put(player1Id, player1Games);
+        gamesWon.put(player2Id, games.size() - player1Games);
+        isCompleted = false;
+        winner = null;
+        addNewGame(tiebreak);
     }
     
     /**
@@ -68,14 +134,11 @@ public class Set {
      * @return the current game, or null if set is completed
      */
     public Game getCurrentGame() {
-        if (isCompleted) {
+        if (isCompleted || currentGame == null || currentGame.isCompleted()) {
             return null;
         }
         
-        return games.stream()
-                .filter(game -> !game.isCompleted())
-                .findFirst()
-                .orElse(null);
+        return currentGame;
     }
     
     /**
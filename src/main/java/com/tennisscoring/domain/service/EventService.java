@@ -1,8 +1,11 @@
 package com.tennisscoring.domain.service;
 
+import com.tennisscoring.domain.event.PointScoredEvent;
 import com.tennisscoring.domain.model.Match;
 import com.tennisscoring.domain.model.PlayerId;
 
+import java.util.List;
+
 /**
  * Interface for event service operations.
  * 事件服務操作的介面
@@ -32,6 +35,14 @@ public interface EventService {
      */
     void publishPointScored(Match match, String playerId);
     
+    /**
+     * Publish the events of points scored together in one batch.
+     * 發布同一批次記錄的多個得分事件
+     * 
+     * @param events the point scored events, in order
+     */
+    void publishPointsScored(List<PointScoredEvent> events);
+    
     /**
      * Publish match completed event.
      * 發布比賽完成事件
@@ -77,4 +88,14 @@ public interface EventService {
      * @param winnerId the winner of the set
      */
     void publishSetCompleted(String matchId, int setNumber, String winnerId);
+    
+    /**
+     * Publish points corrected event.
+     * 發布分數更正事件
+     * 
+     * @param match the corrected match
+     * @param pointsUndone the number of points taken back
+     * @param pointsScored the number of points scored in their place
+     */
+    void publishPointsCorrected(Match match, int pointsUndone, int pointsScored);
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.tennisscoring.domain.service;
 
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.event.PointScoredEvent;
 import com.tennisscoring.domain.exception.InvalidMatchStateException;
 import com.tennisscoring.domain.exception.MatchNotFoundException;
+import com.tennisscoring.domain.exception.MatchVersionConflictException;
+import com.tennisscoring.domain.exception.ValidationException;
 import com.tennisscoring.domain.factory.MatchFactoryRegistry;
 import com.tennisscoring.domain.model.*;
 import com.tennisscoring.ports.primary.*;
 import com.tennisscoring.ports.secondary.MatchRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Domain service implementing match management and query operations.
@@ -19,32 +29,109 @@ import java.util.Objects;
  * solely on core match management operations. Statistics and event publishing
  * are handled by dedicated services.
  * 
+ * Mutations of an existing match (find, change, save, publish) run under
+ * that match's lock from {@link StripedMatchLocks}, so concurrent requests
+ * for one match are serialized while different matches proceed in parallel.
+ * 
+ * Points are saved with a compare-and-set against the version the match had
+ * when it was loaded, and callers may pass the version they last saw. A
+ * mismatch raises a retryable {@link MatchVersionConflictException} instead
+ * of silently overwriting a newer state.
+ * 
+ * Undoing or correcting points takes the same lock and version check as
+ * scoring, so a correction applies to exactly the points the umpire saw.
+ * A batch of points buffered by a client is applied in one locked pass
+ * with one save, and its point events are published together. A feed
+ * batch covering many matches scores each match that way, in parallel on a
+ * bounded executor, and reports each match's outcome separately.
+ * 
+ * Queries for snapshots take no lock: each match publishes an immutable
+ * {@link MatchSnapshot} at the end of every change made under its lock,
+ * so readers see a consistent state and never wait for a writer. Scoring
+ * and corrections return the snapshot their own change published, taken
+ * before the lock is released, so a caller never sees the next writer's
+ * point as its own.
+ * 
  * Requirements: 1.1, 2.2, 4.4, 6.1, 6.2, 6.3
  */
 @Service
-public class MatchDomainService implements MatchService, MatchCreationPort, MatchScoringPort, MatchDeletionPort, MatchQueryPort {
+public class MatchDomainService implements MatchService, MatchCreationPort, MatchScoringPort, MatchCorrectionPort,
+        MatchDeletionPort, MatchQueryPort {
     
     private final MatchRepositoryPort matchRepository;
     private final ScoringDomainService scoringService;
     private final MatchEventService eventService;
     private final MatchFactoryRegistry matchFactory;
     private final ValidationService validationService;
+    private final StripedMatchLocks matchLocks;
+    private final Executor batchExecutor;
+    
+    private static final long ANY_VERSION = -1;
+    
+    /**
+     * Largest page a listing request may ask for.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+    
+    /**
+     * Most points one batch may hold, well over a five-set match.
+     */
+    public static final int MAX_BATCH_POINTS = 1000;
+    
+    /**
+     * Most matches one feed batch may hold.
+     */
+    public static final int MAX_BATCH_MATCHES = 1000;
+    
+    /**
+     * Constructor using default match locks.
+     * 使用預設比賽鎖的建構子
+     */
+    public MatchDomainService(
+            MatchRepositoryPort matchRepository,
+            ScoringDomainService scoringService,
+            MatchEventService eventService,
+            MatchFactoryRegistry matchFactory,
+            ValidationService validationService) {
+        this(matchRepository, scoringService, eventService, matchFactory, validationService,
+             new StripedMatchLocks());
+    }
+    
+    /**
+     * Constructor scoring the matches of a feed batch one after another on the caller's thread.
+     * 在呼叫端執行緒上依序為批次中各比賽計分的建構子
+     */
+    public MatchDomainService(
+            MatchRepositoryPort matchRepository,
+            ScoringDomainService scoringService,
+            MatchEventService eventService,
+            MatchFactoryRegistry matchFactory,
+            ValidationService validationService,
+            StripedMatchLocks matchLocks) {
+        this(matchRepository, scoringService, eventService, matchFactory, validationService,
+             matchLocks, Runnable::run);
+    }
     
     /**
      * Constructor with dependency injection.
      * 依賴注入的建構子
      */
+    @Autowired
     public MatchDomainService(
             MatchRepositoryPort matchRepository,
             ScoringDomainService scoringService,
             MatchEventService eventService,
             MatchFactoryRegistry matchFactory,
-            ValidationService validationService) {
+            ValidationService validationService,
+            StripedMatchLocks matchLocks,
+            @Qualifier("matchBatchExecutor") Executor batchExecutor) {
         this.matchRepository = Objects.requireNonNull(matchRepository, "Match repository cannot be null");
         this.scoringService = Objects.requireNonNull(scoringService, "Scoring service cannot be null");
         this.eventService = Objects.requireNonNull(eventService, "Event service cannot be null");
         this.matchFactory = Objects.requireNonNull(matchFactory, "Match factory cannot be null");
         this.validationService = Objects.requireNonNull(validationService, "Validation service cannot be null");
+        this.matchLocks = Objects.requireNonNull(matchLocks, "Match locks cannot be null");
+        this.batchExecutor = Objects.requireNonNull(batchExecutor, "Batch executor cannot be null");
     }
     
     // MatchManagementPort implementation
@@ -79,50 +166,227 @@ public class MatchDomainService implements MatchService, MatchCreationPort, Matc
     }
     
     @Override
-    public Match scorePoint(String matchId, String playerId) {
+    public MatchSnapshot scorePoint(String matchId, String playerId) {
+        return scorePointAtVersion(matchId, playerId, ANY_VERSION);
+    }
+    
+    @Override
+    public MatchSnapshot scorePoint(String matchId, String playerId, long expectedVersion) {
+        validateExpectedVersion(expectedVersion);
+        return scorePointAtVersion(matchId, playerId, expectedVersion);
+    }
+    
+    private MatchSnapshot scorePointAtVersion(String matchId, String playerId, long expectedVersion) {
         validationService.validateMatchId(matchId);
         validationService.validatePlayerId(playerId);
         
-        // Retrieve match
-        Match match = getMatchById(matchId);
-        
         // Convert string playerId to PlayerId object
         PlayerId playerIdObj = PlayerId.of(playerId);
         
-        // Score the point using scoring service
-        boolean matchCompleted = scoringService.scorePoint(match, playerIdObj);
-        
-        // Save updated match
-        Match updatedMatch = matchRepository.save(match);
+        return matchLocks.withLock(matchId, () -> {
+            // Retrieve match
+            Match match = getMatchById(matchId);
+            long loadedVersion = match.getVersion();
+            if (expectedVersion != ANY_VERSION && expectedVersion != loadedVersion) {
+                throw new MatchVersionConflictException(matchId, expectedVersion);
+            }
+            
+            // Score the point using scoring service
+            Match.Checkpoint checkpoint = match.checkpoint();
+            boolean matchCompleted = scoringService.scorePoint(match, playerIdObj);
+            
+            // Save updated match unless another writer got there first
+            saveOrRollBack(match, checkpoint);
+            Match updatedMatch = match;
+            MatchSnapshot snapshot = match.getSnapshot();
+            
+            // Publish point scored event
+            eventService.publishPointScored(updatedMatch, playerId);
+            
+            // Publish additional events based on game state
+            eventService.publishGameStateEvents(updatedMatch, playerIdObj);
+            
+            // If match completed, publish match completed event
+            if (matchCompleted) {
+                eventService.publishMatchCompleted(updatedMatch);
+            }
+            
+            return snapshot;
+        });
+    }
+    
+    @Override
+    public MatchSnapshot scorePoints(String matchId, List<String> playerIds) {
+        return scorePointsAtVersion(matchId, playerIds, ANY_VERSION);
+    }
+    
+    @Override
+    public MatchSnapshot scorePoints(String matchId, List<String> playerIds, long expectedVersion) {
+        validateExpectedVersion(expectedVersion);
+        return scorePointsAtVersion(matchId, playerIds, expectedVersion);
+    }
+    
+    private MatchSnapshot scorePointsAtVersion(String matchId, List<String> playerIds, long expectedVersion) {
+        validationService.validateMatchId(matchId);
+        if (playerIds != null && playerIds.size() > MAX_BATCH_POINTS) {
+            throw new ValidationException("playerIds", playerIds.size(),
+                    "A batch holds at most " + MAX_BATCH_POINTS + " points");
+        }
+        List<PlayerId> winners = toPlayerIds(playerIds);
         
-        // Publish point scored event
-        eventService.publishPointScored(updatedMatch, playerId);
+        return matchLocks.withLock(matchId, () -> {
+            Match match = getMatchById(matchId);
+            long loadedVersion = match.getVersion();
+            if (expectedVersion != ANY_VERSION && expectedVersion != loadedVersion) {
+                throw new MatchVersionConflictException(matchId, expectedVersion);
+            }
+            
+            // Build each point's events while the match shows its state, publish them once saved
+            List<PointScoredEvent> events = new ArrayList<>(winners.size());
+            List<Completion> completions = new ArrayList<>();
+            boolean inProgress = match.isInProgress();
+            Game[] game = {inProgress ? match.getCurrentGame() : null};
+            Set[] set = {inProgress ? match.getCurrentSet() : null};
+            Match.Checkpoint checkpoint = match.checkpoint();
+            boolean matchCompleted = scoringService.scorePoints(match, winners, winner -> {
+                events.add(eventService.createPointScoredEvent(match, winner.getValue()));
+                if (game[0].isCompleted()) {
+                    completions.add(new Completion(false, game[0].getGameNumber(), winner.getValue()));
+                }
+                if (set[0].isCompleted()) {
+                    completions.add(new Completion(true, set[0].getSetNumber(), winner.getValue()));
+                }
+                if (match.isInProgress()) {
+                    game[0] = match.getCurrentGame();
+                    set[0] = match.getCurrentSet();
+                }
+            });
+            
+            saveOrRollBack(match, checkpoint);
+            MatchSnapshot snapshot = match.getSnapshot();
+            
+            eventService.publishPointsScored(events);
+            for (Completion completion : completions) {
+                if (completion.set()) {
+                    eventService.publishSetCompleted(matchId, completion.number(), completion.winnerId());
+                } else {
+                    eventService.publishGameCompleted(matchId, completion.number(), completion.winnerId());
+                }
+            }
+            if (matchCompleted) {
+                eventService.publishMatchCompleted(match);
+            }
+            return snapshot;
+        });
+    }
+    
+    @Override
+    public List<MatchScoringResult> scoreMatches(Map<String, List<String>> pointsByMatch) {
+        Objects.requireNonNull(pointsByMatch, "Points cannot be null");
+        if (pointsByMatch.size() > MAX_BATCH_MATCHES) {
+            throw new ValidationException("matches", pointsByMatch.size(),
+                    "A batch covers at most " + MAX_BATCH_MATCHES + " matches");
+        }
         
-        // Publish additional events based on game state
-        eventService.publishGameStateEvents(updatedMatch, playerIdObj);
+        // Each match takes only its own lock, so the groups can run side by side
+        List<CompletableFuture<MatchScoringResult>> futures = new ArrayList<>(pointsByMatch.size());
+        for (Map.Entry<String, List<String>> points : pointsByMatch.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> scoreMatch(points.getKey(), points.getValue()), batchExecutor));
+        }
         
-        // If match completed, publish match completed event
-        if (matchCompleted) {
-            eventService.publishMatchCompleted(updatedMatch);
+        List<MatchScoringResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<MatchScoringResult> future : futures) {
+            results.add(future.join());
         }
+        return results;
+    }
+    
+    /**
+     * Score one match of a feed batch, turning a rejection into its result.
+     * 為批次中的一場比賽計分，並將拒絕轉為該比賽的結果
+     */
+    private MatchScoringResult scoreMatch(String matchId, List<String> playerIds) {
+        try {
+            return MatchScoringResult.scored(matchId, scorePointsAtVersion(matchId, playerIds, ANY_VERSION));
+        } catch (RuntimeException e) {
+            return MatchScoringResult.failed(matchId, e);
+        }
+    }
+    
+    // MatchCorrectionPort implementation
+    
+    @Override
+    public MatchSnapshot undoLastPoints(String matchId, int count) {
+        return correctAtVersion(matchId, count, null, ANY_VERSION);
+    }
+    
+    @Override
+    public MatchSnapshot undoLastPoints(String matchId, int count, long expectedVersion) {
+        validateExpectedVersion(expectedVersion);
+        return correctAtVersion(matchId, count, null, expectedVersion);
+    }
+    
+    @Override
+    public MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds) {
+        return correctAtVersion(matchId, count, toPlayerIds(playerIds), ANY_VERSION);
+    }
+    
+    @Override
+    public MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds, long expectedVersion) {
+        validateExpectedVersion(expectedVersion);
+        return correctAtVersion(matchId, count, toPlayerIds(playerIds), expectedVersion);
+    }
+    
+    /**
+     * Undo the last points, or replace them when winners are given, under the match's lock.
+     * 在比賽鎖內撤銷最後幾分，或在提供得分者時更正它們
+     */
+    private MatchSnapshot correctAtVersion(String matchId, int count, List<PlayerId> winners, long expectedVersion) {
+        validationService.validateMatchId(matchId);
         
-        return updatedMatch;
+        return matchLocks.withLock(matchId, () -> {
+            Match match = getMatchById(matchId);
+            long loadedVersion = match.getVersion();
+            if (expectedVersion != ANY_VERSION && expectedVersion != loadedVersion) {
+                throw new MatchVersionConflictException(matchId, expectedVersion);
+            }
+            boolean wasCompleted = match.isCompleted();
+            Match.Checkpoint checkpoint = match.checkpoint();
+            
+            if (winners == null) {
+                scoringService.undoLastPoints(match, count);
+            } else {
+                scoringService.correctLastPoints(match, count, winners);
+            }
+            
+            saveOrRollBack(match, checkpoint);
+            MatchSnapshot snapshot = match.getSnapshot();
+            
+            eventService.publishPointsCorrected(match, count, winners == null ? 0 : winners.size());
+            if (match.isCompleted() && !wasCompleted) {
+                eventService.publishMatchCompleted(match);
+            }
+            return snapshot;
+        });
     }
     
     @Override
     public void deleteMatch(String matchId) {
         validationService.validateMatchId(matchId);
         
-        // Check if match exists
-        if (!matchRepository.existsById(matchId)) {
-            throw new MatchNotFoundException(matchId);
-        }
-        
-        // Delete from repository
-        matchRepository.deleteById(matchId);
-        
-        // Publish match deleted event
-        eventService.publishMatchDeleted(matchId, "system");
+        matchLocks.withLock(matchId, () -> {
+            // Check if match exists
+            if (!matchRepository.existsById(matchId)) {
+                throw new MatchNotFoundException(matchId);
+            }
+            
+            // Delete from repository
+            matchRepository.deleteById(matchId);
+            
+            // Publish match deleted event
+            eventService.publishMatchDeleted(matchId, "system");
+        });
     }
     
     /**
@@ -137,7 +401,7 @@ public class MatchDomainService implements MatchService, MatchCreationPort, Matc
         validationService.validateMatchId(match.getMatchId());
         
         // Save updated match
-        return matchRepository.save(match);
+        return matchLocks.withLock(match.getMatchId(), () -> matchRepository.save(match));
     }
     
     // QueryPort implementation
@@ -159,6 +423,42 @@ public class MatchDomainService implements MatchService, MatchCreationPort, Matc
         return matchRepository.findByStatus(status);
     }
     
+    @Override
+    public MatchSnapshot getMatchSnapshot(String matchId) {
+        validationService.validateMatchId(matchId);
+        return getMatchById(matchId).getSnapshot();
+    }
+    
+    @Override
+    public List<MatchSnapshot> getAllMatchSnapshots() {
+        return toSnapshots(matchRepository.findAll());
+    }
+    
+    @Override
+    public List<MatchSnapshot> getMatchSnapshotsByStatus(MatchStatus status) {
+        validationService.validateMatchStatus(status);
+        // The index holds the status of the last save; a snapshot may already be past it
+        List<MatchSnapshot> snapshots = toSnapshots(matchRepository.findByStatus(status));
+        snapshots.removeIf(snapshot -> snapshot.getStatus() != status);
+        return snapshots;
+    }
+    
+    @Override
+    public MatchPage getMatchPage(MatchStatus status, String afterMatchId, int limit) {
+        validationService.validatePageLimit(limit, MAX_PAGE_SIZE);
+        if (afterMatchId != null) {
+            validationService.validateMatchId(afterMatchId);
+        }
+        
+        // Fetch one extra match to learn whether another page follows
+        List<Match> matches = matchRepository.findPage(status, afterMatchId, limit + 1);
+        if (matches.size() <= limit) {
+            return new MatchPage(matches, null);
+        }
+        List<Match> page = matches.subList(0, limit);
+        return new MatchPage(page, page.get(limit - 1).getMatchId());
+    }
+    
     @Override
     public boolean matchExists(String matchId) {
         if (matchId == null || matchId.trim().isEmpty()) {
@@ -178,6 +478,59 @@ public class MatchDomainService implements MatchService, MatchCreationPort, Matc
                 .orElseThrow(() -> new MatchNotFoundException(matchId));
     }
     
+    /**
+     * Read the published snapshot of each match.
+     * 讀取每場比賽已發布的快照
+     */
+    private static List<MatchSnapshot> toSnapshots(List<Match> matches) {
+        List<MatchSnapshot> snapshots = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            snapshots.add(match.getSnapshot());
+        }
+        return snapshots;
+    }
+    
+    /**
+     * Reject a negative expected version.
+     * 拒絕負數的預期版本
+     */
+    private void validateExpectedVersion(long expectedVersion) {
+        if (expectedVersion < 0) {
+            throw new ValidationException("expectedVersion", expectedVersion, "Version cannot be negative");
+        }
+    }
+    
+    /**
+     * Save a changed match unless another writer saved it first, rolling the change back if so.
+     * 儲存變更後的比賽；若其他寫入者先行儲存，則回復該變更
+     * 
+     * The repository may hold the very object that was changed, so the
+     * change is taken back before the conflict is raised and a retry of
+     * the request does not apply it twice.
+     */
+    private void saveOrRollBack(Match match, Match.Checkpoint checkpoint) {
+        if (!matchRepository.saveIfVersion(match, checkpoint.getVersion())) {
+            scoringService.rollBack(match, checkpoint);
+            throw new MatchVersionConflictException(match.getMatchId(), checkpoint.getVersion());
+        }
+    }
+    
+    /**
+     * Validate and convert the winners of a run of points.
+     * 驗證並轉換一連串得分的得分者
+     */
+    private List<PlayerId> toPlayerIds(List<String> playerIds) {
+        if (playerIds == null || playerIds.isEmpty()) {
+            throw new ValidationException("playerIds", playerIds, "At least one point is required");
+        }
+        List<PlayerId> winners = new ArrayList<>(playerIds.size());
+        for (String playerId : playerIds) {
+            validationService.validatePlayerId(playerId);
+            winners.add(PlayerId.of(playerId));
+        }
+        return winners;
+    }
+    
 
     
 
@@ -187,24 +540,32 @@ public class MatchDomainService implements MatchService, MatchCreationPort, Matc
      * 取消進行中的比賽
      * 
      * @param matchId the match ID
-     * @return the cancelled match
+     * @return the snapshot the cancelled match published
      */
-    public Match cancelMatch(String matchId) {
+    public MatchSnapshot cancelMatch(String matchId) {
         validationService.validateMatchId(matchId);
         
-        Match match = getMatchById(matchId);
-        validationService.validateMatchStateForCancellation(match);
-        
-        // Cancel the match
-        match.cancel();
-        
-        // Save updated match
-        Match updatedMatch = matchRepository.save(match);
-        
-        // Publish match deleted event (cancelled matches are considered deleted)
-        eventService.publishMatchDeleted(matchId, "cancelled");
-        
-        return updatedMatch;
+        return matchLocks.withLock(matchId, () -> {
+            Match match = getMatchById(matchId);
+            validationService.validateMatchStateForCancellation(match);
+            
+            // Cancel the match
+            match.cancel();
+            
+            // Save updated match
+            MatchSnapshot snapshot = matchRepository.save(match).getSnapshot();
+            
+            // Publish match deleted event (cancelled matches are considered deleted)
+            eventService.publishMatchDeleted(matchId, "cancelled");
+            
+            return snapshot;
+        });
     }
     
-}
\ No newline at end of file
+    /**
+     * A game or set completed by a point of a batch, published once the batch is saved.
+     * 批次中某一分完成的局或盤，於批次儲存後發布
+     */
+    private record Completion(boolean set, int number, String winnerId) {
+    }
+}
@@ -11,6 +11,7 @@ import com.tennisscoring.ports.secondary.MatchEventPublisherPort;
 import com.tennisscoring.ports.secondary.GameEventPublisherPort;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -45,7 +46,9 @@ public class MatchEventService implements EventService {
         
         MatchCreatedEvent event = new MatchCreatedEvent(
             match.getMatchId(),
+            match.getPlayer1().getPlayerId().getValue(),
             match.getPlayer1().getName(),
+            match.getPlayer2().getPlayerId().getValue(),
             match.getPlayer2().getName()
         );
         
@@ -60,18 +63,41 @@ public class MatchEventService implements EventService {
      * @param playerId the player who scored
      */
     public void publishPointScored(Match match, String playerId) {
+        gameEventPublisher.publishPointScored(createPointScoredEvent(match, playerId));
+    }
+    
+    /**
+     * Build the point scored event for the current state of a match.
+     * 依比賽目前狀態建立得分事件
+     * 
+     * @param match the match where point was scored
+     * @param playerId the player who scored
+     * @return the event
+     */
+    public PointScoredEvent createPointScoredEvent(Match match, String playerId) {
         Objects.requireNonNull(match, "Match cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         
-        PointScoredEvent event = new PointScoredEvent(
+        return new PointScoredEvent(
             match.getMatchId(),
             playerId,
             match.getCurrentScore(),
             match.getCurrentSetNumber(),
-            match.getCurrentGameNumber()
+            match.getCurrentGameNumber(),
+            match.getVersion()
         );
+    }
+    
+    /**
+     * Publish the events of points scored together in one batch.
+     * 發布同一批次記錄的多個得分事件
+     * 
+     * @param events the point scored events, in order
+     */
+    public void publishPointsScored(List<PointScoredEvent> events) {
+        Objects.requireNonNull(events, "Point scored events cannot be null");
         
-        gameEventPublisher.publishPointScored(event);
+        gameEventPublisher.publishPointsScored(events);
     }
     
     /**
@@ -179,4 +205,19 @@ public class MatchEventService implements EventService {
         
         gameEventPublisher.publishSetCompleted(matchId, setNumber, winnerId);
     }
+    
+    /**
+     * Publish points corrected event.
+     * 發布分數更正事件
+     * 
+     * @param match the corrected match
+     * @param pointsUndone the number of points taken back
+     * @param pointsScored the number of points scored in their place
+     */
+    public void publishPointsCorrected(Match match, int pointsUndone, int pointsScored) {
+        Objects.requireNonNull(match, "Match cannot be null");
+        
+        gameEventPublisher.publishPointsCorrected(match.getMatchId(), pointsUndone, pointsScored,
+                match.getCurrentScore());
+    }
 }
\ No newline at end of file
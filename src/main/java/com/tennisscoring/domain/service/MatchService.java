@@ -1,9 +1,13 @@
 package com.tennisscoring.domain.service;
 
 import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchPage;
+import com.tennisscoring.domain.model.MatchScoringResult;
+import com.tennisscoring.domain.model.MatchSnapshot;
 import com.tennisscoring.domain.model.MatchStatus;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for match domain service operations.
@@ -44,9 +48,94 @@ public interface MatchService {
      * 
      * @param matchId The unique identifier of the match
      * @param playerId The unique identifier of the player who scored
-     * @return The updated match with new score
+     * @return The snapshot the match published with new score
      */
-    Match scorePoint(String matchId, String playerId);
+    MatchSnapshot scorePoint(String matchId, String playerId);
+    
+    /**
+     * Records a point only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時記錄得分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerId The unique identifier of the player who scored
+     * @param expectedVersion The match version the client based the point on
+     * @return The snapshot the match published with new score
+     */
+    MatchSnapshot scorePoint(String matchId, String playerId, long expectedVersion);
+    
+    /**
+     * Records a run of points buffered by a client, as one change to the match.
+     * 將客戶端緩衝的一連串得分作為單一變更記錄
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerIds The unique identifier of the player who won each point, in order
+     * @return The snapshot the match published with the final score
+     */
+    MatchSnapshot scorePoints(String matchId, List<String> playerIds);
+    
+    /**
+     * Records a run of points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時記錄一連串得分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerIds The unique identifier of the player who won each point, in order
+     * @param expectedVersion The match version the client based the points on
+     * @return The snapshot the match published with the final score
+     */
+    MatchSnapshot scorePoints(String matchId, List<String> playerIds, long expectedVersion);
+    
+    /**
+     * Records the points of many matches, each as one change to its match.
+     * 記錄多場比賽的得分，每場比賽作為單一變更
+     * 
+     * @param pointsByMatch The winners of each match's points in order, keyed by match ID
+     * @return One result per match, in the order of the map
+     */
+    List<MatchScoringResult> scoreMatches(Map<String, List<String>> pointsByMatch);
+    
+    /**
+     * Undoes the last points scored in a match.
+     * 撤銷比賽中最後記錄的幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to undo
+     * @return The snapshot the match published with the points taken back
+     */
+    MatchSnapshot undoLastPoints(String matchId, int count);
+    
+    /**
+     * Undoes the last points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時撤銷最後幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to undo
+     * @param expectedVersion The match version the client based the undo on
+     * @return The snapshot the match published with the points taken back
+     */
+    MatchSnapshot undoLastPoints(String matchId, int count, long expectedVersion);
+    
+    /**
+     * Replaces the last points scored in a match with the points actually played.
+     * 以實際得分取代比賽中最後記錄的幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to replace
+     * @param playerIds The winner of each replacement point, in order
+     * @return The snapshot the match published with the corrected score
+     */
+    MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds);
+    
+    /**
+     * Replaces the last points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時更正最後幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to replace
+     * @param playerIds The winner of each replacement point, in order
+     * @param expectedVersion The match version the client based the correction on
+     * @return The snapshot the match published with the corrected score
+     */
+    MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds, long expectedVersion);
     
     /**
      * Deletes a match from the system.
@@ -61,9 +150,9 @@ public interface MatchService {
      * 取消進行中的比賽
      * 
      * @param matchId The unique identifier of the match to cancel
-     * @return The cancelled match
+     * @return The snapshot the cancelled match published
      */
-    Match cancelMatch(String matchId);
+    MatchSnapshot cancelMatch(String matchId);
     
     /**
      * Updates an existing match.
@@ -100,6 +189,44 @@ public interface MatchService {
      */
     List<Match> getMatchesByStatus(MatchStatus status);
     
+    /**
+     * Retrieves the last published snapshot of a match, without taking its lock.
+     * 不取得比賽鎖，檢索比賽最後發布的快照
+     * 
+     * @param matchId The unique identifier of the match
+     * @return The immutable state of the match after its last change
+     * @throws MatchNotFoundException if match is not found
+     */
+    MatchSnapshot getMatchSnapshot(String matchId);
+    
+    /**
+     * Retrieves the snapshots of all matches.
+     * 檢索所有比賽的快照
+     * 
+     * @return List of the snapshots of all matches
+     */
+    List<MatchSnapshot> getAllMatchSnapshots();
+    
+    /**
+     * Retrieves the snapshots of matches by their status.
+     * 根據狀態檢索比賽快照
+     * 
+     * @param status The match status to filter by
+     * @return List of the snapshots of matches with the specified status
+     */
+    List<MatchSnapshot> getMatchSnapshotsByStatus(MatchStatus status);
+    
+    /**
+     * Retrieves one page of matches ordered by match ID.
+     * 依比賽ID排序檢索一頁比賽
+     * 
+     * @param status The match status to filter by, or null for all matches
+     * @param afterMatchId The cursor returned with the previous page, or null for the first page
+     * @param limit The maximum number of matches on the page
+     * @return The page with the cursor for the next one
+     */
+    MatchPage getMatchPage(MatchStatus status, String afterMatchId, int limit);
+    
     /**
      * Checks if a match exists with the given ID.
      * 檢查是否存在具有給定ID的比賽
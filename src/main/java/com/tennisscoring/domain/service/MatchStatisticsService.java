@@ -1,12 +1,11 @@
 package com.tennisscoring.domain.service;
 
-import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
 import com.tennisscoring.domain.model.MatchStatus;
 import com.tennisscoring.domain.model.PlayerId;
 import com.tennisscoring.ports.secondary.MatchRepositoryPort;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -16,21 +15,21 @@ import java.util.Objects;
  * This service follows the Single Responsibility Principle by focusing
  * solely on statistics-related operations.
  * 
+ * Match statistics read the snapshot each match published after its last
+ * change, so they take no lock and never see a point half applied.
+ * 
  * Requirements: 10.4
  */
 @Service
 public class MatchStatisticsService implements StatisticsService {
     
     private final MatchRepositoryPort matchRepository;
-    private final ScoringDomainService scoringService;
     private final ValidationService validationService;
     
     public MatchStatisticsService(
             MatchRepositoryPort matchRepository,
-            ScoringDomainService scoringService,
             ValidationService validationService) {
         this.matchRepository = Objects.requireNonNull(matchRepository, "Match repository cannot be null");
-        this.scoringService = Objects.requireNonNull(scoringService, "Scoring service cannot be null");
         this.validationService = Objects.requireNonNull(validationService, "Validation service cannot be null");
     }
     
@@ -44,21 +43,21 @@ public class MatchStatisticsService implements StatisticsService {
     public MatchStatistics getMatchStatistics(String matchId) {
         validationService.validateMatchId(matchId);
         
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId));
+        MatchSnapshot match = getSnapshot(matchId);
         
         return new MatchStatistics(
             match.getMatchId(),
-            match.getPlayer1().getName(),
-            match.getPlayer2().getName(),
-            match.getPlayer1().getSetsWon(),
-            match.getPlayer2().getSetsWon(),
-            match.getPlayer1().getPointsWon(),
-            match.getPlayer2().getPointsWon(),
+            match.getPlayer1().name(),
+            match.getPlayer2().name(),
+            match.getPlayer1().setsWon(),
+            match.getPlayer2().setsWon(),
+            match.getPlayer1().pointsWon(),
+            match.getPlayer2().pointsWon(),
             match.getCurrentSetNumber(),
             match.getCurrentGameNumber(),
             match.getStatus(),
-            match.isCurrentGameTiebreak()
+            match.isCurrentGameTiebreak(),
+            match.getCurrentScore()
         );
     }
     
@@ -69,25 +68,12 @@ public class MatchStatisticsService implements StatisticsService {
      * @return system statistics
      */
     public SystemStatistics getSystemStatistics() {
-        List<Match> allMatches = matchRepository.findAll();
-        
-        long inProgressCount = allMatches.stream()
-                .filter(Match::isInProgress)
-                .count();
-        
-        long completedCount = allMatches.stream()
-                .filter(Match::isCompleted)
-                .count();
-        
-        long cancelledCount = allMatches.stream()
-                .filter(Match::isCancelled)
-                .count();
-        
+        // Served from the repository's counters rather than a scan of every match
         return new SystemStatistics(
-                allMatches.size(),
-                (int) inProgressCount,
-                (int) completedCount,
-                (int) cancelledCount
+                (int) matchRepository.count(),
+                (int) matchRepository.countByStatus(MatchStatus.IN_PROGRESS),
+                (int) matchRepository.countByStatus(MatchStatus.COMPLETED),
+                (int) matchRepository.countByStatus(MatchStatus.CANCELLED)
         );
     }
     
@@ -101,10 +87,9 @@ public class MatchStatisticsService implements StatisticsService {
     public String getCurrentScore(String matchId) {
         validationService.validateMatchId(matchId);
         
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId));
+        MatchSnapshot match = getSnapshot(matchId);
         
-        return scoringService.calculateCurrentScore(match);
+        return match.getCurrentScore();
     }
     
     /**
@@ -117,10 +102,9 @@ public class MatchStatisticsService implements StatisticsService {
     public boolean isMatchInDeuce(String matchId) {
         validationService.validateMatchId(matchId);
         
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId));
+        MatchSnapshot match = getSnapshot(matchId);
         
-        return scoringService.isCurrentGameDeuce(match);
+        return match.isCurrentGameDeuce();
     }
     
     /**
@@ -135,11 +119,9 @@ public class MatchStatisticsService implements StatisticsService {
         validationService.validateMatchId(matchId);
         validationService.validatePlayerId(playerId);
         
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId));
+        MatchSnapshot match = getSnapshot(matchId);
         
-        PlayerId playerIdObj = PlayerId.of(playerId);
-        return scoringService.hasAdvantage(match, playerIdObj);
+        return match.hasAdvantage(PlayerId.of(playerId));
     }
     
     /**
@@ -152,10 +134,19 @@ public class MatchStatisticsService implements StatisticsService {
     public boolean isCurrentGameTiebreak(String matchId) {
         validationService.validateMatchId(matchId);
         
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId));
+        MatchSnapshot match = getSnapshot(matchId);
         
-        return scoringService.isCurrentGameTiebreak(match);
+        return match.isCurrentGameTiebreak();
+    }
+    
+    /**
+     * Read the snapshot a match published after its last change.
+     * 讀取比賽最後一次變更後發布的快照
+     */
+    private MatchSnapshot getSnapshot(String matchId) {
+        return matchRepository.findById(matchId)
+                .orElseThrow(() -> new RuntimeException("Match not found: " + matchId))
+                .getSnapshot();
     }
     
     /**
@@ -174,10 +165,12 @@ public class MatchStatisticsService implements StatisticsService {
         private final int currentGame;
         private final MatchStatus status;
         private final boolean isTiebreak;
+        private final String currentScore;
         
         public MatchStatistics(String matchId, String player1Name, String player2Name,
                              int player1Sets, int player2Sets, int player1Points, int player2Points,
-                             int currentSet, int currentGame, MatchStatus status, boolean isTiebreak) {
+                             int currentSet, int currentGame, MatchStatus status, boolean isTiebreak,
+                             String currentScore) {
             this.matchId = matchId;
             this.player1Name = player1Name;
             this.player2Name = player2Name;
@@ -189,6 +182,7 @@ public class MatchStatisticsService implements StatisticsService {
             this.currentGame = currentGame;
             this.status = status;
             this.isTiebreak = isTiebreak;
+            this.currentScore = currentScore;
         }
         
         // Getters
@@ -203,6 +197,7 @@ public class MatchStatisticsService implements StatisticsService {
         public int getCurrentGame() { return currentGame; }
         public MatchStatus getStatus() { return status; }
         public boolean isTiebreak() { return isTiebreak; }
+        public String getCurrentScore() { return currentScore; }
     }
     
     /**
@@ -1,10 +1,23 @@
 package com.tennisscoring.domain.service;
 
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
 import com.tennisscoring.domain.exception.InvalidMatchStateException;
+import com.tennisscoring.domain.exception.ValidationException;
 import com.tennisscoring.domain.model.*;
+import com.tennisscoring.domain.strategy.ScoringStrategy;
+import com.tennisscoring.domain.strategy.ScoringStrategyRegistry;
+import com.tennisscoring.domain.strategy.StandardScoringStrategy;
+import com.tennisscoring.domain.strategy.TransitionTableScoringStrategy;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Domain service responsible for handling tennis scoring logic.
  * 負責處理網球計分邏輯的領域服務
@@ -13,19 +26,53 @@ import org.springframework.stereotype.Component;
  * to handle different scoring systems (regular games vs tiebreaks).
  * New scoring strategies can be added without modifying this service.
  * 
+ * Game rules come from the {@link ScoringStrategy} selected for each match;
+ * set and match progression is delegated to the {@link Match} aggregate.
+ * 
+ * A match can also be rebuilt by folding its point events through the same
+ * rules. Replay resolves the strategy and players once and never formats a
+ * score or publishes an event, so it costs little more than the scoring
+ * itself.
+ * 
  * Requirements: 2.1, 2.3, 3.1, 3.2, 3.3, 5.1, 5.2, 5.3
  */
 @Component
 public class ScoringDomainService implements ScoringService {
     
     private final ValidationService validationService;
+    private final ScoringStrategyRegistry strategyRegistry;
+    private final ScoringStrategy defaultStrategy;
+    
+    /**
+     * Constructor using the built-in scoring strategies.
+     * 使用內建計分策略的建構子
+     */
+    public ScoringDomainService(ValidationService validationService) {
+        this(validationService,
+             new ScoringStrategyRegistry(List.of(new StandardScoringStrategy(), new TransitionTableScoringStrategy())),
+             null);
+    }
     
     /**
      * Constructor with dependency injection.
      * 依賴注入的建構子
+     * 
+     * @param validationService the validation service
+     * @param strategyRegistry the scoring strategy registry
+     * @param defaultStrategyType strategy for matches without a selection (null for the registry default)
+     * @throws IllegalStateException if the default strategy type is not registered
      */
-    public ScoringDomainService(ValidationService validationService) {
+    @Autowired
+    public ScoringDomainService(ValidationService validationService,
+                                ScoringStrategyRegistry strategyRegistry,
+                                @Value("${tennis-scoring.scoring.strategy:#{null}}") String defaultStrategyType) {
         this.validationService = validationService;
+        this.strategyRegistry = strategyRegistry;
+        if (defaultStrategyType != null && !strategyRegistry.isSupported(defaultStrategyType)) {
+            throw new IllegalStateException("Unsupported default scoring strategy: " + defaultStrategyType
+                    + " (supported: " + strategyRegistry.getSupportedStrategyTypes() + ")");
+        }
+        this.defaultStrategy = strategyRegistry.findStrategy(defaultStrategyType);
     }
     
     /**
@@ -41,83 +88,217 @@ public class ScoringDomainService implements ScoringService {
         validationService.validateMatchStateForScoring(match);
         validationService.validatePlayerInMatch(match, playerId.getValue());
         
-        // Get current game and set
-        Set currentSet = match.getCurrentSet();
-        Game currentGame = currentSet.getCurrentGame();
-        
-        if (currentGame == null) {
-            throw new InvalidMatchStateException("No active game found in match: " + match.getMatchId());
+        return match.scorePoint(playerId, resolveStrategy(match));
+    }
+    
+    /**
+     * Score a run of points on a match as one change.
+     * 在比賽上以單一變更記錄一連串得分
+     * 
+     * The match state and every player are validated once, and the
+     * strategy resolved once, for the whole run. The points are applied as a
+     * whole or not at all.
+     * 
+     * @param match the match where the points were scored
+     * @param winners the winner of each point, in order
+     * @param afterPoint called with the winner after each point, while the match shows the state after it
+     * @return true if the match is completed after the last point
+     * @throws InvalidMatchStateException if the match is not in progress or ends before the last point
+     */
+    public boolean scorePoints(Match match, List<PlayerId> winners, Consumer<PlayerId> afterPoint) {
+        validationService.validateMatchStateForScoring(match);
+        for (PlayerId winner : new LinkedHashSet<>(winners)) {
+            validationService.validatePlayerInMatch(match, winner.getValue());
         }
-        
-        // Score the point using the game's internal logic
-        PlayerId opponentId = getOpponentId(match, playerId);
-        boolean gameCompleted = currentGame.scorePoint(playerId, opponentId);
-        
-        if (gameCompleted) {
-            return handleGameCompletion(match, currentSet, playerId);
+        try {
+            return match.scorePoints(winners, resolveStrategy(match), afterPoint);
+        } catch (IllegalStateException e) {
+            throw new InvalidMatchStateException("Cannot score points on match " + match.getMatchId()
+                    + ": " + e.getMessage(), e);
         }
-        
-        return false;
     }
     
     /**
-     * Handle the completion of a game and check for set/match completion.
-     * 處理局的完成並檢查盤/比賽是否完成
+     * Undo the last points of a match.
+     * 撤銷比賽的最後幾分
+     * 
+     * Only the points of the game the first undone point falls in are
+     * scored again. A completed match goes back in progress.
+     * 
+     * @param match the match to correct
+     * @param count the number of points to undo
+     * @throws InvalidMatchStateException if the match is cancelled
+     * @throws ValidationException if the count is not between 1 and the number of points played
      */
-    private boolean handleGameCompletion(Match match, Set currentSet, PlayerId gameWinner) {
-        // Complete the game in the set
-        boolean setCompleted = currentSet.completeGame(gameWinner);
-        
-        if (setCompleted) {
-            return handleSetCompletion(match, gameWinner);
+    public void undoLastPoints(Match match, int count) {
+        validateCorrection(match, count);
+        match.undoLastPoints(count, resolveStrategy(match));
+    }
+    
+    /**
+     * Replace the last points of a match with the points actually played.
+     * 以實際得分更正比賽的最後幾分
+     * 
+     * The correction is applied as a whole or not at all.
+     * 
+     * @param match the match to correct
+     * @param count the number of points to replace
+     * @param winners the winner of each replacement point, in order
+     * @throws InvalidMatchStateException if the match is cancelled or ends before the last replacement point
+     * @throws ValidationException if the count is out of range or there are no replacement points
+     */
+    public void correctLastPoints(Match match, int count, List<PlayerId> winners) {
+        validateCorrection(match, count);
+        if (winners == null || winners.isEmpty()) {
+            throw new ValidationException("playerIds", winners, "A correction needs at least one point");
+        }
+        for (PlayerId winner : winners) {
+            validationService.validatePlayerInMatch(match, winner.getValue());
+        }
+        try {
+            match.correctLastPoints(count, winners, resolveStrategy(match));
+        } catch (IllegalStateException e) {
+            throw new InvalidMatchStateException("Cannot correct match " + match.getMatchId() + ": " + e.getMessage(), e);
         }
-        
-        return false;
     }
     
     /**
-     * Handle the completion of a set and check for match completion.
-     * 處理盤的完成並檢查比賽是否完成
+     * Roll a match back to a checkpoint, undoing a change that could not be saved.
+     * 將比賽回復到檢查點，撤回無法儲存的變更
+     * 
+     * @param match the match to roll back
+     * @param checkpoint the checkpoint taken on the match before the change
      */
-    private boolean handleSetCompletion(Match match, PlayerId setWinner) {
-        // Update player statistics
-        Player winner = match.getPlayer(setWinner);
-        winner.incrementSetsWon();
-        
-        // Check if match is won (best of 3 sets)
-        if (winner.getSetsWon() >= 2) {
-            // Match completion is handled internally by the Match class
-            return true;
+    public void rollBack(Match match, Match.Checkpoint checkpoint) {
+        match.rollBack(checkpoint, resolveStrategy(match));
+    }
+    
+    /**
+     * Validate that points of a match can be taken back.
+     * 驗證比賽的分數是否可以撤回
+     * 
+     * @param match the match to correct
+     * @param count the number of points to take back
+     */
+    private void validateCorrection(Match match, int count) {
+        if (match == null) {
+            throw new InvalidMatchStateException("Match cannot be null");
+        }
+        if (match.isCancelled()) {
+            throw new InvalidMatchStateException("Cannot correct points of cancelled match: " + match.getMatchId());
+        }
+        if (count < 1 || count > match.getPointCount()) {
+            throw new ValidationException("points", count, "Cannot take back " + count + " of "
+                    + match.getPointCount() + " points played");
         }
-        
-        // Start new set if match continues
-        startNewSet(match);
-        return false;
     }
     
     /**
-     * Start a new set in the match.
-     * 在比賽中開始新的一盤
+     * Rebuild a match from its creation event and point events.
+     * 從比賽創建事件與得分事件重建比賽
+     * 
+     * The match gets the IDs, names and creation time recorded by the
+     * creation event and the default scoring strategy.
+     * 
+     * @param created the event of the match's creation, with its player IDs
+     * @param points the match's point events, in the order they were scored
+     * @return the rebuilt match
+     * @throws IllegalArgumentException if the creation event has no player IDs
+     *         or a point event does not follow from the ones before it
      */
-    private void startNewSet(Match match) {
-        // The Match class handles starting new sets internally
-        // This method is here for potential future customization
+    public Match rebuildMatch(MatchCreatedEvent created, Iterable<PointScoredEvent> points) {
+        if (created.getPlayer1Id() == null || created.getPlayer2Id() == null) {
+            throw new IllegalArgumentException("Match created event has no player IDs: " + created.getMatchId());
+        }
+        Match match = Match.restore(
+                MatchId.of(created.getMatchId()),
+                Player.create(PlayerId.of(created.getPlayer1Id()), created.getPlayer1Name()),
+                Player.create(PlayerId.of(created.getPlayer2Id()), created.getPlayer2Name()),
+                created.getOccurredAt());
+        replayPoints(match, points);
+        return match;
     }
     
-
+    /**
+     * Score a sequence of point events on a match.
+     * 在比賽上重播一系列得分事件
+     * 
+     * Each event must belong to the match, name one of its players and
+     * record the set and game the match is in once the point is scored.
+     * Replay stops with an exception at the first event that does not.
+     * 
+     * @param match the match to score on
+     * @param points the point events, in the order they were scored
+     * @return the number of points replayed
+     * @throws InvalidMatchStateException if a point event follows the end of the match
+     * @throws IllegalArgumentException if a point event does not follow from the ones before it
+     */
+    public int replayPoints(Match match, Iterable<PointScoredEvent> points) {
+        ScoringStrategy strategy = resolveStrategy(match);
+        String matchId = match.getMatchId();
+        PlayerId player1 = match.getPlayer1().getPlayerId();
+        PlayerId player2 = match.getPlayer2().getPlayerId();
+        
+        int replayed = 0;
+        for (PointScoredEvent event : points) {
+            if (!matchId.equals(event.getMatchId())) {
+                throw new IllegalArgumentException("Point event for match " + event.getMatchId()
+                        + " cannot be replayed on match " + matchId);
+            }
+            if (!match.isInProgress()) {
+                throw new InvalidMatchStateException("Cannot replay point " + (match.getPointCount() + 1)
+                        + " on match " + matchId + " with status " + match.getStatus());
+            }
+            
+            // Compare the raw IDs so replay does not parse a UUID per point
+            PlayerId scorer;
+            if (player1.getValue().equals(event.getPlayerId())) {
+                scorer = player1;
+            } else if (player2.getValue().equals(event.getPlayerId())) {
+                scorer = player2;
+            } else {
+                throw new IllegalArgumentException("Player " + event.getPlayerId() + " is not in match " + matchId);
+            }
+            
+            match.scorePoint(scorer, strategy);
+            if (match.getCurrentSetNumber() != event.getCurrentSet()
+                    || match.getCurrentGameNumber() != event.getCurrentGame()) {
+                throw new IllegalArgumentException("Point event " + match.getPointCount()
+                        + " of match " + matchId + " was scored in set " + event.getCurrentSet()
+                        + " game " + event.getCurrentGame() + " but replays into set "
+                        + match.getCurrentSetNumber() + " game " + match.getCurrentGameNumber());
+            }
+            replayed++;
+        }
+        return replayed;
+    }
     
     /**
-     * Get the opponent's ID for a given player.
-     * 獲取指定球員的對手ID
+     * Select the scoring strategy used for a match.
+     * 選擇比賽使用的計分策略
+     * 
+     * @param match the match to configure
+     * @param strategyType the strategy type, or null for the default
+     * @throws ValidationException if the strategy type is not registered
      */
-    private PlayerId getOpponentId(Match match, PlayerId playerId) {
-        if (match.getPlayer1().getPlayerId().equals(playerId)) {
-            return match.getPlayer2().getPlayerId();
-        } else if (match.getPlayer2().getPlayerId().equals(playerId)) {
-            return match.getPlayer1().getPlayerId();
-        } else {
-            throw new IllegalArgumentException("Player not found in match: " + playerId);
+    public void selectScoringStrategy(Match match, String strategyType) {
+        if (strategyType != null && !strategyRegistry.isSupported(strategyType)) {
+            throw new ValidationException("scoringStrategy", strategyType,
+                    "Unsupported scoring strategy: " + strategyType);
         }
+        match.selectScoringStrategy(strategyType);
+    }
+    
+    /**
+     * Resolve the scoring strategy for a match.
+     * 解析比賽使用的計分策略
+     * 
+     * @param match the match
+     * @return the selected strategy, or the default strategy
+     */
+    public ScoringStrategy resolveStrategy(Match match) {
+        String strategyType = match.getScoringStrategyType();
+        return strategyType == null ? defaultStrategy : strategyRegistry.findStrategy(strategyType);
     }
     
     /**
@@ -1,9 +1,14 @@
 package com.tennisscoring.domain.service;
 
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
 import com.tennisscoring.domain.model.GameScore;
 import com.tennisscoring.domain.model.Match;
 import com.tennisscoring.domain.model.PlayerId;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Interface for scoring domain service operations.
  * 計分領域服務操作的介面
@@ -26,6 +31,74 @@ public interface ScoringService {
      */
     boolean scorePoint(Match match, PlayerId playerId);
     
+    /**
+     * Undo the last points of a match.
+     * 撤銷比賽的最後幾分
+     * 
+     * @param match the match to correct
+     * @param count the number of points to undo
+     */
+    void undoLastPoints(Match match, int count);
+    
+    /**
+     * Score a run of points on a match as one change.
+     * 在比賽上以單一變更記錄一連串得分
+     * 
+     * @param match the match where the points were scored
+     * @param winners the winner of each point, in order
+     * @param afterPoint called with the winner after each point
+     * @return true if the match is completed after the last point
+     */
+    boolean scorePoints(Match match, List<PlayerId> winners, Consumer<PlayerId> afterPoint);
+    
+    /**
+     * Replace the last points of a match with the points actually played.
+     * 以實際得分更正比賽的最後幾分
+     * 
+     * @param match the match to correct
+     * @param count the number of points to replace
+     * @param winners the winner of each replacement point, in order
+     */
+    void correctLastPoints(Match match, int count, List<PlayerId> winners);
+    
+    /**
+     * Roll a match back to a checkpoint, undoing a change that could not be saved.
+     * 將比賽回復到檢查點，撤回無法儲存的變更
+     * 
+     * @param match the match to roll back
+     * @param checkpoint the checkpoint taken on the match before the change
+     */
+    void rollBack(Match match, Match.Checkpoint checkpoint);
+    
+    /**
+     * Rebuild a match from its creation event and point events.
+     * 從比賽創建事件與得分事件重建比賽
+     * 
+     * @param created the event of the match's creation
+     * @param points the match's point events, in the order they were scored
+     * @return the rebuilt match
+     */
+    Match rebuildMatch(MatchCreatedEvent created, Iterable<PointScoredEvent> points);
+    
+    /**
+     * Score a sequence of point events on a match.
+     * 在比賽上重播一系列得分事件
+     * 
+     * @param match the match to score on
+     * @param points the point events, in the order they were scored
+     * @return the number of points replayed
+     */
+    int replayPoints(Match match, Iterable<PointScoredEvent> points);
+    
+    /**
+     * Select the scoring strategy used for a match.
+     * 選擇比賽使用的計分策略
+     * 
+     * @param match the match to configure
+     * @param strategyType the strategy type, or null for the default
+     */
+    void selectScoringStrategy(Match match, String strategyType);
+    
     /**
      * Calculate the current score summary for display.
      * 計算用於顯示的當前比分摘要
@@ -222,6 +222,20 @@ public class ValidationService {
         }
     }
     
+    /**
+     * Validate a page size parameter.
+     * 驗證分頁大小參數
+     * 
+     * @param limit the requested page size
+     * @param maxLimit the largest allowed page size
+     * @throws ValidationException if the size is out of range
+     */
+    public void validatePageLimit(int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit", limit, "Page limit must be between 1 and " + maxLimit);
+        }
+    }
+    
     /**
      * Validate that a string is not null or empty.
      * 驗證字串不為null或空白
@@ -61,4 +61,23 @@ public interface ScoringStrategy {
      * @return true if this strategy should be used for the game
      */
     boolean appliesTo(Game game);
+    
+    /**
+     * Get the strategy type identifier used to select it.
+     * 獲取用於選擇此策略的類型識別碼
+     * 
+     * @return the strategy type identifier
+     */
+    String getStrategyType();
+    
+    /**
+     * Check if this strategy is the one requested by the given type.
+     * 檢查此策略是否對應指定的類型
+     * 
+     * @param strategyType the requested strategy type
+     * @return true if this strategy supports the type
+     */
+    default boolean supports(String strategyType) {
+        return getStrategyType().equalsIgnoreCase(strategyType);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.tennisscoring.domain.strategy;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registry for managing different scoring strategies.
+ * 管理不同計分策略的註冊表
+ *
+ * This registry follows the Open-Closed Principle by allowing
+ * new scoring strategies to be registered without modifying existing code.
+ * Strategies are indexed by type once, so resolving a strategy on the
+ * scoring hot path is a single map lookup.
+ *
+ * Requirements: 2.1, 2.3, 5.1, 5.2
+ */
+@Component
+public class ScoringStrategyRegistry {
+
+    private final Map<String, ScoringStrategy> strategiesByType;
+    private final ScoringStrategy defaultStrategy;
+
+    public ScoringStrategyRegistry(List<ScoringStrategy> strategies) {
+        Objects.requireNonNull(strategies, "Strategies list cannot be null");
+
+        this.strategiesByType = new LinkedHashMap<>();
+        for (ScoringStrategy strategy : strategies) {
+            strategiesByType.putIfAbsent(normalize(strategy.getStrategyType()), strategy);
+        }
+
+        // Find the default strategy (StandardScoringStrategy)
+        this.defaultStrategy = strategies.stream()
+                .filter(strategy -> strategy instanceof StandardScoringStrategy)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No default scoring strategy found"));
+    }
+
+    /**
+     * Find the strategy for the given type.
+     * 為給定的類型找到計分策略
+     *
+     * @param strategyType the strategy type (null for default)
+     * @return the matching strategy, or the default strategy if none matches
+     */
+    public ScoringStrategy findStrategy(String strategyType) {
+        if (strategyType == null) {
+            return defaultStrategy;
+        }
+        return strategiesByType.getOrDefault(normalize(strategyType), defaultStrategy);
+    }
+
+    /**
+     * Get the default strategy.
+     * 獲取預設計分策略
+     *
+     * @return the default strategy
+     */
+    public ScoringStrategy getDefaultStrategy() {
+        return defaultStrategy;
+    }
+
+    /**
+     * Get all available strategy types.
+     * 獲取所有可用的計分策略類型
+     *
+     * @return list of supported strategy types
+     */
+    public List<String> getSupportedStrategyTypes() {
+        return strategiesByType.values().stream()
+                .map(ScoringStrategy::getStrategyType)
+                .toList();
+    }
+
+    /**
+     * Check if a strategy type is supported.
+     * 檢查是否支援某種計分策略
+     *
+     * @param strategyType the strategy type to check
+     * @return true if supported
+     */
+    public boolean isSupported(String strategyType) {
+        return strategyType != null && strategiesByType.containsKey(normalize(strategyType));
+    }
+
+    private static String normalize(String strategyType) {
+        return strategyType.toUpperCase(Locale.ROOT);
+    }
+}
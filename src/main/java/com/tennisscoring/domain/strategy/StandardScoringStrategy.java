@@ -0,0 +1,50 @@
+package com.tennisscoring.domain.strategy;
+
+import com.tennisscoring.domain.model.Game;
+import com.tennisscoring.domain.model.PlayerId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scoring strategy that uses the rules built into {@link Game}.
+ * 使用 Game 內建規則的計分策略
+ * 
+ * This is the default strategy and keeps the behaviour of matches that
+ * have not selected a specific scoring strategy.
+ * 
+ * Requirements: 2.1, 2.3, 5.1, 5.2
+ */
+@Component
+public class StandardScoringStrategy implements ScoringStrategy {
+    
+    private static final String STRATEGY_TYPE = "STANDARD";
+    
+    @Override
+    public boolean scorePoint(Game game, PlayerId playerId) {
+        return game.scorePoint(playerId, null);
+    }
+    
+    @Override
+    public boolean isDeuce(Game game) {
+        return game.isDeuce();
+    }
+    
+    @Override
+    public boolean hasAdvantage(Game game, PlayerId playerId) {
+        return game.hasAdvantage(playerId);
+    }
+    
+    @Override
+    public String getScoreDisplay(Game game) {
+        return game.getFormattedScore();
+    }
+    
+    @Override
+    public boolean appliesTo(Game game) {
+        return game != null;
+    }
+    
+    @Override
+    public String getStrategyType() {
+        return STRATEGY_TYPE;
+    }
+}
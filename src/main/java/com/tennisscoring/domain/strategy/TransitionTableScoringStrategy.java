@@ -0,0 +1,210 @@
+package com.tennisscoring.domain.strategy;
+
+import com.tennisscoring.domain.model.Game;
+import com.tennisscoring.domain.model.GameScore;
+import com.tennisscoring.domain.model.GameState;
+import com.tennisscoring.domain.model.GameStatus;
+import com.tennisscoring.domain.model.PlayerId;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Scoring strategy backed by precomputed finite-state transition tables.
+ * 以預先計算的有限狀態轉移表實作的計分策略
+ *
+ * Every reachable regular-game state is enumerated once at construction.
+ * At scoring time the table index is taken straight from the bits of the
+ * packed {@link GameState}, so a point costs a few shifts and one array
+ * read with no enum decoding or branching on the score.
+ *
+ * Tiebreak scores are unbounded, so the tiebreak table stores only the
+ * status/winner outcome for a reduced score: once both players have
+ * reached {@code minPoints - 1}, equal amounts can be subtracted from both
+ * without changing who wins the next point.
+ *
+ * Rule variants (for example no-ad scoring or a 10-point tiebreak) can
+ * override {@link #regularTransition} or pass different tiebreak limits;
+ * the tables are rebuilt for them and the hot path stays the same.
+ *
+ * Requirements: 2.1, 2.3, 5.1, 5.2
+ */
+@Component
+public class TransitionTableScoringStrategy implements ScoringStrategy {
+
+    private static final String STRATEGY_TYPE = "TRANSITION_TABLE";
+
+    private static final int DEFAULT_TIEBREAK_MIN_POINTS = 7;
+    private static final int DEFAULT_TIEBREAK_MIN_LEAD = 2;
+
+    // Regular index: p1 (3 bits) | p2 (3 bits) | status ordinal (3 bits) | scorer (1 bit)
+    private static final int REGULAR_TABLE_SIZE = 1 << 10;
+    private static final int UNREACHABLE = -1;
+
+    private final int tiebreakMinPoints;
+    private final int tiebreakMinLead;
+    private final int tiebreakDimension;
+    private final int[] regularTable;
+    private final int[] tiebreakTable;
+
+    private final IntBinaryOperator regularTransition = this::nextRegular;
+    private final IntBinaryOperator tiebreakTransition = this::nextTiebreak;
+
+    /**
+     * Create the strategy with standard tiebreak rules (first to 7, win by 2).
+     */
+    public TransitionTableScoringStrategy() {
+        this(DEFAULT_TIEBREAK_MIN_POINTS, DEFAULT_TIEBREAK_MIN_LEAD);
+    }
+
+    /**
+     * Create the strategy with custom tiebreak limits.
+     * 使用自訂搶七規則建立策略
+     *
+     * @param tiebreakMinPoints minimum points to win a tiebreak
+     * @param tiebreakMinLead minimum lead to win a tiebreak
+     */
+    public TransitionTableScoringStrategy(int tiebreakMinPoints, int tiebreakMinLead) {
+        if (tiebreakMinPoints < 1 || tiebreakMinLead < 1) {
+            throw new IllegalArgumentException("Tiebreak minimum points and lead must be positive");
+        }
+        this.tiebreakMinPoints = tiebreakMinPoints;
+        this.tiebreakMinLead = tiebreakMinLead;
+        this.tiebreakDimension = tiebreakMinPoints + tiebreakMinLead;
+        this.regularTable = buildRegularTable();
+        this.tiebreakTable = buildTiebreakTable();
+    }
+
+    @Override
+    public boolean scorePoint(Game game, PlayerId playerId) {
+        return game.applyPoint(playerId, game.isTiebreak() ? tiebreakTransition : regularTransition);
+    }
+
+    @Override
+    public boolean isDeuce(Game game) {
+        return game.isDeuce();
+    }
+
+    @Override
+    public boolean hasAdvantage(Game game, PlayerId playerId) {
+        return game.hasAdvantage(playerId);
+    }
+
+    @Override
+    public String getScoreDisplay(Game game) {
+        return game.getFormattedScore();
+    }
+
+    @Override
+    public boolean appliesTo(Game game) {
+        return game != null;
+    }
+
+    @Override
+    public String getStrategyType() {
+        return STRATEGY_TYPE;
+    }
+
+    /**
+     * Compute the regular-game state that follows a point.
+     * 計算一般局得分後的下一個狀態
+     *
+     * Called only while the tables are built, before this instance is fully
+     * constructed, so overrides must not depend on subclass fields.
+     *
+     * @param player1Points player 1's GameScore ordinal
+     * @param player2Points player 2's GameScore ordinal
+     * @param status the current game status
+     * @param scorer {@link GameState#PLAYER1} or {@link GameState#PLAYER2}
+     * @return the next packed state
+     */
+    protected int regularTransition(int player1Points, int player2Points, GameStatus status, int scorer) {
+        return GameState.nextRegular(
+                GameState.pack(player1Points, player2Points, status, GameState.NO_WINNER), scorer);
+    }
+
+    private int nextRegular(int state, int scorer) {
+        int p1 = GameState.player1Points(state);
+        int p2 = GameState.player2Points(state);
+        int next = p1 < 8 && p2 < 8
+                ? regularTable[regularIndex(p1, p2, GameState.statusOrdinal(state), scorer)]
+                : UNREACHABLE;
+        if (next == UNREACHABLE) {
+            throw new IllegalStateException("Unreachable game state: " + Integer.toHexString(state));
+        }
+        return next;
+    }
+
+    private int nextTiebreak(int state, int scorer) {
+        int p1 = GameState.player1Points(state);
+        int p2 = GameState.player2Points(state);
+        if (p1 >= GameState.MAX_POINTS || p2 >= GameState.MAX_POINTS) {
+            throw new IllegalStateException("Tiebreak point counter overflow");
+        }
+
+        int shift = Math.max(0, Math.min(p1, p2) - (tiebreakMinPoints - 1));
+        int r1 = p1 - shift;
+        int r2 = p2 - shift;
+        if (r1 >= tiebreakDimension || r2 >= tiebreakDimension) {
+            throw new IllegalStateException("Unreachable tiebreak state: " + p1 + "-" + p2);
+        }
+
+        int flags = tiebreakTable[tiebreakIndex(r1, r2, scorer)];
+        return scorer == GameState.PLAYER1
+                ? GameState.packPoints(p1 + 1, p2) | flags
+                : GameState.packPoints(p1, p2 + 1) | flags;
+    }
+
+    private static int regularIndex(int p1, int p2, int statusOrdinal, int scorer) {
+        return p1 | (p2 << 3) | (statusOrdinal << 6) | ((scorer - 1) << 9);
+    }
+
+    private int tiebreakIndex(int r1, int r2, int scorer) {
+        return ((r1 * tiebreakDimension) + r2) * 2 + (scorer - 1);
+    }
+
+    /**
+     * Enumerate every live regular-game state (both scores up to advantage,
+     * status in progress or deuce) for both scorers.
+     */
+    private int[] buildRegularTable() {
+        int[] table = new int[REGULAR_TABLE_SIZE];
+        Arrays.fill(table, UNREACHABLE);
+        GameStatus[] liveStatuses = {GameStatus.IN_PROGRESS, GameStatus.DEUCE};
+        int scores = GameScore.values().length;
+        for (int p1 = 0; p1 < scores; p1++) {
+            for (int p2 = 0; p2 < scores; p2++) {
+                for (GameStatus status : liveStatuses) {
+                    for (int scorer = GameState.PLAYER1; scorer <= GameState.PLAYER2; scorer++) {
+                        table[regularIndex(p1, p2, status.ordinal(), scorer)] =
+                                regularTransition(p1, p2, status, scorer);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Precompute the status/winner bits after a tiebreak point for every
+     * reduced score.
+     */
+    private int[] buildTiebreakTable() {
+        int[] table = new int[tiebreakDimension * tiebreakDimension * 2];
+        for (int r1 = 0; r1 < tiebreakDimension; r1++) {
+            for (int r2 = 0; r2 < tiebreakDimension; r2++) {
+                for (int scorer = GameState.PLAYER1; scorer <= GameState.PLAYER2; scorer++) {
+                    int scorerPoints = (scorer == GameState.PLAYER1 ? r1 : r2) + 1;
+                    int opponentPoints = scorer == GameState.PLAYER1 ? r2 : r1;
+                    boolean won = scorerPoints >= tiebreakMinPoints
+                            && scorerPoints - opponentPoints >= tiebreakMinLead;
+                    table[tiebreakIndex(r1, r2, scorer)] = won
+                            ? GameState.flagBits(GameState.pack(0, 0, GameStatus.COMPLETED, scorer))
+                            : 0;
+                }
+            }
+        }
+        return table;
+    }
+}
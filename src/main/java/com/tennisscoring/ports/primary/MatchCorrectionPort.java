@@ -0,0 +1,69 @@
+package com.tennisscoring.ports.primary;
+
+import com.tennisscoring.domain.model.MatchSnapshot;
+
+import java.util.List;
+
+/**
+ * Port for correcting points already scored in a match.
+ * 更正比賽中已記錄得分的埠介面
+ * 
+ * This interface follows the Interface Segregation Principle by focusing
+ * solely on taking back and replacing mis-recorded points.
+ * 
+ * Requirements: 2.1, 7.1
+ */
+public interface MatchCorrectionPort {
+    
+    /**
+     * Undoes the last points scored in a match.
+     * 撤銷比賽中最後記錄的幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to undo
+     * @return The snapshot the match published with the points taken back
+     * @throws MatchNotFoundException if match is not found
+     * @throws InvalidMatchStateException if match is cancelled
+     * @throws ValidationException if the count is not between 1 and the number of points played
+     */
+    MatchSnapshot undoLastPoints(String matchId, int count);
+    
+    /**
+     * Undoes the last points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時撤銷最後幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to undo
+     * @param expectedVersion The match version the client based the undo on
+     * @return The snapshot the match published with the points taken back
+     * @throws MatchVersionConflictException if the match has changed since that version
+     */
+    MatchSnapshot undoLastPoints(String matchId, int count, long expectedVersion);
+    
+    /**
+     * Replaces the last points scored in a match with the points actually played.
+     * 以實際得分取代比賽中最後記錄的幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to replace
+     * @param playerIds The winner of each replacement point, in order
+     * @return The snapshot the match published with the corrected score
+     * @throws MatchNotFoundException if match is not found
+     * @throws InvalidMatchStateException if match is cancelled or ends before the last replacement point
+     * @throws PlayerNotFoundException if a player is not in the match
+     */
+    MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds);
+    
+    /**
+     * Replaces the last points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時更正最後幾分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param count The number of points to replace
+     * @param playerIds The winner of each replacement point, in order
+     * @param expectedVersion The match version the client based the correction on
+     * @return The snapshot the match published with the corrected score
+     * @throws MatchVersionConflictException if the match has changed since that version
+     */
+    MatchSnapshot correctLastPoints(String matchId, int count, List<String> playerIds, long expectedVersion);
+}
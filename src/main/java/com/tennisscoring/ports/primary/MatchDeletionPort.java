@@ -1,6 +1,6 @@
 package com.tennisscoring.ports.primary;
 
-import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
 
 /**
  * Port for match deletion operations.
@@ -27,9 +27,9 @@ public interface MatchDeletionPort {
      * 取消進行中的比賽
      * 
      * @param matchId The unique identifier of the match to cancel
-     * @return The cancelled match
+     * @return The snapshot the cancelled match published
      * @throws MatchNotFoundException if match is not found
      * @throws InvalidMatchStateException if match cannot be cancelled
      */
-    Match cancelMatch(String matchId);
+    MatchSnapshot cancelMatch(String matchId);
 }
\ No newline at end of file
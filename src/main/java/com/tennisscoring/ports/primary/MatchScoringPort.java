@@ -1,6 +1,10 @@
 package com.tennisscoring.ports.primary;
 
-import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import com.tennisscoring.domain.model.MatchScoringResult;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Port for match scoring operations.
@@ -19,10 +23,61 @@ public interface MatchScoringPort {
      * 
      * @param matchId The unique identifier of the match
      * @param playerId The unique identifier of the player who scored
-     * @return The updated match with new score
+     * @return The snapshot the match published with new score
      * @throws MatchNotFoundException if match is not found
      * @throws InvalidMatchStateException if match is already completed
      * @throws IllegalArgumentException if player is not in the match
      */
-    Match scorePoint(String matchId, String playerId);
-}
\ No newline at end of file
+    MatchSnapshot scorePoint(String matchId, String playerId);
+    
+    /**
+     * Records a point only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時記錄得分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerId The unique identifier of the player who scored
+     * @param expectedVersion The match version the client based the point on
+     * @return The snapshot the match published with new score
+     * @throws MatchVersionConflictException if the match has changed since that version
+     */
+    MatchSnapshot scorePoint(String matchId, String playerId, long expectedVersion);
+    
+    /**
+     * Records a run of points buffered by a client, as one change to the match.
+     * 將客戶端緩衝的一連串得分作為單一變更記錄
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerIds The unique identifier of the player who won each point, in order
+     * @return The snapshot the match published with the final score
+     * @throws MatchNotFoundException if match is not found
+     * @throws InvalidMatchStateException if match is not in progress or ends before the last point
+     * @throws ValidationException if there are no points or more than a batch may hold
+     */
+    MatchSnapshot scorePoints(String matchId, List<String> playerIds);
+    
+    /**
+     * Records a run of points only if the match is still at the expected version.
+     * 僅在比賽仍為預期版本時記錄一連串得分
+     * 
+     * @param matchId The unique identifier of the match
+     * @param playerIds The unique identifier of the player who won each point, in order
+     * @param expectedVersion The match version the client based the points on
+     * @return The snapshot the match published with the final score
+     * @throws MatchVersionConflictException if the match has changed since that version
+     */
+    MatchSnapshot scorePoints(String matchId, List<String> playerIds, long expectedVersion);
+    
+    /**
+     * Records the points of many matches, such as one delivery of a scoring feed.
+     * 記錄多場比賽的得分，例如計分資料源的一次傳送
+     * 
+     * Each match's points are applied as by {@link #scorePoints(String, List)},
+     * and matches are scored in parallel. A match whose points are rejected is
+     * reported in its result and does not affect the others.
+     * 
+     * @param pointsByMatch The winners of each match's points in order, keyed by match ID
+     * @return One result per match, in the order of the map
+     * @throws ValidationException if the batch holds more matches than allowed
+     */
+    List<MatchScoringResult> scoreMatches(Map<String, List<String>> pointsByMatch);
+}
@@ -1,6 +1,7 @@
 package com.tennisscoring.ports.primary;
 
 import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
 import com.tennisscoring.domain.model.MatchStatus;
 
 import java.util.List;
@@ -43,6 +44,33 @@ public interface QueryPort {
      */
     List<Match> getMatchesByStatus(MatchStatus status);
     
+    /**
+     * Retrieves the last published snapshot of a match, without taking its lock
+     * 不取得比賽鎖，檢索比賽最後發布的快照
+     * 
+     * @param matchId The unique identifier of the match
+     * @return The immutable state of the match after its last change
+     * @throws MatchNotFoundException if match is not found
+     */
+    MatchSnapshot getMatchSnapshot(String matchId);
+    
+    /**
+     * Retrieves the snapshots of all matches
+     * 檢索所有比賽的快照
+     * 
+     * @return List of the snapshots of all matches
+     */
+    List<MatchSnapshot> getAllMatchSnapshots();
+    
+    /**
+     * Retrieves the snapshots of matches by their status
+     * 根據狀態檢索比賽快照
+     * 
+     * @param status The match status to filter by
+     * @return List of the snapshots of matches with the specified status
+     */
+    List<MatchSnapshot> getMatchSnapshotsByStatus(MatchStatus status);
+    
     /**
      * Checks if a match exists with the given ID
      * 檢查指定ID的比賽是否存在
@@ -2,6 +2,8 @@ package com.tennisscoring.ports.secondary;
 
 import com.tennisscoring.domain.event.PointScoredEvent;
 
+import java.util.List;
+
 /**
  * Port for publishing game-level events.
  * 發布局級別事件的埠介面
@@ -21,6 +23,14 @@ public interface GameEventPublisherPort {
      */
     void publishPointScored(PointScoredEvent event);
     
+    /**
+     * Publishes the events of points scored together in one batch.
+     * 發布同一批次記錄的多個得分事件
+     * 
+     * @param events The point scored events, in the order the points were scored
+     */
+    void publishPointsScored(List<PointScoredEvent> events);
+    
     /**
      * Publishes an event when a game is completed within a match.
      * 發布局完成事件
@@ -40,4 +50,15 @@ public interface GameEventPublisherPort {
      * @param winnerId The ID of the player who won the set
      */
     void publishSetCompleted(String matchId, int setNumber, String winnerId);
+    
+    /**
+     * Publishes an event when the last points of a match are undone or replaced.
+     * 發布比賽最後幾分被撤銷或更正的事件
+     * 
+     * @param matchId The ID of the match
+     * @param pointsUndone The number of points taken back
+     * @param pointsScored The number of points scored in their place, zero for an undo
+     * @param currentScore The score after the correction
+     */
+    void publishPointsCorrected(String matchId, int pointsUndone, int pointsScored, String currentScore);
 }
\ No newline at end of file
@@ -25,7 +25,20 @@ public interface MatchRepositoryPort {
      * @return The saved match (may include generated IDs or timestamps)
      */
     Match save(Match match);
-    
+
+    /**
+     * Saves a match only if the stored version still equals the expected version
+     * 僅在儲存的版本仍等於預期版本時儲存比賽（比較並交換）
+     *
+     * The check and the write are atomic, so of two updates based on the same
+     * version only the first one is stored.
+     *
+     * @param match The match to save
+     * @param expectedVersion The version the update was based on
+     * @return true if the match was saved, false if it is missing or was saved with a different version
+     */
+    boolean saveIfVersion(Match match, long expectedVersion);
+
     /**
      * Finds a match by its unique identifier
      * 根據唯一識別碼查找比賽
@@ -69,6 +82,20 @@ public interface MatchRepositoryPort {
      */
     List<Match> findByStatus(MatchStatus status);
     
+    /**
+     * Finds one page of matches ordered by match ID, starting after a cursor
+     * 依比賽ID排序，從游標之後查找一頁比賽
+     * 
+     * Keyset pagination: the cost depends on the page size, not on how far
+     * into the listing the cursor is.
+     * 
+     * @param status The match status to filter by, or null for all matches
+     * @param afterMatchId The last match ID of the previous page, or null for the first page
+     * @param limit The maximum number of matches to return
+     * @return Matches with IDs greater than the cursor, in ascending ID order
+     */
+    List<Match> findPage(MatchStatus status, String afterMatchId, int limit);
+    
     /**
      * Counts the total number of matches in the repository
      * 計算資料庫中比賽的總數
@@ -0,0 +1,63 @@
+package com.tennisscoring.adapters.primary.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennisscoring.adapters.primary.dto.response.ErrorResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompactJsonHttpMessageConverter Unit Tests")
+class CompactJsonHttpMessageConverterTest {
+
+    private CompactJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper indentingMapper = new ObjectMapper().findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        converter = new CompactJsonHttpMessageConverter(indentingMapper, List.of(MatchSummaryResponse.class));
+    }
+
+    @Test
+    @DisplayName("Should write compact types and lists of them without indentation")
+    void shouldWriteCompactTypesWithoutIndentation() throws Exception {
+        // Given
+        MatchSummaryResponse summary = new MatchSummaryResponse();
+        summary.setMatchId("match-1");
+
+        // When
+        MockHttpOutputMessage single = new MockHttpOutputMessage();
+        converter.write(summary, MatchSummaryResponse.class, MediaType.APPLICATION_JSON, single);
+        MockHttpOutputMessage list = new MockHttpOutputMessage();
+        converter.write(List.of(summary, summary),
+                new ParameterizedTypeReference<List<MatchSummaryResponse>>() { }.getType(),
+                MediaType.APPLICATION_JSON, list);
+
+        // Then
+        assertThat(single.getBodyAsString()).startsWith("{\"matchId\":\"match-1\"").doesNotContain("\n");
+        assertThat(list.getBodyAsString()).startsWith("[{\"matchId\":\"match-1\"").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("Should keep the mapper format for other types")
+    void shouldKeepMapperFormatForOtherTypes() throws Exception {
+        // Given
+        ErrorResponse error = new ErrorResponse("Match Not Found", "Match not found", 404, "/api/matches/x");
+
+        // When
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(error, ErrorResponse.class, MediaType.APPLICATION_JSON, output);
+
+        // Then
+        assertThat(output.getBodyAsString()).contains("\n");
+    }
+}
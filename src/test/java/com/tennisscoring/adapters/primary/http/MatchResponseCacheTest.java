@@ -0,0 +1,76 @@
+package com.tennisscoring.adapters.primary.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.domain.model.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MatchResponseCache Unit Tests")
+class MatchResponseCacheTest {
+
+    private ObjectMapper jsonMapper;
+    private MatchResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = new ObjectMapper().findAndRegisterModules().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        cache = new MatchResponseCache(new MatchMapper(), jsonMapper, cborMapper, 1);
+    }
+
+    @Test
+    @DisplayName("Should serve the same bytes until the match version changes")
+    void shouldServeSameBytesPerVersion() throws Exception {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+
+        // When
+        byte[] first = cache.json(match.getSnapshot());
+        byte[] repeat = cache.json(match.getSnapshot());
+        match.scorePoint(match.getPlayer1().getPlayerId());
+        byte[] scored = cache.json(match.getSnapshot());
+
+        // Then
+        assertThat(repeat).isSameAs(first);
+        assertThat(scored).isNotSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).doesNotContain("\n");
+        assertThat(jsonMapper.readTree(scored).get("currentScore").asText())
+                .isEqualTo(match.getCurrentScore());
+        assertThat(cache.cbor(match.getSnapshot())).isSameAs(cache.cbor(match.getSnapshot()));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently read match once full and free entries on invalidation")
+    void shouldBoundEntries() {
+        // Given - a completed match fills the cache
+        Match completed = Match.create("John Doe", "Jane Smith");
+        for (int i = 0; i < 48; i++) {
+            completed.scorePoint(completed.getPlayer1().getPlayerId());
+        }
+        Match live = Match.create("Alice", "Bob");
+        byte[] completedJson = cache.json(completed.getSnapshot());
+
+        // When & Then - the new match takes its place
+        assertThat(cache.json(live.getSnapshot())).isSameAs(cache.json(live.getSnapshot()));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.json(completed.getSnapshot())).isNotSameAs(completedJson);
+
+        cache.invalidate(completed.getMatchId());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a negative entry limit")
+    void shouldRejectNegativeEntryLimit() {
+        assertThatThrownBy(() -> new MatchResponseCache(new MatchMapper(), jsonMapper, jsonMapper, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
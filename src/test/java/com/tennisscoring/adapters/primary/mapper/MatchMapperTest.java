@@ -0,0 +1,110 @@
+package com.tennisscoring.adapters.primary.mapper;
+
+import com.tennisscoring.adapters.primary.dto.response.GameResponse;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreDeltaResponse;
+import com.tennisscoring.adapters.primary.dto.response.SetResponse;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import com.tennisscoring.domain.model.PlayerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MatchMapper Unit Tests")
+class MatchMapperTest {
+
+    private MatchMapper mapper;
+    private Match match;
+    private PlayerId player1Id;
+    private PlayerId player2Id;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new MatchMapper();
+        match = Match.create("John Doe", "Jane Smith");
+        player1Id = match.getPlayer1().getPlayerId();
+        player2Id = match.getPlayer2().getPlayerId();
+    }
+
+    @Test
+    @DisplayName("Should count games and scores per player rather than by game position")
+    void shouldMapGamesPerPlayer() {
+        // Given - player 2 takes the first two games, then player 1 leads 15-0
+        winGame(player2Id);
+        winGame(player2Id);
+        match.scorePoint(player1Id);
+
+        // When
+        SetResponse set = mapper.toResponse(match).getSets().get(0);
+
+        // Then
+        assertThat(set.getPlayer1Games()).isZero();
+        assertThat(set.getPlayer2Games()).isEqualTo(2);
+        assertThat(set.getGames()).extracting(GameResponse::getWinnerId)
+                .containsExactly(player2Id.getValue(), player2Id.getValue(), null);
+        GameResponse current = set.getGames().get(2);
+        assertThat(current.getPlayer1Score()).isEqualTo("15");
+        assertThat(current.getPlayer2Score()).isEqualTo("0");
+        assertThat(set.isHasTiebreak()).isFalse();
+        assertThat(set.getTiebreak()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map a tiebreak game with its point counts")
+    void shouldMapTiebreak() {
+        // Given - 6-6, then 3-1 in the tiebreak
+        for (int i = 0; i < 6; i++) {
+            winGame(player1Id);
+            winGame(player2Id);
+        }
+        match.scorePoint(player1Id);
+        match.scorePoint(player2Id);
+        match.scorePoint(player1Id);
+        match.scorePoint(player1Id);
+
+        // When
+        MatchResponse response = mapper.toResponse(match);
+
+        // Then
+        SetResponse set = response.getSets().get(0);
+        assertThat(set.getPlayer1Games()).isEqualTo(6);
+        assertThat(set.getPlayer2Games()).isEqualTo(6);
+        assertThat(set.isHasTiebreak()).isTrue();
+        assertThat(set.getTiebreak().getPlayer1Points()).isEqualTo(3);
+        assertThat(set.getTiebreak().getPlayer2Points()).isEqualTo(1);
+        GameResponse tiebreak = set.getGames().get(12);
+        assertThat(tiebreak.getPlayer1Score()).isEqualTo("3");
+        assertThat(tiebreak.getPlayer2Score()).isEqualTo("1");
+        assertThat(tiebreak.getStatus()).isEqualTo("搶七局進行中");
+    }
+
+    @Test
+    @DisplayName("Should build the score delta from the snapshot of the point")
+    void shouldBuildScoreDeltaFromSnapshot() {
+        // Given - player 1 wins the first game; another point lands before the delta is built
+        winGame(player1Id);
+        MatchSnapshot snapshot = match.getSnapshot();
+        match.undoLastPoints(2, null);
+
+        // When
+        ScoreDeltaResponse delta = mapper.toScoreDelta(snapshot, snapshot.getVersion() - 1);
+
+        // Then
+        assertThat(delta.getVersion()).isEqualTo(4);
+        assertThat(delta.getBaseVersion()).isEqualTo(3);
+        assertThat(delta.getGameNumber()).isEqualTo(2);
+        assertThat(delta.getPlayer1Games()).isEqualTo(1);
+        assertThat(delta.getPlayer1Points()).isEqualTo("0");
+        assertThat(delta.getCompletedGame().winnerId()).isEqualTo(player1Id.getValue());
+        assertThat(delta.getCompletedSet()).isNull();
+    }
+
+    private void winGame(PlayerId winner) {
+        for (int i = 0; i < 4; i++) {
+            match.scorePoint(winner);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.primary.controller.MatchMediaTypes;
+import com.tennisscoring.adapters.primary.dto.request.CreateMatchRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScorePointRequest;
+import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
+import com.tennisscoring.adapters.secondary.event.NoOpEventPublisher;
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.MatchStatisticsService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Reactive Match Router Tests")
+class MatchRouterTest {
+
+    private MatchSchedulers matchSchedulers;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        ValidationService validationService = new ValidationService();
+        MatchStreamPublisher eventPublisher = new MatchStreamPublisher(new NoOpEventPublisher(), new ObjectMapper());
+        InMemoryMatchRepository matchRepository = new InMemoryMatchRepository();
+        ScoringDomainService scoringService = new ScoringDomainService(validationService);
+        MatchDomainService matchService = new MatchDomainService(
+            matchRepository,
+            scoringService,
+            new MatchEventService(eventPublisher, eventPublisher),
+            new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+            validationService,
+            new StripedMatchLocks(4)
+        );
+        matchSchedulers = new MatchSchedulers(4);
+        MatchHandler handler = new MatchHandler(
+            matchService,
+            new MatchStatisticsService(matchRepository, validationService),
+            new MatchMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            matchSchedulers,
+            eventPublisher
+        );
+        ScoreboardWebSocketHandler scoreboardHandler = new ScoreboardWebSocketHandler(
+            matchService, eventPublisher, matchSchedulers, new ObjectMapper(), Duration.ofMillis(50), 8);
+        client = WebTestClient.bindToRouterFunction(MatchRouter.routes(handler, scoreboardHandler)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchSchedulers.dispose();
+    }
+
+    @Test
+    @DisplayName("Should create a match and score a point with its entity tag")
+    void shouldCreateMatchAndScorePoint() {
+        // Given
+        EntityExchangeResult<MatchResponse> created = createMatch("John Doe", "Jane Smith");
+        MatchResponse match = created.getResponseBody();
+        String eTag = created.getResponseHeaders().getETag();
+
+        // When & Then
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ScorePointRequest(match.getPlayer1().getPlayerId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.currentScore").isEqualTo("0-0 (15-0)");
+
+        client.get().uri("/api/matches/{matchId}", match.getMatchId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.player1.name").isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("Should answer a point with the score delta when the client asks for it")
+    void shouldAnswerPointWithScoreDelta() {
+        // Given
+        MatchResponse match = createMatch("John Doe", "Jane Smith").getResponseBody();
+
+        // When & Then
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .accept(MatchMediaTypes.SCORE_DELTA)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ScorePointRequest(match.getPlayer2().getPlayerId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MatchMediaTypes.SCORE_DELTA)
+                .expectBody()
+                .jsonPath("$.baseVersion").isEqualTo(0)
+                .jsonPath("$.player1Points").isEqualTo("0")
+                .jsonPath("$.player2Points").isEqualTo("15")
+                .jsonPath("$.sets").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should describe each client's own point in its delta when points follow one another")
+    void shouldDescribeOwnPointWhenPointsInterleave() {
+        // Given - player 1 leads 40-0 at version 3
+        MatchResponse match = createMatch("John Doe", "Jane Smith").getResponseBody();
+        ScorePointRequest player1Point = new ScorePointRequest(match.getPlayer1().getPlayerId());
+        for (int i = 0; i < 3; i++) {
+            client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(player1Point)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        // When & Then - the umpire wins the game at version 3, then the line judge's point follows
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .accept(MatchMediaTypes.SCORE_DELTA)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(player1Point)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+                .expectBody()
+                .jsonPath("$.baseVersion").isEqualTo(3)
+                .jsonPath("$.version").isEqualTo(4)
+                .jsonPath("$.completedGame.winnerId").isEqualTo(match.getPlayer1().getPlayerId());
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .accept(MatchMediaTypes.SCORE_DELTA)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ScorePointRequest(match.getPlayer2().getPlayerId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.baseVersion").isEqualTo(4)
+                .jsonPath("$.version").isEqualTo(5)
+                .jsonPath("$.player2Points").isEqualTo("15")
+                .jsonPath("$.completedGame").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should reject a point scored against a stale version")
+    void shouldRejectStaleVersion() {
+        // Given
+        EntityExchangeResult<MatchResponse> created = createMatch("John Doe", "Jane Smith");
+        MatchResponse match = created.getResponseBody();
+        String eTag = created.getResponseHeaders().getETag();
+        ScorePointRequest point = new ScorePointRequest(match.getPlayer1().getPlayerId());
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(point)
+                .exchange()
+                .expectStatus().isOk();
+
+        // When & Then
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(point)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Version Conflict");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid request body")
+    void shouldReturn400ForInvalidBody() {
+        client.post().uri("/api/matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateMatchRequest("", "Jane Smith"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.details").isNotEmpty();
+
+        client.post().uri("/api/matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Bad Request");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown match")
+    void shouldReturn404ForUnknownMatch() {
+        client.get().uri("/api/matches/{matchId}", "00000000-0000-0000-0000-000000000000")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Match Not Found");
+    }
+
+    @Test
+    @DisplayName("Should list, count and delete matches")
+    void shouldListCountAndDeleteMatches() {
+        // Given
+        MatchResponse first = createMatch("Player A", "Player B").getResponseBody();
+        createMatch("Player C", "Player D");
+
+        // When & Then
+        client.get().uri("/api/matches")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+        client.get().uri("/api/matches/statistics")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalMatches").isEqualTo(2);
+        client.delete().uri("/api/matches/{matchId}", first.getMatchId())
+                .exchange()
+                .expectStatus().isNoContent();
+        client.get().uri("/api/matches/page?limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream the score until the match is cancelled")
+    void shouldStreamScoreUntilCancelled() {
+        // Given
+        MatchResponse match = createMatch("John Doe", "Jane Smith").getResponseBody();
+        // The client decodes the events to their data
+        Flux<String> stream = client.get().uri("/api/matches/{matchId}/stream", match.getMatchId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(String.class)
+                .getResponseBody();
+        Mono<String> received = stream.reduce("", String::concat).cache();
+        received.subscribe();
+
+        // When
+        client.post().uri("/api/matches/{matchId}/score", match.getMatchId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ScorePointRequest(match.getPlayer1().getPlayerId()))
+                .exchange()
+                .expectStatus().isOk();
+        client.put().uri("/api/matches/{matchId}/cancel", match.getMatchId())
+                .exchange()
+                .expectStatus().isOk();
+
+        // Then
+        String events = received.block(Duration.ofSeconds(5));
+        assertThat(events).contains("\"type\":\"snapshot\"", "\"type\":\"point\"",
+                "\"score\":\"0-0 (15-0)\"", "\"type\":\"cancelled\"");
+    }
+
+    @Test
+    @DisplayName("Should run every operation on a match in the same lane")
+    void shouldMapMatchToSameLane() {
+        String matchId = "c1b9f5a2-7d3e-4f6a-9b8c-0d1e2f3a4b5c";
+
+        assertThat(matchSchedulers.forMatch(matchId)).isSameAs(matchSchedulers.forMatch(matchId));
+        MatchSchedulers rounded = new MatchSchedulers(5);
+        assertThat(rounded.getLaneCount()).isEqualTo(8);
+        rounded.dispose();
+    }
+
+    private EntityExchangeResult<MatchResponse> createMatch(String player1Name, String player2Name) {
+        return client.post().uri("/api/matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateMatchRequest(player1Name, player2Name))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody(MatchResponse.class)
+                .returnResult();
+    }
+}
@@ -0,0 +1,171 @@
+package com.tennisscoring.adapters.primary.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.primary.mapper.MatchMapper;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher;
+import com.tennisscoring.adapters.secondary.event.NoOpEventPublisher;
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.service.MatchDomainService;
+import com.tennisscoring.domain.service.MatchEventService;
+import com.tennisscoring.domain.service.MatchStatisticsService;
+import com.tennisscoring.domain.service.ScoringDomainService;
+import com.tennisscoring.domain.service.ValidationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Scoreboard WebSocket Gateway Tests")
+class ScoreboardWebSocketHandlerTest {
+
+    private MatchDomainService matchService;
+    private MatchStreamPublisher eventPublisher;
+    private MatchSchedulers matchSchedulers;
+    private ReactiveMatchServer server;
+
+    @BeforeEach
+    void setUp() {
+        ValidationService validationService = new ValidationService();
+        ObjectMapper objectMapper = new ObjectMapper();
+        eventPublisher = new MatchStreamPublisher(new NoOpEventPublisher(), objectMapper);
+        InMemoryMatchRepository matchRepository = new InMemoryMatchRepository();
+        ScoringDomainService scoringService = new ScoringDomainService(validationService);
+        matchService = new MatchDomainService(
+            matchRepository,
+            scoringService,
+            new MatchEventService(eventPublisher, eventPublisher),
+            new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+            validationService,
+            new StripedMatchLocks(4)
+        );
+        matchSchedulers = new MatchSchedulers(4);
+        MatchHandler handler = new MatchHandler(
+            matchService,
+            new MatchStatisticsService(matchRepository, validationService),
+            new MatchMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            matchSchedulers,
+            eventPublisher
+        );
+        ScoreboardWebSocketHandler scoreboardHandler = new ScoreboardWebSocketHandler(
+            matchService, eventPublisher, matchSchedulers, objectMapper, Duration.ofMillis(20), 2);
+        server = new ReactiveMatchServer(MatchRouter.routes(handler, scoreboardHandler), objectMapper, 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+        matchSchedulers.dispose();
+    }
+
+    @Test
+    @DisplayName("Should batch the updates of several matches on one connection")
+    void shouldBatchUpdatesOfSeveralMatches() throws Exception {
+        // Given
+        Match first = matchService.createMatch("John Doe", "Jane Smith");
+        Match second = matchService.createMatch("Roger Federer", "Rafael Nadal");
+        List<String> messages = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> connection = connect(
+                "{\"action\":\"subscribe\",\"matchIds\":[\"" + first.getMatchId() + "\",\"" + second.getMatchId() + "\"]}",
+                messages, 2);
+
+        // When
+        awaitWatchedMatches(2);
+        matchService.scorePoint(first.getMatchId(), first.getPlayer1().getPlayerId().getValue());
+        matchService.scorePoint(second.getMatchId(), second.getPlayer2().getPlayerId().getValue());
+        matchService.cancelMatch(first.getMatchId());
+        matchService.cancelMatch(second.getMatchId());
+        connection.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(messages).allSatisfy(message -> assertThat(message).startsWith("[{").endsWith("}]"));
+        String all = String.join("\n", messages);
+        // Updates of a match within one flush are merged into the latest
+        assertThat(all).contains("{\"type\":\"cancelled\",\"matchId\":\"" + first.getMatchId() + "\"}");
+        assertThat(all).contains("{\"type\":\"cancelled\",\"matchId\":\"" + second.getMatchId() + "\"}");
+        assertThat(messages.size()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should report unknown matches and subscriptions over the limit as errors")
+    void shouldReportRejectedSubscriptions() throws Exception {
+        // Given
+        Match first = matchService.createMatch("John Doe", "Jane Smith");
+        Match second = matchService.createMatch("Roger Federer", "Rafael Nadal");
+        Match third = matchService.createMatch("Serena Williams", "Venus Williams");
+        String unknownMatchId = UUID.randomUUID().toString();
+        List<String> messages = new CopyOnWriteArrayList<>();
+
+        // When - the connection may watch two matches only
+        CompletableFuture<Void> connection = connect("{\"action\":\"subscribe\",\"matchIds\":[\"" + unknownMatchId + "\",\""
+                + first.getMatchId() + "\",\"" + second.getMatchId() + "\",\"" + third.getMatchId() + "\"]}",
+                messages, 2);
+        connection.get(5, TimeUnit.SECONDS);
+
+        // Then
+        String all = String.join("\n", messages);
+        assertThat(all).contains("{\"type\":\"error\",\"matchId\":\"" + unknownMatchId
+                + "\",\"error\":\"Match Not Found\"");
+        // The unknown match may still hold its slot when the others are subscribed
+        assertThat(all).contains("\"error\":\"Invalid State\",\"message\":\"A connection can watch at most 2 matches\"");
+    }
+
+    /**
+     * Send a command and collect the messages until the given number of matches has ended or failed.
+     */
+    private CompletableFuture<Void> connect(String command, List<String> messages, int expectedEnds) {
+        URI uri = URI.create("ws://localhost:" + server.getPort() + MatchRouter.SCOREBOARD_PATH);
+        return new ReactorNettyWebSocketClient()
+                .execute(uri, session -> session.send(Mono.just(session.textMessage(command)))
+                        .thenMany(session.receive()
+                                .map(WebSocketMessage::getPayloadAsText)
+                                .doOnNext(messages::add)
+                                .takeUntil(message -> ends(messages) >= expectedEnds))
+                        .then(session.close()))
+                .timeout(Duration.ofSeconds(5))
+                .toFuture();
+    }
+
+    private static int ends(List<String> messages) {
+        int ends = 0;
+        for (String message : messages) {
+            ends += count(message, "\"type\":\"cancelled\"") + count(message, "\"type\":\"error\"");
+        }
+        return ends;
+    }
+
+    private static int count(String text, String part) {
+        int count = 0;
+        for (int index = text.indexOf(part); index >= 0; index = text.indexOf(part, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private void awaitWatchedMatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (eventPublisher.getWatchedMatchCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(eventPublisher.getWatchedMatchCount()).isEqualTo(count);
+    }
+}
@@ -0,0 +1,271 @@
+package com.tennisscoring.adapters.secondary.event;
+
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AsyncBatchingEventPublisher Unit Tests")
+class AsyncBatchingEventPublisherTest {
+
+    private static final String MATCH_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String PLAYER_ID = "223e4567-e89b-12d3-a456-426614174000";
+
+    private final RecordingPublisher delegate = new RecordingPublisher();
+    private AsyncBatchingEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver every event in order on the consumer thread")
+    void shouldDeliverEveryEventInOrderOnConsumerThread() {
+        // Given
+        delegate.release();
+        publisher = new AsyncBatchingEventPublisher(delegate, 64, 8, BackpressurePolicy.BLOCK, 1);
+
+        // When - more events than the queue holds
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        for (int i = 1; i <= 200; i++) {
+            publisher.publishPointScored(new PointScoredEvent(MATCH_ID, PLAYER_ID, "0-0 (15-0)", 1, i));
+        }
+        publisher.publishMatchCompleted(new MatchCompletedEvent(MATCH_ID, PLAYER_ID, "6-0 6-0", 2));
+        publisher.close();
+
+        // Then
+        assertThat(delegate.events).hasSize(202);
+        assertThat(delegate.events.get(0)).isEqualTo("created");
+        assertThat(delegate.events.get(1)).isEqualTo("point 1");
+        assertThat(delegate.events.get(200)).isEqualTo("point 200");
+        assertThat(delegate.events.get(201)).isEqualTo("completed");
+        assertThat(delegate.threads).containsOnly("event-publisher");
+
+        AsyncBatchingEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertThat(metrics.published()).isEqualTo(202);
+        assertThat(metrics.delivered()).isEqualTo(202);
+        assertThat(metrics.dropped()).isZero();
+        assertThat(metrics.queueDepth()).isZero();
+        assertThat(metrics.batches()).isGreaterThanOrEqualTo(202 / 8);
+    }
+
+    @Test
+    @DisplayName("Should drop events while the queue is full")
+    void shouldDropEventsWhileQueueIsFull() throws Exception {
+        // Given - the consumer is stuck delivering the first event
+        publisher = new AsyncBatchingEventPublisher(delegate, 4, 1, BackpressurePolicy.DROP, 1);
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (int i = 1; i <= 10; i++) {
+            publisher.publishPointScored(new PointScoredEvent(MATCH_ID, PLAYER_ID, "0-0 (15-0)", 1, i));
+        }
+
+        // Then - the caller never waited, and only what fits was kept
+        AsyncBatchingEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertThat(metrics.queueDepth()).isEqualTo(4);
+        assertThat(metrics.dropped()).isEqualTo(6);
+
+        delegate.release();
+        publisher.close();
+        assertThat(delegate.events).containsExactly("created", "point 1", "point 2", "point 3", "point 4");
+    }
+
+    @Test
+    @DisplayName("Should wait for room for match events instead of dropping them")
+    void shouldWaitForRoomForMatchEvents() throws Exception {
+        // Given - a stuck consumer and a full queue
+        publisher = new AsyncBatchingEventPublisher(delegate, 4, 1, BackpressurePolicy.DROP, 1);
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 5; i++) {
+            publisher.publishPointScored(new PointScoredEvent(MATCH_ID, PLAYER_ID, "0-0 (15-0)", 1, i));
+        }
+
+        // When - the completion waits until the consumer makes room
+        Thread completer = new Thread(() -> publisher.publishMatchCompleted(
+                new MatchCompletedEvent(MATCH_ID, PLAYER_ID, "6-0 6-0", 2)));
+        completer.start();
+        completer.join(100);
+        assertThat(completer.isAlive()).isTrue();
+        delegate.release();
+        completer.join(5_000);
+        publisher.close();
+
+        // Then - only the point event that found the queue full was lost
+        assertThat(publisher.getMetrics().dropped()).isEqualTo(1);
+        assertThat(delegate.events).containsExactly("created", "point 1", "point 2", "point 3", "point 4",
+                "completed");
+    }
+
+    @Test
+    @DisplayName("Should sample point events but keep match events under pressure")
+    void shouldSamplePointEventsButKeepMatchEventsUnderPressure() throws Exception {
+        // Given - a stuck consumer and a queue of 16, sampled from 8 queued events
+        publisher = new AsyncBatchingEventPublisher(delegate, 16, 1, BackpressurePolicy.SAMPLE, 4);
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (int i = 1; i <= 16; i++) {
+            publisher.publishPointScored(new PointScoredEvent(MATCH_ID, PLAYER_ID, "0-0 (15-0)", 1, i));
+        }
+        publisher.publishGameCompleted(MATCH_ID, 1, PLAYER_ID);
+
+        // Then - 8 points fill half the queue, then one point in 4 is kept
+        AsyncBatchingEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertThat(metrics.sampledOut()).isEqualTo(6);
+        assertThat(metrics.dropped()).isZero();
+
+        delegate.release();
+        publisher.close();
+        assertThat(delegate.events).contains("point 8", "point 9", "point 13", "game 1");
+        assertThat(delegate.events).doesNotContain("point 10", "point 16");
+    }
+
+    @Test
+    @DisplayName("Should queue a batch of point events in one slot")
+    void shouldQueueBatchOfPointEventsInOneSlot() throws Exception {
+        // Given - the consumer is stuck delivering the first event
+        publisher = new AsyncBatchingEventPublisher(delegate, 4, 1, BackpressurePolicy.DROP, 1);
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - a batch larger than the queue
+        List<PointScoredEvent> batch = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            batch.add(new PointScoredEvent(MATCH_ID, PLAYER_ID, "0-0 (15-0)", 1, i));
+        }
+        publisher.publishPointsScored(batch);
+
+        // Then
+        AsyncBatchingEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertThat(metrics.queueDepth()).isEqualTo(1);
+        assertThat(metrics.dropped()).isZero();
+
+        delegate.release();
+        publisher.close();
+        assertThat(delegate.events).hasSize(11).endsWith("point 10");
+    }
+
+    @Test
+    @DisplayName("Should deliver events on a consumer thread from the given factory")
+    void shouldDeliverEventsOnThreadFromFactory() {
+        // Given
+        delegate.release();
+        publisher = new AsyncBatchingEventPublisher(delegate, 8, 4, BackpressurePolicy.BLOCK, 1, task -> {
+            Thread thread = new Thread(task, "custom-consumer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // When
+        publisher.publishMatchCreated(new MatchCreatedEvent(MATCH_ID, "John Doe", "Jane Smith"));
+        publisher.close();
+
+        // Then
+        assertThat(delegate.events).containsExactly("created");
+        assertThat(delegate.threads).containsOnly("custom-consumer");
+    }
+
+    @Test
+    @DisplayName("Should report itself as asynchronous")
+    void shouldReportItselfAsAsynchronous() {
+        // Given
+        publisher = new AsyncBatchingEventPublisher(delegate, 8, 4, BackpressurePolicy.DROP, 1);
+
+        // Then
+        assertThat(publisher.isAsynchronous()).isTrue();
+        assertThat(publisher.getPublisherType()).isEqualTo("ASYNC_BATCHING");
+        assertThatThrownBy(() -> publisher.publishPointScored(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    /**
+     * Publisher that records what it receives and can hold the consumer
+     * thread inside the first delivery.
+     */
+    private static final class RecordingPublisher extends BaseEventPublisher {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        void release() {
+            gate.countDown();
+        }
+
+        private void record(String event) {
+            started.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        protected void doPublishMatchCreated(MatchCreatedEvent event) {
+            record("created");
+        }
+
+        @Override
+        protected void doPublishPointScored(PointScoredEvent event) {
+            record("point " + event.getCurrentGame());
+        }
+
+        @Override
+        protected void doPublishMatchCompleted(MatchCompletedEvent event) {
+            record("completed");
+        }
+
+        @Override
+        protected void doPublishMatchDeleted(String matchId, String deletedBy) {
+            record("deleted");
+        }
+
+        @Override
+        protected void doPublishGameCompleted(String matchId, int gameNumber, String winnerId) {
+            record("game " + gameNumber);
+        }
+
+        @Override
+        protected void doPublishSetCompleted(String matchId, int setNumber, String winnerId) {
+            record("set " + setNumber);
+        }
+
+        @Override
+        protected void doPublishPointsCorrected(String matchId, int pointsUndone, int pointsScored,
+                                                String currentScore) {
+            record("corrected " + pointsUndone);
+        }
+
+        @Override
+        public String getPublisherType() {
+            return "RECORDING";
+        }
+
+        @Override
+        public boolean isAsynchronous() {
+            return false;
+        }
+    }
+}
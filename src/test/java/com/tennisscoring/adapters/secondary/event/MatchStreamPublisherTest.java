@@ -0,0 +1,158 @@
+package com.tennisscoring.adapters.secondary.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennisscoring.adapters.secondary.event.MatchStreamPublisher.MatchStreamFrame;
+import com.tennisscoring.domain.event.MatchCompletedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
+import com.tennisscoring.domain.model.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MatchStreamPublisher Unit Tests")
+class MatchStreamPublisherTest {
+
+    private Match match;
+    private String matchId;
+    private String player1Id;
+    private MatchStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        match = Match.create("John Doe", "Jane Smith");
+        matchId = match.getMatchId();
+        player1Id = match.getPlayer1().getPlayerId().getValue();
+        publisher = new MatchStreamPublisher(new NoOpEventPublisher(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should send the current state first and then one shared frame per point")
+    void shouldSendSnapshotThenSharedPointFrames() {
+        // Given
+        List<MatchStreamFrame> first = new CopyOnWriteArrayList<>();
+        List<MatchStreamFrame> second = new CopyOnWriteArrayList<>();
+        Disposable firstSubscription = publisher.stream(matchId, () -> match).subscribe(first::add);
+        Disposable secondSubscription = publisher.stream(matchId, () -> match).subscribe(second::add);
+
+        // When
+        publisher.publishPointScored(pointEvent(match.getVersion() + 1, "0-0 (15-0)"));
+
+        // Then
+        assertThat(first).hasSize(2);
+        assertThat(text(first.get(0))).startsWith("id:" + match.getVersion() + "\nevent:snapshot\ndata:{");
+        assertThat(text(first.get(1))).isEqualTo("id:" + (match.getVersion() + 1) + "\nevent:point\ndata:"
+                + "{\"type\":\"point\",\"matchId\":\"" + matchId + "\",\"version\":" + (match.getVersion() + 1)
+                + ",\"scorer\":\"" + player1Id
+                + "\",\"score\":\"0-0 (15-0)\",\"set\":1,\"game\":1}\n\n");
+        assertThat(new String(first.get(1).data(), StandardCharsets.UTF_8)).startsWith("{\"type\":\"point\"");
+        assertThat(second.get(1).event()).isSameAs(first.get(1).event());
+        assertThat(second.get(1).data()).isSameAs(first.get(1).data());
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+        assertThat(publisher.getWatchedMatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip updates the current state already shows")
+    void shouldSkipUpdatesOlderThanSnapshot() {
+        // Given
+        List<MatchStreamFrame> frames = new CopyOnWriteArrayList<>();
+        publisher.stream(matchId, () -> match).subscribe(frames::add);
+
+        // When - a late event for a point the snapshot already includes
+        publisher.publishPointScored(pointEvent(match.getVersion(), "0-0 (15-0)"));
+
+        // Then
+        assertThat(frames).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest frame for a subscriber that falls behind")
+    void shouldKeepOnlyLatestFrameForSlowSubscriber() {
+        // Given - a subscriber that has taken the snapshot and asks for nothing more
+        SlowSubscriber subscriber = new SlowSubscriber();
+        publisher.stream(matchId, () -> match).subscribe(subscriber);
+
+        // When
+        for (int point = 1; point <= 5; point++) {
+            publisher.publishPointScored(pointEvent(match.getVersion() + point, "0-0 (15-0)"));
+        }
+        subscriber.request(1);
+
+        // Then
+        assertThat(subscriber.frames).hasSize(2);
+        assertThat(subscriber.frames.get(1).version()).isEqualTo(match.getVersion() + 5);
+        subscriber.dispose();
+    }
+
+    @Test
+    @DisplayName("Should end the stream when the match is completed")
+    void shouldEndStreamWhenMatchCompleted() {
+        // Given
+        List<MatchStreamFrame> frames = new CopyOnWriteArrayList<>();
+        boolean[] completed = new boolean[1];
+        publisher.stream(matchId, () -> match).subscribe(frames::add, error -> { }, () -> completed[0] = true);
+
+        // When
+        publisher.publishMatchCompleted(new MatchCompletedEvent(matchId, player1Id, "6-0 6-0", 2));
+
+        // Then
+        assertThat(completed[0]).isTrue();
+        assertThat(text(frames.get(1))).startsWith("event:completed\ndata:{\"type\":\"completed\"");
+        assertThat(publisher.getWatchedMatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should end at once for a match that is already over")
+    void shouldEndAtOnceForMatchAlreadyOver() {
+        // Given
+        match.cancel();
+        List<MatchStreamFrame> frames = new CopyOnWriteArrayList<>();
+        boolean[] completed = new boolean[1];
+
+        // When
+        publisher.stream(matchId, () -> match).subscribe(frames::add, error -> { }, () -> completed[0] = true);
+
+        // Then
+        assertThat(frames).hasSize(1);
+        assertThat(text(frames.get(0))).contains("\"status\":\"CANCELLED\"");
+        assertThat(completed[0]).isTrue();
+        assertThat(publisher.getWatchedMatchCount()).isZero();
+    }
+
+    private PointScoredEvent pointEvent(long version, String score) {
+        return new PointScoredEvent(matchId, player1Id, score, 1, 1, version);
+    }
+
+    private static String text(MatchStreamFrame frame) {
+        return new String(frame.event(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Requests the first frame only and more when told to.
+     */
+    private static final class SlowSubscriber extends BaseSubscriber<MatchStreamFrame> {
+
+        private final List<MatchStreamFrame> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(1);
+        }
+
+        @Override
+        protected void hookOnNext(MatchStreamFrame frame) {
+            frames.add(frame);
+        }
+    }
+}
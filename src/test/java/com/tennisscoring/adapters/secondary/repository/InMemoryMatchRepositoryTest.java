@@ -60,6 +60,35 @@ class InMemoryMatchRepositoryTest {
         assertThat(repository.findAll()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should save only when the stored version matches")
+    void shouldSaveOnlyWhenStoredVersionMatches() {
+        // Given - two writers both based on version 0
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+        match.scorePoint(match.getPlayer1().getPlayerId());
+
+        // When
+        boolean firstSaved = repository.saveIfVersion(match, 0L);
+        boolean secondSaved = repository.saveIfVersion(match, 0L);
+
+        // Then
+        assertThat(firstSaved).isTrue();
+        assertThat(secondSaved).isFalse();
+        assertThat(repository.saveIfVersion(match, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not compare-and-set save a missing match")
+    void shouldNotCompareAndSetSaveMissingMatch() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+
+        // When & Then
+        assertThat(repository.saveIfVersion(match, 0L)).isFalse();
+        assertThat(repository.existsById(match.getMatchId())).isFalse();
+    }
+
     @Test
     @DisplayName("Should find match by ID successfully")
     void shouldFindMatchByIdSuccessfully() {
@@ -180,6 +209,57 @@ class InMemoryMatchRepositoryTest {
         assertThat(completedMatches).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should move match between status indexes on save and delete")
+    void shouldMoveMatchBetweenStatusIndexesOnSaveAndDelete() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        Match other = Match.create("Alice", "Bob");
+        repository.save(match);
+        repository.save(other);
+
+        // When - cancel and save one of them
+        match.cancel();
+        repository.save(match);
+
+        // Then
+        assertThat(repository.countByStatus(MatchStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(repository.countByStatus(MatchStatus.CANCELLED)).isEqualTo(1);
+        assertThat(repository.findByStatus(MatchStatus.CANCELLED)).containsExactly(match);
+        assertThat(repository.findByStatus(MatchStatus.IN_PROGRESS)).containsExactly(other);
+
+        // When - delete it
+        repository.deleteById(match.getMatchId());
+
+        // Then
+        assertThat(repository.countByStatus(MatchStatus.CANCELLED)).isZero();
+        assertThat(repository.findByStatus(MatchStatus.CANCELLED)).isEmpty();
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should page through matches in ID order after a cursor")
+    void shouldPageThroughMatchesInIdOrderAfterCursor() {
+        // Given
+        List<Match> saved = IntStream.range(0, 5)
+            .mapToObj(i -> repository.save(Match.create("Player A" + i, "Player B" + i)))
+            .sorted((a, b) -> a.getMatchId().compareTo(b.getMatchId()))
+            .toList();
+        saved.get(3).cancel();
+        repository.save(saved.get(3));
+
+        // When
+        List<Match> firstPage = repository.findPage(null, null, 2);
+        List<Match> secondPage = repository.findPage(null, firstPage.get(1).getMatchId(), 2);
+        List<Match> inProgressAfterFirst = repository.findPage(
+            MatchStatus.IN_PROGRESS, saved.get(0).getMatchId(), 10);
+
+        // Then
+        assertThat(firstPage).containsExactly(saved.get(0), saved.get(1));
+        assertThat(secondPage).containsExactly(saved.get(2), saved.get(3));
+        assertThat(inProgressAfterFirst).containsExactly(saved.get(1), saved.get(2), saved.get(4));
+    }
+
     @Test
     @DisplayName("Should return empty list when no matches have specified status")
     void shouldReturnEmptyListWhenNoMatchesHaveSpecifiedStatus() {
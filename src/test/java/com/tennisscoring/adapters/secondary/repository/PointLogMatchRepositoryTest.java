@@ -0,0 +1,490 @@
+package com.tennisscoring.adapters.secondary.repository;
+
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchStatus;
+import com.tennisscoring.domain.model.PlayerId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointLogMatchRepository Unit Tests")
+class PointLogMatchRepositoryTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private PointLogMatchRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore matches with their scores, versions and timestamps after reopening")
+    void shouldRestoreMatchesAfterReopening() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        Match inProgress = Match.create("John Doe", "Jane Smith");
+        repository.save(inProgress);
+        for (int point = 0; point < 30; point++) {
+            inProgress.scorePoint(point % 3 == 0 ? player2(inProgress) : player1(inProgress));
+            repository.save(inProgress);
+        }
+
+        Match cancelled = Match.create("Rafael Nadal", "Roger Federer");
+        repository.save(cancelled);
+        cancelled.scorePoint(player1(cancelled));
+        cancelled.cancel();
+        repository.save(cancelled);
+
+        Match completed = Match.create("Serena Williams", "Venus Williams");
+        completed.selectScoringStrategy("TRANSITION_TABLE");
+        repository.save(completed);
+        while (!completed.isCompleted()) {
+            completed.scorePoint(player2(completed));
+            repository.save(completed);
+        }
+
+        Match deleted = Match.create("Andy Murray", "Novak Djokovic");
+        repository.save(deleted);
+        repository.deleteById(deleted.getMatchId());
+
+        // When
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.existsById(deleted.getMatchId())).isFalse();
+        assertRestored(inProgress);
+        assertRestored(cancelled);
+        assertRestored(completed);
+        assertThat(repository.findById(completed.getMatchId()).orElseThrow().getScoringStrategyType())
+            .isEqualTo("TRANSITION_TABLE");
+        assertThat(repository.countByStatus(MatchStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(repository.countByStatus(MatchStatus.CANCELLED)).isEqualTo(1);
+        assertThat(repository.countByStatus(MatchStatus.COMPLETED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll over to new segments and replay across them")
+    void shouldRollOverToNewSegmentsAndReplayAcrossThem() {
+        // Given - 30-byte point records in 4 KB segments
+        repository = new PointLogMatchRepository(directory, PointLog.MINIMUM_SEGMENT_SIZE);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Match match = Match.create("John Doe", "Jane Smith");
+            repository.save(match);
+            for (int point = 0; point < 40; point++) {
+                match.scorePoint(point % 2 == 0 ? player1(match) : player2(match));
+                repository.save(match);
+            }
+            matches.add(match);
+        }
+        assertThat(repository.getMetrics().segments()).isGreaterThan(1);
+
+        // When
+        repository.close();
+        repository = new PointLogMatchRepository(directory, PointLog.MINIMUM_SEGMENT_SIZE);
+
+        // Then
+        assertThat(repository.getMetrics().records()).isEqualTo(20 * 41);
+        for (Match match : matches) {
+            assertRestored(match);
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log and keep appending")
+    void shouldDiscardTornRecordAtEndOfLog() throws IOException {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+        for (int point = 0; point < 3; point++) {
+            match.scorePoint(player1(match));
+            repository.save(match);
+        }
+        repository.close();
+        writeTornRecord();
+
+        // When
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match restored = repository.findById(match.getMatchId()).orElseThrow();
+        restored.scorePoint(player1(restored));
+        repository.save(restored);
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        Match reopened = repository.findById(match.getMatchId()).orElseThrow();
+        assertThat(reopened.getPointCount()).isEqualTo(4);
+        assertThat(reopened.getCurrentScore()).isEqualTo(restored.getCurrentScore());
+        assertThat(reopened.getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not log a save whose version check fails")
+    void shouldNotLogSaveWhoseVersionCheckFails() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+        match.scorePoint(player1(match));
+        long records = repository.getMetrics().records();
+
+        // When
+        boolean saved = repository.saveIfVersion(match, 5L);
+
+        // Then
+        assertThat(saved).isFalse();
+        assertThat(repository.getMetrics().records()).isEqualTo(records);
+        assertThat(repository.saveIfVersion(match, 0L)).isTrue();
+        assertThat(repository.getMetrics().records()).isEqualTo(records + 1);
+    }
+
+    @Test
+    @DisplayName("Should keep every point saved by concurrent writers")
+    void shouldKeepEveryPointSavedByConcurrentWriters() throws Exception {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        int writers = 8;
+        int points = 50;
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            Match match = Match.create("John Doe", "Jane Smith");
+            repository.save(match);
+            matches.add(match);
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Match match : matches) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int point = 0; point < points; point++) {
+                    match.scorePoint(point % 3 == 0 ? player2(match) : player1(match));
+                    repository.save(match);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        PointLogMatchRepository.Metrics metrics = repository.getMetrics();
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(metrics.records()).isEqualTo(writers * (points + 1L));
+        assertThat(metrics.syncs()).isLessThanOrEqualTo(metrics.records());
+        for (Match match : matches) {
+            assertRestored(match);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to open a directory that is already in use")
+    void shouldRefuseToOpenDirectoryAlreadyInUse() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // When & Then
+        assertThatThrownBy(() -> new PointLogMatchRepository(directory, SEGMENT_SIZE))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("already in use");
+        assertThat(repository.getRepositoryType()).isEqualTo("POINT_LOG");
+        assertThat(repository.isThreadSafe()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should restore matches from a snapshot and delete the segments it covers")
+    void shouldRestoreMatchesFromSnapshotAndDeleteCoveredSegments() {
+        // Given
+        repository = new PointLogMatchRepository(directory, PointLog.MINIMUM_SEGMENT_SIZE);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Match match = Match.create("John Doe", "Jane Smith");
+            repository.save(match);
+            for (int point = 0; point < 40; point++) {
+                match.scorePoint(point % 2 == 0 ? player1(match) : player2(match));
+                repository.save(match);
+            }
+            matches.add(match);
+        }
+        Match tiebreak = Match.create("Rafael Nadal", "Roger Federer");
+        repository.save(tiebreak);
+        for (int game = 0; game < 12; game++) {
+            winGame(tiebreak, game % 2 == 0 ? player1(tiebreak) : player2(tiebreak));
+        }
+        tiebreak.scorePoint(player2(tiebreak));
+        repository.save(tiebreak);
+        matches.add(tiebreak);
+        Match completed = Match.create("Serena Williams", "Venus Williams");
+        repository.save(completed);
+        while (!completed.isCompleted()) {
+            completed.scorePoint(player1(completed));
+            repository.save(completed);
+        }
+        matches.add(completed);
+        int segments = repository.getMetrics().segments();
+
+        // When
+        boolean written = repository.snapshot();
+        PointLogMatchRepository.Metrics metrics = repository.getMetrics();
+        repository.close();
+        repository = new PointLogMatchRepository(directory, PointLog.MINIMUM_SEGMENT_SIZE);
+
+        // Then
+        assertThat(written).isTrue();
+        assertThat(metrics.snapshots()).isEqualTo(1);
+        assertThat(metrics.snapshotMatches()).isEqualTo(12);
+        assertThat(metrics.segments()).isEqualTo(1).isLessThan(segments);
+        assertThat(repository.getMetrics().records()).isZero();
+        for (Match match : matches) {
+            assertRestored(match);
+        }
+        Match restored = repository.findById(tiebreak.getMatchId()).orElseThrow();
+        assertThat(restored.getCurrentSet().getCurrentGame().isTiebreak()).isTrue();
+        restored.scorePoint(player1(restored));
+        assertThat(restored.getPlayer1().getPointsWon()).isEqualTo(tiebreak.getPlayer1().getPointsWon() + 1);
+        assertThat(repository.findById(completed.getMatchId()).orElseThrow().getWinner())
+            .isEqualTo(player1(completed));
+    }
+
+    @Test
+    @DisplayName("Should replay changes made after a snapshot on top of it")
+    void shouldReplayChangesMadeAfterSnapshot() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match scored = Match.create("John Doe", "Jane Smith");
+        repository.save(scored);
+        scored.scorePoint(player1(scored));
+        repository.save(scored);
+        Match deleted = Match.create("Andy Murray", "Novak Djokovic");
+        repository.save(deleted);
+        repository.snapshot();
+
+        // When
+        scored.scorePoint(player2(scored));
+        scored.scorePoint(player2(scored));
+        repository.save(scored);
+        repository.deleteById(deleted.getMatchId());
+        Match created = Match.create("Rafael Nadal", "Roger Federer");
+        repository.save(created);
+        created.scorePoint(player1(created));
+        created.cancel();
+        repository.save(created);
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(repository.count()).isEqualTo(2);
+        assertThat(repository.existsById(deleted.getMatchId())).isFalse();
+        assertRestored(scored);
+        assertRestored(created);
+    }
+
+    @Test
+    @DisplayName("Should snapshot matches as last saved and skip an unchanged log")
+    void shouldSnapshotMatchesAsLastSaved() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+        match.scorePoint(player1(match));
+        repository.save(match);
+        String savedScore = match.getCurrentScore();
+
+        // When - a point scored in place but never saved
+        match.scorePoint(player1(match));
+        boolean first = repository.snapshot();
+        boolean second = repository.snapshot();
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        Match restored = repository.findById(match.getMatchId()).orElseThrow();
+        assertThat(restored.getVersion()).isEqualTo(1);
+        assertThat(restored.getCurrentScore()).isEqualTo(savedScore);
+    }
+
+    @Test
+    @DisplayName("Should snapshot periodically and on close")
+    void shouldSnapshotPeriodicallyAndOnClose() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE, new StripedMatchLocks(),
+            Duration.ofMillis(20));
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+
+        // When
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (repository.getMetrics().snapshots() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        match.scorePoint(player2(match));
+        repository.save(match);
+        long snapshots = repository.getMetrics().snapshots();
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(snapshots).isPositive();
+        assertThat(repository.getMetrics().records()).isZero();
+        assertRestored(match);
+    }
+
+    @Test
+    @DisplayName("Should restore undone and corrected points after reopening")
+    void shouldRestoreUndoneAndCorrectedPoints() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match corrected = Match.create("John Doe", "Jane Smith");
+        repository.save(corrected);
+        winGame(corrected, player1(corrected));
+        corrected.scorePoint(player2(corrected));
+        repository.save(corrected);
+        corrected.undoLastPoints(2, null);
+        repository.save(corrected);
+        corrected.correctLastPoints(1, List.of(player2(corrected), player2(corrected)), null);
+        repository.save(corrected);
+
+        Match reopened = Match.create("Serena Williams", "Venus Williams");
+        repository.save(reopened);
+        while (!reopened.isCompleted()) {
+            reopened.scorePoint(player1(reopened));
+        }
+        repository.save(reopened);
+        reopened.undoLastPoints(1, null);
+        repository.save(reopened);
+        Match undone = Match.create("Andy Murray", "Novak Djokovic");
+        repository.save(undone);
+        undone.scorePoint(player1(undone));
+        undone.undoLastPoints(1, null);
+        repository.save(undone);
+
+        // When
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then
+        assertThat(corrected.getCurrentScore()).isEqualTo("0-0 (30-30)");
+        assertRestored(corrected);
+        assertRestored(reopened);
+        assertRestored(undone);
+        assertThat(repository.findById(reopened.getMatchId()).orElseThrow().isInProgress()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep game checkpoints in snapshots and replay undos logged after them")
+    void shouldSnapshotCheckpointsAndReplayUndos() {
+        // Given
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match match = Match.create("John Doe", "Jane Smith");
+        repository.save(match);
+        for (int game = 0; game < 7; game++) {
+            winGame(match, game % 2 == 0 ? player1(match) : player2(match));
+        }
+        repository.snapshot();
+
+        // When
+        match.undoLastPoints(3, null);
+        repository.save(match);
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+        Match restored = repository.findById(match.getMatchId()).orElseThrow();
+        assertThat(restored.getCurrentScore()).isEqualTo(match.getCurrentScore());
+        restored.undoLastPoints(6, null);
+        repository.save(restored);
+        repository.snapshot();
+        repository.close();
+        repository = new PointLogMatchRepository(directory, SEGMENT_SIZE);
+
+        // Then - four games shared and three points of the fifth
+        assertThat(restored.getCurrentScore()).isEqualTo("2-2 (40-0)");
+        assertRestored(restored);
+    }
+
+    private void assertRestored(Match original) {
+        Match restored = repository.findById(original.getMatchId()).orElseThrow();
+        assertThat(restored).isNotSameAs(original);
+        assertThat(restored.getCurrentScore()).isEqualTo(original.getCurrentScore());
+        assertThat(restored.getVersion()).isEqualTo(original.getVersion());
+        assertThat(restored.getPointCount()).isEqualTo(original.getPointCount());
+        assertThat(restored.getStatus()).isEqualTo(original.getStatus());
+        assertThat(restored.getWinner()).isEqualTo(original.getWinner());
+        assertThat(restored.getCreatedAt()).isEqualTo(original.getCreatedAt());
+        assertThat(restored.getCompletedAt()).isEqualTo(original.getCompletedAt());
+        assertThat(restored.getPlayer1().getName()).isEqualTo(original.getPlayer1().getName());
+        assertThat(restored.getPlayer1().getPlayerId()).isEqualTo(original.getPlayer1().getPlayerId());
+        assertThat(restored.getPlayer2().getPointsWon()).isEqualTo(original.getPlayer2().getPointsWon());
+    }
+
+    /**
+     * Simulate a crash in the middle of a write: a record header whose
+     * payload never made it to disk, right after the last valid record.
+     */
+    private void writeTornRecord() throws IOException {
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                .sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long offset = 0;
+            int length;
+            while ((length = readInt(file, offset)) != 0) {
+                offset += 8 + length;
+            }
+            file.seek(offset);
+            file.writeInt(18);
+            file.writeInt(0x12345678);
+            file.write(new byte[] {2, 7, 7});
+        }
+    }
+
+    private static int readInt(RandomAccessFile file, long offset) throws IOException {
+        file.seek(offset);
+        return file.readInt();
+    }
+
+    private void winGame(Match match, PlayerId playerId) {
+        for (int point = 0; point < 4; point++) {
+            match.scorePoint(playerId);
+            repository.save(match);
+        }
+    }
+
+    private static PlayerId player1(Match match) {
+        return match.getPlayer1().getPlayerId();
+    }
+
+    private static PlayerId player2(Match match) {
+        return match.getPlayer2().getPlayerId();
+    }
+}
@@ -299,4 +299,69 @@ class GameTest {
         assertThat(game1.hashCode()).isEqualTo(game2.hashCode());
         assertThat(game1).isNotEqualTo(game3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should survive repeated deuce and advantage cycles")
+    void shouldSurviveRepeatedDeuceAndAdvantageCycles() {
+        // Given - reach 40-40
+        Game game = new Game(1, false);
+        game.initializeScores(player1Id, player2Id);
+        for (int i = 0; i < 3; i++) {
+            game.scorePoint(player1Id, player2Id);
+            game.scorePoint(player2Id, player1Id);
+        }
+        
+        // When - advantage swings back to deuce many times
+        for (int i = 0; i < 50; i++) {
+            game.scorePoint(i % 2 == 0 ? player1Id : player2Id, i % 2 == 0 ? player2Id : player1Id);
+            game.scorePoint(i % 2 == 0 ? player2Id : player1Id, i % 2 == 0 ? player1Id : player2Id);
+        }
+        
+        // Then
+        assertThat(game.isDeuce()).isTrue();
+        assertThat(game.getFormattedScore(player1Id, player2Id)).isEqualTo("平分");
+        
+        game.scorePoint(player2Id, player1Id);
+        assertThat(game.hasAdvantage(player2Id)).isTrue();
+        assertThat(game.scorePoint(player2Id, player1Id)).isTrue();
+        assertThat(game.getWinner()).isEqualTo(player2Id);
+        assertThat(game.getPlayerScores()).containsKeys(player1Id, player2Id);
+    }
+
+    @Test
+    @DisplayName("Should handle long tiebreak beyond 7 points")
+    void shouldHandleLongTiebreakBeyondSevenPoints() {
+        // Given
+        Game game = new Game(13, true);
+        game.initializeScores(player1Id, player2Id);
+        
+        // When - 15-15
+        for (int i = 0; i < 15; i++) {
+            game.scorePoint(player1Id, player2Id);
+            game.scorePoint(player2Id, player1Id);
+        }
+        
+        // Then
+        assertThat(game.isCompleted()).isFalse();
+        game.scorePoint(player1Id, player2Id);
+        assertThat(game.isCompleted()).isFalse();
+        assertThat(game.scorePoint(player1Id, player2Id)).isTrue();
+        assertThat(game.getWinner()).isEqualTo(player1Id);
+        assertThat(game.getFormattedScore(player1Id, player2Id)).isEqualTo("17-15");
+    }
+
+    @Test
+    @DisplayName("Should reject points from players not in the game")
+    void shouldRejectPointsFromPlayersNotInTheGame() {
+        // Given
+        Game game = new Game(1, false);
+        game.initializeScores(player1Id, player2Id);
+        PlayerId stranger = PlayerId.generate();
+        
+        // When & Then
+        assertThatThrownBy(() -> game.scorePoint(stranger, player1Id))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(game.getScore(stranger)).isNull();
+        assertThat(game.getScore(player1Id)).isEqualTo(GameScore.LOVE);
+    }
+}
@@ -0,0 +1,131 @@
+package com.tennisscoring.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MatchSnapshot Tests")
+class MatchSnapshotTest {
+
+    private Match match;
+    private PlayerId player1Id;
+    private PlayerId player2Id;
+
+    @BeforeEach
+    void setUp() {
+        match = Match.create("John Doe", "Jane Smith");
+        player1Id = match.getPlayer1().getPlayerId();
+        player2Id = match.getPlayer2().getPlayerId();
+    }
+
+    @Test
+    @DisplayName("Should keep a taken snapshot unchanged while the match is scored")
+    void shouldKeepSnapshotUnchanged() {
+        // Given
+        MatchSnapshot before = match.getSnapshot();
+        String initialScore = match.getCurrentScore();
+
+        // When
+        match.scorePoint(player1Id);
+        MatchSnapshot after = match.getSnapshot();
+
+        // Then
+        assertThat(before.getVersion()).isZero();
+        assertThat(before.getCurrentScore()).isEqualTo(initialScore);
+        assertThat(before.getPlayer1().pointsWon()).isZero();
+        assertThat(before.getCurrentGame().score(GameState.PLAYER1)).isEqualTo(GameScore.LOVE);
+        assertThat(after.getVersion()).isEqualTo(1);
+        assertThat(after.getCurrentScore()).isEqualTo(match.getCurrentScore());
+        assertThat(after.getPlayer1().pointsWon()).isEqualTo(1);
+        assertThat(after.getCurrentGame().score(GameState.PLAYER1)).isEqualTo(GameScore.FIFTEEN);
+    }
+
+    @Test
+    @DisplayName("Should share completed sets with the previous snapshot")
+    void shouldShareCompletedSets() {
+        // Given - player 1 takes the first set 6-0
+        for (int i = 0; i < 24; i++) {
+            match.scorePoint(player1Id);
+        }
+        MatchSnapshot afterSet = match.getSnapshot();
+
+        // When
+        match.scorePoint(player2Id);
+        MatchSnapshot afterPoint = match.getSnapshot();
+
+        // Then
+        assertThat(afterSet.getSets()).hasSize(2);
+        assertThat(afterPoint.getSets().get(0)).isSameAs(afterSet.getSets().get(0));
+        assertThat(afterPoint.getSets().get(0).player1Games()).isEqualTo(6);
+        assertThat(afterPoint.getSets().get(1)).isNotSameAs(afterSet.getSets().get(1));
+        assertThat(afterPoint.getCurrentGame().score(GameState.PLAYER2)).isEqualTo(GameScore.FIFTEEN);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a set reopened by an undo")
+    void shouldRebuildReopenedSet() {
+        // Given
+        for (int i = 0; i < 24; i++) {
+            match.scorePoint(player1Id);
+        }
+
+        // When
+        match.undoLastPoints(1, null);
+
+        // Then
+        MatchSnapshot snapshot = match.getSnapshot();
+        assertThat(snapshot.getSets()).hasSize(1);
+        assertThat(snapshot.getSets().get(0).isCompleted()).isFalse();
+        assertThat(snapshot.getSets().get(0).player1Games()).isEqualTo(5);
+        assertThat(snapshot.getCurrentScore()).isEqualTo(match.getCurrentScore());
+    }
+
+    @Test
+    @DisplayName("Should publish a batch once and nothing for a rejected batch")
+    void shouldPublishWholeChangesOnly() {
+        // Given
+        List<MatchSnapshot> seen = new ArrayList<>();
+        match.scorePoints(List.of(player1Id, player1Id, player2Id), null,
+                winner -> seen.add(match.getSnapshot()));
+        MatchSnapshot afterBatch = match.getSnapshot();
+
+        // When - a batch running past the end of the match is rolled back
+        List<PlayerId> tooMany = Collections.nCopies(200, player1Id);
+        assertThatThrownBy(() -> match.scorePoints(tooMany, null, winner -> { }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(seen).allMatch(snapshot -> snapshot.getVersion() == 0);
+        assertThat(afterBatch.getVersion()).isEqualTo(3);
+        assertThat(match.getSnapshot()).isSameAs(afterBatch);
+    }
+
+    @Test
+    @DisplayName("Should report deuce and advantage of the current game")
+    void shouldReportDeuceAndAdvantage() {
+        // Given - 40-40, then advantage player 1 and back to deuce
+        for (int i = 0; i < 3; i++) {
+            match.scorePoint(player1Id);
+            match.scorePoint(player2Id);
+        }
+        match.scorePoint(player1Id);
+        match.scorePoint(player2Id);
+        MatchSnapshot deuce = match.getSnapshot();
+
+        // When
+        match.scorePoint(player2Id);
+        MatchSnapshot advantage = match.getSnapshot();
+
+        // Then
+        assertThat(deuce.isCurrentGameDeuce()).isTrue();
+        assertThat(advantage.isCurrentGameDeuce()).isFalse();
+        assertThat(advantage.hasAdvantage(player2Id)).isTrue();
+        assertThat(advantage.hasAdvantage(player1Id)).isFalse();
+    }
+}
@@ -3,6 +3,10 @@ package com.tennisscoring.domain.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Match Entity Tests")
@@ -163,6 +167,28 @@ class MatchTest {
         assertThat(match.getCompletedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should keep pointing at the last set and game once the match is completed")
+    void shouldKeepPointingAtLastSetAndGameOnceCompleted() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        
+        // When - 6-0, 6-0
+        for (int point = 0; point < 48; point++) {
+            match.scorePoint(player1Id);
+        }
+        
+        // Then
+        assertThat(match.isCompleted()).isTrue();
+        assertThat(match.getCurrentSetNumber()).isEqualTo(2);
+        assertThat(match.getCurrentGameNumber()).isEqualTo(6);
+        assertThat(match.isCurrentGameTiebreak()).isFalse();
+        assertThatThrownBy(match::getCurrentSet)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No active set found");
+    }
+
     @Test
     @DisplayName("Should throw exception when scoring on completed match")
     void shouldThrowExceptionWhenScoringOnCompletedMatch() {
@@ -243,6 +269,248 @@ class MatchTest {
         assertThat(currentScore).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Should reuse cached score until the next state change")
+    void shouldReuseCachedScoreUntilNextStateChange() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        long initialVersion = match.getVersion();
+        
+        // When
+        String first = match.getCurrentScore();
+        String second = match.getCurrentScore();
+        match.scorePoint(player1Id);
+        String afterPoint = match.getCurrentScore();
+        
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(afterPoint).isEqualTo("0-0 (15-0)");
+        assertThat(match.getVersion()).isEqualTo(initialVersion + 1);
+        
+        match.cancel();
+        assertThat(match.getVersion()).isEqualTo(initialVersion + 2);
+        assertThat(match.getCurrentScore()).isEqualTo("0-0 (15-0)");
+    }
+
+    @Test
+    @DisplayName("Should record the winner of every point")
+    void shouldRecordWinnerOfEveryPoint() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        PlayerId player2Id = match.getPlayer2().getPlayerId();
+
+        // When - a long deuce game, more points than fit in one word of the history
+        for (int point = 0; point < 70; point++) {
+            match.scorePoint(point % 2 == 0 ? player2Id : player1Id);
+        }
+
+        // Then
+        assertThat(match.getPointCount()).isEqualTo(70);
+        assertThat(match.getPointWinner(0)).isEqualTo(player2Id);
+        assertThat(match.getPointWinner(1)).isEqualTo(player1Id);
+        assertThat(match.getPointWinner(68)).isEqualTo(player2Id);
+        assertThat(match.getPointWinner(69)).isEqualTo(player1Id);
+        assertThatThrownBy(() -> match.getPointWinner(70))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should undo points within the current game")
+    void shouldUndoPointsWithinCurrentGame() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        PlayerId player2Id = match.getPlayer2().getPlayerId();
+        match.scorePoint(player1Id);
+        match.scorePoint(player1Id);
+        match.scorePoint(player2Id);
+        long version = match.getVersion();
+
+        // When
+        match.undoLastPoints(2, null);
+
+        // Then
+        assertThat(match.getCurrentScore()).isEqualTo("0-0 (15-0)");
+        assertThat(match.getPointCount()).isEqualTo(1);
+        assertThat(match.getVersion()).isEqualTo(version + 1);
+        assertThat(match.getPlayer1().getPointsWon()).isEqualTo(1);
+        assertThat(match.getPlayer2().getPointsWon()).isZero();
+        assertThat(match.getUnchangedPointCount(version)).isEqualTo(1);
+        assertThat(match.getUnchangedPointCount(match.getVersion())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reopen a completed match and undo across set boundaries")
+    void shouldUndoAcrossSetBoundaries() {
+        // Given - 6-0 6-0
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        for (int point = 0; point < 48; point++) {
+            match.scorePoint(player1Id);
+        }
+        assertThat(match.isCompleted()).isTrue();
+
+        // When
+        match.undoLastPoints(1, null);
+
+        // Then
+        assertThat(match.isInProgress()).isTrue();
+        assertThat(match.getWinner()).isNull();
+        assertThat(match.getCompletedAt()).isNull();
+        assertThat(match.getCurrentScore()).isEqualTo("6-0 5-0 (40-0)");
+        assertThat(match.getPlayer1().getSetsWon()).isEqualTo(1);
+
+        // When - back into the last game of the first set
+        match.undoLastPoints(24, null);
+
+        // Then
+        assertThat(match.getSets()).hasSize(1);
+        assertThat(match.getCurrentScore()).isEqualTo("5-0 (40-0)");
+        assertThat(match.getPlayer1().getSetsWon()).isZero();
+        assertThat(match.getPlayer1().getPointsWon()).isEqualTo(23);
+
+        // And scoring goes on as if the undone points had never been played
+        match.scorePoint(player1Id);
+        assertThat(match.getCurrentScore()).isEqualTo("6-0 0-0 (0-0)");
+        assertThat(match.getCurrentSetNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should undo out of a tiebreak")
+    void shouldUndoOutOfTiebreak() {
+        // Given - 6-6 and two tiebreak points
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        PlayerId player2Id = match.getPlayer2().getPlayerId();
+        for (int game = 0; game < 6; game++) {
+            for (int point = 0; point < 4; point++) {
+                match.scorePoint(player1Id);
+            }
+            for (int point = 0; point < 4; point++) {
+                match.scorePoint(player2Id);
+            }
+        }
+        match.scorePoint(player1Id);
+        match.scorePoint(player2Id);
+
+        // When
+        match.undoLastPoints(3, null);
+
+        // Then
+        assertThat(match.isCurrentGameTiebreak()).isFalse();
+        assertThat(match.getCurrentScore()).isEqualTo("6-5 (0-40)");
+        match.scorePoint(player2Id);
+        assertThat(match.isCurrentGameTiebreak()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should replace the last points with a correction")
+    void shouldReplaceLastPointsWithCorrection() {
+        // Given - 30-15
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        PlayerId player2Id = match.getPlayer2().getPlayerId();
+        match.scorePoint(player1Id);
+        match.scorePoint(player1Id);
+        match.scorePoint(player2Id);
+        long version = match.getVersion();
+
+        // When
+        match.correctLastPoints(2, List.of(player2Id, player2Id, player2Id), null);
+
+        // Then
+        assertThat(match.getCurrentScore()).isEqualTo("0-0 (15-40)");
+        assertThat(match.getPointCount()).isEqualTo(4);
+        assertThat(match.getVersion()).isEqualTo(version + 4);
+        assertThat(match.getUnchangedPointCount(version)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave the match unchanged when a correction outlasts it")
+    void shouldLeaveMatchUnchangedWhenCorrectionOutlastsIt() {
+        // Given - 6-0 6-0
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        for (int point = 0; point < 48; point++) {
+            match.scorePoint(player1Id);
+        }
+        long version = match.getVersion();
+        LocalDateTime completedAt = match.getCompletedAt();
+        String score = match.getCurrentScore();
+
+        // When & Then - the first replacement point already ends the match
+        assertThatThrownBy(() -> match.correctLastPoints(1, List.of(player1Id, player1Id), null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(match.isCompleted()).isTrue();
+        assertThat(match.getWinner()).isEqualTo(player1Id);
+        assertThat(match.getCompletedAt()).isEqualTo(completedAt);
+        assertThat(match.getVersion()).isEqualTo(version);
+        assertThat(match.getPointCount()).isEqualTo(48);
+        assertThat(match.getCurrentScore()).isEqualTo(score);
+        assertThat(match.getUnchangedPointCount(version)).isEqualTo(48);
+    }
+
+    @Test
+    @DisplayName("Should score a batch of points as one change")
+    void shouldScoreBatchOfPoints() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        PlayerId player2Id = match.getPlayer2().getPlayerId();
+        List<String> scores = new ArrayList<>();
+
+        // When
+        boolean completed = match.scorePoints(List.of(player1Id, player2Id, player1Id), null,
+                winner -> scores.add(match.getCurrentScore()));
+
+        // Then
+        assertThat(completed).isFalse();
+        assertThat(scores).containsExactly("0-0 (15-0)", "0-0 (15-15)", "0-0 (30-15)");
+        assertThat(match.getVersion()).isEqualTo(3);
+        assertThat(match.getPointCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should leave the match unchanged when a batch outlasts it")
+    void shouldLeaveMatchUnchangedWhenBatchOutlastsIt() {
+        // Given - 6-0 5-0 (40-0)
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        for (int point = 0; point < 47; point++) {
+            match.scorePoint(player1Id);
+        }
+        String score = match.getCurrentScore();
+
+        // When & Then - the first point of the batch already ends the match
+        assertThatThrownBy(() -> match.scorePoints(List.of(player1Id, player1Id), null, winner -> { }))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(match.isInProgress()).isTrue();
+        assertThat(match.getWinner()).isNull();
+        assertThat(match.getVersion()).isEqualTo(47);
+        assertThat(match.getPointCount()).isEqualTo(47);
+        assertThat(match.getCurrentScore()).isEqualTo(score);
+        assertThat(match.scorePoints(List.of(player1Id), null, winner -> { })).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject undoing points of a cancelled match or more points than played")
+    void shouldRejectInvalidUndo() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        match.scorePoint(match.getPlayer1().getPlayerId());
+
+        // When & Then
+        assertThatThrownBy(() -> match.undoLastPoints(2, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> match.undoLastPoints(0, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        match.cancel();
+        assertThatThrownBy(() -> match.undoLastPoints(1, null))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("Should handle tiebreak scenario")
     void shouldHandleTiebreakScenario() {
@@ -287,4 +287,30 @@ class SetTest {
         assertThat(toString).contains("isCompleted=false");
         assertThat(toString).contains("totalGames=3"); // 2 completed + 1 current
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should move current game to each newly started game")
+    void shouldMoveCurrentGameToEachNewlyStartedGame() {
+        // Given
+        Set set = new Set(1);
+        set.initialize(player1Id, player2Id);
+        
+        // When & Then - alternate games up to 6-6
+        for (int gameNumber = 1; gameNumber <= 12; gameNumber++) {
+            Game currentGame = set.getCurrentGame();
+            assertThat(currentGame.getGameNumber()).isEqualTo(gameNumber);
+            
+            PlayerId winner = gameNumber % 2 == 1 ? player1Id : player2Id;
+            PlayerId loser = gameNumber % 2 == 1 ? player2Id : player1Id;
+            for (int point = 0; point < 4; point++) {
+                currentGame.scorePoint(winner, loser);
+            }
+            assertThat(set.getCurrentGame()).isNull(); // Game finished, not yet recorded
+            set.completeGame(winner);
+        }
+        
+        assertThat(set.getCurrentGame().getGameNumber()).isEqualTo(13);
+        assertThat(set.getCurrentGame().isTiebreak()).isTrue();
+        assertThat(set.isInTiebreak()).isTrue();
+    }
+}
@@ -0,0 +1,247 @@
+package com.tennisscoring.domain.service;
+
+import com.tennisscoring.adapters.secondary.event.NoOpEventPublisher;
+import com.tennisscoring.adapters.secondary.repository.InMemoryMatchRepository;
+import com.tennisscoring.domain.concurrency.StripedMatchLocks;
+import com.tennisscoring.domain.factory.MatchFactoryRegistry;
+import com.tennisscoring.domain.factory.StandardMatchFactory;
+import com.tennisscoring.domain.exception.MatchNotFoundException;
+import com.tennisscoring.domain.model.Match;
+import com.tennisscoring.domain.model.MatchScoringResult;
+import com.tennisscoring.domain.model.MatchSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MatchDomainService Concurrency Tests")
+class MatchDomainServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int MATCHES = 64;
+    // One point short of 6-0, 6-0: the final score is fixed whatever the interleaving
+    private static final int POINTS_PER_MATCH = 47;
+
+    private InMemoryMatchRepository matchRepository;
+    private MatchDomainService matchDomainService;
+
+    @BeforeEach
+    void setUp() {
+        ValidationService validationService = new ValidationService();
+        NoOpEventPublisher eventPublisher = new NoOpEventPublisher();
+        matchRepository = new InMemoryMatchRepository();
+        matchDomainService = new MatchDomainService(
+            matchRepository,
+            new ScoringDomainService(validationService),
+            new MatchEventService(eventPublisher, eventPublisher),
+            new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+            validationService,
+            new StripedMatchLocks(4)
+        );
+    }
+
+    @Test
+    @DisplayName("Should not lose or corrupt points when many threads score the same matches")
+    void shouldNotLoseOrCorruptPointsUnderConcurrentScoring() throws Exception {
+        // Given
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            matches.add(matchDomainService.createMatch("Player A" + i, "Player B" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - threads share out each match's points and move through the matches together
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (Match match : matches) {
+                    String matchId = match.getMatchId();
+                    String player1Id = match.getPlayer1().getPlayerId().getValue();
+                    for (int point = threadIndex; point < POINTS_PER_MATCH; point += THREADS) {
+                        matchDomainService.scorePoint(matchId, player1Id);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        for (Match match : matches) {
+            Match stored = matchRepository.findById(match.getMatchId()).orElseThrow();
+            assertThat(stored.getPlayer1().getPointsWon()).isEqualTo(POINTS_PER_MATCH);
+            assertThat(stored.getPlayer1().getSetsWon()).isEqualTo(1);
+            assertThat(stored.getCurrentScore()).isEqualTo("6-0 5-0 (40-0)");
+            assertThat(stored.isInProgress()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return each point the snapshot it published when points on one match interleave")
+    void shouldReturnOwnSnapshotWhenPointsInterleave() throws Exception {
+        // Given
+        Match match = matchDomainService.createMatch("Player A", "Player B");
+        String matchId = match.getMatchId();
+        String player1Id = match.getPlayer1().getPlayerId().getValue();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - every thread scores its share of the points as fast as it can
+        List<Future<List<MatchSnapshot>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<MatchSnapshot> scored = new ArrayList<>();
+                for (int point = threadIndex; point < POINTS_PER_MATCH; point += THREADS) {
+                    scored.add(matchDomainService.scorePoint(matchId, player1Id));
+                }
+                return scored;
+            }));
+        }
+        start.countDown();
+        List<MatchSnapshot> snapshots = new ArrayList<>();
+        for (Future<List<MatchSnapshot>> future : futures) {
+            snapshots.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then - no point was handed the state of a point scored after it
+        assertThat(snapshots).extracting(MatchSnapshot::getVersion).doesNotHaveDuplicates()
+            .hasSize(POINTS_PER_MATCH);
+        for (MatchSnapshot snapshot : snapshots) {
+            assertThat((long) snapshot.getPointCount()).isEqualTo(snapshot.getVersion());
+            assertThat(snapshot.getPlayer1().pointsWon()).isEqualTo(snapshot.getPointCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply every undo to the points scored before it when scoring and undoing race")
+    void shouldInterleaveUndoWithConcurrentScoring() throws Exception {
+        // Given
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            matches.add(matchDomainService.createMatch("Player A" + i, "Player B" + i));
+        }
+        String emptyScore = matches.get(0).getCurrentScore();
+        int rounds = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - every thread scores a point and then takes one back
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < rounds; round++) {
+                    for (Match match : matches) {
+                        matchDomainService.scorePoint(match.getMatchId(),
+                            match.getPlayer2().getPlayerId().getValue());
+                        matchDomainService.undoLastPoints(match.getMatchId(), 1);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        for (Match match : matches) {
+            Match stored = matchRepository.findById(match.getMatchId()).orElseThrow();
+            assertThat(stored.getPointCount()).isZero();
+            assertThat(stored.getPlayer2().getPointsWon()).isZero();
+            assertThat(stored.getVersion()).isEqualTo(2L * THREADS * rounds);
+            assertThat(stored.getCurrentScore()).isEqualTo(emptyScore);
+        }
+    }
+
+    @Test
+    @DisplayName("Should score every match of concurrent feed batches on a bounded executor")
+    void shouldScoreConcurrentFeedBatchesOnBoundedExecutor() throws Exception {
+        // Given - a small pool whose full queue makes the request thread score matches itself
+        ThreadPoolExecutor batchExecutor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(4), new ThreadPoolExecutor.CallerRunsPolicy());
+        ValidationService validationService = new ValidationService();
+        NoOpEventPublisher eventPublisher = new NoOpEventPublisher();
+        MatchDomainService service = new MatchDomainService(
+            matchRepository,
+            new ScoringDomainService(validationService),
+            new MatchEventService(eventPublisher, eventPublisher),
+            new MatchFactoryRegistry(List.of(new StandardMatchFactory())),
+            validationService,
+            new StripedMatchLocks(4),
+            batchExecutor
+        );
+        Map<String, List<String>> firstHalf = new LinkedHashMap<>();
+        Map<String, List<String>> secondHalf = new LinkedHashMap<>();
+        for (int i = 0; i < MATCHES; i++) {
+            Match match = service.createMatch("Player A" + i, "Player B" + i);
+            String player1Id = match.getPlayer1().getPlayerId().getValue();
+            firstHalf.put(match.getMatchId(), Collections.nCopies(POINTS_PER_MATCH / 2, player1Id));
+            secondHalf.put(match.getMatchId(), Collections.nCopies(POINTS_PER_MATCH - POINTS_PER_MATCH / 2, player1Id));
+        }
+        secondHalf.put("123e4567-e89b-12d3-a456-426614174000", List.of("223e4567-e89b-12d3-a456-426614174000"));
+        ExecutorService feeds = Executors.newFixedThreadPool(2);
+
+        // When - two feeds deliver their halves of every match at the same time
+        Future<List<MatchScoringResult>> first = feeds.submit(() -> service.scoreMatches(firstHalf));
+        Future<List<MatchScoringResult>> second = feeds.submit(() -> service.scoreMatches(secondHalf));
+        List<MatchScoringResult> firstResults = first.get(30, TimeUnit.SECONDS);
+        List<MatchScoringResult> secondResults = second.get(30, TimeUnit.SECONDS);
+        feeds.shutdown();
+        batchExecutor.shutdown();
+
+        // Then - only the unknown match fails, and every known match got all its points
+        assertThat(firstResults).hasSize(MATCHES).allMatch(MatchScoringResult::isScored);
+        assertThat(secondResults).hasSize(MATCHES + 1);
+        assertThat(secondResults.subList(0, MATCHES)).allMatch(MatchScoringResult::isScored);
+        assertThat(secondResults.get(MATCHES).getError()).isInstanceOf(MatchNotFoundException.class);
+        for (String matchId : firstHalf.keySet()) {
+            Match stored = matchRepository.findById(matchId).orElseThrow();
+            assertThat(stored.getCurrentScore()).isEqualTo("6-0 5-0 (40-0)");
+            assertThat(stored.getVersion()).isEqualTo(POINTS_PER_MATCH);
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow reentrant locking and round the stripe count up to a power of two")
+    void shouldAllowReentrantLockingAndRoundStripeCount() {
+        // Given
+        StripedMatchLocks locks = new StripedMatchLocks(5);
+        String matchId = matchDomainService.createMatch("John Doe", "Jane Smith").getMatchId();
+
+        // When
+        Integer nested = locks.withLock(matchId, () -> locks.withLock(matchId, () -> 42));
+
+        // Then
+        assertThat(locks.getStripeCount()).isEqualTo(8);
+        assertThat(nested).isEqualTo(42);
+        assertThatThrownBy(() -> new StripedMatchLocks(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.tennisscoring.domain.service;
 
 import com.tennisscoring.domain.exception.MatchNotFoundException;
+import com.tennisscoring.domain.exception.MatchVersionConflictException;
 import com.tennisscoring.domain.exception.ValidationException;
 import com.tennisscoring.domain.model.*;
 import com.tennisscoring.domain.factory.MatchFactoryRegistry;
@@ -13,7 +14,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -88,7 +92,7 @@ class MatchDomainServiceRefactoredTest {
         String playerId = match.getPlayer1().getPlayerId().getValue();
         
         when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
-        when(matchRepository.save(any(Match.class))).thenReturn(match);
+        when(matchRepository.saveIfVersion(match, 0L)).thenReturn(true);
         when(scoringService.scorePoint(eq(match), any(PlayerId.class))).thenReturn(false);
         doNothing().when(validationService).validateMatchId(matchId);
         doNothing().when(validationService).validatePlayerId(playerId);
@@ -96,7 +100,7 @@ class MatchDomainServiceRefactoredTest {
         doNothing().when(eventService).publishGameStateEvents(eq(match), any(PlayerId.class));
 
         // When
-        Match result = matchDomainService.scorePoint(matchId, playerId);
+        MatchSnapshot result = matchDomainService.scorePoint(matchId, playerId);
 
         // Then
         assertThat(result).isNotNull();
@@ -105,11 +109,234 @@ class MatchDomainServiceRefactoredTest {
         verify(validationService).validatePlayerId(playerId);
         verify(matchRepository).findById(matchId);
         verify(scoringService).scorePoint(eq(match), any(PlayerId.class));
-        verify(matchRepository).save(any(Match.class));
+        verify(matchRepository).saveIfVersion(match, 0L);
         verify(eventService).publishPointScored(any(Match.class), eq(playerId));
         verify(eventService).publishGameStateEvents(eq(match), any(PlayerId.class));
     }
 
+    @Test
+    @DisplayName("Should reject point based on a stale version")
+    void shouldRejectPointBasedOnStaleVersion() {
+        // Given - the match has moved on to version 1
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        match.scorePoint(match.getPlayer1().getPlayerId());
+        String playerId = match.getPlayer2().getPlayerId().getValue();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+        // When & Then
+        assertThatThrownBy(() -> matchDomainService.scorePoint(matchId, playerId, 0L))
+                .isInstanceOf(MatchVersionConflictException.class)
+                .hasMessageContaining("version 0");
+        
+        verify(scoringService, never()).scorePoint(any(Match.class), any(PlayerId.class));
+        verify(eventService, never()).publishPointScored(any(Match.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should raise conflict when compare-and-set save fails")
+    void shouldRaiseConflictWhenCompareAndSetSaveFails() {
+        // Given
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        String playerId = match.getPlayer1().getPlayerId().getValue();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.saveIfVersion(match, 0L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> matchDomainService.scorePoint(matchId, playerId))
+                .isInstanceOf(MatchVersionConflictException.class);
+        
+        verify(eventService, never()).publishPointScored(any(Match.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should leave the match unchanged when a compare-and-set save fails")
+    void shouldRollBackWhenCompareAndSetSaveFails() {
+        // Given - a match one point from taking the first set, scored for real
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        MatchDomainService service = new MatchDomainService(matchRepository,
+                new ScoringDomainService(validationService), eventService, matchFactory, validationService);
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId player1Id = match.getPlayer1().getPlayerId();
+        for (int i = 0; i < 23; i++) {
+            match.scorePoint(player1Id);
+        }
+        String player1 = player1Id.getValue();
+        String score = match.getCurrentScore();
+        long version = match.getVersion();
+        MatchSnapshot snapshot = match.getSnapshot();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.saveIfVersion(match, version)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> service.scorePoint(matchId, player1))
+                .isInstanceOf(MatchVersionConflictException.class);
+        assertThatThrownBy(() -> service.scorePoints(matchId, List.of(player1, player1)))
+                .isInstanceOf(MatchVersionConflictException.class);
+        assertThatThrownBy(() -> service.undoLastPoints(matchId, 5))
+                .isInstanceOf(MatchVersionConflictException.class);
+        assertThatThrownBy(() -> service.correctLastPoints(matchId, 2, List.of(match.getPlayer2().getPlayerId().getValue())))
+                .isInstanceOf(MatchVersionConflictException.class);
+        
+        assertThat(match.getCurrentScore()).isEqualTo(score);
+        assertThat(match.getVersion()).isEqualTo(version);
+        assertThat(match.getPointCount()).isEqualTo(23);
+        assertThat(match.getSets()).hasSize(1);
+        assertThat(match.getPlayer1().getPointsWon()).isEqualTo(23);
+        assertThat(match.getSnapshot()).isSameAs(snapshot);
+        verify(eventService, never()).publishPointScored(any(Match.class), anyString());
+        
+        // The point a client retries once the conflict clears is scored once
+        when(matchRepository.saveIfVersion(match, version)).thenReturn(true);
+        service.scorePoint(matchId, player1);
+        assertThat(match.getPointCount()).isEqualTo(24);
+        assertThat(match.getSets()).hasSize(2);
+        assertThat(match.getSnapshot().getSets().get(0).player1Games()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should score a batch of points with one save")
+    void shouldScoreBatchOfPointsWithOneSave() {
+        // Given
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        String player1Id = match.getPlayer1().getPlayerId().getValue();
+        String player2Id = match.getPlayer2().getPlayerId().getValue();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.saveIfVersion(match, 0L)).thenReturn(true);
+
+        // When
+        MatchSnapshot result = matchDomainService.scorePoints(matchId, List.of(player1Id, player2Id), 0L);
+
+        // Then
+        assertThat(result).isSameAs(match.getSnapshot());
+        verify(scoringService).scorePoints(eq(match),
+                eq(List.of(PlayerId.of(player1Id), PlayerId.of(player2Id))), any());
+        verify(matchRepository).saveIfVersion(match, 0L);
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(eventService).publishPointsScored(anyList());
+        verify(eventService, never()).publishPointScored(any(Match.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should publish every game and set a batch completes")
+    void shouldPublishEveryGameAndSetOfBatch() {
+        // Given - a batch taking the first set 6-0 and one game of the second
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        MatchDomainService service = new MatchDomainService(matchRepository,
+                new ScoringDomainService(validationService), eventService, matchFactory, validationService);
+        Match match = Match.create("John Doe", "Jane Smith");
+        String player1Id = match.getPlayer1().getPlayerId().getValue();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.saveIfVersion(match, 0L)).thenReturn(true);
+
+        // When
+        service.scorePoints(matchId, Collections.nCopies(29, player1Id));
+
+        // Then - game numbers count within each set
+        verify(eventService, times(2)).publishGameCompleted(matchId, 1, player1Id);
+        for (int game = 2; game <= 6; game++) {
+            verify(eventService).publishGameCompleted(matchId, game, player1Id);
+        }
+        verify(eventService).publishSetCompleted(matchId, 1, player1Id);
+        verify(eventService, times(7)).publishGameCompleted(eq(matchId), anyInt(), anyString());
+        verify(eventService).publishPointsScored(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized batch")
+    void shouldRejectEmptyOrOversizedBatch() {
+        // Given
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        List<String> oversized = Collections.nCopies(MatchDomainService.MAX_BATCH_POINTS + 1, matchId);
+
+        // When & Then
+        assertThatThrownBy(() -> matchDomainService.scorePoints(matchId, List.of()))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> matchDomainService.scorePoints(matchId, oversized))
+                .isInstanceOf(ValidationException.class);
+        
+        verify(matchRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should report each match of a feed batch separately")
+    void shouldReportEachMatchOfFeedBatchSeparately() {
+        // Given - the second match does not exist
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        String missingId = "323e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        String playerId = match.getPlayer1().getPlayerId().getValue();
+        Map<String, List<String>> pointsByMatch = new LinkedHashMap<>();
+        pointsByMatch.put(matchId, List.of(playerId, playerId));
+        pointsByMatch.put(missingId, List.of(playerId));
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.findById(missingId)).thenReturn(Optional.empty());
+        when(matchRepository.saveIfVersion(match, 0L)).thenReturn(true);
+
+        // When
+        List<MatchScoringResult> results = matchDomainService.scoreMatches(pointsByMatch);
+
+        // Then
+        assertThat(results).extracting(MatchScoringResult::getMatchId).containsExactly(matchId, missingId);
+        assertThat(results.get(0).isScored()).isTrue();
+        assertThat(results.get(0).getMatch()).isSameAs(match.getSnapshot());
+        assertThat(results.get(1).isScored()).isFalse();
+        assertThat(results.get(1).getError()).isInstanceOf(MatchNotFoundException.class);
+        verify(matchRepository).saveIfVersion(match, 0L);
+    }
+
+    @Test
+    @DisplayName("Should undo points and publish the correction")
+    void shouldUndoPointsAndPublishCorrection() {
+        // Given
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        match.scorePoint(match.getPlayer1().getPlayerId());
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        when(matchRepository.saveIfVersion(match, 1L)).thenReturn(true);
+
+        // When
+        MatchSnapshot result = matchDomainService.undoLastPoints(matchId, 1, 1L);
+
+        // Then
+        assertThat(result).isSameAs(match.getSnapshot());
+        verify(scoringService).undoLastPoints(match, 1);
+        verify(matchRepository).saveIfVersion(match, 1L);
+        verify(eventService).publishPointsCorrected(match, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Should reject a correction based on a stale version")
+    void shouldRejectCorrectionBasedOnStaleVersion() {
+        // Given - the match has moved on to version 2
+        String matchId = "123e4567-e89b-12d3-a456-426614174000";
+        Match match = Match.create("John Doe", "Jane Smith");
+        match.scorePoint(match.getPlayer1().getPlayerId());
+        match.scorePoint(match.getPlayer1().getPlayerId());
+        String playerId = match.getPlayer2().getPlayerId().getValue();
+        
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+        // When & Then
+        assertThatThrownBy(() -> matchDomainService.correctLastPoints(matchId, 1, List.of(playerId), 1L))
+                .isInstanceOf(MatchVersionConflictException.class)
+                .hasMessageContaining("version 1");
+        assertThatThrownBy(() -> matchDomainService.correctLastPoints(matchId, 1, List.of()))
+                .isInstanceOf(ValidationException.class);
+        
+        verify(scoringService, never()).correctLastPoints(any(Match.class), anyInt(), anyList());
+        verify(eventService, never()).publishPointsCorrected(any(Match.class), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Should get match successfully")
     void shouldGetMatchSuccessfully() {
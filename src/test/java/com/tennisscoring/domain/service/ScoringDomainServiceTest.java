@@ -1,7 +1,13 @@
 package com.tennisscoring.domain.service;
 
+import com.tennisscoring.domain.event.MatchCreatedEvent;
+import com.tennisscoring.domain.event.PointScoredEvent;
 import com.tennisscoring.domain.exception.InvalidMatchStateException;
+import com.tennisscoring.domain.exception.ValidationException;
 import com.tennisscoring.domain.model.*;
+import com.tennisscoring.domain.strategy.ScoringStrategyRegistry;
+import com.tennisscoring.domain.strategy.StandardScoringStrategy;
+import com.tennisscoring.domain.strategy.TransitionTableScoringStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -383,4 +392,150 @@ class ScoringDomainServiceTest {
         assertThat(result).isEqualTo(-1);
         verify(match, never()).getCurrentGame();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should start the next set and complete the match")
+    void shouldStartNextSetAndCompleteMatch() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId playerId = match.getPlayer1().getPlayerId();
+
+        // When - win the first set 6-0
+        for (int i = 0; i < 24; i++) {
+            scoringDomainService.scorePoint(match, playerId);
+        }
+
+        // Then
+        assertThat(match.getSets()).hasSize(2);
+        assertThat(match.getCurrentSetNumber()).isEqualTo(2);
+
+        // When - win the second set 6-0
+        boolean matchCompleted = false;
+        for (int i = 0; i < 24; i++) {
+            matchCompleted = scoringDomainService.scorePoint(match, playerId);
+        }
+
+        // Then
+        assertThat(matchCompleted).isTrue();
+        assertThat(match.isCompleted()).isTrue();
+        assertThat(match.getWinner()).isEqualTo(playerId);
+    }
+
+    @Test
+    @DisplayName("Should score with the strategy selected for the match")
+    void shouldScoreWithSelectedStrategy() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+        PlayerId playerId = match.getPlayer2().getPlayerId();
+
+        // When
+        scoringDomainService.selectScoringStrategy(match, "TRANSITION_TABLE");
+        scoringDomainService.scorePoint(match, playerId);
+
+        // Then
+        assertThat(match.getScoringStrategyType()).isEqualTo("TRANSITION_TABLE");
+        assertThat(scoringDomainService.resolveStrategy(match).getStrategyType()).isEqualTo("TRANSITION_TABLE");
+        assertThat(match.getCurrentScore()).isEqualTo("0-0 (0-15)");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown scoring strategy")
+    void shouldRejectUnknownScoringStrategy() {
+        // Given
+        Match match = Match.create("John Doe", "Jane Smith");
+
+        // When & Then
+        assertThatThrownBy(() -> scoringDomainService.selectScoringStrategy(match, "NO_SUCH_RULES"))
+            .isInstanceOf(ValidationException.class);
+        assertThat(match.getScoringStrategyType()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail on an unknown default scoring strategy")
+    void shouldFailOnUnknownDefaultStrategy() {
+        // Given
+        ScoringStrategyRegistry registry = new ScoringStrategyRegistry(
+            List.of(new StandardScoringStrategy(), new TransitionTableScoringStrategy()));
+
+        // When & Then
+        assertThatThrownBy(() -> new ScoringDomainService(validationService, registry, "TRANSITON_TABLE"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("TRANSITON_TABLE");
+        assertThat(new ScoringDomainService(validationService, registry, "transition_table")
+            .resolveStrategy(Match.create("John Doe", "Jane Smith")).getStrategyType())
+            .isEqualTo("TRANSITION_TABLE");
+    }
+
+    @Test
+    @DisplayName("Should rebuild a match from its creation and point events")
+    void shouldRebuildMatchFromEvents() {
+        // Given - 6-6 and a tiebreak, then the second set to player 2
+        Match original = Match.create("John Doe", "Jane Smith");
+        List<PointScoredEvent> events = new ArrayList<>();
+        for (int game = 0; game < 12; game++) {
+            PlayerId gameWinner = game % 2 == 0 ? original.getPlayer1().getPlayerId() : original.getPlayer2().getPlayerId();
+            for (int point = 0; point < 4; point++) {
+                events.add(score(original, gameWinner));
+            }
+        }
+        for (int point = 0; point < 7; point++) {
+            events.add(score(original, original.getPlayer1().getPlayerId()));
+        }
+        for (int point = 0; point < 5; point++) {
+            events.add(score(original, original.getPlayer2().getPlayerId()));
+        }
+        MatchCreatedEvent created = new MatchCreatedEvent(original.getMatchId(),
+            original.getPlayer1().getPlayerId().getValue(), original.getPlayer1().getName(),
+            original.getPlayer2().getPlayerId().getValue(), original.getPlayer2().getName());
+
+        // When
+        Match rebuilt = scoringDomainService.rebuildMatch(created, events);
+
+        // Then
+        assertThat(rebuilt.getMatchId()).isEqualTo(original.getMatchId());
+        assertThat(rebuilt.getCurrentScore()).isEqualTo(original.getCurrentScore());
+        assertThat(rebuilt.getVersion()).isEqualTo(original.getVersion());
+        assertThat(rebuilt.getPointCount()).isEqualTo(60);
+        assertThat(rebuilt.getPlayer1().getSetsWon()).isEqualTo(1);
+        assertThat(rebuilt.getPlayer2().getPointsWon()).isEqualTo(original.getPlayer2().getPointsWon());
+        assertThat(rebuilt.getCreatedAt()).isEqualTo(created.getOccurredAt());
+        verifyNoInteractions(validationService);
+    }
+
+    @Test
+    @DisplayName("Should stop replay at a point event that does not follow the match")
+    void shouldStopReplayAtEventThatDoesNotFollow() {
+        // Given
+        Match original = Match.create("John Doe", "Jane Smith");
+        PlayerId player1 = original.getPlayer1().getPlayerId();
+        List<PointScoredEvent> events = new ArrayList<>();
+        for (int point = 0; point < 8; point++) {
+            events.add(score(original, player1));
+        }
+        Match replay = Match.restore(MatchId.of(original.getMatchId()),
+            Player.create(player1, "John Doe"),
+            Player.create(original.getPlayer2().getPlayerId(), "Jane Smith"),
+            original.getCreatedAt());
+
+        // When & Then - the first game's events skipped
+        assertThatThrownBy(() -> scoringDomainService.replayPoints(replay, events.subList(4, 8)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("game 2");
+        assertThatThrownBy(() -> scoringDomainService.replayPoints(Match.create("Alice Smith", "Bob Jones"), events))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be replayed");
+        assertThatThrownBy(() -> scoringDomainService.rebuildMatch(
+                new MatchCreatedEvent(original.getMatchId(), "John Doe", "Jane Smith"), events))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("no player IDs");
+    }
+
+    /**
+     * Score a point and build the event published for it.
+     */
+    private static PointScoredEvent score(Match match, PlayerId playerId) {
+        match.scorePoint(playerId);
+        return new PointScoredEvent(match.getMatchId(), playerId.getValue(), match.getCurrentScore(),
+            match.getCurrentSetNumber(), match.getCurrentGameNumber());
+    }
+}
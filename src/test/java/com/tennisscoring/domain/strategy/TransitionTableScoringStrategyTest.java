@@ -0,0 +1,128 @@
+package com.tennisscoring.domain.strategy;
+
+import com.tennisscoring.domain.model.Game;
+import com.tennisscoring.domain.model.PlayerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TransitionTableScoringStrategy Tests")
+class TransitionTableScoringStrategyTest {
+
+    private PlayerId player1Id;
+    private PlayerId player2Id;
+    private TransitionTableScoringStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        player1Id = PlayerId.generate();
+        player2Id = PlayerId.generate();
+        strategy = new TransitionTableScoringStrategy();
+    }
+
+    @Test
+    @DisplayName("Should match built-in game rules for random regular games")
+    void shouldMatchBuiltInRulesForRandomRegularGames() {
+        assertMatchesBuiltInRules(false);
+    }
+
+    @Test
+    @DisplayName("Should match built-in game rules for random tiebreaks")
+    void shouldMatchBuiltInRulesForRandomTiebreaks() {
+        assertMatchesBuiltInRules(true);
+    }
+
+    @Test
+    @DisplayName("Should go through deuce and advantage")
+    void shouldGoThroughDeuceAndAdvantage() {
+        // Given - 40-40
+        Game game = newGame(false);
+        for (int i = 0; i < 3; i++) {
+            strategy.scorePoint(game, player1Id);
+            strategy.scorePoint(game, player2Id);
+        }
+
+        // When - advantage player 1, back to deuce
+        strategy.scorePoint(game, player1Id);
+        assertThat(strategy.hasAdvantage(game, player1Id)).isTrue();
+        assertThat(strategy.getScoreDisplay(game)).isEqualTo("AD-40");
+        strategy.scorePoint(game, player2Id);
+
+        // Then
+        assertThat(strategy.isDeuce(game)).isTrue();
+        assertThat(strategy.getScoreDisplay(game)).isEqualTo("平分");
+        strategy.scorePoint(game, player2Id);
+        assertThat(strategy.scorePoint(game, player2Id)).isTrue();
+        assertThat(game.getWinner()).isEqualTo(player2Id);
+    }
+
+    @Test
+    @DisplayName("Should apply custom tiebreak limits")
+    void shouldApplyCustomTiebreakLimits() {
+        // Given - a 10-point tiebreak
+        TransitionTableScoringStrategy tenPointTiebreak = new TransitionTableScoringStrategy(10, 2);
+        Game game = newGame(true);
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            tenPointTiebreak.scorePoint(game, player1Id);
+        }
+
+        // Then
+        assertThat(game.isCompleted()).isFalse();
+        assertThat(tenPointTiebreak.scorePoint(game, player1Id)).isTrue();
+        assertThat(game.getTiebreakScore(player1Id)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid tiebreak limits")
+    void shouldRejectInvalidTiebreakLimits() {
+        assertThatThrownBy(() -> new TransitionTableScoringStrategy(0, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve strategies by type with standard as default")
+    void shouldResolveStrategiesByType() {
+        // Given
+        StandardScoringStrategy standard = new StandardScoringStrategy();
+        ScoringStrategyRegistry registry = new ScoringStrategyRegistry(List.of(standard, strategy));
+
+        // Then
+        assertThat(registry.findStrategy("transition_table")).isSameAs(strategy);
+        assertThat(registry.findStrategy(null)).isSameAs(standard);
+        assertThat(registry.findStrategy("UNKNOWN")).isSameAs(standard);
+        assertThat(registry.isSupported("STANDARD")).isTrue();
+        assertThat(registry.isSupported("UNKNOWN")).isFalse();
+        assertThat(registry.getSupportedStrategyTypes()).containsExactly("STANDARD", "TRANSITION_TABLE");
+    }
+
+    private void assertMatchesBuiltInRules(boolean tiebreak) {
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            Game expected = newGame(tiebreak);
+            Game actual = newGame(tiebreak);
+            // Evenly matched players produce plenty of deuces and long tiebreaks
+            while (!expected.isCompleted()) {
+                PlayerId scorer = random.nextBoolean() ? player1Id : player2Id;
+                boolean expectedCompleted = expected.scorePoint(scorer, null);
+                boolean actualCompleted = strategy.scorePoint(actual, scorer);
+
+                assertThat(actualCompleted).isEqualTo(expectedCompleted);
+                assertThat(actual.getState()).isEqualTo(expected.getState());
+            }
+            assertThat(actual.getWinner()).isEqualTo(expected.getWinner());
+        }
+    }
+
+    private Game newGame(boolean tiebreak) {
+        Game game = new Game(tiebreak ? 13 : 1, tiebreak);
+        game.initializeScores(player1Id, player2Id);
+        return game;
+    }
+}
@@ -1,9 +1,16 @@
 package com.tennisscoring.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.tennisscoring.adapters.primary.dto.request.CorrectPointsRequest;
 import com.tennisscoring.adapters.primary.dto.request.CreateMatchRequest;
+import com.tennisscoring.adapters.primary.dto.request.FeedPointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScoreMatchesRequest;
 import com.tennisscoring.adapters.primary.dto.request.ScorePointRequest;
+import com.tennisscoring.adapters.primary.dto.request.ScorePointsRequest;
 import com.tennisscoring.adapters.primary.dto.response.MatchResponse;
+import com.tennisscoring.adapters.primary.dto.response.ScoreDeltaResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +24,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -120,6 +130,72 @@ class MatchControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    @DisplayName("Should encode a match as CBOR when the client accepts it")
+    void shouldEncodeMatchAsCborWhenAccepted() throws Exception {
+        // Given
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        String json = mockMvc.perform(get("/api/matches/{matchId}", matchId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/matches/{matchId}", matchId)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then - the same fields in fewer bytes
+        byte[] cbor = result.getResponse().getContentAsByteArray();
+        JsonNode decoded = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertThat(decoded).isEqualTo(objectMapper.readTree(json));
+        assertThat(cbor.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("Should answer a repeat read of an unchanged match with 304")
+    void shouldAnswerRepeatReadWithNotModified() throws Exception {
+        // Given
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        String before = mockMvc.perform(get("/api/matches/{matchId}", matchId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // When & Then - unchanged in both encodings, each under its own tag
+        mockMvc.perform(get("/api/matches/{matchId}", matchId)
+                .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/matches/{matchId}", matchId)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", "\"0-cbor\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/matches/{matchId}", matchId)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0-cbor\""));
+
+        // When & Then - a scored point changes the tag and the body
+        ScorePointRequest request = new ScorePointRequest();
+        request.setPlayerId(getMatch(matchId).getPlayer1().getPlayerId());
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        String after = mockMvc.perform(get("/api/matches/{matchId}", matchId)
+                .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(after).isNotEqualTo(before);
+    }
+
     @Test
     @DisplayName("Should return 404 for non-existent match")
     void shouldReturn404ForNonExistentMatch() throws Exception {
@@ -150,6 +226,62 @@ class MatchControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].matchId").exists());
     }
 
+    @Test
+    @DisplayName("Should page match summaries with a cursor")
+    void shouldPageMatchSummariesWithCursor() throws Exception {
+        // Given
+        createTestMatch("John Doe", "Jane Smith");
+        createTestMatch("Alice", "Bob");
+        createTestMatch("Carol", "Dave");
+
+        // When & Then
+        MvcResult firstPage = mockMvc.perform(get("/api/matches/page").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].player1Name").exists())
+                .andExpect(jsonPath("$.items[0].sets").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn();
+        String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/matches/page").param("limit", "2").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/matches/page").param("status", "COMPLETED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+
+        mockMvc.perform(get("/api/matches/page").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should export match summaries as NDJSON")
+    void shouldExportMatchSummariesAsNdjson() throws Exception {
+        // Given
+        createTestMatch("John Doe", "Jane Smith");
+        createTestMatch("Alice", "Bob");
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/matches/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            assertThat(objectMapper.readTree(line).get("status").asText()).isEqualTo("IN_PROGRESS");
+        }
+    }
+
     @Test
     @DisplayName("Should score point successfully")
     void shouldScorePointSuccessfully() throws Exception {
@@ -171,6 +303,209 @@ class MatchControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    @DisplayName("Should reject point scored against a stale ETag")
+    void shouldRejectPointScoredAgainstStaleETag() throws Exception {
+        // Given
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        String eTag = mockMvc.perform(get("/api/matches/{matchId}", matchId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getHeader("ETag");
+        ScorePointRequest request = new ScorePointRequest();
+        request.setPlayerId(getMatch(matchId).getPlayer1().getPlayerId());
+
+        // When & Then - the first point based on the tag wins, the second conflicts
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Version Conflict"));
+    }
+
+    @Test
+    @DisplayName("Should score a batch of points and return the final state")
+    void shouldScoreBatchOfPoints() throws Exception {
+        // Given
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        MatchResponse match = getMatch(matchId);
+        String player1Id = match.getPlayer1().getPlayerId();
+        String player2Id = match.getPlayer2().getPlayerId();
+        ScorePointsRequest request = new ScorePointsRequest(
+                List.of(player1Id, player1Id, player1Id, player1Id, player2Id, player2Id));
+
+        // When & Then
+        mockMvc.perform(post("/api/matches/{matchId}/points:batch", matchId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.currentScore").value("1-0 (0-30)"));
+
+        mockMvc.perform(post("/api/matches/{matchId}/points:batch", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ScorePointsRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return only the score delta when the client asks for it")
+    void shouldReturnScoreDeltaWhenAccepted() throws Exception {
+        // Given - player 1 leads 40-0 in the first game
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        MatchResponse match = getMatch(matchId);
+        String player1Id = match.getPlayer1().getPlayerId();
+        mockMvc.perform(post("/api/matches/{matchId}/points:batch", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ScorePointsRequest(
+                        List.of(player1Id, player1Id, player1Id)))))
+                .andExpect(status().isOk());
+        ScorePointRequest request = new ScorePointRequest();
+        request.setPlayerId(player1Id);
+
+        // When & Then - the game point completes the first game
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .header("If-Match", "\"3\"")
+                .accept(ScoreDeltaResponse.MEDIA_TYPE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ScoreDeltaResponse.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").value(4))
+                .andExpect(jsonPath("$.baseVersion").value(3))
+                .andExpect(jsonPath("$.gameNumber").value(2))
+                .andExpect(jsonPath("$.player1Points").value("0"))
+                .andExpect(jsonPath("$.player1Games").value(1))
+                .andExpect(jsonPath("$.completedGame.gameNumber").value(1))
+                .andExpect(jsonPath("$.completedGame.winnerId").value(player1Id))
+                .andExpect(jsonPath("$.completedSet").doesNotExist())
+                .andExpect(jsonPath("$.sets").doesNotExist());
+
+        // A point within a game completes nothing
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .accept(ScoreDeltaResponse.MEDIA_TYPE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.player1Points").value("15"))
+                .andExpect(jsonPath("$.player2Points").value("0"))
+                .andExpect(jsonPath("$.completedGame").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should score points of many matches and report each match")
+    void shouldScorePointsOfManyMatches() throws Exception {
+        // Given - points of two matches interleaved, and one point for an unknown match
+        String firstMatchId = createTestMatch("John Doe", "Jane Smith");
+        String secondMatchId = createTestMatch("Alice Brown", "Bob Wilson");
+        String firstPlayerId = getMatch(firstMatchId).getPlayer1().getPlayerId();
+        String secondPlayerId = getMatch(secondMatchId).getPlayer2().getPlayerId();
+        String missingMatchId = "123e4567-e89b-12d3-a456-426614174000";
+        ScoreMatchesRequest request = new ScoreMatchesRequest(List.of(
+                new FeedPointRequest(firstMatchId, firstPlayerId),
+                new FeedPointRequest(secondMatchId, secondPlayerId),
+                new FeedPointRequest(missingMatchId, firstPlayerId),
+                new FeedPointRequest(firstMatchId, firstPlayerId)));
+
+        // When & Then
+        mockMvc.perform(post("/api/matches/points:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scored").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].matchId").value(firstMatchId))
+                .andExpect(jsonPath("$.results[0].match.currentScore").value("0-0 (30-0)"))
+                .andExpect(jsonPath("$.results[1].match.currentScore").value("0-0 (0-15)"))
+                .andExpect(jsonPath("$.results[2].matchId").value(missingMatchId))
+                .andExpect(jsonPath("$.results[2].error.status").value(404))
+                .andExpect(jsonPath("$.results[2].match").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should undo and correct the last points")
+    void shouldUndoAndCorrectLastPoints() throws Exception {
+        // Given - 30-0
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        MatchResponse match = getMatch(matchId);
+        ScorePointRequest request = new ScorePointRequest();
+        request.setPlayerId(match.getPlayer1().getPlayerId());
+        for (int point = 0; point < 2; point++) {
+            mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/matches/{matchId}/undo", matchId)
+                .header("If-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.currentScore").value("0-0 (15-0)"));
+
+        CorrectPointsRequest correction = new CorrectPointsRequest(1,
+                List.of(match.getPlayer2().getPlayerId(), match.getPlayer2().getPlayerId()));
+        mockMvc.perform(post("/api/matches/{matchId}/correct", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(correction)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.currentScore").value("0-0 (0-30)"));
+
+        mockMvc.perform(post("/api/matches/{matchId}/undo", matchId)
+                .param("points", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream live score updates until the match is cancelled")
+    void shouldStreamLiveScoreUntilCancelled() throws Exception {
+        // Given
+        String matchId = createTestMatch("John Doe", "Jane Smith");
+        MatchResponse match = getMatch(matchId);
+        MvcResult stream = mockMvc.perform(get("/api/matches/{matchId}/stream", matchId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        ScorePointRequest request = new ScorePointRequest(match.getPlayer1().getPlayerId());
+        mockMvc.perform(post("/api/matches/{matchId}/score", matchId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/matches/{matchId}/cancel", matchId))
+                .andExpect(status().isOk());
+
+        // Then - the stream ends with the match
+        stream.getAsyncResult(5000);
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(stream.getResponse().getContentAsString())
+                .startsWith("id:0\nevent:snapshot\ndata:{\"type\":\"snapshot\"")
+                .contains("id:1\nevent:point\ndata:{\"type\":\"point\",\"matchId\":\"" + matchId + "\",\"version\":1,")
+                .contains("\"score\":\"0-0 (15-0)\"")
+                .endsWith("event:cancelled\ndata:{\"type\":\"cancelled\",\"matchId\":\"" + matchId + "\"}\n\n");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when streaming an unknown match")
+    void shouldReturn404WhenStreamingUnknownMatch() throws Exception {
+        mockMvc.perform(get("/api/matches/{matchId}/stream", "00000000-0000-0000-0000-000000000000")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid score point request")
     void shouldReturn400ForInvalidScorePointRequest() throws Exception {